@@ -0,0 +1,169 @@
+package com.araw.araw.application.admission;
+
+import com.araw.araw.config.EventAdmissionProperties;
+import com.araw.shared.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Admission layer for public application submissions. Every event gets its own gate with a fixed number
+ * of in-flight submissions and a bounded FIFO queue in front of them, so a registration rush for one event
+ * waits on its own gate instead of taking every request thread and database connection. Requests that
+ * find the queue full, or that wait longer than {@code max-wait}, are rejected with a retry hint.
+ */
+@Component
+public class EventAdmissionControl implements MeterBinder {
+
+    private final EventAdmissionProperties properties;
+    private final ConcurrentHashMap<UUID, Gate> gates = new ConcurrentHashMap<>();
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    public EventAdmissionControl(EventAdmissionProperties properties) {
+        this.properties = properties;
+    }
+
+    public <T> T admit(UUID eventId, Supplier<T> submission) {
+        if (!properties.isEnabled()) {
+            return submission.get();
+        }
+        Gate gate = enter(eventId);
+        if (gate == null) {
+            rejected.incrementAndGet();
+            throw overloaded();
+        }
+        long started = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = gate.slots.tryAcquire(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            leave(eventId);
+            timedOut.incrementAndGet();
+            throw overloaded();
+        }
+        waitNanos.addAndGet(System.nanoTime() - started);
+        admitted.incrementAndGet();
+        try {
+            return submission.get();
+        } finally {
+            gate.slots.release();
+            leave(eventId);
+        }
+    }
+
+    public int queuedSubmissions(UUID eventId) {
+        Gate gate = gates.get(eventId);
+        return gate != null ? gate.queued() : 0;
+    }
+
+    public int inFlightSubmissions(UUID eventId) {
+        Gate gate = gates.get(eventId);
+        return gate != null ? gate.inFlight() : 0;
+    }
+
+    public int activeGates() {
+        return gates.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("events.admission.requests", admitted, AtomicLong::get)
+                .tag("result", "admitted")
+                .description("Public application submissions let through the admission queue")
+                .register(registry);
+        FunctionCounter.builder("events.admission.requests", rejected, AtomicLong::get)
+                .tag("result", "rejected")
+                .description("Public application submissions rejected because the event queue was full")
+                .register(registry);
+        FunctionCounter.builder("events.admission.requests", timedOut, AtomicLong::get)
+                .tag("result", "timed_out")
+                .description("Public application submissions rejected after waiting max-wait")
+                .register(registry);
+        FunctionTimer.builder("events.admission.wait", this,
+                        control -> control.admitted.get(),
+                        control -> control.waitNanos.get(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time admitted submissions spent queued before running")
+                .register(registry);
+        Gauge.builder("events.admission.queue.depth", this, control -> control.totalQueued())
+                .description("Submissions waiting in any event admission queue")
+                .register(registry);
+        Gauge.builder("events.admission.in_flight", this, control -> control.totalInFlight())
+                .description("Submissions currently running behind the admission queue")
+                .register(registry);
+    }
+
+    /**
+     * Registers the caller on the event's gate, or returns {@code null} when the gate is already holding
+     * as many submissions as it may run and queue. Gates are created and dropped inside
+     * {@link ConcurrentHashMap#compute}, so a gate is never removed while someone still holds it.
+     */
+    private Gate enter(UUID eventId) {
+        int capacity = properties.getMaxConcurrent() + properties.getQueueCapacity();
+        Gate[] entered = new Gate[1];
+        gates.compute(eventId, (id, gate) -> {
+            Gate current = gate != null ? gate : new Gate(properties.getMaxConcurrent());
+            if (current.occupants < capacity) {
+                current.occupants++;
+                entered[0] = current;
+            }
+            return current;
+        });
+        return entered[0];
+    }
+
+    private void leave(UUID eventId) {
+        gates.computeIfPresent(eventId, (id, gate) -> --gate.occupants == 0 ? null : gate);
+    }
+
+    private TooManyRequestsException overloaded() {
+        return new TooManyRequestsException("This event is receiving too many applications right now. Please try again shortly.",
+                properties.getRetryAfter());
+    }
+
+    private int totalQueued() {
+        return gates.values().stream().mapToInt(Gate::queued).sum();
+    }
+
+    private int totalInFlight() {
+        return gates.values().stream().mapToInt(Gate::inFlight).sum();
+    }
+
+    private static final class Gate {
+
+        private final int maxConcurrent;
+        private final Semaphore slots;
+        // Running plus queued submissions; only changed inside ConcurrentHashMap.compute for this key.
+        private volatile int occupants;
+
+        private Gate(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            this.slots = new Semaphore(maxConcurrent, true);
+        }
+
+        private int inFlight() {
+            return maxConcurrent - slots.availablePermits();
+        }
+
+        private int queued() {
+            return Math.max(0, occupants - inFlight());
+        }
+    }
+}
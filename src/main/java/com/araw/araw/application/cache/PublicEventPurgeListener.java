@@ -0,0 +1,30 @@
+package com.araw.araw.application.cache;
+
+import com.araw.araw.application.calendar.EventCalendarService;
+import com.araw.araw.application.service.PublicEventQueryService;
+import com.araw.araw.domain.event.event.EventChangedEvent;
+import com.araw.shared.http.SurrogateKeyPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PublicEventPurgeListener {
+
+    private final SurrogateKeyPurger surrogateKeyPurger;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(SurrogateKeyPurger.PURGE_ORDER)
+    public void onEventChanged(EventChangedEvent event) {
+        if (event.eventId() == null) {
+            return;
+        }
+        surrogateKeyPurger.purge(List.of(
+                PublicEventQueryService.surrogateKey(event.eventId()),
+                EventCalendarService.CATALOG_SURROGATE_KEY));
+    }
+}
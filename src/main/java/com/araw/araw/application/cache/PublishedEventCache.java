@@ -0,0 +1,190 @@
+package com.araw.araw.application.cache;
+
+import com.araw.araw.application.dto.event.EventResponse;
+import com.araw.araw.config.PublicEventCacheProperties;
+import com.araw.araw.domain.event.event.EventChangedEvent;
+import com.araw.shared.cache.LruCache;
+import com.araw.shared.exception.DomainNotFoundException;
+import com.araw.shared.http.SurrogateKeyPurger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Node-local cache of fully mapped {@link EventResponse} snapshots for the public event page.
+ * Snapshots are stored under the identifier that was requested as well as the event id and
+ * application slug, so either form of link hits the same entry.
+ * <p>
+ * Concurrent misses for one identifier share a single load, and an expired snapshot keeps being
+ * served for {@code stale-if-error} when reloading it fails. Once {@code max-entries} keys are
+ * cached, the least recently used key makes room for a new one.
+ */
+@Component
+@Slf4j
+public class PublishedEventCache {
+
+    private final PublicEventCacheProperties properties;
+    private final Clock clock;
+
+    private final LruCache<String, Snapshot> snapshots;
+    private final ConcurrentHashMap<String, CompletableFuture<EventResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public PublishedEventCache(PublicEventCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    PublishedEventCache(PublicEventCacheProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.snapshots = new LruCache<>(properties.getMaxEntries());
+    }
+
+    public EventResponse get(String identifier, Supplier<EventResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        Snapshot cached = snapshots.get(identifier);
+        if (cached != null && cached.isFresh(clock.instant())) {
+            return cached.response();
+        }
+
+        try {
+            return loadCoalesced(identifier, loader);
+        } catch (DomainNotFoundException ex) {
+            snapshots.remove(identifier);
+            throw ex;
+        } catch (RuntimeException ex) {
+            Snapshot fallback = snapshots.get(identifier);
+            if (fallback != null && fallback.isServableOnError(clock.instant())) {
+                log.warn("Serving stale snapshot for published event {} after reload failure", identifier, ex);
+                return fallback.response();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the snapshot for {@code identifier} only if it is still fresh, without loading.
+     */
+    public Optional<EventResponse> peek(String identifier) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Snapshot cached = snapshots.get(identifier);
+        if (cached != null && cached.isFresh(clock.instant())) {
+            return Optional.of(cached.response());
+        }
+        return Optional.empty();
+    }
+
+    public void invalidate(UUID eventId) {
+        generation.incrementAndGet();
+        if (eventId == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        snapshots.replaceAll((key, snapshot) -> eventId.equals(snapshot.response().getId())
+                ? snapshot.expire(now, properties)
+                : snapshot);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        Instant now = clock.instant();
+        snapshots.replaceAll((key, snapshot) -> snapshot.expire(now, properties));
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(SurrogateKeyPurger.LOCAL_INVALIDATION_ORDER)
+    public void onEventChanged(EventChangedEvent event) {
+        invalidate(event.eventId());
+    }
+
+    private EventResponse loadCoalesced(String identifier, Supplier<EventResponse> loader) {
+        CompletableFuture<EventResponse> pending = new CompletableFuture<>();
+        CompletableFuture<EventResponse> existing = inFlight.putIfAbsent(identifier, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        long observedGeneration = generation.get();
+        try {
+            EventResponse loaded = loader.get();
+            store(identifier, loaded, observedGeneration);
+            pending.complete(loaded);
+            return loaded;
+        } catch (Throwable ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(identifier, pending);
+        }
+    }
+
+    private EventResponse await(CompletableFuture<EventResponse> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private void store(String identifier, EventResponse response, long observedGeneration) {
+        Instant now = clock.instant();
+        // An invalidation that raced with this load may have been applied to older data,
+        // so the result is kept only as a stale-if-error fallback.
+        Instant freshUntil = generation.get() == observedGeneration ? now.plus(properties.getTtl()) : now;
+        Snapshot snapshot = new Snapshot(response, freshUntil, freshUntil.plus(properties.getStaleIfError()));
+
+        snapshots.put(identifier, snapshot);
+        if (response.getId() != null) {
+            snapshots.put(response.getId().toString(), snapshot);
+        }
+        if (response.getApplicationSlug() != null) {
+            snapshots.put(response.getApplicationSlug(), snapshot);
+        }
+    }
+
+    private record Snapshot(EventResponse response, Instant freshUntil, Instant staleUntil) {
+
+        boolean isFresh(Instant now) {
+            return now.isBefore(freshUntil);
+        }
+
+        boolean isServableOnError(Instant now) {
+            return now.isBefore(staleUntil);
+        }
+
+        Snapshot expire(Instant now, PublicEventCacheProperties properties) {
+            if (!isFresh(now)) {
+                return this;
+            }
+            return new Snapshot(response, now, now.plus(properties.getStaleIfError()));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.araw.araw.application.calendar;
+
+import com.araw.shared.http.PublicHttpCaching;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * A rendered iCalendar document and the entity tag derived from its content.
+ */
+public record CalendarFeed(String body, String etag) {
+
+    public static CalendarFeed of(String body) {
+        CRC32 checksum = new CRC32();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes);
+        return new CalendarFeed(body, PublicHttpCaching.weakTag(
+                "ics-" + Long.toHexString(checksum.getValue()) + "-" + bytes.length));
+    }
+}
@@ -0,0 +1,183 @@
+package com.araw.araw.application.calendar;
+
+import com.araw.araw.application.dto.event.EventSessionResponse;
+import com.araw.araw.config.EventCalendarProperties;
+import com.araw.araw.domain.event.event.EventChangedEvent;
+import com.araw.araw.domain.event.repository.EventDateRepository;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.repository.EventSessionView;
+import com.araw.shared.exception.DomainNotFoundException;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.cache.LruCache;
+import com.araw.shared.http.SurrogateKeyPurger;
+import com.araw.shared.persistence.ReadOnlyTransaction;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Calendar read model over published event sessions. iCalendar feeds are built from per-event
+ * {@code VEVENT} fragments that stay cached until the event changes, so regenerating the catalog after an
+ * edit only re-renders that one event, and polling clients are answered from memory in between.
+ * <p>
+ * The catalog feed only lists events with a session in the last {@code catalog-lookback} or later, and
+ * at most {@code max-cached-events} fragments and event feeds are kept.
+ */
+@Service
+public class EventCalendarService {
+
+    public static final String CATALOG_SURROGATE_KEY = "events-calendar";
+
+    private final EventDateRepository eventDateRepository;
+    private final EventRepository eventRepository;
+    private final EventCalendarProperties properties;
+    private final ReadOnlyTransaction readOnlyTransaction;
+
+    private final LruCache<UUID, String> fragments;
+    private final LruCache<UUID, CalendarFeed> eventFeeds;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CatalogFeed catalogFeed;
+
+    public EventCalendarService(EventDateRepository eventDateRepository,
+                                EventRepository eventRepository,
+                                EventCalendarProperties properties,
+                                ReadOnlyTransaction readOnlyTransaction) {
+        this.eventDateRepository = eventDateRepository;
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.fragments = new LruCache<>(properties.getMaxCachedEvents());
+        this.eventFeeds = new LruCache<>(properties.getMaxCachedEvents());
+    }
+
+    public Page<EventSessionResponse> listSessions(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new DomainValidationException("Calendar window requires from < to");
+        }
+        if (Duration.between(from, to).compareTo(properties.getMaxWindow()) > 0) {
+            throw new DomainValidationException("Calendar window must not exceed " + properties.getMaxWindow().toDays() + " days");
+        }
+        return readOnlyTransaction.execute(() -> eventDateRepository.findPublishedSessions(from, to, pageable)
+                .map(EventCalendarService::toResponse));
+    }
+
+    public CalendarFeed eventFeed(UUID eventId) {
+        CalendarFeed cached = eventFeeds.get(eventId);
+        if (cached != null) {
+            return cached;
+        }
+        long observed = generation.get();
+        String fragment = readOnlyTransaction.execute(() -> {
+            if (eventRepository.findVersionByIdAndIsPublishedTrue(eventId).isEmpty()) {
+                throw new DomainNotFoundException("Published event not found: " + eventId);
+            }
+            return renderFragments(List.of(eventId), observed).get(eventId);
+        });
+        CalendarFeed feed = CalendarFeed.of(ICalendarWriter.calendar(properties.getCalendarName(), List.of(fragment)));
+        eventFeeds.put(eventId, feed);
+        if (generation.get() != observed) {
+            eventFeeds.remove(eventId, feed);
+        }
+        return feed;
+    }
+
+    public CalendarFeed catalogFeed() {
+        // Whole days, so the cached feed stays valid until midnight rather than for a single instant.
+        LocalDateTime from = LocalDate.now(properties.getZoneId()).atStartOfDay()
+                .minus(properties.getCatalogLookback());
+        CatalogFeed cached = catalogFeed;
+        if (cached != null && cached.from().equals(from)) {
+            return cached.feed();
+        }
+        long observed = generation.get();
+        List<String> blocks = readOnlyTransaction.execute(() -> {
+            List<UUID> eventIds = eventRepository.findPublishedEventIdsWithSessionsFrom(from);
+            Map<UUID, String> rendered = renderFragments(eventIds, observed);
+            return eventIds.stream().map(rendered::get).toList();
+        });
+        CalendarFeed feed = CalendarFeed.of(ICalendarWriter.calendar(properties.getCalendarName(), blocks));
+        catalogFeed = new CatalogFeed(from, feed);
+        if (generation.get() != observed) {
+            catalogFeed = null;
+        }
+        return feed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(SurrogateKeyPurger.LOCAL_INVALIDATION_ORDER)
+    public void onEventChanged(EventChangedEvent event) {
+        generation.incrementAndGet();
+        catalogFeed = null;
+        if (event.eventId() != null) {
+            fragments.remove(event.eventId());
+            eventFeeds.remove(event.eventId());
+        }
+    }
+
+    /**
+     * Returns the fragment of every requested event, rendering the missing ones with a single session
+     * query. A fragment is dropped again when an invalidation raced with the read.
+     */
+    private Map<UUID, String> renderFragments(Collection<UUID> eventIds, long observedGeneration) {
+        Map<UUID, String> result = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID eventId : eventIds) {
+            String fragment = fragments.get(eventId);
+            if (fragment != null) {
+                result.put(eventId, fragment);
+            } else {
+                missing.add(eventId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        Map<UUID, List<EventSessionView>> sessionsByEvent = eventDateRepository.findPublishedSessionsByEventIdIn(missing)
+                .stream()
+                .collect(Collectors.groupingBy(EventSessionView::getEventId));
+        for (UUID eventId : missing) {
+            String fragment = ICalendarWriter.events(sessionsByEvent.getOrDefault(eventId, List.of()),
+                    properties.getZoneId(), properties.getUidDomain());
+            result.put(eventId, fragment);
+            fragments.put(eventId, fragment);
+            if (generation.get() != observedGeneration) {
+                fragments.remove(eventId, fragment);
+            }
+        }
+        return result;
+    }
+
+    private record CatalogFeed(LocalDateTime from, CalendarFeed feed) {
+    }
+
+    private static EventSessionResponse toResponse(EventSessionView view) {
+        return EventSessionResponse.builder()
+                .sessionId(view.getSessionId())
+                .sessionName(view.getSessionName())
+                .startsAt(view.getStartsAt())
+                .endsAt(view.getEndsAt())
+                .location(view.getSessionLocation())
+                .isOnline(view.getOnline())
+                .eventId(view.getEventId())
+                .eventTitle(view.getEventTitle())
+                .applicationSlug(view.getApplicationSlug())
+                .eventStatus(view.getEventStatus())
+                .isVirtual(view.getVirtualEvent())
+                .isHybrid(view.getHybridEvent())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.araw.araw.application.calendar;
+
+import com.araw.araw.domain.event.repository.EventSessionView;
+import com.araw.araw.domain.event.valueobject.EventStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Minimal RFC 5545 writer: CRLF line endings, escaped text values and lines folded at 75 octets.
+ */
+final class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private ICalendarWriter() {
+    }
+
+    static String calendar(String name, Collection<String> eventBlocks) {
+        StringBuilder out = new StringBuilder();
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//ARAW//Events//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + escape(name));
+        eventBlocks.forEach(out::append);
+        line(out, "END:VCALENDAR");
+        return out.toString();
+    }
+
+    /**
+     * Renders the {@code VEVENT} components of one event. The output depends only on the rows, so it can be
+     * cached per event and concatenated into larger feeds.
+     */
+    static String events(List<EventSessionView> sessions, ZoneId zone, String uidDomain) {
+        StringBuilder out = new StringBuilder();
+        for (EventSessionView session : sessions) {
+            line(out, "BEGIN:VEVENT");
+            line(out, "UID:" + session.getSessionId() + "@" + uidDomain);
+            LocalDateTime stamp = session.getEventUpdatedAt() != null ? session.getEventUpdatedAt() : session.getStartsAt();
+            line(out, "DTSTAMP:" + utc(stamp, zone));
+            line(out, "DTSTART:" + utc(session.getStartsAt(), zone));
+            if (session.getEndsAt() != null) {
+                line(out, "DTEND:" + utc(session.getEndsAt(), zone));
+            }
+            line(out, "SUMMARY:" + escape(summary(session)));
+            String location = location(session);
+            if (location != null) {
+                line(out, "LOCATION:" + escape(location));
+            }
+            line(out, "STATUS:" + (session.getEventStatus() == EventStatus.CANCELLED ? "CANCELLED" : "CONFIRMED"));
+            line(out, "END:VEVENT");
+        }
+        return out.toString();
+    }
+
+    private static String summary(EventSessionView session) {
+        if (session.getSessionName() == null || session.getSessionName().isBlank()) {
+            return session.getEventTitle();
+        }
+        return session.getEventTitle() + " - " + session.getSessionName();
+    }
+
+    private static String location(EventSessionView session) {
+        if (Boolean.TRUE.equals(session.getOnline()) || Boolean.TRUE.equals(session.getVirtualEvent())) {
+            return "Online";
+        }
+        if (session.getSessionLocation() != null && !session.getSessionLocation().isBlank()) {
+            return session.getSessionLocation();
+        }
+        StringJoiner venue = new StringJoiner(", ");
+        if (session.getVenueName() != null) {
+            venue.add(session.getVenueName());
+        }
+        if (session.getCity() != null) {
+            venue.add(session.getCity());
+        }
+        return venue.length() == 0 ? null : venue.toString();
+    }
+
+    private static String utc(LocalDateTime value, ZoneId zone) {
+        return value.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    /**
+     * Appends a content line, folding it so no physical line exceeds 75 octets without splitting a
+     * multi-byte character.
+     */
+    static void line(StringBuilder out, String content) {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int width = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + width > limit) {
+                out.append(CRLF).append(' ');
+                octets = 0;
+                // the leading space of a continuation line counts towards its length
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+}
@@ -0,0 +1,173 @@
+package com.araw.araw.application.catalog;
+
+import com.araw.araw.application.dto.event.EventSummaryResponse;
+import com.araw.araw.application.dto.event.EventCatalogResponse;
+import com.araw.shared.api.PagedResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of published events. Each entry occupies a slot, and every facet value keeps a bitmap of
+ * the slots carrying it, so any combination of facets resolves to a few bitmap ANDs and ORs. Facet counts
+ * apply every filter except the facet's own, which is what a browse UI needs to show the alternatives.
+ * <p>
+ * Entries are replaced one at a time as events change; slots of removed entries are reused.
+ */
+final class EventCatalog {
+
+    private static final Comparator<EventCatalogEntry> NEWEST_FIRST = Comparator
+            .comparing(EventCatalogEntry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(EventCatalogEntry::id, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<EventCatalogEntry> slots = new ArrayList<>();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Map<EventFacet, FacetIndex> indexes = new EnumMap<>(EventFacet.class);
+
+    EventCatalog() {
+        for (EventFacet facet : EventFacet.values()) {
+            indexes.put(facet, new FacetIndex());
+        }
+    }
+
+    void replaceAll(Collection<EventCatalogEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            slotById.clear();
+            freeSlots.clear();
+            live.clear();
+            indexes.replaceAll((facet, index) -> new FacetIndex());
+            entries.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(EventCatalogEntry entry) {
+        lock.writeLock().lock();
+        try {
+            delete(entry.id());
+            insert(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            delete(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    EventCatalogResponse query(EventCatalogQuery query, int page, int size) {
+        lock.readLock().lock();
+        try {
+            Map<EventFacet, BitSet> selected = new EnumMap<>(EventFacet.class);
+            query.selections().forEach((facet, values) -> selected.put(facet, indexes.get(facet).anyOf(values)));
+            BitSet ranged = rangeMatches(query);
+
+            BitSet matches = (BitSet) ranged.clone();
+            selected.values().forEach(matches::and);
+
+            Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+            for (EventFacet facet : EventFacet.values()) {
+                BitSet others = (BitSet) ranged.clone();
+                selected.forEach((other, slotsOfOther) -> {
+                    if (other != facet) {
+                        others.and(slotsOfOther);
+                    }
+                });
+                facetCounts.put(facet.parameter(), indexes.get(facet).counts(others));
+            }
+
+            List<EventCatalogEntry> ordered = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                ordered.add(slots.get(slot));
+            }
+            ordered.sort(NEWEST_FIRST);
+
+            int total = ordered.size();
+            int from = (int) Math.min((long) page * size, total);
+            int to = Math.min(from + size, total);
+            List<EventSummaryResponse> content = ordered.subList(from, to).stream()
+                    .map(EventCatalogEntry::summary)
+                    .toList();
+            int totalPages = size == 0 ? 0 : (total + size - 1) / size;
+            return new EventCatalogResponse(new PagedResponse<>(content, total, totalPages, page, size), facetCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet rangeMatches(EventCatalogQuery query) {
+        BitSet result = (BitSet) live.clone();
+        if (query.maxCost() == null && query.age() == null) {
+            return result;
+        }
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            EventCatalogEntry entry = slots.get(slot);
+            boolean withinCost = query.maxCost() == null || entry.cost() <= query.maxCost();
+            boolean withinAge = query.age() == null
+                    || ((entry.minAge() == null || entry.minAge() <= query.age())
+                    && (entry.maxAge() == null || entry.maxAge() >= query.age()));
+            if (!withinCost || !withinAge) {
+                result.clear(slot);
+            }
+        }
+        return result;
+    }
+
+    private void insert(EventCatalogEntry entry) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(entry);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, entry);
+        }
+        slotById.put(entry.id(), slot);
+        live.set(slot);
+        entry.facets().forEach((facet, values) -> indexes.get(facet).add(slot, values));
+    }
+
+    private void delete(UUID eventId) {
+        Integer slot = slotById.remove(eventId);
+        if (slot == null) {
+            return;
+        }
+        EventCatalogEntry previous = slots.get(slot);
+        previous.facets().forEach((facet, values) -> indexes.get(facet).remove(slot, values));
+        slots.set(slot, null);
+        live.clear(slot);
+        freeSlots.push(slot);
+    }
+}
@@ -0,0 +1,21 @@
+package com.araw.araw.application.catalog;
+
+import com.araw.araw.application.dto.event.EventSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One published event as held by the catalog: the summary served to clients plus the attributes it is
+ * indexed and filtered by. {@code cost} is zero for free events.
+ */
+record EventCatalogEntry(UUID id,
+                         LocalDateTime createdAt,
+                         EventSummaryResponse summary,
+                         Map<EventFacet, Set<String>> facets,
+                         double cost,
+                         Integer minAge,
+                         Integer maxAge) {
+}
@@ -0,0 +1,30 @@
+package com.araw.araw.application.catalog;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Facet selections plus the two range filters of a catalog browse. Empty selections are ignored.
+ *
+ * @param maxCost upper bound on the cost of an event; free events always qualify
+ * @param age     age that must fall within the event's age window; open bounds qualify
+ */
+public record EventCatalogQuery(Map<EventFacet, Set<String>> selections, Double maxCost, Integer age) {
+
+    public EventCatalogQuery {
+        EnumMap<EventFacet, Set<String>> copy = new EnumMap<>(EventFacet.class);
+        if (selections != null) {
+            selections.forEach((facet, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    copy.put(facet, Set.copyOf(values));
+                }
+            });
+        }
+        selections = copy;
+    }
+
+    public static EventCatalogQuery all() {
+        return new EventCatalogQuery(Map.of(), null, null);
+    }
+}
@@ -0,0 +1,213 @@
+package com.araw.araw.application.catalog;
+
+import com.araw.araw.application.dto.event.EventCatalogResponse;
+import com.araw.araw.application.dto.event.EventSummaryResponse;
+import com.araw.araw.application.mapper.EventMapper;
+import com.araw.araw.config.EventCatalogProperties;
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.entity.EventDate;
+import com.araw.araw.domain.event.event.EventChangedEvent;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.Location;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.http.SurrogateKeyPurger;
+import com.araw.shared.persistence.ReadOnlyTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted browse over published events, answered from the in-memory {@link EventCatalog}. The catalog is
+ * loaded when the application starts, each {@link EventChangedEvent} re-indexes or drops that one event,
+ * and a full reload after {@code app.events.catalog.refresh-interval} picks up bulk-updated counters.
+ */
+@Service
+@Slf4j
+public class EventCatalogService {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventCatalogProperties properties;
+    private final ReadOnlyTransaction readOnlyTransaction;
+    private final Clock clock;
+
+    private final EventCatalog catalog = new EventCatalog();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Instant loadedAt;
+
+    @Autowired
+    public EventCatalogService(EventRepository eventRepository,
+                               EventMapper eventMapper,
+                               EventCatalogProperties properties,
+                               ReadOnlyTransaction readOnlyTransaction) {
+        this(eventRepository, eventMapper, properties, readOnlyTransaction, Clock.systemUTC());
+    }
+
+    EventCatalogService(EventRepository eventRepository,
+                        EventMapper eventMapper,
+                        EventCatalogProperties properties,
+                        ReadOnlyTransaction readOnlyTransaction,
+                        Clock clock) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.properties = properties;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+    }
+
+    public EventCatalogResponse browse(EventCatalogQuery query, Pageable pageable) {
+        if (query.maxCost() != null && query.maxCost() < 0) {
+            throw new DomainValidationException("maxCost must not be negative");
+        }
+        if (query.age() != null && query.age() < 0) {
+            throw new DomainValidationException("age must not be negative");
+        }
+        ensureLoaded();
+        int size = Math.min(pageable.getPageSize(), CursorPage.MAX_SIZE);
+        return catalog.query(query, pageable.getPageNumber(), size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            // the first browse request retries
+            log.warn("Could not load the event catalog at startup", ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(SurrogateKeyPurger.LOCAL_INVALIDATION_ORDER)
+    public void onEventChanged(EventChangedEvent event) {
+        if (event.eventId() == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        EventCatalogEntry entry = readOnlyTransaction.execute(() -> eventRepository.findById(event.eventId())
+                .filter(found -> Boolean.TRUE.equals(found.getIsPublished()))
+                .map(this::toEntry)
+                .orElse(null));
+        if (entry != null) {
+            catalog.put(entry);
+        } else {
+            catalog.remove(event.eventId());
+        }
+    }
+
+    /**
+     * Rebuilds the catalog from the database. A change that lands while the rebuild is reading may be
+     * overwritten by the older row, so the catalog is then marked for another reload.
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            long observed = generation.get();
+            List<EventCatalogEntry> entries = readOnlyTransaction.execute(() -> loadEntries());
+            catalog.replaceAll(entries);
+            loadedAt = generation.get() == observed ? clock.instant() : Instant.EPOCH;
+            log.debug("Event catalog loaded with {} published events", entries.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        Instant loaded = loadedAt;
+        if (loaded == null) {
+            reloadLock.lock();
+            try {
+                if (loadedAt == null) {
+                    reload();
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+        } else if (loaded.plus(properties.getRefreshInterval()).isBefore(clock.instant()) && reloadLock.tryLock()) {
+            // other requests keep reading the current catalog while one of them refreshes it
+            try {
+                reload();
+            } catch (RuntimeException ex) {
+                log.warn("Event catalog refresh failed; serving the previous catalog", ex);
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+    }
+
+    private List<EventCatalogEntry> loadEntries() {
+        List<UUID> ids = eventRepository.findPublishedEventIds();
+        List<EventCatalogEntry> entries = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += properties.getLoadBatchSize()) {
+            List<UUID> batch = ids.subList(from, Math.min(from + properties.getLoadBatchSize(), ids.size()));
+            eventRepository.findAllById(batch).stream()
+                    .filter(event -> Boolean.TRUE.equals(event.getIsPublished()))
+                    .map(this::toEntry)
+                    .forEach(entries::add);
+        }
+        return entries;
+    }
+
+    private EventCatalogEntry toEntry(Event event) {
+        Location location = event.getLocation();
+        boolean virtual = location != null && Boolean.TRUE.equals(location.getIsVirtual());
+        boolean hybrid = location != null && Boolean.TRUE.equals(location.getIsHybrid());
+        boolean free = Boolean.TRUE.equals(event.getIsFree()) || event.getCost() == null || event.getCost() <= 0;
+
+        EventSummaryResponse summary = eventMapper.toSummaryResponse(event);
+        summary.setCity(location != null ? location.getCity() : null);
+        summary.setIsVirtual(virtual);
+        summary.setNextSessionDate(nextSessionDate(event));
+        summary.setAvailableSpots(eventMapper.calculateAvailableSpots(event));
+        summary.setIsRegistrationOpen(event.isRegistrationOpen());
+
+        Map<EventFacet, Set<String>> facets = new EnumMap<>(EventFacet.class);
+        facets.put(EventFacet.TYPE, Set.of(event.getEventType().name()));
+        facets.put(EventFacet.STATUS, Set.of(event.getStatus().name()));
+        facets.put(EventFacet.FORMAT, Set.of(hybrid ? "HYBRID" : virtual ? "VIRTUAL" : "IN_PERSON"));
+        facets.put(EventFacet.PRICING, Set.of(free ? "FREE" : "PAID"));
+        facets.put(EventFacet.CITY, nonBlank(location != null ? location.getCity() : null));
+        facets.put(EventFacet.STATE, nonBlank(location != null ? location.getStateProvince() : null));
+        facets.put(EventFacet.GRADE, event.getTargetGrades().stream()
+                .filter(grade -> grade != null && !grade.isBlank())
+                .collect(Collectors.toUnmodifiableSet()));
+
+        return new EventCatalogEntry(event.getId(), event.getCreatedAt(), summary, facets,
+                free ? 0d : event.getCost(), event.getMinAge(), event.getMaxAge());
+    }
+
+    private LocalDateTime nextSessionDate(Event event) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return event.getEventDates().stream()
+                .map(EventDate::getSessionDate)
+                .filter(Objects::nonNull)
+                .filter(date -> date.isAfter(now))
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    private static Set<String> nonBlank(String value) {
+        return value == null || value.isBlank() ? Set.of() : Set.of(value);
+    }
+}
@@ -0,0 +1,25 @@
+package com.araw.araw.application.catalog;
+
+/**
+ * Discrete attributes of a published event that the catalog indexes. Values are matched case-insensitively;
+ * selecting several values of one facet matches any of them, and different facets are combined with AND.
+ */
+public enum EventFacet {
+    TYPE("type"),
+    STATUS("status"),
+    CITY("city"),
+    STATE("state"),
+    FORMAT("format"),
+    PRICING("pricing"),
+    GRADE("grade");
+
+    private final String parameter;
+
+    EventFacet(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+}
@@ -0,0 +1,80 @@
+package com.araw.araw.application.catalog;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bitmap index of one facet: every distinct value maps to the set of catalog slots carrying it.
+ * Not thread-safe; {@link EventCatalog} guards it.
+ */
+final class FacetIndex {
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<String, String> labels = new HashMap<>();
+
+    static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    void add(int slot, Collection<String> values) {
+        for (String value : values) {
+            String key = key(value);
+            postings.computeIfAbsent(key, ignored -> new BitSet()).set(slot);
+            labels.putIfAbsent(key, value.trim());
+        }
+    }
+
+    void remove(int slot, Collection<String> values) {
+        for (String value : values) {
+            String key = key(value);
+            BitSet slots = postings.get(key);
+            if (slots == null) {
+                continue;
+            }
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                postings.remove(key);
+                labels.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the slots carrying any of the selected values.
+     */
+    BitSet anyOf(Collection<String> selected) {
+        BitSet result = new BitSet();
+        for (String value : selected) {
+            BitSet slots = postings.get(key(value));
+            if (slots != null) {
+                result.or(slots);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts, per value, how many of the given slots carry it. Values without a match are omitted.
+     */
+    Map<String, Integer> counts(BitSet within) {
+        Map<String, Integer> sorted = new TreeMap<>();
+        BitSet scratch = new BitSet();
+        postings.forEach((key, slots) -> {
+            scratch.clear();
+            scratch.or(slots);
+            scratch.and(within);
+            int count = scratch.cardinality();
+            if (count > 0) {
+                sorted.put(key, count);
+            }
+        });
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        sorted.forEach((key, count) -> counts.put(labels.get(key), count));
+        return counts;
+    }
+}
@@ -0,0 +1,106 @@
+package com.araw.araw.application.dedup;
+
+import com.araw.araw.config.DuplicateEmailFilterProperties;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Screens "already applied with this email?" checks through a per-event Bloom filter of normalized
+ * applicant emails, so a check for an email the event has never seen is answered without a query. Only
+ * probable duplicates reach the authoritative {@code exists} query, whose answer is returned unchanged.
+ * <p>
+ * Filters are loaded lazily from the applications table and must be told about every new row through
+ * {@link #applicationAdded}. Normalizing (trimmed, lower case) only widens the match, so the filter never
+ * hides a row that the case-sensitive query would have found.
+ * <p>
+ * Each node keeps its own filters, so a "no" can be stale: another node may have inserted the email, or a
+ * rebuilt filter may have been loaded before an in-flight insert committed. That is safe only because the
+ * {@link Application#EMAIL_PER_EVENT_CONSTRAINT} unique key backs it; callers must save with a flush and
+ * report that violation as the same "already submitted" error. Checks without such a key must not be
+ * routed through a filter.
+ */
+@Component
+public class DuplicateEmailFilter implements MeterBinder {
+
+    private final ApplicationRepository applicationRepository;
+    private final DuplicateEmailFilterProperties properties;
+    private final EventEmailFilter applications;
+    private final Outcomes applicationOutcomes = new Outcomes();
+
+    public DuplicateEmailFilter(ApplicationRepository applicationRepository,
+                                DuplicateEmailFilterProperties properties) {
+        this.applicationRepository = applicationRepository;
+        this.properties = properties;
+        this.applications = new EventEmailFilter(applicationRepository::findEmailsByEventId,
+                properties.getExpectedEmailsPerEvent(), properties.getFalsePositiveRate());
+    }
+
+    public boolean applicationExists(UUID eventId, String email) {
+        return check(applications, applicationOutcomes, eventId, email,
+                () -> applicationRepository.existsByEventIdAndEmail(eventId, email));
+    }
+
+    public void applicationAdded(UUID eventId, String email) {
+        if (properties.isEnabled() && email != null) {
+            applications.add(eventId, email);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        applicationOutcomes.bindTo(registry, "application");
+        Gauge.builder("events.duplicate_filter.events", this, filter -> filter.applications.eventCount())
+                .description("Events with a loaded duplicate-email filter")
+                .register(registry);
+        Gauge.builder("events.duplicate_filter.bytes", this, filter -> filter.applications.sizeInBytes())
+                .description("Memory held by duplicate-email filter bitmaps")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private boolean check(EventEmailFilter filter, Outcomes outcomes, UUID eventId, String email, BooleanSupplier query) {
+        if (!properties.isEnabled() || email == null) {
+            return query.getAsBoolean();
+        }
+        if (!filter.mightContain(eventId, email)) {
+            outcomes.skipped.incrementAndGet();
+            return false;
+        }
+        boolean exists = query.getAsBoolean();
+        (exists ? outcomes.duplicates : outcomes.falsePositives).incrementAndGet();
+        return exists;
+    }
+
+    /**
+     * The observed false-positive rate is {@code false_positive / (false_positive + skipped)}.
+     */
+    private static final class Outcomes {
+
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong falsePositives = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+
+        private void bindTo(MeterRegistry registry, String type) {
+            register(registry, type, "skipped", skipped, "Checks answered by the filter without a query");
+            register(registry, type, "false_positive", falsePositives, "Queries the filter sent that found no duplicate");
+            register(registry, type, "duplicate", duplicates, "Queries the filter sent that found a duplicate");
+        }
+
+        private static void register(MeterRegistry registry, String type, String result, AtomicLong count, String description) {
+            FunctionCounter.builder("events.duplicate_filter.checks", count, AtomicLong::get)
+                    .tag("type", type)
+                    .tag("result", result)
+                    .description(description)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.araw.araw.application.dedup;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * One {@link BloomFilter} of normalized email addresses per event, loaded from the database on first use.
+ * <p>
+ * An event's filter is created empty and registered before its rows are loaded, and inserts recorded
+ * meanwhile go into the same filter. Because puts commute, a row committed while the load is running ends
+ * up in the filter either way. Until the load has finished the filter answers "maybe", sending the caller
+ * to the database.
+ * <p>
+ * Replacing a saturated filter can miss an insert that has not committed yet, and nothing here sees inserts
+ * made by other nodes. A negative answer is a hint that must be backed by a unique key.
+ */
+final class EventEmailFilter {
+
+    private final Function<UUID, Collection<String>> loader;
+    private final int expectedPerEvent;
+    private final double falsePositiveRate;
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+
+    EventEmailFilter(Function<UUID, Collection<String>> loader, int expectedPerEvent, double falsePositiveRate) {
+        this.loader = loader;
+        this.expectedPerEvent = expectedPerEvent;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code false} only when no row for the event can have this email.
+     */
+    boolean mightContain(UUID eventId, String email) {
+        Slot slot = slots.computeIfAbsent(eventId, id -> new Slot(expectedPerEvent));
+        if (!slot.ready && !slot.load(eventId)) {
+            return true;
+        }
+        if (slot.filter.isSaturated()) {
+            // Replace with a filter twice the size; the next check reloads it from the database.
+            slots.replace(eventId, slot, new Slot((int) Math.min(Integer.MAX_VALUE / 2, slot.filter.insertions()) * 2));
+        }
+        return slot.filter.mightContain(normalize(email));
+    }
+
+    void add(UUID eventId, String email) {
+        slots.computeIfAbsent(eventId, id -> new Slot(expectedPerEvent)).filter.put(normalize(email));
+    }
+
+    int eventCount() {
+        return slots.size();
+    }
+
+    long sizeInBytes() {
+        return slots.values().stream().mapToLong(slot -> slot.filter.sizeInBytes()).sum();
+    }
+
+    private final class Slot {
+
+        private final BloomFilter filter;
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private volatile boolean ready;
+
+        private Slot(int expectedInsertions) {
+            this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        /**
+         * Loads the event's rows unless another caller already is. Returns whether the filter is complete.
+         */
+        private boolean load(UUID eventId) {
+            if (!loading.compareAndSet(false, true)) {
+                return ready;
+            }
+            try {
+                for (String email : loader.apply(eventId)) {
+                    if (email != null) {
+                        filter.put(normalize(email));
+                    }
+                }
+                ready = true;
+            } finally {
+                if (!ready) {
+                    loading.set(false);
+                }
+            }
+            return true;
+        }
+    }
+}
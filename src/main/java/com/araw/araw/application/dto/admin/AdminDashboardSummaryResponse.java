@@ -18,4 +18,11 @@ public class AdminDashboardSummaryResponse {
     private long totalParticipantsServed;
     private double averageParticipantsPerEvent;
     private double averageCapacityUtilization;
+    private long uniqueVisitorsLast7Days;
+    private long uniqueVisitorsLast30Days;
+    private long applicationsLast30Days;
+    /**
+     * Applications submitted per unique event page visitor over the last 30 days; {@code null} without visitors.
+     */
+    private Double visitorConversionRateLast30Days;
 }
@@ -0,0 +1,26 @@
+package com.araw.araw.application.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class EventEngagementResponse {
+    private UUID eventId;
+    private String title;
+    private long viewCount;
+    private int applicationCount;
+    private long uniqueVisitorsToday;
+    private long uniqueVisitorsLast7Days;
+    private long uniqueVisitorsLast30Days;
+    private long uniqueVisitorsAllTime;
+    /**
+     * Applications per unique visitor since the event page went live; {@code null} without visitors.
+     */
+    private Double conversionRate;
+    private Map<LocalDate, Long> dailyUniqueVisitors;
+}
@@ -0,0 +1,25 @@
+package com.araw.araw.application.dto.application;
+
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDecisionOutcome {
+
+    public enum Result {
+        APPLIED,
+        SKIPPED,
+        FAILED
+    }
+
+    private UUID applicationId;
+    private Result result;
+    private ApplicationStatus status;
+    private Integer waitlistPosition;
+    private String message;
+}
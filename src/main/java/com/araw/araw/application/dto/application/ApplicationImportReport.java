@@ -0,0 +1,16 @@
+package com.araw.araw.application.dto.application;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationImportReport {
+    private int totalRows;
+    private int importedRows;
+    private int rejectedRows;
+    private List<ApplicationImportRowResult> rows;
+}
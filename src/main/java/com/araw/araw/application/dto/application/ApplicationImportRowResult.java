@@ -0,0 +1,25 @@
+package com.araw.araw.application.dto.application;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationImportRowResult {
+
+    public enum Outcome {
+        IMPORTED,
+        REJECTED
+    }
+
+    private int row;
+    private String email;
+    private Outcome outcome;
+    private UUID applicationId;
+    private String applicationNumber;
+    private List<String> errors;
+}
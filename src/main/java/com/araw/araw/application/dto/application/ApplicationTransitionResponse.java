@@ -0,0 +1,28 @@
+package com.araw.araw.application.dto.application;
+
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact result of a lifecycle transition: where the application now stands, without its answers,
+ * applicant details or documents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTransitionResponse {
+    private UUID id;
+    private String applicationNumber;
+    private ApplicationStatus status;
+    private Integer waitlistPosition;
+    private LocalDateTime submittedAt;
+    private LocalDateTime reviewedAt;
+    private LocalDateTime acceptanceSentAt;
+    private LocalDateTime confirmedAt;
+    private LocalDateTime cancelledAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.araw.araw.application.dto.application;
+
+/**
+ * Shape of the response to a lifecycle transition. {@link #FULL} is the whole {@link ApplicationResponse}
+ * with signed document download URLs; {@link #COMPACT} is an {@link ApplicationTransitionResponse} built from
+ * the saved row alone, which never touches documents or other collections.
+ */
+public final class ApplicationView<R> {
+
+    public static final ApplicationView<ApplicationResponse> FULL = new ApplicationView<>(ApplicationResponse.class);
+    public static final ApplicationView<ApplicationTransitionResponse> COMPACT =
+            new ApplicationView<>(ApplicationTransitionResponse.class);
+
+    private final Class<R> type;
+
+    private ApplicationView(Class<R> type) {
+        this.type = type;
+    }
+
+    public R cast(Object response) {
+        return type.cast(response);
+    }
+}
@@ -0,0 +1,32 @@
+package com.araw.araw.application.dto.application;
+
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationDecisionRequest {
+
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 500, message = "At most 500 applications can be decided at once")
+    private List<@NotNull UUID> applicationIds;
+
+    @NotNull(message = "Target status is required")
+    private ApplicationStatus status;
+
+    /**
+     * Required when rejecting.
+     */
+    private String reason;
+}
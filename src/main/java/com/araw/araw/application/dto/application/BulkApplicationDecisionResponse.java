@@ -0,0 +1,18 @@
+package com.araw.araw.application.dto.application;
+
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationDecisionResponse {
+    private ApplicationStatus status;
+    private int applied;
+    private int skipped;
+    private int failed;
+    private List<ApplicationDecisionOutcome> outcomes;
+}
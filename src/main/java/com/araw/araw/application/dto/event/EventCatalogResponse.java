@@ -0,0 +1,13 @@
+package com.araw.araw.application.dto.event;
+
+import com.araw.shared.api.PagedResponse;
+
+import java.util.Map;
+
+/**
+ * A page of published events matching a catalog browse, plus the number of matching events for every
+ * value of every facet (keyed by facet parameter, then value).
+ */
+public record EventCatalogResponse(PagedResponse<EventSummaryResponse> events,
+                                   Map<String, Map<String, Integer>> facets) {
+}
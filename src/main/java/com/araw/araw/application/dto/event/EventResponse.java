@@ -56,4 +56,5 @@ public class EventResponse {
     private String createdByUsername;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.araw.araw.application.dto.event;
+
+import com.araw.araw.domain.event.valueobject.EventStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSessionResponse {
+    private UUID sessionId;
+    private String sessionName;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private String location;
+    private Boolean isOnline;
+    private UUID eventId;
+    private String eventTitle;
+    private String applicationSlug;
+    private EventStatus eventStatus;
+    private Boolean isVirtual;
+    private Boolean isHybrid;
+}
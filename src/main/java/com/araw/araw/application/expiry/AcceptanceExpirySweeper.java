@@ -0,0 +1,170 @@
+package com.araw.araw.application.expiry;
+
+import com.araw.araw.config.AcceptanceExpiryProperties;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.event.ApplicationDecisionsMadeEvent;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.service.WaitlistService;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.shared.scheduling.BackgroundJobs;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gives seats back when accepted applicants do not confirm within {@code confirmation-window}. Each batch
+ * claims the oldest expired acceptances with {@code FOR UPDATE SKIP LOCKED}, cancels them, returns their
+ * seats and promotes from the head of each affected event's waitlist, all in one transaction; several nodes
+ * can sweep side by side without handling an acceptance twice. The status emails are queued in the same
+ * transaction through {@code ApplicationDecisionNotifier}.
+ */
+@Component
+@Slf4j
+public class AcceptanceExpirySweeper implements MeterBinder {
+
+    static final String EXPIRY_REASON = "Acceptance expired without confirmation";
+
+    private final ApplicationRepository applicationRepository;
+    private final EventRepository eventRepository;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AcceptanceExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundJobs backgroundJobs;
+
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong promoted = new AtomicLong();
+    private final AtomicLong lastRunExpired = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public AcceptanceExpirySweeper(ApplicationRepository applicationRepository,
+                                   EventRepository eventRepository,
+                                   WaitlistService waitlistService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   AcceptanceExpiryProperties properties,
+                                   PlatformTransactionManager transactionManager,
+                                   BackgroundJobs backgroundJobs) {
+        this.applicationRepository = applicationRepository;
+        this.eventRepository = eventRepository;
+        this.waitlistService = waitlistService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backgroundJobs = backgroundJobs;
+    }
+
+    @PostConstruct
+    void scheduleSweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // A batch interrupted mid-way by shutdown rolls back and is claimed again by the next sweep.
+        backgroundJobs.scheduleWithFixedDelay("acceptance-expiry-sweeper", properties.getPollInterval(), this::sweepQuietly);
+    }
+
+    /**
+     * Expires batches until no expired acceptance is left and returns how many were expired.
+     */
+    public int sweep() {
+        long startedAt = System.nanoTime();
+        lagMillis.set(0);
+        int total = 0;
+        int expiredInBatch;
+        do {
+            Integer count = transactionTemplate.execute(status -> expireBatch());
+            expiredInBatch = count != null ? count : 0;
+            total += expiredInBatch;
+        } while (expiredInBatch == properties.getBatchSize());
+        lastRunExpired.set(total);
+        lastRunMillis.set(Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("applications.acceptance_expiry", expired, AtomicLong::get)
+                .tag("result", "expired")
+                .description("Acceptances cancelled because they were not confirmed in time")
+                .register(registry);
+        FunctionCounter.builder("applications.acceptance_expiry", promoted, AtomicLong::get)
+                .tag("result", "promoted")
+                .description("Waitlisted applications accepted into seats freed by expired acceptances")
+                .register(registry);
+        Gauge.builder("applications.acceptance_expiry.last_run.expired", lastRunExpired, AtomicLong::get)
+                .description("Acceptances expired by the most recent sweep")
+                .register(registry);
+        Gauge.builder("applications.acceptance_expiry.last_run.duration", lastRunMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .description("Wall-clock time of the most recent sweep")
+                .register(registry);
+        Gauge.builder("applications.acceptance_expiry.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .description("How long the oldest acceptance expired by the most recent sweep had been overdue")
+                .register(registry);
+    }
+
+    private void sweepQuietly() {
+        try {
+            int swept = sweep();
+            if (swept > 0) {
+                log.info("Expired {} unconfirmed acceptances", swept);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Acceptance expiry sweep failed; it will be retried", ex);
+        }
+    }
+
+    private int expireBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deadline = now.minus(properties.getConfirmationWindow());
+        List<Application> batch = applicationRepository.lockUnconfirmedPastDeadline(deadline,
+                PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // Claimed oldest first, so the head of the first batch is the most overdue acceptance of the run.
+        lagMillis.compareAndSet(0, Math.max(1, Duration.between(batch.get(0).getAcceptanceSentAt(), deadline).toMillis()));
+
+        Map<UUID, Integer> expiredPerEvent = new LinkedHashMap<>();
+        List<UUID> notify = new ArrayList<>();
+        for (Application application : batch) {
+            application.cancel(EXPIRY_REASON);
+            expiredPerEvent.merge(application.getEvent().getId(), 1, Integer::sum);
+            notify.add(application.getId());
+        }
+        applicationRepository.saveAll(batch);
+
+        int promotedInBatch = 0;
+        for (Map.Entry<UUID, Integer> entry : expiredPerEvent.entrySet()) {
+            eventRepository.releaseSeats(entry.getKey(), entry.getValue());
+            eventRepository.subtractApplications(entry.getKey(), entry.getValue());
+            for (Application promotedApplication : waitlistService.promote(entry.getKey())) {
+                notify.add(promotedApplication.getId());
+                promotedInBatch++;
+            }
+        }
+        eventPublisher.publishEvent(new ApplicationDecisionsMadeEvent(notify));
+
+        expired.addAndGet(batch.size());
+        promoted.addAndGet(promotedInBatch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,174 @@
+package com.araw.araw.application.importing;
+
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.valueobject.ApplicantInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Inserts new applications with JDBC batch statements instead of one Hibernate persist per row. Rows must
+ * already carry their id, application number, event and status; they are written in the caller's
+ * transaction and never become managed entities.
+ * <p>
+ * An application whose (event, email) was inserted by someone else after the caller checked is skipped
+ * with {@code ON CONFLICT DO NOTHING} instead of failing the whole batch, and reported back to the caller.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationBatchWriter {
+
+    private static final String INSERT_APPLICATION_SQL = """
+            INSERT INTO applications (id, application_number, event_id, participant_id, email, status,
+                first_name, last_name, middle_name, date_of_birth, gender, ethnicity, phone_number,
+                address_line1, address_line2, city, state_province, postal_code, country, school_name,
+                grade_level, gpa, preferred_language, motivation_statement, prior_experience, learning_goals,
+                guardian_consent, guardian_name, guardian_email, guardian_phone, emergency_contact_name,
+                emergency_contact_phone, emergency_contact_relation, special_accommodations, source,
+                linkedin_profile_url, submitted_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+                ?, ?, ?, ?, ?, 0)
+            ON CONFLICT DO NOTHING
+            """;
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO application_answers (application_id, question, answer) VALUES (?, ?, ?)";
+    private static final String INSERT_DIETARY_RESTRICTION_SQL =
+            "INSERT INTO application_dietary_restrictions (application_id, restriction) VALUES (?, ?)";
+    private static final String INSERT_MEDICAL_CONDITION_SQL =
+            "INSERT INTO application_medical_conditions (application_id, condition) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Inserts {@code applications} and returns the ones that were skipped because their (event, email) is
+     * already taken.
+     */
+    public List<Application> insert(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            rows.add(row(application, now));
+        }
+        List<Application> skipped = skipped(applications, jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, rows));
+        Set<UUID> skippedIds = new HashSet<>();
+        skipped.forEach(application -> skippedIds.add(application.getId()));
+
+        List<Object[]> answers = new ArrayList<>();
+        List<Object[]> dietaryRestrictions = new ArrayList<>();
+        List<Object[]> medicalConditions = new ArrayList<>();
+        for (Application application : applications) {
+            if (skippedIds.contains(application.getId())) {
+                continue;
+            }
+            collect(application, application.getCustomAnswers(), answers);
+            collect(application, application.getDietaryRestrictions(), dietaryRestrictions);
+            collect(application, application.getMedicalConditions(), medicalConditions);
+        }
+        batchUpdate(INSERT_ANSWER_SQL, answers);
+        batchUpdate(INSERT_DIETARY_RESTRICTION_SQL, dietaryRestrictions);
+        batchUpdate(INSERT_MEDICAL_CONDITION_SQL, medicalConditions);
+        return skipped;
+    }
+
+    private List<Application> skipped(List<Application> applications, int[] counts) {
+        List<Application> skipped = new ArrayList<>();
+        Set<UUID> unknown = new HashSet<>();
+        for (int i = 0; i < applications.size(); i++) {
+            if (counts[i] == 0) {
+                skipped.add(applications.get(i));
+            } else if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(applications.get(i).getId());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            // Drivers that rewrite batches do not report per-row counts; look the rows up instead.
+            Set<UUID> inserted = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    "SELECT id FROM applications WHERE id IN (:ids)", Map.of("ids", unknown), UUID.class));
+            applications.stream()
+                    .filter(application -> unknown.contains(application.getId()))
+                    .filter(application -> !inserted.contains(application.getId()))
+                    .forEach(skipped::add);
+        }
+        return skipped;
+    }
+
+    private static Object[] row(Application application, Timestamp now) {
+        ApplicantInfo applicant = application.getApplicantInfo() != null
+                ? application.getApplicantInfo()
+                : new ApplicantInfo();
+        return new Object[]{
+                application.getId(),
+                application.getApplicationNumber(),
+                application.getEvent().getId(),
+                application.getParticipant() != null ? application.getParticipant().getId() : null,
+                application.getEmail(),
+                application.getStatus().name(),
+                applicant.getFirstName(),
+                applicant.getLastName(),
+                applicant.getMiddleName(),
+                applicant.getDateOfBirth() != null ? Date.valueOf(applicant.getDateOfBirth()) : null,
+                applicant.getGender(),
+                applicant.getEthnicity(),
+                applicant.getPhoneNumber(),
+                applicant.getAddressLine1(),
+                applicant.getAddressLine2(),
+                applicant.getCity(),
+                applicant.getStateProvince(),
+                applicant.getPostalCode(),
+                applicant.getCountry(),
+                applicant.getSchoolName(),
+                applicant.getGradeLevel(),
+                applicant.getGpa(),
+                applicant.getPreferredLanguage(),
+                application.getMotivationStatement(),
+                application.getPriorExperience(),
+                application.getLearningGoals(),
+                application.getGuardianConsent(),
+                application.getGuardianName(),
+                application.getGuardianEmail(),
+                application.getGuardianPhone(),
+                application.getEmergencyContactName(),
+                application.getEmergencyContactPhone(),
+                application.getEmergencyContactRelation(),
+                application.getSpecialAccommodations(),
+                application.getSource(),
+                application.getLinkedinProfileUrl(),
+                now,
+                now
+        };
+    }
+
+    private static void collect(Application application, Map<String, String> values, List<Object[]> rows) {
+        if (values != null) {
+            values.forEach((question, answer) -> rows.add(new Object[]{application.getId(), question, answer}));
+        }
+    }
+
+    private static void collect(Application application, Set<String> values, List<Object[]> rows) {
+        if (values != null) {
+            values.forEach(value -> rows.add(new Object[]{application.getId(), value}));
+        }
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.araw.araw.application.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads application rows from an import file one at a time.
+ */
+public interface ApplicationRowReader {
+
+    /**
+     * Returns the next row, or {@code null} at the end of the file. A row that cannot be mapped to a
+     * request is returned with an error instead of failing the import; only a file that cannot be read at
+     * all throws.
+     */
+    ImportRow next() throws IOException;
+
+    static ApplicationRowReader open(ApplicationImportFormat format, InputStream body, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvApplicationRowReader(body, objectMapper);
+            case NDJSON -> new NdjsonApplicationRowReader(body, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.araw.araw.application.importing;
+
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.shared.exception.DomainValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CSV with a header row. Columns are named after the fields of {@code CreateApplicationRequest}, with the
+ * applicant's fields ({@code firstName}, {@code schoolName}, ...) flattened to the top level.
+ * {@code dietaryRestrictions} and {@code medicalConditions} hold {@code ;}-separated values, and a column
+ * named {@code answer:<question>} fills that custom answer. Empty cells are treated as missing.
+ */
+final class CsvApplicationRowReader implements ApplicationRowReader {
+
+    private static final String ANSWER_PREFIX = "answer:";
+    private static final Set<String> APPLICATION_COLUMNS = Set.of(
+            "eventId", "participantId", "email", "motivationStatement", "priorExperience", "learningGoals",
+            "linkedinProfileUrl", "guardianConsent", "guardianName", "guardianEmail", "guardianPhone",
+            "emergencyContactName", "emergencyContactPhone", "emergencyContactRelation",
+            "specialAccommodations", "source");
+    private static final Set<String> APPLICANT_COLUMNS = Set.of(
+            "firstName", "lastName", "middleName", "dateOfBirth", "gender", "ethnicity", "phoneNumber",
+            "addressLine1", "addressLine2", "city", "stateProvince", "postalCode", "country", "schoolName",
+            "gradeLevel", "gpa", "preferredLanguage");
+    private static final Set<String> LIST_COLUMNS = Set.of("dietaryRestrictions", "medicalConditions");
+
+    private final CsvRecordReader records;
+    private final ObjectMapper objectMapper;
+    private final List<String> header;
+    private int row;
+
+    CsvApplicationRowReader(InputStream body, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        // Spreadsheet exports often start with a byte order mark.
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        this.records = new CsvRecordReader(reader);
+        this.objectMapper = objectMapper;
+        List<String> columns = records.next();
+        if (columns == null) {
+            throw new DomainValidationException("Import file is empty");
+        }
+        this.header = columns.stream().map(String::trim).toList();
+        for (String column : header) {
+            if (!APPLICATION_COLUMNS.contains(column) && !APPLICANT_COLUMNS.contains(column)
+                    && !LIST_COLUMNS.contains(column) && !column.startsWith(ANSWER_PREFIX)) {
+                throw new DomainValidationException("Unknown CSV column: " + column);
+            }
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields = records.next();
+        if (fields == null) {
+            return null;
+        }
+        row++;
+        if (fields.size() != header.size()) {
+            return ImportRow.unreadable(row, "Expected " + header.size() + " columns but found " + fields.size()
+                    + " (line " + records.recordLine() + ")");
+        }
+        Map<String, Object> application = new LinkedHashMap<>();
+        Map<String, Object> applicant = new LinkedHashMap<>();
+        Map<String, String> answers = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i);
+            String value = fields.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (column.startsWith(ANSWER_PREFIX)) {
+                answers.put(column.substring(ANSWER_PREFIX.length()), value);
+            } else if (APPLICANT_COLUMNS.contains(column)) {
+                applicant.put(column, value);
+            } else if (LIST_COLUMNS.contains(column)) {
+                application.put(column, Arrays.stream(value.split(";")).map(String::trim)
+                        .filter(item -> !item.isEmpty()).toList());
+            } else {
+                application.put(column, value);
+            }
+        }
+        if (!applicant.isEmpty()) {
+            application.put("applicantInfo", applicant);
+        }
+        if (!answers.isEmpty()) {
+            application.put("customAnswers", answers);
+        }
+        try {
+            return ImportRow.parsed(row, objectMapper.convertValue(application, CreateApplicationRequest.class));
+        } catch (IllegalArgumentException ex) {
+            return ImportRow.unreadable(row, "Invalid value: " + rootMessage(ex));
+        }
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage();
+        int details = message != null ? message.indexOf('\n') : -1;
+        return details > 0 ? message.substring(0, details) : message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.araw.araw.application.importing;
+
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+
+/**
+ * One record of an import: either a parsed request or the reason it could not be parsed.
+ *
+ * @param row number of the record in the file, counting from 1 and excluding a CSV header
+ */
+public record ImportRow(int row, CreateApplicationRequest request, String error) {
+
+    static ImportRow parsed(int row, CreateApplicationRequest request) {
+        return new ImportRow(row, request, null);
+    }
+
+    static ImportRow unreadable(int row, String error) {
+        return new ImportRow(row, null, error);
+    }
+}
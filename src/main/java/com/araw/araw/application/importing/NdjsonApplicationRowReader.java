@@ -0,0 +1,43 @@
+package com.araw.araw.application.importing;
+
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON {@code CreateApplicationRequest} per line. Blank lines are ignored.
+ */
+final class NdjsonApplicationRowReader implements ApplicationRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private int row;
+
+    NdjsonApplicationRowReader(InputStream body, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        row++;
+        try {
+            return ImportRow.parsed(row, objectMapper.readValue(line, CreateApplicationRequest.class));
+        } catch (JacksonException ex) {
+            return ImportRow.unreadable(row, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.araw.araw.application.mapper;
 import com.araw.araw.application.dto.application.ApplicantInfoDto;
 import com.araw.araw.application.dto.application.ApplicationDocumentDto;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationTransitionResponse;
 import com.araw.araw.application.dto.application.CreateApplicationRequest;
 import com.araw.araw.application.dto.application.UpdateApplicationRequest;
 import com.araw.araw.domain.application.entity.Application;
@@ -29,6 +30,8 @@ public interface ApplicationMapper {
 
     List<ApplicationResponse> toResponseList(List<Application> applications);
 
+    ApplicationTransitionResponse toTransitionResponse(Application application);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "event", ignore = true)
     @Mapping(target = "participant", ignore = true)
@@ -0,0 +1,101 @@
+package com.araw.araw.application.search;
+
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked event search over a weighted {@code tsvector} (title &gt; short description &gt; description).
+ * The vector is a stored generated column (migration V2), so PostgreSQL keeps it current on every insert
+ * and update, and a GIN index serves the match. Databases without text search (H2 in tests) keep the
+ * {@code LIKE} based {@link EventRepository#searchEvents} query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventFullTextSearch {
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectTextSearch() {
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            available = "PostgreSQL".equalsIgnoreCase(database);
+            if (!available) {
+                log.info("Full-text event search disabled on {}; falling back to LIKE matching", database);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Unable to detect database for event search; falling back to LIKE matching", ex);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns events matching every word of {@code searchTerm}, treating each word as a prefix so partial
+     * input works for type-ahead. Results are ordered by relevance; any sort on {@code pageable} is ignored.
+     */
+    public Page<Event> search(String searchTerm, Pageable pageable) {
+        if (!available) {
+            return eventRepository.searchEvents(searchTerm.trim(), pageable);
+        }
+        String query = toPrefixQuery(searchTerm);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Page<UUID> ids = eventRepository.searchRankedEventIds(query,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<UUID, Integer> rank = new HashMap<>();
+        for (UUID id : ids.getContent()) {
+            rank.put(id, rank.size());
+        }
+        List<Event> events = eventRepository.findWithAdminDetailByIdIn(ids.getContent()).stream()
+                .sorted(Comparator.comparing(event -> rank.get(event.getId())))
+                .toList();
+        return new PageImpl<>(events, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Builds a {@code to_tsquery} expression such as {@code robot:* & camp:*}. Only letters and digits
+     * survive, so user input can never inject tsquery operators.
+     */
+    static String toPrefixQuery(String searchTerm) {
+        if (searchTerm == null) {
+            return "";
+        }
+        return Arrays.stream(searchTerm.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -1,6 +1,12 @@
 package com.araw.araw.application.service;
 
 import com.araw.araw.application.dto.admin.AdminDashboardSummaryResponse;
+import com.araw.araw.application.dto.admin.EventEngagementResponse;
+import com.araw.araw.application.views.EventViewCounter;
+import com.araw.araw.application.views.EventVisitorAnalytics;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.entity.EventVisitorSketchId;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
@@ -8,13 +14,17 @@ import com.araw.content.domain.model.ArticleStatus;
 import com.araw.content.domain.repository.ArticleRepository;
 import com.araw.media.domain.model.MediaCategory;
 import com.araw.media.domain.repository.MediaAssetRepository;
+import com.araw.shared.analytics.HyperLogLog;
+import com.araw.shared.exception.DomainNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,6 +34,9 @@ public class AdminDashboardService {
     private final EventRepository eventRepository;
     private final ArticleRepository articleRepository;
     private final MediaAssetRepository mediaAssetRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EventVisitorAnalytics visitorAnalytics;
+    private final EventViewCounter eventViewCounter;
 
     public AdminDashboardSummaryResponse getSummary() {
         long totalEvents = eventRepository.count();
@@ -44,6 +57,14 @@ public class AdminDashboardService {
         Map<String, Long> mediaByCategory = buildMediaCategoryCounts();
         long totalMediaAssets = mediaByCategory.values().stream().mapToLong(Long::longValue).sum();
 
+        LocalDate today = visitorAnalytics.today();
+        Map<LocalDate, HyperLogLog> siteDays = visitorAnalytics.dailySketches(
+                EventVisitorSketchId.SITE_SCOPE, today.minusDays(29), today);
+        long uniqueVisitorsLast7Days = EventVisitorAnalytics.uniqueVisitors(siteDays, today.minusDays(6), today);
+        long uniqueVisitorsLast30Days = EventVisitorAnalytics.uniqueVisitors(siteDays);
+        long applicationsLast30Days = applicationRepository.countBySubmittedAtGreaterThanEqual(
+                today.minusDays(29).atStartOfDay());
+
         return AdminDashboardSummaryResponse.builder()
                 .totalEvents(totalEvents)
                 .eventsByStatus(eventsByStatus)
@@ -55,9 +76,52 @@ public class AdminDashboardService {
                 .articlesByStatus(articlesByStatus)
                 .totalMediaAssets(totalMediaAssets)
                 .mediaAssetsByCategory(mediaByCategory)
+                .uniqueVisitorsLast7Days(uniqueVisitorsLast7Days)
+                .uniqueVisitorsLast30Days(uniqueVisitorsLast30Days)
+                .applicationsLast30Days(applicationsLast30Days)
+                .visitorConversionRateLast30Days(conversionRate(applicationsLast30Days, uniqueVisitorsLast30Days))
+                .build();
+    }
+
+    /**
+     * Views, unique visitors and the visitor-to-application conversion of one event. Unique visitors are
+     * HyperLogLog estimates merged from the per-day sketches, so the figures carry about 1.6% error.
+     */
+    public EventEngagementResponse getEventEngagement(UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new DomainNotFoundException("Event not found: " + eventId));
+
+        LocalDate today = visitorAnalytics.today();
+        Map<LocalDate, HyperLogLog> days = visitorAnalytics.dailySketches(
+                EventVisitorSketchId.eventScope(eventId), null, null);
+        long allTime = EventVisitorAnalytics.uniqueVisitors(days);
+
+        Map<LocalDate, Long> daily = new LinkedHashMap<>();
+        for (LocalDate day = today.minusDays(29); !day.isAfter(today); day = day.plusDays(1)) {
+            HyperLogLog sketch = days.get(day);
+            daily.put(day, sketch != null ? sketch.estimate() : 0L);
+        }
+
+        long persistedViews = event.getViewCount() != null ? event.getViewCount() : 0L;
+        int applications = event.getApplicationCount() != null ? event.getApplicationCount() : 0;
+        return EventEngagementResponse.builder()
+                .eventId(eventId)
+                .title(event.getTitle())
+                .viewCount(persistedViews + eventViewCounter.pendingViews(eventId))
+                .applicationCount(applications)
+                .uniqueVisitorsToday(daily.get(today))
+                .uniqueVisitorsLast7Days(EventVisitorAnalytics.uniqueVisitors(days, today.minusDays(6), today))
+                .uniqueVisitorsLast30Days(EventVisitorAnalytics.uniqueVisitors(days, today.minusDays(29), today))
+                .uniqueVisitorsAllTime(allTime)
+                .conversionRate(conversionRate(applications, allTime))
+                .dailyUniqueVisitors(daily)
                 .build();
     }
 
+    private static Double conversionRate(long applications, long visitors) {
+        return visitors > 0 ? (double) applications / visitors : null;
+    }
+
     private Map<String, Long> buildEventStatusCounts() {
         Map<String, Long> statusCounts = new LinkedHashMap<>();
         for (EventStatus status : EventStatus.values()) {
@@ -1,47 +1,74 @@
 package com.araw.araw.application.service;
 
+import com.araw.araw.application.dedup.DuplicateEmailFilter;
+import com.araw.araw.application.dto.application.ApplicationDecisionOutcome;
 import com.araw.araw.application.dto.application.ApplicationFilterRequest;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationView;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionRequest;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionResponse;
 import com.araw.araw.application.dto.application.CreateApplicationRequest;
 import com.araw.araw.application.dto.application.ReviewApplicationRequest;
 import com.araw.araw.application.dto.application.UpdateApplicationRequest;
 import com.araw.araw.application.mapper.ApplicationMapper;
 import com.araw.araw.application.service.result.ParticipantAccountProvisionResult;
 import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.event.ApplicationDecisionsMadeEvent;
 import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.service.WaitlistService;
 import com.araw.araw.domain.application.valueobject.ApplicationStatus;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.participant.enitity.Participant;
 import com.araw.araw.domain.participant.repository.ParticipantRepository;
-import com.araw.notification.template.TemplatedEmailRequest;
-import com.araw.notification.template.TemplatedEmailService;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.persistence.RowCountEstimator;
+import com.araw.shared.persistence.UniqueConstraints;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ApplicationApplicationService {
 
-    private static final DateTimeFormatter HUMAN_READABLE = DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' HH:mm");
+    private static final Set<ApplicationStatus> BULK_DECISIONS =
+            EnumSet.of(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED, ApplicationStatus.WAITLISTED);
+    static final String DUPLICATE_SUBMISSION = "Application already submitted for this event with the provided email";
+    private static final String DUPLICATE_EMAIL_CHANGE = "Another application already uses this email for the event";
 
     private final ApplicationRepository applicationRepository;
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
     private final ApplicationMapper applicationMapper;
-    private final TemplatedEmailService templatedEmailService;
+    private final ApplicationStatusEmailSender statusEmailSender;
     private final ApplicationDocumentService applicationDocumentService;
     private final ParticipantAccountService participantAccountService;
+    private final RowCountEstimator rowCountEstimator;
+    private final DuplicateEmailFilter duplicateEmailFilter;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApplicationResponse createApplication(CreateApplicationRequest request) {
         if (request.getEventId() == null) {
@@ -56,8 +83,8 @@ public class ApplicationApplicationService {
                     .orElseThrow(() -> new DomainNotFoundException("Participant not found: " + request.getParticipantId()));
         }
 
-        if (applicationRepository.existsByEventIdAndEmail(request.getEventId(), request.getEmail())) {
-            throw new DomainValidationException("Application already submitted for this event with the provided email");
+        if (duplicateEmailFilter.applicationExists(request.getEventId(), request.getEmail())) {
+            throw new DomainValidationException(DUPLICATE_SUBMISSION);
         }
 
         Application application = applicationMapper.toEntity(request);
@@ -65,8 +92,9 @@ public class ApplicationApplicationService {
         application.setParticipant(participant);
         application.setEmail(request.getEmail());
 
-        Application saved = applicationRepository.save(application);
+        Application saved = saveWithUniqueEmail(application, DUPLICATE_SUBMISSION);
         eventRepository.incrementApplicationCount(event.getId());
+        duplicateEmailFilter.applicationAdded(event.getId(), saved.getEmail());
 
         ApplicationResponse response = applicationMapper.toResponse(saved);
         applicationDocumentService.populateDownloadUrls(response);
@@ -77,109 +105,115 @@ public class ApplicationApplicationService {
         Application application = getApplicationEntity(applicationId);
 
         if (request.getEmail() != null && !request.getEmail().equalsIgnoreCase(application.getEmail())) {
-            if (applicationRepository.existsByEventIdAndEmail(application.getEvent().getId(), request.getEmail())) {
-                throw new DomainValidationException("Another application already uses this email for the event");
+            if (duplicateEmailFilter.applicationExists(application.getEvent().getId(), request.getEmail())) {
+                throw new DomainValidationException(DUPLICATE_EMAIL_CHANGE);
             }
             application.setEmail(request.getEmail());
+            duplicateEmailFilter.applicationAdded(application.getEvent().getId(), request.getEmail());
         }
 
         applicationMapper.updateEntity(application, request);
-        Application saved = applicationRepository.save(application);
+        Application saved = saveWithUniqueEmail(application, DUPLICATE_EMAIL_CHANGE);
         ApplicationResponse response = applicationMapper.toResponse(saved);
         applicationDocumentService.populateDownloadUrls(response);
         return response;
     }
 
-    public ApplicationResponse submitApplication(UUID applicationId) {
-        Application application = getApplicationEntity(applicationId);
-        application.submit();
-        Application saved = applicationRepository.save(application);
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+    /**
+     * Lifecycle transitions answer in the requested {@link ApplicationView}: the full application with signed
+     * document URLs, or the compact transition response that skips documents altogether.
+     */
+    public <R> R submitApplication(UUID applicationId, ApplicationView<R> view) {
+        return respond(submit(applicationId), view);
     }
 
-    public ApplicationResponse reviewApplication(UUID applicationId, ReviewApplicationRequest request) {
-        Application application = getApplicationEntity(applicationId);
-        application.review(request.getReviewScore(), request.getReviewNotes(), request.getReviewerName());
-        Application saved = applicationRepository.save(application);
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+    public <R> R reviewApplication(UUID applicationId, ReviewApplicationRequest request, ApplicationView<R> view) {
+        return respond(review(applicationId, request), view);
     }
 
-    public ApplicationResponse acceptApplication(UUID applicationId) {
-        Application application = getApplicationEntity(applicationId);
-        if (application.getStatus() != ApplicationStatus.UNDER_REVIEW
-                && application.getStatus() != ApplicationStatus.SUBMITTED
-                && application.getStatus() != ApplicationStatus.WAITLISTED) {
-            throw new DomainValidationException("Application must be under review, submitted, or waitlisted before acceptance");
-        }
-        application.accept();
-        ParticipantAccountProvisionResult accountResult = participantAccountService.provisionForApplication(application);
-        Application saved = applicationRepository.save(application);
-        sendStatusEmail(saved, "application-accepted.txt", "You're accepted to {{event.title}}!", accountResult);
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+    public <R> R acceptApplication(UUID applicationId, ApplicationView<R> view) {
+        return respond(accept(applicationId), view);
     }
 
-    public ApplicationResponse rejectApplication(UUID applicationId, String reason) {
-        Application application = getApplicationEntity(applicationId);
-        if (reason == null || reason.isBlank()) {
+    public <R> R rejectApplication(UUID applicationId, String reason, ApplicationView<R> view) {
+        return respond(reject(applicationId, reason), view);
+    }
+
+    public <R> R waitlistApplication(UUID applicationId, Integer position, ApplicationView<R> view) {
+        return respond(waitlist(applicationId, position), view);
+    }
+
+    /**
+     * Accepts, rejects or waitlists many applications in one transaction. The applications are loaded with a
+     * single query, seat and application counters are adjusted once per event, and the status changes are
+     * written in JDBC batches. The status emails are queued in the same transaction by
+     * {@link ApplicationDecisionNotifier}, which provisions accounts for the accepted applicants later. An
+     * application that cannot take the decision is reported as failed without affecting the others.
+     */
+    public BulkApplicationDecisionResponse decideApplications(BulkApplicationDecisionRequest request) {
+        ApplicationStatus target = request.getStatus();
+        if (!BULK_DECISIONS.contains(target)) {
+            throw new DomainValidationException("Bulk decisions can only accept, reject, or waitlist applications");
+        }
+        if (target == ApplicationStatus.REJECTED && (request.getReason() == null || request.getReason().isBlank())) {
             throw new DomainValidationException("Rejection reason is required");
         }
-        application.reject(reason);
-        Application saved = applicationRepository.save(application);
-        eventRepository.decrementApplicationCount(saved.getEvent().getId());
-        sendStatusEmail(saved, "application-rejected.txt", "Update on your {{event.title}} application");
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
-    }
 
-    public ApplicationResponse waitlistApplication(UUID applicationId, Integer position) {
-        Application application = getApplicationEntity(applicationId);
-        Integer waitlistPosition = position;
-        if (waitlistPosition == null) {
-            Integer maxPosition = applicationRepository.findMaxWaitlistPosition(application.getEvent().getId());
-            waitlistPosition = maxPosition != null ? maxPosition + 1 : 1;
+        List<UUID> applicationIds = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        Map<UUID, Application> applications = applicationRepository.findAllWithEventByIdIn(applicationIds).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        Map<UUID, ApplicationDecisionOutcome> outcomes = new LinkedHashMap<>();
+        Map<UUID, List<Application>> pendingByEvent = new LinkedHashMap<>();
+        for (UUID applicationId : applicationIds) {
+            Application application = applications.get(applicationId);
+            if (application == null) {
+                outcomes.put(applicationId, ApplicationDecisionOutcome.builder()
+                        .applicationId(applicationId)
+                        .result(ApplicationDecisionOutcome.Result.FAILED)
+                        .message("Application not found")
+                        .build());
+            } else if (application.getStatus() == target) {
+                outcomes.put(applicationId, outcome(application, ApplicationDecisionOutcome.Result.SKIPPED,
+                        "Application is already " + target.name().toLowerCase()));
+            } else {
+                // Reserve the position in the response; the outcome is filled in once the event is processed.
+                outcomes.put(applicationId, null);
+                pendingByEvent.computeIfAbsent(application.getEvent().getId(), id -> new ArrayList<>()).add(application);
+            }
         }
-        application.waitlist(waitlistPosition);
-        Application saved = applicationRepository.save(application);
-        sendStatusEmail(saved, "application-waitlisted.txt", "{{event.title}} application waitlist update");
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+
+        List<Application> decided = new ArrayList<>();
+        pendingByEvent.forEach((eventId, pending) ->
+                decided.addAll(decideForEvent(eventId, pending, target, request.getReason(), outcomes)));
+        applicationRepository.saveAll(decided);
+        if (!decided.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationDecisionsMadeEvent(decided.stream().map(Application::getId).toList()));
+        }
+
+        List<ApplicationDecisionOutcome> results = new ArrayList<>(outcomes.values());
+        return BulkApplicationDecisionResponse.builder()
+                .status(target)
+                .applied(count(results, ApplicationDecisionOutcome.Result.APPLIED))
+                .skipped(count(results, ApplicationDecisionOutcome.Result.SKIPPED))
+                .failed(count(results, ApplicationDecisionOutcome.Result.FAILED))
+                .outcomes(results)
+                .build();
     }
 
-    public ApplicationResponse confirmApplication(UUID applicationId) {
-        Application application = getApplicationEntity(applicationId);
-        application.confirm();
-        Application saved = applicationRepository.save(application);
-        sendStatusEmail(saved, "application-confirmed.txt", "{{event.title}} spot confirmed");
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+    public <R> R confirmApplication(UUID applicationId, ApplicationView<R> view) {
+        return respond(confirm(applicationId), view);
     }
 
-    public ApplicationResponse cancelApplication(UUID applicationId, String reason) {
-        Application application = getApplicationEntity(applicationId);
-        if (reason == null || reason.isBlank()) {
-            throw new DomainValidationException("Cancellation reason is required");
-        }
-        application.cancel(reason);
-        Application saved = applicationRepository.save(application);
-        eventRepository.decrementApplicationCount(saved.getEvent().getId());
-        sendStatusEmail(saved, "application-cancelled.txt", "{{event.title}} application cancelled");
-        ApplicationResponse response = applicationMapper.toResponse(saved);
-        applicationDocumentService.populateDownloadUrls(response);
-        return response;
+    public <R> R cancelApplication(UUID applicationId, String reason, ApplicationView<R> view) {
+        return respond(cancel(applicationId, reason), view);
     }
 
     @Transactional(readOnly = true)
     public ApplicationResponse getApplication(UUID applicationId) {
-        ApplicationResponse response = applicationMapper.toResponse(getApplicationEntity(applicationId));
+        Application application = getApplicationEntity(applicationId);
+        waitlistService.resolvePositions(List.of(application));
+        ApplicationResponse response = applicationMapper.toResponse(application);
         applicationDocumentService.populateDownloadUrls(response);
         return response;
     }
@@ -191,11 +225,68 @@ public class ApplicationApplicationService {
 
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> searchApplications(ApplicationFilterRequest filter, Pageable pageable) {
-        Page<Application> page;
+        Page<Application> applications = findApplications(filter, pageable);
+        waitlistService.resolvePositions(applications.getContent());
+        Page<ApplicationResponse> responsePage = applications.map(applicationMapper::toResponse);
+        applicationDocumentService.populateDownloadUrls(responsePage.getContent());
+        return responsePage;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> scrollApplications(ApplicationFilterRequest filter,
+                                                              String cursor,
+                                                              int size,
+                                                              TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime afterSubmittedAt = after != null ? after.localDateTime() : null;
+        UUID afterId = after != null ? after.id() : null;
+        List<Application> rows;
+        if (filter != null && filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank()) {
+            rows = applicationRepository.scrollSearchApplications(
+                    filter.getSearchTerm().trim(), afterSubmittedAt, afterId, CursorPage.window(size));
+        } else {
+            ApplicationFilterRequest criteria = filter != null ? filter : new ApplicationFilterRequest();
+            rows = applicationRepository.scrollWithFilters(
+                    criteria.getEventId(),
+                    criteria.getStatus(),
+                    criteria.getEmail(),
+                    criteria.getHasGuardianConsent(),
+                    criteria.getMinScore(),
+                    criteria.getMaxScore(),
+                    afterSubmittedAt,
+                    afterId,
+                    CursorPage.window(size)
+            );
+        }
+        waitlistService.resolvePositions(rows);
+        CursorPage<ApplicationResponse> page = CursorPage.fromRows(rows, size,
+                        application -> KeysetCursor.of(application.getSubmittedAt(), application.getId()))
+                .map(applicationMapper::toResponse);
+        applicationDocumentService.populateDownloadUrls(page.content());
+        return page.withTotal(rowCountEstimator.resolve(totalMode, "applications", isFiltered(filter),
+                () -> findApplications(filter, CursorPage.COUNT_PROBE).getTotalElements()));
+    }
+
+    /**
+     * Flushes the insert or email change right away, so a duplicate the node-local email filter let through
+     * (one written by another node, say) is reported as the same validation error as a filtered one.
+     */
+    private Application saveWithUniqueEmail(Application application, String duplicateMessage) {
+        try {
+            return applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolated(ex, Application.EMAIL_PER_EVENT_CONSTRAINT)) {
+                throw new DomainValidationException(duplicateMessage);
+            }
+            throw ex;
+        }
+    }
+
+    private Page<Application> findApplications(ApplicationFilterRequest filter, Pageable pageable) {
         if (filter != null && filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank()) {
-            page = applicationRepository.searchApplications(filter.getSearchTerm().trim(), pageable);
+            return applicationRepository.searchApplications(filter.getSearchTerm().trim(), pageable);
         } else if (filter != null) {
-            page = applicationRepository.findWithFilters(
+            return applicationRepository.findWithFilters(
                     filter.getEventId(),
                     filter.getStatus(),
                     filter.getEmail(),
@@ -204,96 +295,227 @@ public class ApplicationApplicationService {
                     filter.getMaxScore(),
                     pageable
             );
-        } else {
-            page = applicationRepository.findAll(pageable);
         }
-        Page<ApplicationResponse> responsePage = page.map(applicationMapper::toResponse);
-        applicationDocumentService.populateDownloadUrls(responsePage.getContent());
-        return responsePage;
+        return applicationRepository.findAll(pageable);
     }
 
-    private Application getApplicationEntity(UUID applicationId) {
-        return applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new DomainNotFoundException("Application not found: " + applicationId));
+    private static boolean isFiltered(ApplicationFilterRequest filter) {
+        return filter != null && (
+                (filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank())
+                        || filter.getEventId() != null
+                        || filter.getStatus() != null
+                        || filter.getEmail() != null
+                        || filter.getHasGuardianConsent() != null
+                        || filter.getMinScore() != null
+                        || filter.getMaxScore() != null);
     }
 
-    private void sendStatusEmail(Application application, String templateName, String subjectTemplate) {
-        sendStatusEmail(application, templateName, subjectTemplate, ParticipantAccountProvisionResult.notCreated());
-    }
+    /**
+     * Applies the decision to one event's applications and settles that event's counters with one update
+     * each. Acceptances that need a seat are granted in request order until the event is full.
+     */
+    private List<Application> decideForEvent(UUID eventId,
+                                             List<Application> pending,
+                                             ApplicationStatus target,
+                                             String reason,
+                                             Map<UUID, ApplicationDecisionOutcome> outcomes) {
+        int seatsToGrant = 0;
+        if (target == ApplicationStatus.ACCEPTED) {
+            int seatsWanted = (int) pending.stream()
+                    .filter(application -> application.getStatus() == ApplicationStatus.WAITLISTED)
+                    .count();
+            seatsToGrant = reserveSeats(eventId, seatsWanted);
+        }
+        WaitlistService.Slots waitlistSlots = target == ApplicationStatus.WAITLISTED
+                ? waitlistService.append(eventId, pending.size())
+                : null;
+        int waitlisted = 0;
+
+        List<Application> decided = new ArrayList<>();
+        int seatsReleased = 0;
+        for (Application application : pending) {
+            boolean heldSeat = application.getStatus().holdsSeat();
+            try {
+                switch (target) {
+                    case ACCEPTED -> {
+                        if (application.getStatus() == ApplicationStatus.WAITLISTED) {
+                            if (seatsToGrant == 0) {
+                                outcomes.put(application.getId(), outcome(application,
+                                        ApplicationDecisionOutcome.Result.FAILED, "The event has reached its capacity."));
+                                continue;
+                            }
+                            seatsToGrant--;
+                        }
+                        application.accept();
+                    }
+                    case REJECTED -> application.reject(reason);
+                    case WAITLISTED -> application.waitlist(waitlistSlots.rank(waitlisted),
+                            waitlistSlots.position(waitlisted));
+                    default -> throw new IllegalStateException("Unsupported decision " + target);
+                }
+            } catch (IllegalStateException ex) {
+                outcomes.put(application.getId(), outcome(application, ApplicationDecisionOutcome.Result.FAILED,
+                        ex.getMessage()));
+                continue;
+            }
+            if (target == ApplicationStatus.WAITLISTED) {
+                waitlisted++;
+            }
+            if (heldSeat && !application.getStatus().holdsSeat()) {
+                seatsReleased++;
+            }
+            decided.add(application);
+            outcomes.put(application.getId(), outcome(application, ApplicationDecisionOutcome.Result.APPLIED, null));
+        }
 
-    private void sendStatusEmail(Application application,
-                                 String templateName,
-                                 String subjectTemplate,
-                                 ParticipantAccountProvisionResult accountResult) {
-        if (application.getEmail() == null || application.getEmail().isBlank()) {
-            return;
+        if (seatsReleased > 0) {
+            eventRepository.releaseSeats(eventId, seatsReleased);
+        }
+        if (target == ApplicationStatus.REJECTED && !decided.isEmpty()) {
+            eventRepository.subtractApplications(eventId, decided.size());
         }
+        return decided;
+    }
 
-        Map<String, Object> variables = buildEmailVariables(application, accountResult);
+    /**
+     * Takes up to {@code wanted} seats and returns how many were taken. The all-or-nothing update is tried
+     * first; if the event cannot fit them all, whatever is still free is taken instead.
+     */
+    private int reserveSeats(UUID eventId, int wanted) {
+        int granted = wanted;
+        while (granted > 0 && eventRepository.reserveSeats(eventId, granted) == 0) {
+            Integer remaining = eventRepository.findRemainingSeats(eventId);
+            if (remaining == null) {
+                return 0;
+            }
+            granted = Math.max(0, Math.min(granted - 1, remaining));
+        }
+        return granted;
+    }
 
-        templatedEmailService.send(TemplatedEmailRequest.builder()
-                .templateName(templateName)
-                .subjectTemplate(subjectTemplate)
-                .variables(variables)
-                .to(application.getEmail())
-                .build());
+    private static ApplicationDecisionOutcome outcome(Application application,
+                                                      ApplicationDecisionOutcome.Result result,
+                                                      String message) {
+        return ApplicationDecisionOutcome.builder()
+                .applicationId(application.getId())
+                .result(result)
+                .status(application.getStatus())
+                .waitlistPosition(application.getWaitlistPosition())
+                .message(message)
+                .build();
     }
 
-    private Map<String, Object> buildEmailVariables(Application application,
-                                                    ParticipantAccountProvisionResult accountResult) {
-        Map<String, Object> variables = new java.util.HashMap<>();
+    private static int count(List<ApplicationDecisionOutcome> outcomes, ApplicationDecisionOutcome.Result result) {
+        return (int) outcomes.stream().filter(outcome -> outcome.getResult() == result).count();
+    }
 
-        Map<String, Object> applicant = new java.util.HashMap<>();
-        if (application.getApplicantInfo() != null) {
-            applicant.put("firstName", application.getApplicantInfo().getFirstName());
-            applicant.put("lastName", application.getApplicantInfo().getLastName());
-        }
-        applicant.put("email", application.getEmail());
-        variables.put("applicant", applicant);
-
-        Map<String, Object> event = new java.util.HashMap<>();
-        if (application.getEvent() != null) {
-            event.put("title", application.getEvent().getTitle());
-            event.put("applicationLink", application.getEvent().getApplicationLink());
-            event.put("applicationSlug", application.getEvent().getApplicationSlug());
+    private <R> R respond(Application application, ApplicationView<R> view) {
+        waitlistService.resolvePositions(List.of(application));
+        if (view == ApplicationView.COMPACT) {
+            return view.cast(applicationMapper.toTransitionResponse(application));
         }
-        variables.put("event", event);
+        ApplicationResponse response = applicationMapper.toResponse(application);
+        applicationDocumentService.populateDownloadUrls(response);
+        return view.cast(response);
+    }
 
-        Map<String, Object> applicationData = new java.util.HashMap<>();
-        applicationData.put("number", application.getApplicationNumber());
-        applicationData.put("status", application.getStatus().name());
-        if (application.getSubmittedAt() != null) {
-            applicationData.put("submittedAt", application.getSubmittedAt().format(HUMAN_READABLE));
-        }
-        if (application.getWaitlistPosition() != null) {
-            applicationData.put("waitlistPosition", application.getWaitlistPosition());
+    private Application submit(UUID applicationId) {
+        Application application = getApplicationEntity(applicationId);
+        boolean heldSeat = application.getStatus().holdsSeat();
+        application.submit();
+        syncSeat(application, heldSeat);
+        return applicationRepository.save(application);
+    }
+
+    private Application review(UUID applicationId, ReviewApplicationRequest request) {
+        Application application = getApplicationEntity(applicationId);
+        application.review(request.getReviewScore(), request.getReviewNotes(), request.getReviewerName());
+        return applicationRepository.save(application);
+    }
+
+    private Application accept(UUID applicationId) {
+        Application application = getApplicationEntity(applicationId);
+        if (application.getStatus() != ApplicationStatus.UNDER_REVIEW
+                && application.getStatus() != ApplicationStatus.SUBMITTED
+                && application.getStatus() != ApplicationStatus.WAITLISTED) {
+            throw new DomainValidationException("Application must be under review, submitted, or waitlisted before acceptance");
         }
-        if (application.getRejectionReason() != null) {
-            applicationData.put("rejectionReason", application.getRejectionReason());
+        boolean heldSeat = application.getStatus().holdsSeat();
+        application.accept();
+        syncSeat(application, heldSeat);
+        ParticipantAccountProvisionResult accountResult = participantAccountService.provisionForApplication(application);
+        Application saved = applicationRepository.save(application);
+        statusEmailSender.send(saved, accountResult);
+        return saved;
+    }
+
+    private Application reject(UUID applicationId, String reason) {
+        Application application = getApplicationEntity(applicationId);
+        if (reason == null || reason.isBlank()) {
+            throw new DomainValidationException("Rejection reason is required");
         }
-        if (application.getCancellationReason() != null) {
-            applicationData.put("cancellationReason", application.getCancellationReason());
+        boolean heldSeat = application.getStatus().holdsSeat();
+        application.reject(reason);
+        syncSeat(application, heldSeat);
+        Application saved = applicationRepository.save(application);
+        eventRepository.decrementApplicationCount(saved.getEvent().getId());
+        statusEmailSender.send(saved);
+        return saved;
+    }
+
+    private Application waitlist(UUID applicationId, Integer position) {
+        Application application = getApplicationEntity(applicationId);
+        UUID eventId = application.getEvent().getId();
+        WaitlistService.Slots slot = position != null
+                ? waitlistService.insertAt(eventId, position)
+                : waitlistService.append(eventId, 1);
+        boolean heldSeat = application.getStatus().holdsSeat();
+        application.waitlist(slot.rank(), slot.position());
+        syncSeat(application, heldSeat);
+        Application saved = applicationRepository.save(application);
+        statusEmailSender.send(saved);
+        return saved;
+    }
+
+    private Application confirm(UUID applicationId) {
+        Application application = getApplicationEntity(applicationId);
+        application.confirm();
+        Application saved = applicationRepository.save(application);
+        statusEmailSender.send(saved);
+        return saved;
+    }
+
+    private Application cancel(UUID applicationId, String reason) {
+        Application application = getApplicationEntity(applicationId);
+        if (reason == null || reason.isBlank()) {
+            throw new DomainValidationException("Cancellation reason is required");
         }
-        if (application.getConfirmationToken() != null && application.getEvent() != null) {
-            String baseUrl = templatedEmailService.getTemplateProperties().getApplicationBaseUrl();
-            if (baseUrl != null && !baseUrl.isBlank() && application.getEvent().getApplicationSlug() != null) {
-                applicationData.put("confirmationUrl",
-                        baseUrl + "/" + application.getEvent().getApplicationSlug() + "/confirm?token=" + application.getConfirmationToken());
-            }
-            applicationData.put("confirmationToken", application.getConfirmationToken());
+        boolean heldSeat = application.getStatus().holdsSeat();
+        application.cancel(reason);
+        syncSeat(application, heldSeat);
+        Application saved = applicationRepository.save(application);
+        eventRepository.decrementApplicationCount(saved.getEvent().getId());
+        statusEmailSender.send(saved);
+        return saved;
+    }
+
+    private Application getApplicationEntity(UUID applicationId) {
+        return applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new DomainNotFoundException("Application not found: " + applicationId));
+    }
+
+    /**
+     * Takes or returns the event seat when a status change starts or stops holding one. Failing to take a
+     * seat aborts the transaction, so the status change is rolled back with it.
+     */
+    private void syncSeat(Application application, boolean heldSeat) {
+        boolean holdsSeat = application.getStatus().holdsSeat();
+        UUID eventId = application.getEvent().getId();
+        if (holdsSeat && !heldSeat && eventRepository.reserveSeat(eventId) == 0) {
+            throw new DomainValidationException("The event has reached its capacity.");
         }
-        variables.put("application", applicationData);
-
-        if (accountResult != null && accountResult.email() != null) {
-            Map<String, Object> account = new java.util.HashMap<>();
-            account.put("email", accountResult.email());
-            account.put("accountCreated", accountResult.accountCreated());
-            if (accountResult.accountCreated() && accountResult.temporaryPassword() != null) {
-                account.put("temporaryPassword", accountResult.temporaryPassword());
-            }
-            variables.put("account", account);
+        if (!holdsSeat && heldSeat) {
+            eventRepository.releaseSeat(eventId);
         }
-
-        return variables;
     }
 }
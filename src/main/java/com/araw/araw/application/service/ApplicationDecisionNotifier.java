@@ -0,0 +1,141 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.service.result.ParticipantAccountProvisionResult;
+import com.araw.araw.config.AccountProvisioningProperties;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.event.ApplicationDecisionsMadeEvent;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.shared.scheduling.BackgroundJobs;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Follows up review decisions. Status emails are queued in the email outbox inside the decision transaction,
+ * so they commit or roll back with the decision. Accepted applications are only marked as waiting for a
+ * participant account; the BCrypt work happens later, when a poller claims the marked rows with
+ * {@code FOR UPDATE SKIP LOCKED}, provisions the account and queues the acceptance email with the credentials.
+ * The marker lives in the database, so a restart or crash leaves the pending accounts to the next poll.
+ */
+@Component
+@Slf4j
+public class ApplicationDecisionNotifier {
+
+    private final ApplicationRepository applicationRepository;
+    private final ParticipantAccountService participantAccountService;
+    private final ApplicationStatusEmailSender statusEmailSender;
+    private final AccountProvisioningProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundJobs backgroundJobs;
+
+    public ApplicationDecisionNotifier(ApplicationRepository applicationRepository,
+                                       ParticipantAccountService participantAccountService,
+                                       ApplicationStatusEmailSender statusEmailSender,
+                                       AccountProvisioningProperties properties,
+                                       PlatformTransactionManager transactionManager,
+                                       BackgroundJobs backgroundJobs) {
+        this.applicationRepository = applicationRepository;
+        this.participantAccountService = participantAccountService;
+        this.statusEmailSender = statusEmailSender;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backgroundJobs = backgroundJobs;
+    }
+
+    @PostConstruct
+    void schedulePolling() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // An account interrupted mid-way by shutdown rolls back with its marker still set and is picked up again.
+        backgroundJobs.scheduleWithFixedDelay("account-provisioning-poller", properties.getPollInterval(),
+                this::provisionQuietly);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDecisionsMade(ApplicationDecisionsMadeEvent event) {
+        for (Application application : applicationRepository.findAllById(event.applicationIds())) {
+            if (application.getStatus() == ApplicationStatus.ACCEPTED) {
+                application.requestAccountProvisioning();
+            } else {
+                statusEmailSender.send(application);
+            }
+        }
+    }
+
+    /**
+     * Provisions accounts until no marked application is left and returns how many were handled.
+     */
+    public int provisionPending() {
+        int handled = 0;
+        while (provisionNext()) {
+            handled++;
+        }
+        return handled;
+    }
+
+    private void provisionQuietly() {
+        try {
+            int handled = provisionPending();
+            if (handled > 0) {
+                log.info("Provisioned participant accounts for {} accepted applications", handled);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Participant account provisioning failed; it will be retried", ex);
+        }
+    }
+
+    /**
+     * Claims the oldest marked application, provisions its account and queues the acceptance email, all in
+     * one transaction. A provisioning failure still lets the email go out, just without credentials.
+     */
+    private boolean provisionNext() {
+        AtomicReference<UUID> claimed = new AtomicReference<>();
+        try {
+            Boolean found = transactionTemplate.execute(status -> {
+                List<Application> next = applicationRepository.lockPendingAccountProvisioning(PageRequest.of(0, 1));
+                if (next.isEmpty()) {
+                    return false;
+                }
+                Application application = next.get(0);
+                claimed.set(application.getId());
+                if (application.getStatus() == ApplicationStatus.ACCEPTED) {
+                    statusEmailSender.send(application, participantAccountService.provisionForApplication(application));
+                }
+                application.accountProvisioningHandled();
+                return true;
+            });
+            return Boolean.TRUE.equals(found);
+        } catch (RuntimeException ex) {
+            if (claimed.get() == null) {
+                throw ex;
+            }
+            log.warn("Failed to provision a participant account for application {}", claimed.get(), ex);
+            sendWithoutAccount(claimed.get());
+            return true;
+        }
+    }
+
+    private void sendWithoutAccount(UUID applicationId) {
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.findById(applicationId)
+                .filter(application -> application.getAccountProvisioningRequestedAt() != null)
+                .ifPresent(application -> {
+                    if (application.getStatus() == ApplicationStatus.ACCEPTED) {
+                        statusEmailSender.send(application, ParticipantAccountProvisionResult.notCreated());
+                    }
+                    application.accountProvisioningHandled();
+                }));
+    }
+}
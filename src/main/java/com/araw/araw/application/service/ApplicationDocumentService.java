@@ -2,11 +2,14 @@ package com.araw.araw.application.service;
 
 import com.araw.araw.application.dto.application.ApplicationDocumentDto;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.service.result.StoredResume;
+import com.araw.araw.application.upload.ResumeFormat;
+import com.araw.araw.application.upload.ResumeUploadStream;
 import com.araw.araw.domain.application.entity.Application;
 import com.araw.araw.domain.application.entity.ApplicationDocument;
 import com.araw.araw.domain.application.repository.ApplicationRepository;
 import com.araw.media.application.MediaStorageService;
-import com.araw.media.application.command.MediaUploadCommand;
+import com.araw.media.application.StoredObject;
 import com.araw.media.domain.exception.MediaStorageException;
 import com.araw.media.domain.model.MediaAsset;
 import com.araw.media.domain.model.MediaCategory;
@@ -15,16 +18,18 @@ import com.araw.shared.exception.DomainValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -34,25 +39,79 @@ import java.util.UUID;
 public class ApplicationDocumentService {
 
     private static final long MAX_RESUME_SIZE_BYTES = 50L * 1024 * 1024; // 50 MB
-    private static final Set<String> ALLOWED_RESUME_EXTENSIONS = Set.of("pdf", "doc", "docx");
     private static final String RESUME_DOCUMENT_TYPE = "RESUME";
 
     private final ApplicationRepository applicationRepository;
     private final MediaStorageService mediaStorageService;
 
-    public ApplicationDocument attachResume(UUID applicationId, MultipartFile resumeFile) {
-        if (resumeFile == null || resumeFile.isEmpty()) {
+    /**
+     * Streams a resume straight from the request into object storage, outside any transaction. The first
+     * bytes are checked against the file extension before anything is uploaded, and size and checksum are
+     * taken on the way through. Returns {@code null} for an empty part, which browsers send when no file
+     * was chosen.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoredResume uploadResume(String fileName, InputStream content) {
+        byte[] head;
+        try {
+            head = content.readNBytes(ResumeFormat.SIGNATURE_LENGTH);
+        } catch (IOException ex) {
+            throw new DomainValidationException("Failed to read resume file for upload", ex);
+        }
+        if (head.length == 0) {
             return null;
         }
+        ResumeFormat format = resolveResumeFormat(fileName);
+        if (!format.matches(head)) {
+            throw new DomainValidationException("Resume content does not match its ." + format.extension() + " extension");
+        }
 
-        validateResumeFile(resumeFile);
+        ResumeUploadStream stream = new ResumeUploadStream(head, content, MAX_RESUME_SIZE_BYTES);
+        StoredObject object;
+        try {
+            object = mediaStorageService.uploadObject(MediaCategory.APPLICATION_DOCUMENT, fileName,
+                    format.contentType(), stream);
+        } catch (MediaStorageException ex) {
+            if (stream.exceededLimit()) {
+                throw new DomainValidationException("Resume file exceeds the maximum size of 50 MB");
+            }
+            throw ex;
+        }
+        return new StoredResume(object, fileName.trim(), format.contentType(), stream.size(), stream.checksum());
+    }
 
+    /**
+     * Reads a resume without storing it and returns the checksum {@link #uploadResume} would have recorded,
+     * or {@code null} for an empty part.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String resumeChecksum(InputStream content) {
+        ResumeUploadStream stream = new ResumeUploadStream(new byte[0], content, MAX_RESUME_SIZE_BYTES);
+        try {
+            stream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ex) {
+            if (stream.exceededLimit()) {
+                throw new DomainValidationException("Resume file exceeds the maximum size of 50 MB");
+            }
+            throw new DomainValidationException("Failed to read resume file", ex);
+        }
+        return stream.size() == 0 ? null : stream.checksum();
+    }
+
+    public ApplicationDocument attachResume(UUID applicationId, StoredResume resume) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new DomainNotFoundException("Application not found: " + applicationId));
 
         removeExistingResume(application);
 
-        MediaAsset asset = storeResumeInMediaStorage(application, resumeFile);
+        MediaAsset asset = mediaStorageService.registerAsset(
+                resume.object(),
+                resume.fileName(),
+                resume.contentType(),
+                resume.fileSize(),
+                resume.checksumSha256(),
+                MediaCategory.APPLICATION_DOCUMENT,
+                "Resume for application " + application.getApplicationNumber());
 
         ApplicationDocument document = ApplicationDocument.builder()
                 .documentType(RESUME_DOCUMENT_TYPE)
@@ -68,6 +127,14 @@ public class ApplicationDocumentService {
         return document;
     }
 
+    /**
+     * Removes an uploaded resume whose application was never saved.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discardResume(StoredResume resume) {
+        mediaStorageService.discardObject(resume.object());
+    }
+
     @Transactional(readOnly = true)
     public String generateDownloadUrl(UUID applicationId, UUID documentId) {
         Application application = applicationRepository.findById(applicationId)
@@ -94,7 +161,12 @@ public class ApplicationDocumentService {
         if (responses == null || responses.isEmpty()) {
             return;
         }
-        responses.forEach(this::populateDownloadUrls);
+        populateDownloadUrls(responses.stream()
+                .filter(Objects::nonNull)
+                .map(ApplicationResponse::getDocuments)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList());
     }
 
     @Transactional(readOnly = true)
@@ -102,32 +174,30 @@ public class ApplicationDocumentService {
         if (documents == null || documents.isEmpty()) {
             return;
         }
+        Map<UUID, String> urls = mediaStorageService.generatePresignedUrls(documents.stream()
+                .map(ApplicationDocumentDto::getMediaAssetId)
+                .filter(Objects::nonNull)
+                .toList());
         documents.forEach(doc -> {
             if (doc.getMediaAssetId() != null) {
-                try {
-                    doc.setDownloadUrl(mediaStorageService.generatePresignedUrl(doc.getMediaAssetId()));
-                } catch (MediaStorageException ex) {
-                    log.warn("Failed to generate download URL for application document {}", doc.getId(), ex);
+                String url = urls.get(doc.getMediaAssetId());
+                if (url != null) {
+                    doc.setDownloadUrl(url);
+                } else {
+                    log.warn("No download URL available for application document {}", doc.getId());
                 }
             }
         });
     }
 
-    private void validateResumeFile(MultipartFile resumeFile) {
-        if (resumeFile.getSize() > MAX_RESUME_SIZE_BYTES) {
-            throw new DomainValidationException("Resume file exceeds the maximum size of 50 MB");
-        }
-
-        String filename = resumeFile.getOriginalFilename();
+    private ResumeFormat resolveResumeFormat(String filename) {
         if (filename == null || filename.isBlank()) {
             throw new DomainValidationException("Resume file name cannot be empty");
         }
-
         String extension = extractExtension(filename);
-        if (!ALLOWED_RESUME_EXTENSIONS.contains(extension)) {
-            throw new DomainValidationException("Unsupported resume file type: ." + extension +
-                    ". Allowed types are pdf, doc, docx");
-        }
+        return ResumeFormat.forExtension(extension)
+                .orElseThrow(() -> new DomainValidationException("Unsupported resume file type: ." + extension +
+                        ". Allowed types are pdf, doc, docx"));
     }
 
     private void removeExistingResume(Application application) {
@@ -148,21 +218,6 @@ public class ApplicationDocumentService {
         toRemove.forEach(application::removeDocument);
     }
 
-    private MediaAsset storeResumeInMediaStorage(Application application, MultipartFile resumeFile) {
-        try (MediaUploadCommand command = new MediaUploadCommand(
-                resumeFile.getOriginalFilename(),
-                resumeFile.getContentType(),
-                resumeFile.getSize(),
-                resumeFile.getInputStream(),
-                MediaCategory.APPLICATION_DOCUMENT,
-                "Resume for application " + application.getApplicationNumber()
-        )) {
-            return mediaStorageService.storeMedia(command);
-        } catch (IOException ex) {
-            throw new DomainValidationException("Failed to read resume file for upload", ex);
-        }
-    }
-
     private String toDownloadUrl(ApplicationDocument document) {
         if (document.getMediaAssetId() == null) {
             throw new DomainValidationException("Document is missing media storage reference");
@@ -0,0 +1,265 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.dedup.DuplicateEmailFilter;
+import com.araw.araw.application.dto.application.ApplicationImportReport;
+import com.araw.araw.application.dto.application.ApplicationImportRowResult;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.importing.ApplicationBatchWriter;
+import com.araw.araw.application.importing.ApplicationImportFormat;
+import com.araw.araw.application.importing.ApplicationRowReader;
+import com.araw.araw.application.importing.ImportRow;
+import com.araw.araw.application.mapper.ApplicationMapper;
+import com.araw.araw.config.ApplicationImportProperties;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.participant.repository.ParticipantRepository;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.persistence.NumberAllocator;
+import com.araw.shared.persistence.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk import of draft applications, for partner schools that send whole rosters. The file is parsed one
+ * row at a time and each row is validated like {@code createApplication} would, but against state loaded
+ * once per event: the event itself and the set of emails that already applied. Accepted rows are written
+ * with JDBC batches and each event's application count is bumped once at the end. Every row gets an entry
+ * in the report, so a school can fix and resend just the rejected ones.
+ * <p>
+ * The import runs in one transaction: a rejected row never stops the others, but a database failure
+ * rolls back the whole file. A row whose email another request inserted for the event after it was
+ * checked is skipped by the batch insert and reported as rejected. Imported emails are added to the
+ * {@link DuplicateEmailFilter} only once the import commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationImportService {
+
+    private final EventRepository eventRepository;
+    private final ParticipantRepository participantRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationMapper applicationMapper;
+    private final ApplicationBatchWriter applicationBatchWriter;
+    private final DuplicateEmailFilter duplicateEmailFilter;
+    private final NumberAllocator numberAllocator;
+    private final ApplicationImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * @param defaultEventId event for rows that do not name one; may be {@code null}
+     */
+    @Transactional
+    public ApplicationImportReport importApplications(UUID defaultEventId, String contentType, InputStream body) {
+        ApplicationImportFormat format = ApplicationImportFormat.forContentType(contentType)
+                .orElseThrow(() -> new DomainValidationException("Imports must be sent as "
+                        + ApplicationImportFormat.CSV.mediaType() + " or " + ApplicationImportFormat.NDJSON.mediaType()));
+
+        Map<UUID, EventImport> events = new LinkedHashMap<>();
+        Map<UUID, Boolean> participants = new HashMap<>();
+        List<ApplicationImportRowResult> results = new ArrayList<>();
+        Map<UUID, ApplicationImportRowResult> pendingResults = new HashMap<>();
+        List<Application> pending = new ArrayList<>(properties.getBatchSize());
+        List<Application> written = new ArrayList<>();
+        try {
+            ApplicationRowReader reader = ApplicationRowReader.open(format, body, objectMapper);
+            for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+                if (row.row() > properties.getMaxRows()) {
+                    throw new DomainValidationException("Import exceeds the limit of " + properties.getMaxRows() + " rows");
+                }
+                ApplicationImportRowResult result = importRow(row, defaultEventId, events, participants, pending);
+                results.add(result);
+                if (result.getApplicationId() != null) {
+                    pendingResults.put(result.getApplicationId(), result);
+                }
+                if (pending.size() >= properties.getBatchSize()) {
+                    write(pending, pendingResults, events, written);
+                }
+            }
+        } catch (IOException ex) {
+            throw new DomainValidationException("Import file could not be read: " + ex.getMessage(), ex);
+        }
+        write(pending, pendingResults, events, written);
+        registerAfterCommit(written);
+
+        events.forEach((eventId, event) -> {
+            if (!event.importedEmails.isEmpty()) {
+                eventRepository.addApplications(eventId, event.importedEmails.size());
+            }
+        });
+
+        int imported = (int) results.stream()
+                .filter(result -> result.getOutcome() == ApplicationImportRowResult.Outcome.IMPORTED)
+                .count();
+        return ApplicationImportReport.builder()
+                .totalRows(results.size())
+                .importedRows(imported)
+                .rejectedRows(results.size() - imported)
+                .rows(results)
+                .build();
+    }
+
+    private ApplicationImportRowResult importRow(ImportRow row,
+                                                 UUID defaultEventId,
+                                                 Map<UUID, EventImport> events,
+                                                 Map<UUID, Boolean> participants,
+                                                 List<Application> pending) {
+        if (row.error() != null) {
+            return rejected(row, null, List.of(row.error()));
+        }
+        CreateApplicationRequest request = row.request();
+        if (request.getEventId() == null) {
+            request.setEventId(defaultEventId);
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateApplicationRequest> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        errors.sort(null);
+
+        EventImport event = null;
+        if (request.getEventId() == null) {
+            errors.add("eventId: Event ID is required");
+        } else {
+            event = events.computeIfAbsent(request.getEventId(), this::loadEvent);
+            if (event.event == null) {
+                errors.add("eventId: Event not found: " + request.getEventId());
+            }
+        }
+        if (request.getParticipantId() != null
+                && !participants.computeIfAbsent(request.getParticipantId(), participantRepository::existsById)) {
+            errors.add("participantId: Participant not found: " + request.getParticipantId());
+        }
+
+        String email = request.getEmail() != null ? normalize(request.getEmail()) : null;
+        if (event != null && event.event != null && email != null) {
+            if (event.existingEmails.contains(email)) {
+                errors.add("email: " + ApplicationApplicationService.DUPLICATE_SUBMISSION);
+            } else if (event.importedEmails.contains(email)) {
+                errors.add("email: Email appears more than once for this event in the import");
+            }
+        }
+        if (!errors.isEmpty()) {
+            return rejected(row, request.getEmail(), errors);
+        }
+
+        Application application = applicationMapper.toEntity(request);
+        application.setId(UuidV7.generate());
+        application.setApplicationNumber(numberAllocator.next(Application.NUMBER_SEQUENCE));
+        application.setEvent(event.event);
+        application.setEmail(request.getEmail());
+        if (request.getParticipantId() != null) {
+            application.setParticipant(participantRepository.getReferenceById(request.getParticipantId()));
+        }
+        pending.add(application);
+        event.importedEmails.add(email);
+
+        return ApplicationImportRowResult.builder()
+                .row(row.row())
+                .email(request.getEmail())
+                .outcome(ApplicationImportRowResult.Outcome.IMPORTED)
+                .applicationId(application.getId())
+                .applicationNumber(application.getApplicationNumber())
+                .build();
+    }
+
+    private EventImport loadEvent(UUID eventId) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+        Set<String> existing = new HashSet<>();
+        if (event != null) {
+            applicationRepository.findEmailsByEventId(eventId).forEach(email -> existing.add(normalize(email)));
+        }
+        return new EventImport(event, existing);
+    }
+
+    private void write(List<Application> pending,
+                       Map<UUID, ApplicationImportRowResult> pendingResults,
+                       Map<UUID, EventImport> events,
+                       List<Application> written) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // JDBC bypasses the persistence context; anything still pending in it must reach the database first.
+        eventRepository.flush();
+        Set<UUID> skipped = new HashSet<>();
+        for (Application application : applicationBatchWriter.insert(pending)) {
+            skipped.add(application.getId());
+            events.get(application.getEvent().getId()).importedEmails.remove(normalize(application.getEmail()));
+            ApplicationImportRowResult result = pendingResults.get(application.getId());
+            result.setOutcome(ApplicationImportRowResult.Outcome.REJECTED);
+            result.setApplicationId(null);
+            result.setApplicationNumber(null);
+            result.setErrors(List.of("email: " + ApplicationApplicationService.DUPLICATE_SUBMISSION));
+        }
+        for (Application application : pending) {
+            pendingResults.remove(application.getId());
+            if (!skipped.contains(application.getId())) {
+                written.add(application);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Tells the duplicate filter about the imported emails once they are committed, so a rolled-back import
+     * leaves no trace in it.
+     */
+    private void registerAfterCommit(List<Application> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                written.forEach(application ->
+                        duplicateEmailFilter.applicationAdded(application.getEvent().getId(), application.getEmail()));
+            }
+        });
+    }
+
+    private static ApplicationImportRowResult rejected(ImportRow row, String email, List<String> errors) {
+        return ApplicationImportRowResult.builder()
+                .row(row.row())
+                .email(email)
+                .outcome(ApplicationImportRowResult.Outcome.REJECTED)
+                .errors(errors)
+                .build();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class EventImport {
+
+        private final Event event;
+        private final Set<String> existingEmails;
+        private final Set<String> importedEmails = new HashSet<>();
+
+        private EventImport(Event event, Set<String> existingEmails) {
+            this.event = event;
+            this.existingEmails = existingEmails;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.service.result.ParticipantAccountProvisionResult;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.notification.template.TemplatedEmailRequest;
+import com.araw.notification.template.TemplatedEmailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Renders the applicant email for an application status change and queues it for delivery.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusEmailSender {
+
+    private static final DateTimeFormatter HUMAN_READABLE = DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' HH:mm");
+
+    private static final Map<ApplicationStatus, StatusEmail> STATUS_EMAILS = new EnumMap<>(Map.of(
+            ApplicationStatus.ACCEPTED, new StatusEmail("application-accepted.txt", "You're accepted to {{event.title}}!"),
+            ApplicationStatus.REJECTED, new StatusEmail("application-rejected.txt", "Update on your {{event.title}} application"),
+            ApplicationStatus.WAITLISTED, new StatusEmail("application-waitlisted.txt", "{{event.title}} application waitlist update"),
+            ApplicationStatus.CONFIRMED, new StatusEmail("application-confirmed.txt", "{{event.title}} spot confirmed"),
+            ApplicationStatus.CANCELLED, new StatusEmail("application-cancelled.txt", "{{event.title}} application cancelled")));
+
+    private final TemplatedEmailService templatedEmailService;
+
+    public void send(Application application) {
+        send(application, ParticipantAccountProvisionResult.notCreated());
+    }
+
+    /**
+     * Sends the email for the application's current status, if that status has one.
+     */
+    public void send(Application application, ParticipantAccountProvisionResult accountResult) {
+        StatusEmail email = STATUS_EMAILS.get(application.getStatus());
+        if (email == null || application.getEmail() == null || application.getEmail().isBlank()) {
+            return;
+        }
+
+        Map<String, Object> variables = buildEmailVariables(application, accountResult);
+
+        templatedEmailService.send(TemplatedEmailRequest.builder()
+                .templateName(email.templateName())
+                .subjectTemplate(email.subjectTemplate())
+                .variables(variables)
+                .to(application.getEmail())
+                .build());
+    }
+
+    private Map<String, Object> buildEmailVariables(Application application,
+                                                    ParticipantAccountProvisionResult accountResult) {
+        Map<String, Object> variables = new java.util.HashMap<>();
+
+        Map<String, Object> applicant = new java.util.HashMap<>();
+        if (application.getApplicantInfo() != null) {
+            applicant.put("firstName", application.getApplicantInfo().getFirstName());
+            applicant.put("lastName", application.getApplicantInfo().getLastName());
+        }
+        applicant.put("email", application.getEmail());
+        variables.put("applicant", applicant);
+
+        Map<String, Object> event = new java.util.HashMap<>();
+        if (application.getEvent() != null) {
+            event.put("title", application.getEvent().getTitle());
+            event.put("applicationLink", application.getEvent().getApplicationLink());
+            event.put("applicationSlug", application.getEvent().getApplicationSlug());
+        }
+        variables.put("event", event);
+
+        Map<String, Object> applicationData = new java.util.HashMap<>();
+        applicationData.put("number", application.getApplicationNumber());
+        applicationData.put("status", application.getStatus().name());
+        if (application.getSubmittedAt() != null) {
+            applicationData.put("submittedAt", application.getSubmittedAt().format(HUMAN_READABLE));
+        }
+        if (application.getWaitlistPosition() != null) {
+            applicationData.put("waitlistPosition", application.getWaitlistPosition());
+        }
+        if (application.getRejectionReason() != null) {
+            applicationData.put("rejectionReason", application.getRejectionReason());
+        }
+        if (application.getCancellationReason() != null) {
+            applicationData.put("cancellationReason", application.getCancellationReason());
+        }
+        if (application.getConfirmationToken() != null && application.getEvent() != null) {
+            String baseUrl = templatedEmailService.getTemplateProperties().getApplicationBaseUrl();
+            if (baseUrl != null && !baseUrl.isBlank() && application.getEvent().getApplicationSlug() != null) {
+                applicationData.put("confirmationUrl",
+                        baseUrl + "/" + application.getEvent().getApplicationSlug() + "/confirm?token=" + application.getConfirmationToken());
+            }
+            applicationData.put("confirmationToken", application.getConfirmationToken());
+        }
+        variables.put("application", applicationData);
+
+        if (accountResult != null && accountResult.email() != null) {
+            Map<String, Object> account = new java.util.HashMap<>();
+            account.put("email", accountResult.email());
+            account.put("accountCreated", accountResult.accountCreated());
+            if (accountResult.accountCreated() && accountResult.temporaryPassword() != null) {
+                account.put("temporaryPassword", accountResult.temporaryPassword());
+            }
+            variables.put("account", account);
+        }
+
+        return variables;
+    }
+
+    private record StatusEmail(String templateName, String subjectTemplate) {
+    }
+}
@@ -1,27 +1,41 @@
 package com.araw.araw.application.service;
 
+import com.araw.araw.application.dto.application.ApplicationDecisionOutcome;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionResponse;
 import com.araw.araw.application.dto.event.CreateEventRequest;
 import com.araw.araw.application.dto.event.EventDateDto;
 import com.araw.araw.application.dto.event.EventResponse;
 import com.araw.araw.application.dto.event.EventSummaryResponse;
 import com.araw.araw.application.dto.event.UpdateEventRequest;
 import com.araw.araw.application.mapper.EventMapper;
+import com.araw.araw.application.search.EventFullTextSearch;
+import com.araw.araw.application.views.EventViewCounter;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.entity.EventDate;
+import com.araw.araw.domain.event.event.EventChangedEvent;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.service.EventDomainService;
 import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.persistence.RowCountEstimator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -34,6 +48,10 @@ public class EventApplicationService {
     private final EventMapper eventMapper;
     private final EventGalleryService eventGalleryService;
     private final EventParticipantHighlightService eventParticipantHighlightService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountEstimator rowCountEstimator;
+    private final EventFullTextSearch eventFullTextSearch;
+    private final EventViewCounter eventViewCounter;
 
     public EventResponse createEvent(CreateEventRequest request) {
         if (request.getEventDates() == null || request.getEventDates().isEmpty()) {
@@ -55,6 +73,7 @@ public class EventApplicationService {
         }
 
         Event saved = eventRepository.save(event);
+        publishChange(saved);
         return toResponse(saved);
     }
 
@@ -64,6 +83,7 @@ public class EventApplicationService {
             throw new DomainValidationException("Cannot publish an event without scheduled dates");
         }
         Event published = eventDomainService.publishEvent(event);
+        publishChange(published);
         return toResponse(published);
     }
 
@@ -74,6 +94,7 @@ public class EventApplicationService {
         }
         event.start();
         Event saved = eventRepository.save(event);
+        publishChange(saved);
         return toResponse(saved);
     }
 
@@ -82,13 +103,37 @@ public class EventApplicationService {
             throw new DomainValidationException("Cancellation reason is required");
         }
         Event cancelled = eventDomainService.cancelEvent(eventId, reason);
+        publishChange(cancelled);
         return toResponse(cancelled);
     }
 
+    /**
+     * Accepts applicants from the head of the waitlist until every free seat is taken.
+     */
+    public BulkApplicationDecisionResponse promoteWaitlist(UUID eventId) {
+        Event event = getEventEntity(eventId);
+        List<Application> promoted = eventDomainService.processWaitlist(eventId);
+        if (!promoted.isEmpty()) {
+            publishChange(event);
+        }
+        return BulkApplicationDecisionResponse.builder()
+                .status(ApplicationStatus.ACCEPTED)
+                .applied(promoted.size())
+                .outcomes(promoted.stream()
+                        .map(application -> ApplicationDecisionOutcome.builder()
+                                .applicationId(application.getId())
+                                .result(ApplicationDecisionOutcome.Result.APPLIED)
+                                .status(application.getStatus())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     public EventResponse markFeatured(UUID eventId, boolean featured) {
         Event event = getEventEntity(eventId);
         event.setIsFeatured(featured);
         Event saved = eventRepository.save(event);
+        publishChange(saved);
         return toResponse(saved);
     }
 
@@ -98,32 +143,88 @@ public class EventApplicationService {
 
     @Transactional(readOnly = true)
     public Page<EventResponse> listEvents(EventStatus status, String searchTerm, Pageable pageable) {
-        Page<Event> page;
-        if (searchTerm != null && !searchTerm.isBlank()) {
-            page = eventRepository.searchEvents(searchTerm.trim(), pageable);
-        } else if (status != null) {
-            page = eventRepository.findByStatus(status, pageable);
-        } else {
-            page = eventRepository.findAll(pageable);
-        }
-        Page<EventResponse> responsePage = page.map(eventMapper::toResponse);
-        responsePage.getContent().forEach(resp -> {
-            eventGalleryService.populateMediaUrls(resp.getGallery());
-            eventParticipantHighlightService.populateMediaUrls(resp.getParticipantHighlights());
-        });
+        Page<EventResponse> responsePage = findEvents(status, searchTerm, pageable).map(eventMapper::toResponse);
+        populateMediaUrls(responsePage.getContent());
+        responsePage.getContent().forEach(this::addPendingViews);
         return responsePage;
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> scrollEvents(EventStatus status,
+                                                  String searchTerm,
+                                                  String cursor,
+                                                  int size,
+                                                  TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime afterCreatedAt = after != null ? after.localDateTime() : null;
+        UUID afterId = after != null ? after.id() : null;
+        boolean searching = searchTerm != null && !searchTerm.isBlank();
+        List<Event> rows = searching
+                ? eventRepository.scrollSearchEvents(searchTerm.trim(), afterCreatedAt, afterId, CursorPage.window(size))
+                : eventRepository.scrollEvents(status, afterCreatedAt, afterId, CursorPage.window(size));
+        CursorPage<EventResponse> page = CursorPage.fromRows(rows, size, EventApplicationService::cursorOf)
+                .map(eventMapper::toResponse);
+        populateMediaUrls(page.content());
+        page.content().forEach(this::addPendingViews);
+        return page.withTotal(rowCountEstimator.resolve(totalMode, "events", searching || status != null,
+                () -> searching
+                        ? eventRepository.searchEvents(searchTerm.trim(), CursorPage.COUNT_PROBE).getTotalElements()
+                        : findEvents(status, null, CursorPage.COUNT_PROBE).getTotalElements()));
+    }
+
     @Transactional(readOnly = true)
     public Page<EventSummaryResponse> listPublishedSummaries(EventType type, Pageable pageable) {
-        Page<Event> page;
+        return findPublished(type, pageable).map(eventMapper::toSummaryResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummaryResponse> scrollPublishedSummaries(EventType type,
+                                                                     String cursor,
+                                                                     int size,
+                                                                     TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Event> rows = eventRepository.scrollPublished(
+                type,
+                after != null ? after.localDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.window(size));
+        // the published listing is always filtered, so an estimate would describe the wrong row set
+        return CursorPage.fromRows(rows, size, EventApplicationService::cursorOf)
+                .map(eventMapper::toSummaryResponse)
+                .withTotal(rowCountEstimator.resolve(totalMode, "events", true,
+                        () -> findPublished(type, CursorPage.COUNT_PROBE).getTotalElements()));
+    }
+
+    private Page<Event> findEvents(EventStatus status, String searchTerm, Pageable pageable) {
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            return eventFullTextSearch.search(searchTerm, pageable);
+        } else if (status != null) {
+            return eventRepository.findByStatus(status, pageable);
+        }
+        return eventRepository.findAllWithAdminDetail(pageable);
+    }
+
+    private Page<Event> findPublished(EventType type, Pageable pageable) {
         if (type != null) {
-            page = eventRepository.findByEventTypeAndStatus(type, EventStatus.UPCOMING, pageable);
-        } else {
-            page = eventRepository.findByIsPublishedTrue(pageable);
+            return eventRepository.findByEventTypeAndStatus(type, EventStatus.UPCOMING, pageable);
         }
-        Page<EventSummaryResponse> responsePage = page.map(eventMapper::toSummaryResponse);
-        return responsePage;
+        return eventRepository.findByIsPublishedTrue(pageable);
+    }
+
+    private static KeysetCursor cursorOf(Event event) {
+        return KeysetCursor.of(event.getCreatedAt(), event.getId());
+    }
+
+    private void populateMediaUrls(List<EventResponse> responses) {
+        eventGalleryService.populateMediaUrls(responses.stream()
+                .map(EventResponse::getGallery)
+                .filter(Objects::nonNull)
+                .toList());
+        eventParticipantHighlightService.populateMediaUrls(responses.stream()
+                .map(EventResponse::getParticipantHighlights)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList());
     }
 
     public EventResponse completeEvent(UUID eventId) {
@@ -133,12 +234,13 @@ public class EventApplicationService {
         }
         event.complete();
         Event saved = eventRepository.save(event);
+        publishChange(saved);
         eventGalleryService.getGallery(saved.getId());
         return toResponse(saved);
     }
 
     private Event getEventEntity(UUID eventId) {
-        return eventRepository.findById(eventId)
+        return eventRepository.findWithAdminDetailById(eventId)
                 .orElseThrow(() -> new DomainNotFoundException("Event not found: " + eventId));
     }
 
@@ -165,10 +267,20 @@ public class EventApplicationService {
         }
     }
 
+    private void publishChange(Event event) {
+        eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getApplicationSlug()));
+    }
+
     private EventResponse toResponse(Event event) {
         EventResponse response = eventMapper.toResponse(event);
         eventGalleryService.populateMediaUrls(response.getGallery());
         eventParticipantHighlightService.populateMediaUrls(response.getParticipantHighlights());
+        addPendingViews(response);
         return response;
     }
+
+    private void addPendingViews(EventResponse response) {
+        long persisted = response.getViewCount() != null ? response.getViewCount() : 0L;
+        response.setViewCount(persisted + eventViewCounter.pendingViews(response.getId()));
+    }
 }
@@ -8,6 +8,7 @@ import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.entity.EventGallery;
 import com.araw.araw.domain.event.entity.GalleryImage;
 import com.araw.araw.domain.event.entity.GalleryVideo;
+import com.araw.araw.domain.event.event.EventChangedEvent;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.repository.GalleryImageRepository;
 import com.araw.araw.domain.event.repository.GalleryVideoRepository;
@@ -20,13 +21,19 @@ import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -42,6 +49,7 @@ public class EventGalleryService {
     private final GalleryVideoRepository galleryVideoRepository;
     private final MediaStorageService mediaStorageService;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EventGalleryDto getGallery(UUID eventId) {
         Event event = getEvent(eventId);
@@ -87,6 +95,7 @@ public class EventGalleryService {
 
         gallery.addImage(image);
         GalleryImage saved = galleryImageRepository.save(image);
+        contentChanged(event);
         GalleryImageDto dto = eventMapper.toGalleryImageDto(saved);
         populateMediaUrl(dto);
         return dto;
@@ -110,6 +119,7 @@ public class EventGalleryService {
         EventGallery gallery = ensureGallery(event);
         gallery.removeImage(image);
         galleryImageRepository.delete(image);
+        contentChanged(event);
     }
 
     public void reorderImages(UUID eventId, List<UUID> imageOrder) {
@@ -117,6 +127,7 @@ public class EventGalleryService {
         EventGallery gallery = ensureGallery(event);
         gallery.reorderImages(imageOrder);
         galleryImageRepository.saveAll(gallery.getImages());
+        contentChanged(event);
     }
 
     public GalleryVideoDto addVideo(UUID eventId,
@@ -161,6 +172,7 @@ public class EventGalleryService {
 
         gallery.addVideo(video);
         GalleryVideo saved = galleryVideoRepository.save(video);
+        contentChanged(event);
         GalleryVideoDto dto = eventMapper.toGalleryVideoDto(saved);
         populateMediaUrl(dto);
         return dto;
@@ -189,6 +201,7 @@ public class EventGalleryService {
 
         gallery.addVideo(video);
         GalleryVideo saved = galleryVideoRepository.save(video);
+        contentChanged(event);
         GalleryVideoDto dto = eventMapper.toGalleryVideoDto(saved);
         populateMediaUrl(dto);
         return dto;
@@ -219,6 +232,7 @@ public class EventGalleryService {
         EventGallery gallery = ensureGallery(event);
         gallery.removeVideo(video);
         galleryVideoRepository.delete(video);
+        contentChanged(event);
     }
 
     public void reorderVideos(UUID eventId, List<UUID> videoOrder) {
@@ -226,6 +240,7 @@ public class EventGalleryService {
         EventGallery gallery = ensureGallery(event);
         gallery.reorderVideos(videoOrder);
         galleryVideoRepository.saveAll(gallery.getVideos());
+        contentChanged(event);
     }
 
     public EventGalleryDto updateVisibility(UUID eventId, boolean isPublic) {
@@ -233,6 +248,7 @@ public class EventGalleryService {
         EventGallery gallery = ensureGallery(event);
         gallery.setIsPublic(isPublic);
         eventRepository.save(event);
+        contentChanged(event);
         EventGalleryDto dto = eventMapper.toEventGalleryDto(gallery);
         populateMediaUrls(dto);
         return dto;
@@ -242,12 +258,37 @@ public class EventGalleryService {
         if (gallery == null) {
             return;
         }
-        if (gallery.getImages() != null) {
-            gallery.getImages().forEach(this::populateMediaUrl);
+        populateMediaUrls(List.of(gallery));
+    }
+
+    public void populateMediaUrls(Collection<EventGalleryDto> galleries) {
+        if (galleries == null || galleries.isEmpty()) {
+            return;
         }
-        if (gallery.getVideos() != null) {
-            gallery.getVideos().forEach(this::populateMediaUrl);
+        List<GalleryImageDto> images = new ArrayList<>();
+        List<GalleryVideoDto> videos = new ArrayList<>();
+        for (EventGalleryDto gallery : galleries) {
+            if (gallery == null) {
+                continue;
+            }
+            if (gallery.getImages() != null) {
+                images.addAll(gallery.getImages());
+            }
+            if (gallery.getVideos() != null) {
+                videos.addAll(gallery.getVideos());
+            }
         }
+        populateMediaUrls(images, videos);
+    }
+
+    /**
+     * The gallery is part of the public event page but lives outside the event row, so every change to it
+     * moves the event's version (and with it the public ETag) and announces the change, which refreshes the
+     * published-event cache and purges the CDN.
+     */
+    private void contentChanged(Event event) {
+        eventRepository.touch(event.getId());
+        eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getApplicationSlug()));
     }
 
     private Event requireCompletableEvent(UUID eventId) {
@@ -259,7 +300,7 @@ public class EventGalleryService {
     }
 
     private Event getEvent(UUID eventId) {
-        return eventRepository.findById(eventId)
+        return eventRepository.findWithGalleryById(eventId)
                 .orElseThrow(() -> new DomainNotFoundException("Event not found: " + eventId));
     }
 
@@ -293,38 +334,73 @@ public class EventGalleryService {
     }
 
     private void populateMediaUrl(GalleryImageDto dto) {
+        if (dto == null) {
+            return;
+        }
+        populateMediaUrls(List.of(dto), List.of());
+    }
+
+    private void populateMediaUrl(GalleryVideoDto dto) {
+        if (dto == null) {
+            return;
+        }
+        populateMediaUrls(List.of(), List.of(dto));
+    }
+
+    private void populateMediaUrls(List<GalleryImageDto> images, List<GalleryVideoDto> videos) {
+        List<UUID> assetIds = new ArrayList<>();
+        images.stream()
+                .filter(Objects::nonNull)
+                .map(GalleryImageDto::getMediaAssetId)
+                .filter(Objects::nonNull)
+                .forEach(assetIds::add);
+        videos.stream()
+                .filter(Objects::nonNull)
+                .flatMap(video -> Stream.of(video.getMediaAssetId(), video.getThumbnailAssetId()))
+                .filter(Objects::nonNull)
+                .forEach(assetIds::add);
+        Map<UUID, String> urls = mediaStorageService.generatePresignedUrls(assetIds);
+
+        images.forEach(dto -> applyMediaUrl(dto, urls));
+        videos.forEach(dto -> applyMediaUrl(dto, urls));
+    }
+
+    private void applyMediaUrl(GalleryImageDto dto, Map<UUID, String> urls) {
         if (dto == null) {
             return;
         }
         if (dto.getMediaAssetId() != null) {
-            try {
-                dto.setDownloadUrl(mediaStorageService.generatePresignedUrl(dto.getMediaAssetId()));
-            } catch (Exception ex) {
-                log.warn("Failed to generate presigned URL for gallery image {}", dto.getMediaAssetId(), ex);
+            String url = urls.get(dto.getMediaAssetId());
+            if (url != null) {
+                dto.setDownloadUrl(url);
+            } else {
+                log.warn("No presigned URL available for gallery image {}", dto.getMediaAssetId());
             }
         } else if (dto.getImageUrl() != null) {
             dto.setDownloadUrl(dto.getImageUrl());
         }
     }
 
-    private void populateMediaUrl(GalleryVideoDto dto) {
+    private void applyMediaUrl(GalleryVideoDto dto, Map<UUID, String> urls) {
         if (dto == null) {
             return;
         }
         if (dto.getMediaAssetId() != null) {
-            try {
-                dto.setDownloadUrl(mediaStorageService.generatePresignedUrl(dto.getMediaAssetId()));
-            } catch (Exception ex) {
-                log.warn("Failed to generate presigned URL for gallery video {}", dto.getMediaAssetId(), ex);
+            String url = urls.get(dto.getMediaAssetId());
+            if (url != null) {
+                dto.setDownloadUrl(url);
+            } else {
+                log.warn("No presigned URL available for gallery video {}", dto.getMediaAssetId());
             }
         } else if (dto.getExternalUrl() != null) {
             dto.setDownloadUrl(dto.getExternalUrl());
         }
         if (dto.getThumbnailAssetId() != null) {
-            try {
-                dto.setThumbnailUrl(mediaStorageService.generatePresignedUrl(dto.getThumbnailAssetId()));
-            } catch (Exception ex) {
-                log.warn("Failed to generate presigned URL for gallery video thumbnail {}", dto.getThumbnailAssetId(), ex);
+            String thumbnailUrl = urls.get(dto.getThumbnailAssetId());
+            if (thumbnailUrl != null) {
+                dto.setThumbnailUrl(thumbnailUrl);
+            } else {
+                log.warn("No presigned URL available for gallery video thumbnail {}", dto.getThumbnailAssetId());
             }
         }
     }
@@ -6,6 +6,7 @@ import com.araw.araw.application.dto.event.UpdateEventParticipantHighlightReques
 import com.araw.araw.application.mapper.EventMapper;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.entity.EventParticipantHighlight;
+import com.araw.araw.domain.event.event.EventChangedEvent;
 import com.araw.araw.domain.event.repository.EventParticipantHighlightRepository;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.valueobject.EventStatus;
@@ -19,6 +20,7 @@ import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +28,8 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -41,6 +45,7 @@ public class EventParticipantHighlightService {
     private final EventParticipantHighlightRepository highlightRepository;
     private final MediaStorageService mediaStorageService;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<EventParticipantHighlightDto> listHighlights(UUID eventId) {
@@ -75,6 +80,7 @@ public class EventParticipantHighlightService {
         }
 
         EventParticipantHighlight saved = highlightRepository.save(highlight);
+        contentChanged(event);
         EventParticipantHighlightDto dto = eventMapper.toEventParticipantHighlightDto(saved);
         populateMediaUrl(dto);
         return dto;
@@ -107,6 +113,7 @@ public class EventParticipantHighlightService {
         }
 
         EventParticipantHighlight saved = highlightRepository.save(highlight);
+        contentChanged(event);
         EventParticipantHighlightDto dto = eventMapper.toEventParticipantHighlightDto(saved);
         populateMediaUrl(dto);
         return dto;
@@ -118,6 +125,7 @@ public class EventParticipantHighlightService {
         ensureHighlightBelongsToEvent(highlight, event);
         removePhoto(highlight);
         highlightRepository.delete(highlight);
+        contentChanged(event);
     }
 
     public void reorderHighlights(UUID eventId, List<UUID> orderedIds) {
@@ -134,13 +142,29 @@ public class EventParticipantHighlightService {
         }
         highlights.sort(Comparator.comparing(EventParticipantHighlight::getDisplayOrder));
         highlightRepository.saveAll(highlights);
+        contentChanged(event);
     }
 
     public void populateMediaUrls(List<EventParticipantHighlightDto> highlights) {
-        if (highlights == null) {
+        if (highlights == null || highlights.isEmpty()) {
             return;
         }
-        highlights.forEach(this::populateMediaUrl);
+        Map<UUID, String> urls = mediaStorageService.generatePresignedUrls(highlights.stream()
+                .filter(Objects::nonNull)
+                .map(EventParticipantHighlightDto::getMediaAssetId)
+                .filter(Objects::nonNull)
+                .toList());
+        highlights.forEach(dto -> applyMediaUrl(dto, urls));
+    }
+
+    /**
+     * Highlights are part of the public event page but live outside the event row, so every change to them
+     * moves the event's version (and with it the public ETag) and announces the change, which refreshes the
+     * published-event cache and purges the CDN.
+     */
+    private void contentChanged(Event event) {
+        eventRepository.touch(event.getId());
+        eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getApplicationSlug()));
     }
 
     private EventParticipantHighlight attachPhoto(EventParticipantHighlight highlight, MultipartFile photo) {
@@ -223,14 +247,22 @@ public class EventParticipantHighlightService {
     }
 
     private void populateMediaUrl(EventParticipantHighlightDto dto) {
+        if (dto == null) {
+            return;
+        }
+        populateMediaUrls(List.of(dto));
+    }
+
+    private void applyMediaUrl(EventParticipantHighlightDto dto, Map<UUID, String> urls) {
         if (dto == null) {
             return;
         }
         if (dto.getMediaAssetId() != null) {
-            try {
-                dto.setDownloadUrl(mediaStorageService.generatePresignedUrl(dto.getMediaAssetId()));
-            } catch (Exception ex) {
-                log.warn("Failed to generate presigned URL for participant highlight {}", dto.getMediaAssetId(), ex);
+            String url = urls.get(dto.getMediaAssetId());
+            if (url != null) {
+                dto.setDownloadUrl(url);
+            } else {
+                log.warn("No presigned URL available for participant highlight {}", dto.getMediaAssetId());
             }
         } else if (dto.getPhotoUrl() != null) {
             dto.setDownloadUrl(dto.getPhotoUrl());
@@ -17,14 +17,20 @@ import com.araw.araw.domain.feedback.repository.FeedbackRepository;
 import com.araw.araw.domain.feedback.service.FeedbackDomainService;
 import com.araw.araw.domain.participant.enitity.Participant;
 import com.araw.araw.domain.participant.repository.ParticipantRepository;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.persistence.RowCountEstimator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -38,6 +44,7 @@ public class FeedbackApplicationService {
     private final FeedbackMapper feedbackMapper;
     private final FeedbackDomainService feedbackDomainService;
     private final ApplicationRepository applicationRepository;
+    private final RowCountEstimator rowCountEstimator;
 
     private static final java.util.EnumSet<ApplicationStatus> FEEDBACK_ELIGIBLE_STATUSES =
             java.util.EnumSet.of(ApplicationStatus.ACCEPTED, ApplicationStatus.CONFIRMED);
@@ -157,15 +164,26 @@ public class FeedbackApplicationService {
 
     @Transactional(readOnly = true)
     public Page<FeedbackSummaryResponse> listFeedback(UUID eventId, Pageable pageable, String searchTerm) {
-        Page<Feedback> page;
-        if (searchTerm != null && !searchTerm.isBlank()) {
-            page = feedbackRepository.searchFeedback(searchTerm.trim(), pageable);
-        } else if (eventId != null) {
-            page = feedbackRepository.findByEventId(eventId, pageable);
-        } else {
-            page = feedbackRepository.findAll(pageable);
-        }
-        return page.map(feedbackMapper::toSummaryResponse);
+        return findFeedback(eventId, searchTerm, pageable).map(feedbackMapper::toSummaryResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<FeedbackSummaryResponse> scrollFeedback(UUID eventId,
+                                                              String searchTerm,
+                                                              String cursor,
+                                                              int size,
+                                                              TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime afterSubmittedAt = after != null ? after.localDateTime() : null;
+        UUID afterId = after != null ? after.id() : null;
+        boolean searching = searchTerm != null && !searchTerm.isBlank();
+        List<Feedback> rows = searching
+                ? feedbackRepository.scrollSearchFeedback(searchTerm.trim(), afterSubmittedAt, afterId, CursorPage.window(size))
+                : feedbackRepository.scrollFeedback(eventId, afterSubmittedAt, afterId, CursorPage.window(size));
+        return CursorPage.fromRows(rows, size, FeedbackApplicationService::cursorOf)
+                .map(feedbackMapper::toSummaryResponse)
+                .withTotal(rowCountEstimator.resolve(totalMode, "feedbacks", searching || eventId != null,
+                        () -> findFeedback(eventId, searchTerm, CursorPage.COUNT_PROBE).getTotalElements()));
     }
 
     @Transactional(readOnly = true)
@@ -175,22 +193,52 @@ public class FeedbackApplicationService {
 
     @Transactional(readOnly = true)
     public Page<TestimonialDto> listTestimonials(UUID eventId, Boolean featuredOnly, Pageable pageable) {
-        Page<Feedback> page;
+        return findTestimonials(eventId, Boolean.TRUE.equals(featuredOnly), pageable)
+                .map(feedbackMapper::toTestimonialDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TestimonialDto> scrollTestimonials(UUID eventId,
+                                                         Boolean featuredOnly,
+                                                         String cursor,
+                                                         int size,
+                                                         TotalMode totalMode) {
         boolean featured = Boolean.TRUE.equals(featuredOnly);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Feedback> rows = feedbackRepository.scrollTestimonials(
+                eventId,
+                featured,
+                after != null ? after.localDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.window(size));
+        return CursorPage.fromRows(rows, size, FeedbackApplicationService::cursorOf)
+                .map(feedbackMapper::toTestimonialDto)
+                .withTotal(rowCountEstimator.resolve(totalMode, "feedbacks", true,
+                        () -> findTestimonials(eventId, featured, CursorPage.COUNT_PROBE).getTotalElements()));
+    }
+
+    private Page<Feedback> findFeedback(UUID eventId, String searchTerm, Pageable pageable) {
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            return feedbackRepository.searchFeedback(searchTerm.trim(), pageable);
+        } else if (eventId != null) {
+            return feedbackRepository.findByEventId(eventId, pageable);
+        }
+        return feedbackRepository.findAll(pageable);
+    }
+
+    private Page<Feedback> findTestimonials(UUID eventId, boolean featured, Pageable pageable) {
         if (featured) {
-            if (eventId != null) {
-                page = feedbackRepository.findFeaturedTestimonialsPage(eventId, pageable);
-            } else {
-                page = feedbackRepository.findFeaturedTestimonialsPage(pageable);
-            }
-        } else {
-            if (eventId != null) {
-                page = feedbackRepository.findTestimonialsByEvent(eventId, pageable);
-            } else {
-                page = feedbackRepository.findTestimonials(pageable);
-            }
+            return eventId != null
+                    ? feedbackRepository.findFeaturedTestimonialsPage(eventId, pageable)
+                    : feedbackRepository.findFeaturedTestimonialsPage(pageable);
         }
-        return page.map(feedbackMapper::toTestimonialDto);
+        return eventId != null
+                ? feedbackRepository.findTestimonialsByEvent(eventId, pageable)
+                : feedbackRepository.findTestimonials(pageable);
+    }
+
+    private static KeysetCursor cursorOf(Feedback feedback) {
+        return KeysetCursor.of(feedback.getSubmittedAt(), feedback.getId());
     }
 
     public void deleteFeedback(UUID feedbackId) {
@@ -8,14 +8,20 @@ import com.araw.araw.application.mapper.ParticipantMapper;
 import com.araw.araw.domain.participant.enitity.Participant;
 import com.araw.araw.domain.participant.repository.ParticipantRepository;
 import com.araw.araw.domain.participant.service.ParticipantDomainService;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.persistence.RowCountEstimator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -28,6 +34,7 @@ public class ParticipantApplicationService {
     private final ParticipantRepository participantRepository;
     private final ParticipantMapper participantMapper;
     private final ParticipantDomainService participantDomainService;
+    private final RowCountEstimator rowCountEstimator;
 
     public ParticipantResponse createParticipant(CreateParticipantRequest request) {
         validateEmailUniqueness(null, request.getContactInfo() != null ? request.getContactInfo().getEmail() : null);
@@ -70,13 +77,33 @@ public class ParticipantApplicationService {
 
     @Transactional(readOnly = true)
     public Page<ParticipantSummaryResponse> listParticipants(String searchTerm, Pageable pageable) {
-        Page<Participant> page;
+        return findParticipants(searchTerm, pageable).map(participantMapper::toSummaryResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ParticipantSummaryResponse> scrollParticipants(String searchTerm,
+                                                                     String cursor,
+                                                                     int size,
+                                                                     TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime afterJoinedAt = after != null ? after.localDateTime() : null;
+        UUID afterId = after != null ? after.id() : null;
+        boolean searching = searchTerm != null && !searchTerm.isBlank();
+        List<Participant> rows = searching
+                ? participantRepository.scrollSearchParticipants(searchTerm.trim(), afterJoinedAt, afterId, CursorPage.window(size))
+                : participantRepository.scrollParticipants(afterJoinedAt, afterId, CursorPage.window(size));
+        return CursorPage.fromRows(rows, size,
+                        participant -> KeysetCursor.of(participant.getJoinedAt(), participant.getId()))
+                .map(participantMapper::toSummaryResponse)
+                .withTotal(rowCountEstimator.resolve(totalMode, "participants", searching,
+                        () -> findParticipants(searchTerm, CursorPage.COUNT_PROBE).getTotalElements()));
+    }
+
+    private Page<Participant> findParticipants(String searchTerm, Pageable pageable) {
         if (searchTerm != null && !searchTerm.isBlank()) {
-            page = participantRepository.searchParticipants(searchTerm.trim(), pageable);
-        } else {
-            page = participantRepository.findAll(pageable);
+            return participantRepository.searchParticipants(searchTerm.trim(), pageable);
         }
-        return page.map(participantMapper::toSummaryResponse);
+        return participantRepository.findAll(pageable);
     }
 
     public void deleteParticipant(UUID participantId) {
@@ -0,0 +1,165 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.admission.EventAdmissionControl;
+import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.publicapp.PublicEventApplicationRequest;
+import com.araw.araw.application.service.result.MultipartApplication;
+import com.araw.araw.application.service.result.StoredResume;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.http.StreamingMultipartReader;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Multipart front end for public applications. The {@code payload} and {@code resume} parts are read
+ * straight off the request body: the resume is piped into object storage as it arrives, and only then is
+ * the application submitted in one short transaction that records the resume's metadata. Only that
+ * submission goes through {@link EventAdmissionControl}, so a slow upload never holds one of the event's
+ * admission slots. If anything fails after the upload, the stored object is removed again.
+ * <p>
+ * Clients should send {@code payload} before {@code resume}. A payload that arrives first is validated and
+ * checked against the event (open for registration, seats left, email not used yet) before any resume
+ * bytes go to storage, so a doomed submission is refused without an upload.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublicApplicationUploadService {
+
+    private static final String PAYLOAD_PART = "payload";
+    private static final String RESUME_PART = "resume";
+    private static final int MAX_PAYLOAD_BYTES = 256 * 1024;
+
+    private final PublicEventApplicationService publicEventApplicationService;
+    private final ApplicationDocumentService applicationDocumentService;
+    private final EventAdmissionControl eventAdmissionControl;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Stores the upload and then submits the application; {@code received} is told what the request carried
+     * before it is submitted.
+     */
+    public ApplicationResponse submitApplication(UUID eventId,
+                                                 String contentType,
+                                                 InputStream body,
+                                                 Consumer<MultipartApplication> received) {
+        Received application = receive(contentType, body,
+                request -> publicEventApplicationService.precheckApplication(eventId, request));
+        try {
+            received.accept(new MultipartApplication(application.request(),
+                    application.resume() != null ? application.resume().checksumSha256() : null));
+            return eventAdmissionControl.admit(eventId, () -> publicEventApplicationService.submitApplication(
+                    eventId, application.request(), application.resume()));
+        } catch (RuntimeException ex) {
+            discard(application.resume());
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads the request without storing or submitting anything, for a retry that will not be run again but
+     * must be compared with the original.
+     */
+    public MultipartApplication inspect(String contentType, InputStream body) {
+        StreamingMultipartReader reader = new StreamingMultipartReader(body, StreamingMultipartReader.boundary(contentType));
+        PublicEventApplicationRequest request = null;
+        String resumeChecksum = null;
+        boolean resumeSeen = false;
+        try {
+            for (StreamingMultipartReader.Part part = reader.next(); part != null; part = reader.next()) {
+                if (PAYLOAD_PART.equals(part.name())) {
+                    request = readPayload(part.body());
+                } else if (RESUME_PART.equals(part.name()) && part.isFile() && !resumeSeen) {
+                    resumeChecksum = applicationDocumentService.resumeChecksum(part.body());
+                    resumeSeen = resumeChecksum != null;
+                }
+            }
+        } catch (IOException ex) {
+            throw new DomainValidationException("Malformed multipart request", ex);
+        }
+        if (request == null) {
+            throw new DomainValidationException("Multipart request is missing the '" + PAYLOAD_PART + "' part");
+        }
+        return new MultipartApplication(request, resumeChecksum);
+    }
+
+    /**
+     * Reads the parts, validating and prechecking a payload that arrives before the resume, and stores the
+     * resume. A failure leaves nothing in storage.
+     */
+    private Received receive(String contentType,
+                             InputStream body,
+                             Consumer<PublicEventApplicationRequest> precheck) {
+        StreamingMultipartReader reader = new StreamingMultipartReader(body, StreamingMultipartReader.boundary(contentType));
+        PublicEventApplicationRequest request = null;
+        StoredResume resume = null;
+        boolean checked = false;
+        try {
+            for (StreamingMultipartReader.Part part = reader.next(); part != null; part = reader.next()) {
+                if (PAYLOAD_PART.equals(part.name())) {
+                    request = readPayload(part.body());
+                    // Only worth it while nothing is stored yet; after the upload, submitting checks anyway.
+                    checked = resume == null;
+                    if (checked) {
+                        validate(request);
+                        precheck.accept(request);
+                    }
+                } else if (RESUME_PART.equals(part.name()) && part.isFile() && resume == null) {
+                    resume = applicationDocumentService.uploadResume(part.fileName(), part.body());
+                }
+            }
+            if (request == null) {
+                throw new DomainValidationException("Multipart request is missing the '" + PAYLOAD_PART + "' part");
+            }
+            if (!checked) {
+                validate(request);
+            }
+            return new Received(request, resume);
+        } catch (IOException ex) {
+            discard(resume);
+            throw new DomainValidationException("Malformed multipart request", ex);
+        } catch (RuntimeException ex) {
+            discard(resume);
+            throw ex;
+        }
+    }
+
+    private PublicEventApplicationRequest readPayload(InputStream part) throws IOException {
+        byte[] json = part.readNBytes(MAX_PAYLOAD_BYTES + 1);
+        if (json.length > MAX_PAYLOAD_BYTES) {
+            throw new DomainValidationException("Application payload is too large");
+        }
+        try {
+            return objectMapper.readValue(json, PublicEventApplicationRequest.class);
+        } catch (JacksonException ex) {
+            throw new DomainValidationException("Application payload is not valid JSON", ex);
+        }
+    }
+
+    private void validate(PublicEventApplicationRequest request) {
+        Set<ConstraintViolation<PublicEventApplicationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private void discard(StoredResume resume) {
+        if (resume != null) {
+            applicationDocumentService.discardResume(resume);
+        }
+    }
+
+    private record Received(PublicEventApplicationRequest request, StoredResume resume) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.araw.araw.application.service;
 
+import com.araw.araw.application.dedup.DuplicateEmailFilter;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationView;
 import com.araw.araw.application.dto.application.CreateApplicationRequest;
 import com.araw.araw.application.dto.participant.ContactInfoDto;
 import com.araw.araw.application.dto.participant.CreateParticipantRequest;
 import com.araw.araw.application.dto.participant.ParticipantResponse;
 import com.araw.araw.application.dto.publicapp.PublicEventApplicationRequest;
+import com.araw.araw.application.service.result.StoredResume;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.entity.EventDate;
 import com.araw.araw.domain.event.repository.EventRepository;
@@ -18,7 +21,6 @@ import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -41,6 +43,31 @@ public class PublicEventApplicationService {
     private final ApplicationApplicationService applicationApplicationService;
     private final ApplicationDocumentService applicationDocumentService;
     private final TemplatedEmailService templatedEmailService;
+    private final DuplicateEmailFilter duplicateEmailFilter;
+
+    @Transactional(readOnly = true)
+    public UUID resolveEventId(String applicationSlug) {
+        return eventRepository.findIdByApplicationSlug(applicationSlug)
+                .orElseThrow(() -> new DomainNotFoundException("Event not found for link: " + applicationSlug));
+    }
+
+    /**
+     * Runs the checks that need no writes (event open, registration window, capacity, duplicate email), so a
+     * multipart submission can be refused before its resume is uploaded. Submitting repeats them.
+     */
+    @Transactional(readOnly = true)
+    public void precheckApplication(String applicationSlug, PublicEventApplicationRequest request) {
+        Event event = eventRepository.findByApplicationSlug(applicationSlug)
+                .orElseThrow(() -> new DomainNotFoundException("Event not found for link: " + applicationSlug));
+        precheckApplication(event, request);
+    }
+
+    @Transactional(readOnly = true)
+    public void precheckApplication(UUID eventId, PublicEventApplicationRequest request) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new DomainNotFoundException("Event not found: " + eventId));
+        precheckApplication(event, request);
+    }
 
     public ApplicationResponse submitApplication(String applicationSlug,
                                                  PublicEventApplicationRequest request) {
@@ -49,10 +76,10 @@ public class PublicEventApplicationService {
 
     public ApplicationResponse submitApplication(String applicationSlug,
                                                  PublicEventApplicationRequest request,
-                                                 MultipartFile resumeFile) {
+                                                 StoredResume resume) {
         Event event = eventRepository.findByApplicationSlug(applicationSlug)
                 .orElseThrow(() -> new DomainNotFoundException("Event not found for link: " + applicationSlug));
-        return submitApplication(event, request, resumeFile);
+        return submitApplication(event, request, resume);
     }
 
     public ApplicationResponse submitApplication(UUID eventId,
@@ -62,15 +89,15 @@ public class PublicEventApplicationService {
 
     public ApplicationResponse submitApplication(UUID eventId,
                                                  PublicEventApplicationRequest request,
-                                                 MultipartFile resumeFile) {
+                                                 StoredResume resume) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new DomainNotFoundException("Event not found: " + eventId));
-        return submitApplication(event, request, resumeFile);
+        return submitApplication(event, request, resume);
     }
 
     private ApplicationResponse submitApplication(Event event,
                                                   PublicEventApplicationRequest request,
-                                                  MultipartFile resumeFile) {
+                                                  StoredResume resume) {
         validateEventForApplication(event);
 
         CreateApplicationRequest applicationRequest = request.getApplication();
@@ -80,18 +107,25 @@ public class PublicEventApplicationService {
         applicationRequest.setParticipantId(participantId);
 
         ApplicationResponse created = applicationApplicationService.createApplication(applicationRequest);
-        if (resumeFile != null && !resumeFile.isEmpty()) {
-            applicationDocumentService.attachResume(created.getId(), resumeFile);
+        if (resume != null) {
+            applicationDocumentService.attachResume(created.getId(), resume);
         }
 
-        ApplicationResponse submitted = applicationApplicationService.submitApplication(created.getId());
-        applicationDocumentService.populateDownloadUrls(submitted);
+        ApplicationResponse submitted =
+                applicationApplicationService.submitApplication(created.getId(), ApplicationView.FULL);
 
         dispatchSubmissionEmail(event, submitted);
 
         return submitted;
     }
 
+    private void precheckApplication(Event event, PublicEventApplicationRequest request) {
+        validateEventForApplication(event);
+        if (duplicateEmailFilter.applicationExists(event.getId(), request.getApplication().getEmail())) {
+            throw new DomainValidationException(ApplicationApplicationService.DUPLICATE_SUBMISSION);
+        }
+    }
+
     private void validateEventForApplication(Event event) {
         if (!Boolean.TRUE.equals(event.getIsPublished()) || event.getStatus() != EventStatus.UPCOMING) {
             throw new DomainValidationException("This event is not accepting applications right now.");
@@ -1,31 +1,91 @@
 package com.araw.araw.application.service;
 
+import com.araw.araw.application.cache.PublishedEventCache;
 import com.araw.araw.application.dto.event.EventResponse;
 import com.araw.araw.application.mapper.EventMapper;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.repository.EventVersionView;
 import com.araw.shared.exception.DomainNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.araw.shared.http.PublicHttpCaching;
+import com.araw.shared.persistence.ReadOnlyTransaction;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PublicEventQueryService {
 
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final PublishedEventCache publishedEventCache;
+    private final ReadOnlyTransaction readOnlyTransaction;
+
+    public PublicEventQueryService(EventRepository eventRepository,
+                                   EventMapper eventMapper,
+                                   PublishedEventCache publishedEventCache,
+                                   ReadOnlyTransaction readOnlyTransaction) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.publishedEventCache = publishedEventCache;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
 
     public EventResponse getPublishedEvent(String slugOrId) {
-        String identifier = slugOrId == null ? "" : slugOrId.trim();
+        String identifier = normalize(slugOrId);
         if (identifier.isEmpty()) {
             throw new DomainNotFoundException("Published event not found: " + slugOrId);
         }
 
+        return publishedEventCache.get(identifier,
+                () -> readOnlyTransaction.execute(() -> loadPublishedEvent(identifier)));
+    }
+
+    /**
+     * Resolves the current entity tag of a published event from the snapshot cache or, failing
+     * that, from a version-only query, so conditional requests never hydrate the aggregate.
+     */
+    public Optional<PublishedEventTag> findPublishedEventTag(String slugOrId) {
+        String identifier = normalize(slugOrId);
+        if (identifier.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<EventResponse> cached = publishedEventCache.peek(identifier);
+        if (cached.isPresent()) {
+            return cached.map(PublicEventQueryService::tagOf);
+        }
+
+        return readOnlyTransaction.execute(() -> eventRepository
+                .findVersionByApplicationSlugAndIsPublishedTrue(identifier)
+                .or(() -> parseUuid(identifier).flatMap(eventRepository::findVersionByIdAndIsPublishedTrue))
+                .map(PublicEventQueryService::tagOf));
+    }
+
+    public static String surrogateKey(UUID eventId) {
+        return "event-" + eventId;
+    }
+
+    public static PublishedEventTag tagOf(EventResponse response) {
+        return new PublishedEventTag(response.getId(),
+                etag(response.getId(), response.getVersion(), response.getParticipantCount()));
+    }
+
+    private static PublishedEventTag tagOf(EventVersionView view) {
+        return new PublishedEventTag(view.getId(),
+                etag(view.getId(), view.getVersion(), view.getParticipantCount()));
+    }
+
+    private static String etag(UUID eventId, Long version, Integer participantCount) {
+        // Participant counters are bulk-updated without touching @Version but drive available spots.
+        // Gallery and highlight edits do move @Version, through EventRepository.touch.
+        return PublicHttpCaching.weakTag("event-%s-%d-%d".formatted(eventId,
+                version != null ? version : 0L,
+                participantCount != null ? participantCount : 0));
+    }
+
+    private EventResponse loadPublishedEvent(String identifier) {
         Event event = resolvePublishedEvent(identifier)
                 .orElseThrow(() -> new DomainNotFoundException("Published event not found: " + identifier));
 
@@ -37,17 +97,21 @@ public class PublicEventQueryService {
     }
 
     private Optional<Event> resolvePublishedEvent(String identifier) {
-        Optional<Event> bySlug = eventRepository.findByApplicationSlug(identifier)
+        Optional<Event> bySlug = eventRepository.findWithPublicDetailByApplicationSlug(identifier)
                 .filter(event -> Boolean.TRUE.equals(event.getIsPublished()));
         if (bySlug.isPresent()) {
             return bySlug;
         }
 
         return parseUuid(identifier)
-                .flatMap(eventRepository::findById)
+                .flatMap(eventRepository::findWithPublicDetailById)
                 .filter(event -> Boolean.TRUE.equals(event.getIsPublished()));
     }
 
+    private String normalize(String slugOrId) {
+        return slugOrId == null ? "" : slugOrId.trim();
+    }
+
     private Optional<UUID> parseUuid(String value) {
         try {
             return Optional.of(UUID.fromString(value));
@@ -55,4 +119,7 @@ public class PublicEventQueryService {
             return Optional.empty();
         }
     }
+
+    public record PublishedEventTag(UUID eventId, String etag) {
+    }
 }
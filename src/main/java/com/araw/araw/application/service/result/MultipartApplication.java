@@ -0,0 +1,10 @@
+package com.araw.araw.application.service.result;
+
+import com.araw.araw.application.dto.publicapp.PublicEventApplicationRequest;
+
+/**
+ * What a multipart application carried: the parsed payload and the SHA-256 of its resume, if it had one.
+ */
+public record MultipartApplication(PublicEventApplicationRequest payload,
+                                   String resumeChecksum) {
+}
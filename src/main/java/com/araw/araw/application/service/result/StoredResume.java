@@ -0,0 +1,10 @@
+package com.araw.araw.application.service.result;
+
+import com.araw.media.application.StoredObject;
+
+public record StoredResume(StoredObject object,
+                           String fileName,
+                           String contentType,
+                           long fileSize,
+                           String checksumSha256) {
+}
@@ -0,0 +1,52 @@
+package com.araw.araw.application.upload;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Resume file types accepted on public applications, each with the magic bytes its content must start with.
+ * The stored content type comes from here rather than from the client.
+ */
+public enum ResumeFormat {
+
+    PDF("pdf", "application/pdf", "255044462d"),
+    DOC("doc", "application/msword", "d0cf11e0a1b11ae1"),
+    DOCX("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "504b0304");
+
+    /**
+     * Bytes to read from the start of an upload to tell the formats apart.
+     */
+    public static final int SIGNATURE_LENGTH = 8;
+
+    private final String extension;
+    private final String contentType;
+    private final byte[] signature;
+
+    ResumeFormat(String extension, String contentType, String signatureHex) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.signature = HexFormat.of().parseHex(signatureHex);
+    }
+
+    public static Optional<ResumeFormat> forExtension(String extension) {
+        if (extension == null) {
+            return Optional.empty();
+        }
+        String normalized = extension.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(format -> format.extension.equals(normalized)).findFirst();
+    }
+
+    public boolean matches(byte[] head) {
+        return head.length >= signature.length && Arrays.equals(head, 0, signature.length, signature, 0, signature.length);
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
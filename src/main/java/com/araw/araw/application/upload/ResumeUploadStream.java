@@ -0,0 +1,86 @@
+package com.araw.araw.application.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Pass-through stream for a resume on its way to object storage. It replays the already inspected
+ * signature bytes, then counts and SHA-256 hashes everything the storage client reads, and fails the read
+ * as soon as the upload grows past {@code maxBytes}.
+ */
+public final class ResumeUploadStream extends InputStream {
+
+    private final byte[] head;
+    private final InputStream rest;
+    private final long maxBytes;
+    private final MessageDigest digest;
+    private int headPosition;
+    private long size;
+    private boolean exceededLimit;
+
+    public ResumeUploadStream(byte[] head, InputStream rest, long maxBytes) {
+        this.head = head;
+        this.rest = rest;
+        this.maxBytes = maxBytes;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int read;
+        if (headPosition < head.length) {
+            read = Math.min(length, head.length - headPosition);
+            System.arraycopy(head, headPosition, target, offset, read);
+            headPosition += read;
+        } else {
+            read = rest.read(target, offset, length);
+            if (read < 0) {
+                return -1;
+            }
+        }
+        size += read;
+        if (size > maxBytes) {
+            exceededLimit = true;
+            throw new IOException("Upload exceeds " + maxBytes + " bytes");
+        }
+        digest.update(target, offset, read);
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rest.close();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean exceededLimit() {
+        return exceededLimit;
+    }
+
+    /**
+     * Hex SHA-256 of everything read so far; call once, after the upload completed.
+     */
+    public String checksum() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,125 @@
+package com.araw.araw.application.views;
+
+import com.araw.araw.config.EventViewProperties;
+import com.araw.shared.scheduling.BackgroundJobs;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind counter for public event page views. Views are added to a per-event {@link LongAdder},
+ * which spreads concurrent increments over striped cells instead of one contended row, and a background
+ * thread writes the accumulated deltas to {@code events.view_count} in a single JDBC batch.
+ * <p>
+ * The same flush merges the {@link EventVisitorAnalytics} sketches. A failed flush puts its deltas back so
+ * the next flush retries them, and the buffer is flushed once more on shutdown. Views not yet flushed are
+ * lost only if the process is killed without shutdown.
+ */
+@Component
+@Slf4j
+public class EventViewCounter {
+
+    private static final String ADD_VIEWS_SQL = "UPDATE events SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventViewProperties properties;
+    private final EventVisitorAnalytics visitorAnalytics;
+    private final BackgroundJobs backgroundJobs;
+
+    private final Map<UUID, LongAdder> buffered = new ConcurrentHashMap<>();
+
+    public EventViewCounter(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            EventViewProperties properties,
+                            EventVisitorAnalytics visitorAnalytics,
+                            BackgroundJobs backgroundJobs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.visitorAnalytics = visitorAnalytics;
+        this.backgroundJobs = backgroundJobs;
+    }
+
+    @PostConstruct
+    void scheduleFlush() {
+        backgroundJobs.scheduleWithFixedDelay("event-view-flusher", properties.getFlushInterval(), this::flushQuietly);
+    }
+
+    /**
+     * Background jobs have stopped by the time beans are destroyed, so this last flush runs alone.
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flushQuietly();
+    }
+
+    /**
+     * Counts one view of the event by the visitor with the given hashed fingerprint.
+     */
+    public void record(UUID eventId, long visitorHash) {
+        buffered.computeIfAbsent(eventId, ignored -> new LongAdder()).increment();
+        visitorAnalytics.record(eventId, visitorHash);
+    }
+
+    /**
+     * Views recorded for the event on this node that have not been written yet.
+     */
+    public long pendingViews(UUID eventId) {
+        LongAdder adder = buffered.get(eventId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Writes every buffered delta in one batch and returns the number of views written. Events are updated
+     * in id order so concurrent flushes from several nodes lock rows in the same order.
+     */
+    public long flush() {
+        Map<UUID, Long> deltas = new TreeMap<>();
+        buffered.forEach((eventId, adder) -> {
+            // sumThenReset swaps each cell to zero, so increments racing with it land in the next flush
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(eventId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0L;
+        }
+
+        List<Object[]> rows = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, rows));
+        } catch (RuntimeException ex) {
+            deltas.forEach((eventId, delta) -> buffered.computeIfAbsent(eventId, ignored -> new LongAdder()).add(delta));
+            throw ex;
+        }
+        return deltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush buffered event views; retrying on the next flush", ex);
+        }
+        try {
+            visitorAnalytics.flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush visitor sketches; retrying on the next flush", ex);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.araw.araw.application.views;
+
+import com.araw.araw.domain.event.entity.EventVisitorSketch;
+import com.araw.araw.domain.event.entity.EventVisitorSketchId;
+import com.araw.araw.domain.event.repository.EventVisitorSketchRepository;
+import com.araw.shared.analytics.HyperLogLog;
+import com.araw.shared.persistence.ReadOnlyTransaction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distinct visitor estimates for public event pages. Each view adds the visitor's hash to the HyperLogLog
+ * sketch of that event and UTC day, and of the whole site for that day. Sketches are buffered in memory,
+ * a fixed 4 KiB per event-day however busy the page, and merged into {@code event_visitor_sketches} when
+ * {@link EventViewCounter} flushes.
+ * <p>
+ * Merging takes the register-wise maximum, so re-applying a sketch after a failed flush never counts a
+ * visitor twice, and any range of days is answered by merging its stored sketches.
+ */
+@Component
+public class EventVisitorAnalytics {
+
+    private final EventVisitorSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadOnlyTransaction readOnlyTransaction;
+    private final Clock clock;
+
+    private final Map<EventVisitorSketchId, HyperLogLog> buffered = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EventVisitorAnalytics(EventVisitorSketchRepository sketchRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ReadOnlyTransaction readOnlyTransaction) {
+        this(sketchRepository, transactionManager, readOnlyTransaction, Clock.systemUTC());
+    }
+
+    EventVisitorAnalytics(EventVisitorSketchRepository sketchRepository,
+                          PlatformTransactionManager transactionManager,
+                          ReadOnlyTransaction readOnlyTransaction,
+                          Clock clock) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public void record(UUID eventId, long visitorHash) {
+        LocalDate day = today();
+        add(new EventVisitorSketchId(EventVisitorSketchId.eventScope(eventId), day), visitorHash);
+        add(new EventVisitorSketchId(EventVisitorSketchId.SITE_SCOPE, day), visitorHash);
+    }
+
+    /**
+     * Merges every buffered sketch into its stored row in one transaction, locking rows in key order.
+     * On failure the sketches are put back and retried with the next flush.
+     */
+    public int flush() {
+        Map<EventVisitorSketchId, HyperLogLog> drained = new TreeMap<>();
+        for (EventVisitorSketchId id : List.copyOf(buffered.keySet())) {
+            HyperLogLog sketch = buffered.remove(id);
+            if (sketch != null) {
+                drained.put(id, sketch);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(this::mergeIntoStore));
+        } catch (RuntimeException ex) {
+            drained.forEach((id, sketch) -> buffered.merge(id, sketch, EventVisitorAnalytics::union));
+            throw ex;
+        }
+        return drained.size();
+    }
+
+    /**
+     * Returns the scope's per-day sketches, stored and still buffered, between {@code from} and {@code to}
+     * inclusive, or for every day when both are {@code null}.
+     */
+    public Map<LocalDate, HyperLogLog> dailySketches(String scope, LocalDate from, LocalDate to) {
+        List<EventVisitorSketch> stored = readOnlyTransaction.execute(() -> from == null && to == null
+                ? sketchRepository.findByIdScope(scope)
+                : sketchRepository.findByScopeBetween(scope, from, to));
+        Map<LocalDate, HyperLogLog> days = new TreeMap<>();
+        stored.forEach(row -> days.put(row.getId().getBucketDate(), HyperLogLog.fromBytes(row.getRegisters())));
+        buffered.forEach((id, sketch) -> {
+            LocalDate day = id.getBucketDate();
+            boolean inRange = (from == null || !day.isBefore(from)) && (to == null || !day.isAfter(to));
+            if (id.getScope().equals(scope) && inRange) {
+                HyperLogLog snapshot;
+                synchronized (sketch) {
+                    snapshot = sketch.copy();
+                }
+                days.merge(day, snapshot, EventVisitorAnalytics::union);
+            }
+        });
+        return days;
+    }
+
+    public static long uniqueVisitors(Map<LocalDate, HyperLogLog> days, LocalDate from, LocalDate to) {
+        HyperLogLog merged = new HyperLogLog();
+        days.forEach((day, sketch) -> {
+            if (!day.isBefore(from) && !day.isAfter(to)) {
+                merged.merge(sketch);
+            }
+        });
+        return merged.estimate();
+    }
+
+    public static long uniqueVisitors(Map<LocalDate, HyperLogLog> days) {
+        HyperLogLog merged = new HyperLogLog();
+        days.values().forEach(merged::merge);
+        return merged.estimate();
+    }
+
+    private void add(EventVisitorSketchId id, long visitorHash) {
+        // compute keeps the add atomic with flush removing the sketch
+        buffered.compute(id, (key, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            synchronized (target) {
+                target.add(visitorHash);
+            }
+            return target;
+        });
+    }
+
+    private void mergeIntoStore(EventVisitorSketchId id, HyperLogLog sketch) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        EventVisitorSketch row = sketchRepository.findForUpdate(id)
+                .orElseGet(() -> EventVisitorSketch.builder().id(id).build());
+        HyperLogLog merged = row.getRegisters() != null ? HyperLogLog.fromBytes(row.getRegisters()) : new HyperLogLog();
+        merged.merge(sketch);
+        row.setRegisters(merged.toBytes());
+        row.setUpdatedAt(now);
+        sketchRepository.save(row);
+    }
+
+    private static HyperLogLog union(HyperLogLog left, HyperLogLog right) {
+        synchronized (left) {
+            left.merge(right);
+        }
+        return left;
+    }
+}
@@ -0,0 +1,65 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.applications.acceptance-expiry")
+public class AcceptanceExpiryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long an accepted applicant has to confirm before the seat goes back to the waitlist.
+     */
+    @NotNull
+    private Duration confirmationWindow = Duration.ofDays(7);
+
+    /**
+     * Pause between sweeps once every expired acceptance has been handled.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMinutes(5);
+
+    /**
+     * Acceptances claimed and expired per transaction.
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getConfirmationWindow() {
+        return confirmationWindow;
+    }
+
+    public void setConfirmationWindow(Duration confirmationWindow) {
+        this.confirmationWindow = confirmationWindow;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
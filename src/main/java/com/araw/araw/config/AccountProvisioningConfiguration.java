@@ -0,0 +1,9 @@
+package com.araw.araw.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AccountProvisioningProperties.class)
+public class AccountProvisioningConfiguration {
+}
@@ -0,0 +1,38 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.applications.import")
+public class ApplicationImportProperties {
+
+    /**
+     * Rows written per JDBC batch.
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Largest file accepted, in rows. The import runs in one transaction, so this also bounds its size.
+     */
+    @Min(1)
+    private int maxRows = 10_000;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+}
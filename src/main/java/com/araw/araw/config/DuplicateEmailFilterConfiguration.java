@@ -0,0 +1,9 @@
+package com.araw.araw.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DuplicateEmailFilterProperties.class)
+public class DuplicateEmailFilterConfiguration {
+}
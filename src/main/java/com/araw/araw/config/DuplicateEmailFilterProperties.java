@@ -0,0 +1,51 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.duplicate-filter")
+public class DuplicateEmailFilterProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Emails an event's filter is sized for at first. A filter that fills up is rebuilt at twice the size.
+     */
+    @Min(1)
+    private int expectedEmailsPerEvent = 1000;
+
+    /**
+     * Target share of new emails that the filter still sends to the database.
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "0.5")
+    private double falsePositiveRate = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getExpectedEmailsPerEvent() {
+        return expectedEmailsPerEvent;
+    }
+
+    public void setExpectedEmailsPerEvent(int expectedEmailsPerEvent) {
+        this.expectedEmailsPerEvent = expectedEmailsPerEvent;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+}
@@ -0,0 +1,81 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.admission")
+public class EventAdmissionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Public submissions for one event that may run at the same time. Keep it well below the connection
+     * pool size so a single popular event cannot take every connection.
+     */
+    @Min(1)
+    private int maxConcurrent = 4;
+
+    /**
+     * Submissions for one event that may wait for a slot. Waiting requests hold a request thread but no
+     * database connection; anything beyond this is answered with {@code 429} straight away.
+     */
+    @Min(0)
+    private int queueCapacity = 32;
+
+    /**
+     * Longest a queued submission waits for a slot before it is answered with {@code 429}.
+     */
+    @NotNull
+    private Duration maxWait = Duration.ofSeconds(10);
+
+    /**
+     * Value of the {@code Retry-After} header sent with rejected submissions.
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
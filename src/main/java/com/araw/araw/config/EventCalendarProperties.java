@@ -0,0 +1,98 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.calendar")
+public class EventCalendarProperties {
+
+    /**
+     * Zone in which session times are stored; feeds publish them as UTC instants.
+     */
+    @NotNull
+    private ZoneId zoneId = ZoneId.of("UTC");
+
+    @NotBlank
+    private String calendarName = "ARAW Events";
+
+    /**
+     * Domain appended to session ids to form globally unique iCalendar {@code UID}s.
+     */
+    @NotBlank
+    private String uidDomain = "ara-w.org";
+
+    /**
+     * Widest session window a single calendar query may span.
+     */
+    @NotNull
+    private Duration maxWindow = Duration.ofDays(366);
+
+    /**
+     * How far back the catalog feed reaches: it lists events with a session starting on or after this long
+     * before today.
+     */
+    @NotNull
+    private Duration catalogLookback = Duration.ofDays(30);
+
+    /**
+     * Events whose rendered fragment and single-event feed are kept in memory; the least recently used are
+     * dropped beyond this.
+     */
+    @Min(1)
+    private int maxCachedEvents = 5000;
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    public String getCalendarName() {
+        return calendarName;
+    }
+
+    public void setCalendarName(String calendarName) {
+        this.calendarName = calendarName;
+    }
+
+    public String getUidDomain() {
+        return uidDomain;
+    }
+
+    public void setUidDomain(String uidDomain) {
+        this.uidDomain = uidDomain;
+    }
+
+    public Duration getMaxWindow() {
+        return maxWindow;
+    }
+
+    public void setMaxWindow(Duration maxWindow) {
+        this.maxWindow = maxWindow;
+    }
+
+    public Duration getCatalogLookback() {
+        return catalogLookback;
+    }
+
+    public void setCatalogLookback(Duration catalogLookback) {
+        this.catalogLookback = catalogLookback;
+    }
+
+    public int getMaxCachedEvents() {
+        return maxCachedEvents;
+    }
+
+    public void setMaxCachedEvents(int maxCachedEvents) {
+        this.maxCachedEvents = maxCachedEvents;
+    }
+}
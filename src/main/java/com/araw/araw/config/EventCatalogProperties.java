@@ -0,0 +1,43 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.catalog")
+public class EventCatalogProperties {
+
+    /**
+     * Interval after which the whole catalog is reloaded on the next browse request. Event changes are
+     * applied immediately; the reload picks up counters such as participant totals that are bulk-updated
+     * without an event change.
+     */
+    @NotNull
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Number of events hydrated per query while (re)loading the catalog.
+     */
+    @Min(1)
+    private int loadBatchSize = 500;
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getLoadBatchSize() {
+        return loadBatchSize;
+    }
+
+    public void setLoadBatchSize(int loadBatchSize) {
+        this.loadBatchSize = loadBatchSize;
+    }
+}
@@ -0,0 +1,27 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.views")
+public class EventViewProperties {
+
+    /**
+     * How often buffered public page views are written to {@code events.view_count}. This is also the
+     * most views a node can lose if it dies without a graceful shutdown.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
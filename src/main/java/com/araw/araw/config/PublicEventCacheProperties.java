@@ -0,0 +1,62 @@
+package com.araw.araw.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.events.public-cache")
+public class PublicEventCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a snapshot is served without going back to the database.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * How long an expired snapshot may still be served when reloading it fails.
+     */
+    @NotNull
+    private Duration staleIfError = Duration.ofMinutes(10);
+
+    @Min(1)
+    private int maxEntries = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getStaleIfError() {
+        return staleIfError;
+    }
+
+    public void setStaleIfError(Duration staleIfError) {
+        this.staleIfError = staleIfError;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
@@ -2,6 +2,7 @@ package com.araw.araw.domain.admin.entity;
 
 import com.araw.araw.domain.admin.valueobject.AdminPermission;
 import com.araw.araw.domain.admin.valueobject.AdminRole;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,7 +21,7 @@ import java.util.*;
 public class Admin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(unique = true, nullable = false, length = 50)
@@ -4,6 +4,10 @@ import com.araw.araw.domain.application.valueobject.ApplicantInfo;
 import com.araw.araw.domain.application.valueobject.ApplicationStatus;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.participant.enitity.Participant;
+import com.araw.shared.persistence.NumberSequence;
+import com.araw.shared.persistence.SequenceNumberListener;
+import com.araw.shared.persistence.SequenceNumbered;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,17 +19,23 @@ import java.util.*;
 @Entity
 @Table(name = "applications",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"event_id", "email"})
+                @UniqueConstraint(name = Application.EMAIL_PER_EVENT_CONSTRAINT, columnNames = {"event_id", "email"})
         })
+@EntityListeners(SequenceNumberListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Application {
+public class Application implements SequenceNumbered {
+
+    public static final NumberSequence NUMBER_SEQUENCE = new NumberSequence("application_number_seq", "APP-");
+
+    // named in V1; V16 renames the key on databases adopted from the old ddl-auto schema
+    public static final String EMAIL_PER_EVENT_CONSTRAINT = "applications_event_id_email_key";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "application_number", unique = true, nullable = false)
@@ -66,10 +76,12 @@ public class Application {
     private Map<String, String> customAnswers = new HashMap<>();
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<ApplicationDocument> documents = new ArrayList<>();
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("createdAt DESC")
+    @Builder.Default
     private List<ApplicationReviewNote> reviewFeedback = new ArrayList<>();
 
     @Column(name = "guardian_consent")
@@ -126,7 +138,17 @@ public class Application {
     @Column(name = "rejection_reason")
     private String rejectionReason;
 
-    @Column(name = "waitlist_position")
+    // set while the participant account for an acceptance is still to be provisioned
+    @Column(name = "account_provisioning_requested_at")
+    private LocalDateTime accountProvisioningRequestedAt;
+
+    // sparse sort key handed out by WaitlistService; only meaningful while the application is waitlisted
+    @Column(name = "waitlist_rank")
+    private Long waitlistRank;
+
+    // 1-based place in line; never stored, so promotions don't renumber the rest of the waitlist.
+    // WaitlistService.resolvePositions fills it in for the applications a response shows.
+    @Transient
     private Integer waitlistPosition;
 
     @Column(name = "confirmation_token")
@@ -167,16 +189,24 @@ public class Application {
     // Domain Methods
     @PrePersist
     protected void onCreate() {
-        if (this.applicationNumber == null) {
-            this.applicationNumber = generateApplicationNumber();
-        }
         if (this.status == null) {
             this.status = ApplicationStatus.DRAFT;
         }
     }
 
-    private String generateApplicationNumber() {
-        return "APP-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    @Override
+    public NumberSequence numberSequence() {
+        return NUMBER_SEQUENCE;
+    }
+
+    @Override
+    public boolean isNumbered() {
+        return applicationNumber != null;
+    }
+
+    @Override
+    public void assignNumber(String number) {
+        this.applicationNumber = number;
     }
 
     public void submit() {
@@ -215,7 +245,15 @@ public class Application {
         this.status = ApplicationStatus.ACCEPTED;
         this.acceptanceSentAt = LocalDateTime.now();
         this.confirmationToken = UUID.randomUUID().toString();
-        this.waitlistPosition = null;
+        leaveWaitlist();
+    }
+
+    public void requestAccountProvisioning() {
+        this.accountProvisioningRequestedAt = LocalDateTime.now();
+    }
+
+    public void accountProvisioningHandled() {
+        this.accountProvisioningRequestedAt = null;
     }
 
     public void reject(String reason) {
@@ -224,16 +262,27 @@ public class Application {
         }
         this.status = ApplicationStatus.REJECTED;
         this.rejectionReason = reason;
+        leaveWaitlist();
     }
 
-    public void waitlist(Integer position) {
+    /**
+     * Puts the application on the waitlist at {@code rank}. {@code position} is the place in line that rank
+     * stands for right now; it is only kept in memory, since positions are counted when they are shown.
+     */
+    public void waitlist(long rank, int position) {
         if (this.status != ApplicationStatus.SUBMITTED && this.status != ApplicationStatus.UNDER_REVIEW) {
             throw new IllegalStateException("Only submitted or under review applications can be waitlisted");
         }
         this.status = ApplicationStatus.WAITLISTED;
+        this.waitlistRank = rank;
         this.waitlistPosition = position;
     }
 
+    private void leaveWaitlist() {
+        this.waitlistRank = null;
+        this.waitlistPosition = null;
+    }
+
     public void confirm() {
         if (this.status != ApplicationStatus.ACCEPTED) {
             throw new IllegalStateException("Only accepted applications can be confirmed");
@@ -249,6 +298,7 @@ public class Application {
         this.status = ApplicationStatus.CANCELLED;
         this.cancelledAt = LocalDateTime.now();
         this.cancellationReason = reason;
+        leaveWaitlist();
     }
 
     public void addDocument(ApplicationDocument document) {
@@ -2,6 +2,7 @@ package com.araw.araw.domain.application.entity;
 
 import com.araw.araw.domain.admin.entity.Admin;
 import com.araw.araw.domain.application.valueobject.ApplicationReviewCategory;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class ApplicationReviewNote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,9 @@
+package com.araw.araw.domain.application.event;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ApplicationDecisionsMadeEvent(
+        List<UUID> applicationIds
+) {
+}
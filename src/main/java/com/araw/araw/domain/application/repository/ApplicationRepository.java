@@ -2,15 +2,20 @@ package com.araw.araw.domain.application.repository;
 
 import com.araw.araw.domain.application.entity.Application;
 import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +29,9 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     List<Application> findByEventId(UUID eventId);
 
+    @Query("SELECT a FROM Application a JOIN FETCH a.event WHERE a.id IN :ids")
+    List<Application> findAllWithEventByIdIn(@Param("ids") Collection<UUID> ids);
+
     Page<Application> findByEventId(UUID eventId, Pageable pageable);
 
     List<Application> findByEventIdAndStatus(UUID eventId, ApplicationStatus status);
@@ -32,6 +40,8 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     long countByEventIdAndStatus(UUID eventId, ApplicationStatus status);
 
+    long countBySubmittedAtGreaterThanEqual(LocalDateTime since);
+
     List<Application> findByParticipantId(UUID participantId);
 
     List<Application> findByParticipantIdOrderBySubmittedAtDesc(UUID participantId);
@@ -46,6 +56,9 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     boolean existsByEventIdAndEmail(UUID eventId, String email);
 
+    @Query("SELECT a.email FROM Application a WHERE a.event.id = :eventId")
+    List<String> findEmailsByEventId(@Param("eventId") UUID eventId);
+
     boolean existsByEventIdAndParticipantId(UUID eventId, UUID participantId);
 
     List<Application> findByStatus(ApplicationStatus status);
@@ -67,12 +80,38 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
                                                  @Param("endDate") LocalDateTime endDate);
 
     @Query("SELECT a FROM Application a WHERE a.status = 'WAITLISTED' " +
-            "AND a.event.id = :eventId ORDER BY a.waitlistPosition ASC")
+            "AND a.event.id = :eventId ORDER BY a.waitlistRank ASC")
     List<Application> findWaitlistedByEventOrderByPosition(@Param("eventId") UUID eventId);
 
-    @Query("SELECT MAX(a.waitlistPosition) FROM Application a " +
-            "WHERE a.event.id = :eventId AND a.status = 'WAITLISTED'")
-    Integer findMaxWaitlistPosition(@Param("eventId") UUID eventId);
+    /**
+     * The first {@code pageable.getPageSize()} applications in line, read off the
+     * {@code (event_id, status, waitlist_rank)} index.
+     */
+    @Query("SELECT a FROM Application a WHERE a.status = 'WAITLISTED' " +
+            "AND a.event.id = :eventId ORDER BY a.waitlistRank ASC")
+    List<Application> findWaitlistHead(@Param("eventId") UUID eventId, Pageable pageable);
+
+    @Query(value = "SELECT waitlist_rank FROM applications WHERE event_id = :eventId AND status = 'WAITLISTED' " +
+            "ORDER BY waitlist_rank LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> findWaitlistRanks(@Param("eventId") UUID eventId,
+                                 @Param("offset") int offset,
+                                 @Param("limit") int limit);
+
+    /**
+     * Numbers the waitlists of the events behind {@code applicationIds} in rank order and returns the places
+     * of those applications that are waitlisted. Each waitlist is read off the
+     * {@code (event_id, status, waitlist_rank)} index, and only for the applications being shown.
+     */
+    @Query(value = "SELECT CAST(ranked.id AS VARCHAR(36)) AS applicationId, ranked.position AS position FROM (" +
+            "SELECT w.id, row_number() OVER (PARTITION BY w.event_id ORDER BY w.waitlist_rank) AS position " +
+            "FROM applications w WHERE w.status = 'WAITLISTED' " +
+            "AND w.event_id IN (SELECT a.event_id FROM applications a WHERE a.id IN (:applicationIds))" +
+            ") ranked WHERE ranked.id IN (:applicationIds)", nativeQuery = true)
+    List<WaitlistPositionView> findWaitlistPositions(@Param("applicationIds") Collection<UUID> applicationIds);
+
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.event.id = :eventId " +
+            "AND a.status = 'WAITLISTED' AND a.waitlistRank < :rank")
+    long countWaitlistedAhead(@Param("eventId") UUID eventId, @Param("rank") long rank);
 
     @Query("SELECT a FROM Application a WHERE a.guardianConsent = false " +
             "AND a.status = 'ACCEPTED'")
@@ -91,6 +130,27 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
             "AND a.acceptanceSentAt < :deadline")
     List<Application> findUnconfirmedApplicationsPastDeadline(@Param("deadline") LocalDateTime deadline);
 
+    /**
+     * Locks the oldest acceptances that were not confirmed before {@code deadline}, up to the page size.
+     * A lock timeout of -2 renders as {@code FOR UPDATE SKIP LOCKED}: rows already locked by another sweeper
+     * are skipped rather than waited on.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a FROM Application a WHERE a.status = 'ACCEPTED' AND a.confirmedAt IS NULL " +
+            "AND a.acceptanceSentAt < :deadline ORDER BY a.acceptanceSentAt ASC")
+    List<Application> lockUnconfirmedPastDeadline(@Param("deadline") LocalDateTime deadline, Pageable pageable);
+
+    /**
+     * Locks the oldest applications still waiting for their participant account, skipping rows another
+     * node is already provisioning.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a FROM Application a WHERE a.accountProvisioningRequestedAt IS NOT NULL " +
+            "ORDER BY a.accountProvisioningRequestedAt ASC")
+    List<Application> lockPendingAccountProvisioning(Pageable pageable);
+
     @Query("SELECT a FROM Application a WHERE " +
             "LOWER(a.applicantInfo.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(a.applicantInfo.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -140,16 +200,42 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     @Modifying
     @Query("UPDATE Application a SET a.status = 'CANCELLED', " +
-            "a.cancelledAt = :now, a.cancellationReason = :reason, a.waitlistPosition = null " +
+            "a.cancelledAt = :now, a.cancellationReason = :reason, a.waitlistRank = null " +
             "WHERE a.event.id = :eventId AND a.status IN ('DRAFT', 'SUBMITTED', 'UNDER_REVIEW', 'ACCEPTED', 'WAITLISTED', 'CONFIRMED')")
     int cancelApplicationsForEvent(@Param("eventId") UUID eventId,
                                    @Param("reason") String reason,
                                    @Param("now") LocalDateTime now);
 
-    @Modifying
-    @Query("UPDATE Application a SET a.waitlistPosition = a.waitlistPosition - 1 " +
-            "WHERE a.event.id = :eventId AND a.status = 'WAITLISTED' " +
-            "AND a.waitlistPosition > :position")
-    int updateWaitlistPositions(@Param("eventId") UUID eventId,
-                                @Param("position") Integer position);
+    @Query("SELECT a FROM Application a WHERE (" +
+            "LOWER(a.applicantInfo.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(a.applicantInfo.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(a.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(a.applicationNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:afterSubmittedAt IS NULL OR a.submittedAt < :afterSubmittedAt " +
+            "OR (a.submittedAt = :afterSubmittedAt AND a.id < :afterId)) " +
+            "ORDER BY a.submittedAt DESC, a.id DESC")
+    List<Application> scrollSearchApplications(@Param("searchTerm") String searchTerm,
+                                               @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                               @Param("afterId") UUID afterId,
+                                               Pageable window);
+
+    @Query("SELECT a FROM Application a WHERE " +
+            "(:eventId IS NULL OR a.event.id = :eventId) AND " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:email IS NULL OR a.email = :email) AND " +
+            "(:hasGuardianConsent IS NULL OR a.guardianConsent = :hasGuardianConsent) AND " +
+            "(:minScore IS NULL OR a.reviewScore >= :minScore) AND " +
+            "(:maxScore IS NULL OR a.reviewScore <= :maxScore) AND " +
+            "(:afterSubmittedAt IS NULL OR a.submittedAt < :afterSubmittedAt " +
+            "OR (a.submittedAt = :afterSubmittedAt AND a.id < :afterId)) " +
+            "ORDER BY a.submittedAt DESC, a.id DESC")
+    List<Application> scrollWithFilters(@Param("eventId") UUID eventId,
+                                        @Param("status") ApplicationStatus status,
+                                        @Param("email") String email,
+                                        @Param("hasGuardianConsent") Boolean hasGuardianConsent,
+                                        @Param("minScore") Integer minScore,
+                                        @Param("maxScore") Integer maxScore,
+                                        @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                        @Param("afterId") UUID afterId,
+                                        Pageable window);
 }
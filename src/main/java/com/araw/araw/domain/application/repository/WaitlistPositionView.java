@@ -0,0 +1,12 @@
+package com.araw.araw.domain.application.repository;
+
+/**
+ * Place in line of one waitlisted application, numbered by {@code row_number()} over its event's waitlist.
+ * The id is read as text so the native query maps the same way on every database.
+ */
+public interface WaitlistPositionView {
+
+    String getApplicationId();
+
+    Integer getPosition();
+}
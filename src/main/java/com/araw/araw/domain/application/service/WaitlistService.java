@@ -0,0 +1,151 @@
+package com.araw.araw.domain.application.service;
+
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.repository.WaitlistPositionView;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.shared.exception.DomainValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps each event's waitlist ordered by sparse ranks. Appending takes the next rank from the event's
+ * {@code waitlistTailRank}, placing an application at a given position takes the midpoint between its two
+ * neighbours, and promotion accepts applications straight off the head of the
+ * {@code (event_id, status, waitlist_rank)} index. None of these touch the other waitlisted rows; the
+ * position shown to applicants is numbered only for the applications a response shows
+ * (see {@link #resolvePositions}).
+ * <p>
+ * Every operation first locks the event row, so waitlist changes for one event are serialized with each
+ * other and with seat reservations.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    /**
+     * Distance between consecutive appended ranks: about twenty applications can be slotted in at the same
+     * spot before the waitlist has to be respaced.
+     */
+    public static final long RANK_GAP = 1L << 20;
+
+    private final ApplicationRepository applicationRepository;
+    private final EventRepository eventRepository;
+
+    /**
+     * Reserves {@code count} consecutive places at the back of the line. Unused places are simply skipped
+     * over, so a caller may reserve for a batch before knowing how many of its applications can be waitlisted.
+     */
+    public Slots append(UUID eventId, int count) {
+        eventRepository.advanceWaitlistTail(eventId, RANK_GAP * count);
+        long tail = eventRepository.findWaitlistTailRank(eventId);
+        long waiting = applicationRepository.countByEventIdAndStatus(eventId, ApplicationStatus.WAITLISTED);
+        return new Slots(tail - RANK_GAP * (count - 1), (int) waiting + 1);
+    }
+
+    /**
+     * Finds the rank that puts an application at {@code position} (1-based) ahead of whoever holds it now.
+     * Positions past the end of the line go to the back.
+     */
+    public Slots insertAt(UUID eventId, int position) {
+        if (position < 1) {
+            throw new DomainValidationException("Waitlist position must be at least 1");
+        }
+        eventRepository.advanceWaitlistTail(eventId, 0);
+        if (position == 1) {
+            List<Long> head = applicationRepository.findWaitlistRanks(eventId, 0, 1);
+            return head.isEmpty() ? append(eventId, 1) : new Slots(head.get(0) - RANK_GAP, 1);
+        }
+        List<Long> neighbours = applicationRepository.findWaitlistRanks(eventId, position - 2, 2);
+        if (neighbours.size() < 2) {
+            return append(eventId, 1);
+        }
+        if (neighbours.get(1) - neighbours.get(0) < 2) {
+            respace(eventId);
+            neighbours = applicationRepository.findWaitlistRanks(eventId, position - 2, 2);
+        }
+        long before = neighbours.get(0);
+        return new Slots(before + (neighbours.get(1) - before) / 2, position);
+    }
+
+    /**
+     * Accepts applications from the head of the waitlist until the event is full, taking all of their seats
+     * with one update. Events without a limit promote the whole waitlist.
+     */
+    public List<Application> promote(UUID eventId) {
+        eventRepository.advanceWaitlistTail(eventId, 0);
+        Integer remaining = eventRepository.findRemainingSeats(eventId);
+        long seats = remaining != null
+                ? remaining
+                : applicationRepository.countByEventIdAndStatus(eventId, ApplicationStatus.WAITLISTED);
+        if (seats <= 0) {
+            return List.of();
+        }
+        List<Application> promoted = applicationRepository.findWaitlistHead(eventId,
+                PageRequest.of(0, (int) Math.min(seats, Integer.MAX_VALUE)));
+        // The event row is locked, so the seats counted above are still free.
+        if (promoted.isEmpty() || eventRepository.reserveSeats(eventId, promoted.size()) == 0) {
+            return List.of();
+        }
+        promoted.forEach(Application::accept);
+        return applicationRepository.saveAll(promoted);
+    }
+
+    /**
+     * Fills in {@link Application#getWaitlistPosition()} for the waitlisted applications among
+     * {@code applications} that do not know it yet, numbering their events' waitlists with one query.
+     */
+    @Transactional(readOnly = true)
+    public void resolvePositions(Collection<Application> applications) {
+        List<Application> unresolved = applications.stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.WAITLISTED)
+                .filter(application -> application.getWaitlistPosition() == null)
+                .toList();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        Map<UUID, Integer> positions = applicationRepository.findWaitlistPositions(
+                        unresolved.stream().map(Application::getId).toList()).stream()
+                .collect(Collectors.toMap(view -> UUID.fromString(view.getApplicationId()),
+                        WaitlistPositionView::getPosition));
+        unresolved.forEach(application -> application.setWaitlistPosition(positions.get(application.getId())));
+    }
+
+    /**
+     * Spreads the ranks out again once two neighbours have no room left between them.
+     */
+    private void respace(UUID eventId) {
+        List<Application> waiting = applicationRepository.findWaitlistedByEventOrderByPosition(eventId);
+        long rank = 0;
+        for (Application application : waiting) {
+            rank += RANK_GAP;
+            application.setWaitlistRank(rank);
+        }
+        applicationRepository.saveAllAndFlush(waiting);
+        eventRepository.resetWaitlistTail(eventId, rank);
+    }
+
+    /**
+     * Consecutive waitlist places starting at {@code rank}, which is currently place {@code position} in line.
+     */
+    public record Slots(long rank, int position) {
+
+        public long rank(int index) {
+            return rank + RANK_GAP * index;
+        }
+
+        public int position(int index) {
+            return position + index;
+        }
+    }
+}
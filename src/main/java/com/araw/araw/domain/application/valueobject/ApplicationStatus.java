@@ -24,6 +24,13 @@ public enum ApplicationStatus {
         return this == REJECTED || this == CANCELLED || this == WITHDRAWN;
     }
 
+    /**
+     * Whether an application in this status occupies one of the event's seats.
+     */
+    public boolean holdsSeat() {
+        return this == SUBMITTED || this == UNDER_REVIEW || this == ACCEPTED || this == CONFIRMED;
+    }
+
     public boolean canTransitionTo(ApplicationStatus newStatus) {
         if (this.isTerminal()) {
             return false;
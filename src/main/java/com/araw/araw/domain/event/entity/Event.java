@@ -4,8 +4,10 @@ import com.araw.araw.domain.admin.entity.Admin;
 import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
 import com.araw.araw.domain.event.valueobject.Location;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +16,15 @@ import java.util.*;
 
 @Entity
 @Table(name = "events")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Event.SUMMARY_GRAPH,
+                attributeNodes = @NamedAttributeNode("gallery")),
+        @NamedEntityGraph(name = Event.ADMIN_DETAIL_GRAPH,
+                attributeNodes = {@NamedAttributeNode("gallery"), @NamedAttributeNode("createdBy")}),
+        @NamedEntityGraph(name = Event.PUBLIC_DETAIL_GRAPH,
+                attributeNodes = {@NamedAttributeNode("gallery"), @NamedAttributeNode("createdBy"),
+                        @NamedAttributeNode("eventDates")})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +32,18 @@ import java.util.*;
 @Builder
 public class Event {
 
+    /**
+     * Fetch profiles for the read paths. Graphs only join to-one associations (plus the session
+     * dates for single-event reads) so they stay safe to page; the remaining collections are
+     * loaded per page through {@link BatchSize}.
+     */
+    public static final String SUMMARY_GRAPH = "Event.summary";
+    public static final String ADMIN_DETAIL_GRAPH = "Event.adminDetail";
+    public static final String PUBLIC_DETAIL_GRAPH = "Event.publicDetail";
+    static final int COLLECTION_BATCH_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, length = 200)
@@ -82,24 +103,28 @@ public class Event {
     private String currency = "USD";
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "event_prerequisites",
             joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "prerequisite")
     private Set<String> prerequisites = new HashSet<>();
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "event_learning_outcomes",
             joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "outcome")
     private Set<String> learningOutcomes = new HashSet<>();
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "event_target_grades",
             joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "grade")
     private Set<String> targetGrades = new HashSet<>();
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @OrderBy("sessionDate ASC")
     private List<EventDate> eventDates = new ArrayList<>();
 
@@ -107,6 +132,7 @@ public class Event {
     private EventGallery gallery;
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @OrderBy("displayOrder ASC, createdAt DESC")
     private List<EventParticipantHighlight> participantHighlights = new ArrayList<>();
 
@@ -136,15 +162,22 @@ public class Event {
     @Column(name = "cancellation_reason", columnDefinition = "TEXT")
     private String cancellationReason;
 
-    @Column(name = "view_count")
+    // written only by EventViewCounter's batched increments, so entity saves never overwrite flushed views
+    @Column(name = "view_count", updatable = false)
     private Long viewCount = 0L;
 
-    @Column(name = "application_count")
+    // counters are only changed by EventRepository's atomic updates, so entity saves never overwrite them
+    @Column(name = "application_count", updatable = false)
     private Integer applicationCount = 0;
 
-    @Column(name = "participant_count")
+    // seats held by applications in a status that holds one (see ApplicationStatus.holdsSeat)
+    @Column(name = "participant_count", updatable = false)
     private Integer participantCount = 0;
 
+    // rank of the last application appended to the waitlist (see WaitlistService)
+    @Column(name = "waitlist_tail_rank", updatable = false)
+    private Long waitlistTailRank = 0L;
+
     @Column(name = "feedback_enabled")
     private Boolean feedbackEnabled = false;
 
@@ -229,20 +262,6 @@ public class Event {
         return maxParticipants == null || participantCount < maxParticipants;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementApplicationCount() {
-        this.applicationCount++;
-    }
-
-    public void decrementApplicationCount() {
-        if (this.applicationCount > 0) {
-            this.applicationCount--;
-        }
-    }
-
     public boolean isFeedbackWindowOpen() {
         if (!Boolean.TRUE.equals(feedbackEnabled)) {
             return false;
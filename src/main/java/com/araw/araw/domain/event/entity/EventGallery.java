@@ -1,7 +1,9 @@
 package com.araw.araw.domain.event.entity;
 
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,7 +19,7 @@ import java.util.*;
 public class EventGallery {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -31,10 +33,12 @@ public class EventGallery {
     private String description;
 
     @OneToMany(mappedBy = "gallery", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = Event.COLLECTION_BATCH_SIZE)
     @OrderBy("displayOrder ASC, uploadedAt DESC")
     private List<GalleryImage> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "gallery", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = Event.COLLECTION_BATCH_SIZE)
     @OrderBy("displayOrder ASC, uploadedAt DESC")
     private List<GalleryVideo> videos = new ArrayList<>();
 
@@ -0,0 +1,36 @@
+package com.araw.araw.domain.event.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized HyperLogLog sketch of the distinct visitors of one event page (or of all of them, for the
+ * site scope) on one UTC day.
+ */
+@Entity
+@Table(name = "event_visitor_sketches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventVisitorSketch {
+
+    @EmbeddedId
+    private EventVisitorSketchId id;
+
+    @Column(name = "registers", nullable = false, length = 8192)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
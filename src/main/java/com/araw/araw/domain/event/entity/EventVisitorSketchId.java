@@ -0,0 +1,41 @@
+package com.araw.araw.domain.event.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EventVisitorSketchId implements Serializable, Comparable<EventVisitorSketchId> {
+
+    /**
+     * Scope of the sketch rows that cover every public event page together.
+     */
+    public static final String SITE_SCOPE = "site";
+
+    @Column(name = "scope", nullable = false, length = 64)
+    private String scope;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    public static String eventScope(UUID eventId) {
+        return eventId.toString();
+    }
+
+    @Override
+    public int compareTo(EventVisitorSketchId other) {
+        int byScope = scope.compareTo(other.scope);
+        return byScope != 0 ? byScope : bucketDate.compareTo(other.bucketDate);
+    }
+}
@@ -0,0 +1,9 @@
+package com.araw.araw.domain.event.event;
+
+import java.util.UUID;
+
+public record EventChangedEvent(
+        UUID eventId,
+        String applicationSlug
+) {
+}
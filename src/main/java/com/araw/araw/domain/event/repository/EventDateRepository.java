@@ -0,0 +1,41 @@
+package com.araw.araw.domain.event.repository;
+
+import com.araw.araw.domain.event.entity.EventDate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventDateRepository extends JpaRepository<EventDate, UUID> {
+
+    String SESSION_VIEW_SELECT = "SELECT ed.id AS sessionId, ed.sessionName AS sessionName, " +
+            "ed.sessionDate AS startsAt, ed.sessionEndDate AS endsAt, ed.location AS sessionLocation, " +
+            "ed.isOnline AS online, e.id AS eventId, e.title AS eventTitle, " +
+            "e.applicationSlug AS applicationSlug, e.status AS eventStatus, " +
+            "e.location.venueName AS venueName, e.location.city AS city, " +
+            "e.location.isVirtual AS virtualEvent, e.location.isHybrid AS hybridEvent, " +
+            "e.updatedAt AS eventUpdatedAt " +
+            "FROM EventDate ed JOIN ed.event e ";
+
+    @Query(value = SESSION_VIEW_SELECT +
+            "WHERE e.isPublished = true AND ed.sessionDate >= :from AND ed.sessionDate < :to " +
+            "ORDER BY ed.sessionDate ASC, ed.id ASC",
+            countQuery = "SELECT COUNT(ed) FROM EventDate ed JOIN ed.event e " +
+                    "WHERE e.isPublished = true AND ed.sessionDate >= :from AND ed.sessionDate < :to")
+    Page<EventSessionView> findPublishedSessions(@Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Pageable pageable);
+
+    @Query(SESSION_VIEW_SELECT +
+            "WHERE e.isPublished = true AND e.id IN :eventIds " +
+            "ORDER BY ed.sessionDate ASC, ed.id ASC")
+    List<EventSessionView> findPublishedSessionsByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+}
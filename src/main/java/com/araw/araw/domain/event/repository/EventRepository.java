@@ -5,6 +5,7 @@ import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,10 +23,12 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
 
     List<Event> findByStatus(EventStatus status);
 
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
     Page<Event> findByStatus(EventStatus status, Pageable pageable);
 
     List<Event> findByStatusIn(List<EventStatus> statuses);
 
+    @EntityGraph(Event.SUMMARY_GRAPH)
     Page<Event> findByIsPublishedTrue(Pageable pageable);
 
     Page<Event> findByIsPublishedTrueAndStatus(EventStatus status, Pageable pageable);
@@ -35,14 +39,18 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
 
     List<Event> findByEventType(EventType eventType);
 
+    @EntityGraph(Event.SUMMARY_GRAPH)
     Page<Event> findByEventTypeAndStatus(EventType eventType, EventStatus status, Pageable pageable);
 
-    @Query("SELECT e FROM Event e JOIN e.eventDates ed WHERE ed.sessionDate >= :date " +
-            "AND e.status = :status ORDER BY ed.sessionDate ASC")
+    @Query("SELECT e FROM Event e WHERE e.status = :status AND EXISTS (" +
+            "SELECT 1 FROM EventDate ed WHERE ed.event = e AND ed.sessionDate >= :date) " +
+            "ORDER BY (SELECT MIN(upcoming.sessionDate) FROM EventDate upcoming " +
+            "WHERE upcoming.event = e AND upcoming.sessionDate >= :date) ASC")
     List<Event> findUpcomingEvents(@Param("date") LocalDateTime date,
                                    @Param("status") EventStatus status);
 
-    @Query("SELECT e FROM Event e JOIN e.eventDates ed WHERE ed.sessionDate BETWEEN :startDate AND :endDate")
+    @Query("SELECT e FROM Event e WHERE EXISTS (" +
+            "SELECT 1 FROM EventDate ed WHERE ed.event = e AND ed.sessionDate BETWEEN :startDate AND :endDate)")
     List<Event> findEventsInDateRange(@Param("startDate") LocalDateTime startDate,
                                       @Param("endDate") LocalDateTime endDate);
 
@@ -88,12 +96,21 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     @Query("SELECT e FROM Event e WHERE e.isFree = false AND e.cost <= :maxCost")
     List<Event> findPaidEventsUnderCost(@Param("maxCost") Double maxCost);
 
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
     @Query("SELECT e FROM Event e WHERE " +
             "LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(e.shortDescription) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Event> searchEvents(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    @Query(value = "SELECT e.id FROM events e " +
+            "WHERE e.search_vector @@ to_tsquery('english', :query) " +
+            "ORDER BY ts_rank_cd(e.search_vector, to_tsquery('english', :query)) DESC, " +
+            "e.created_at DESC, e.id DESC",
+            countQuery = "SELECT COUNT(*) FROM events e WHERE e.search_vector @@ to_tsquery('english', :query)",
+            nativeQuery = true)
+    Page<UUID> searchRankedEventIds(@Param("query") String query, Pageable pageable);
+
     @Query("SELECT DISTINCT e FROM Event e " +
             "LEFT JOIN e.eventDates ed " +
             "WHERE (:status IS NULL OR e.status = :status) " +
@@ -131,22 +148,75 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
             "THEN (1.0 * e.participantCount / e.maxParticipants) ELSE NULL END) FROM Event e")
     Double getAverageCapacityUtilization();
 
-    @Modifying
-    @Query("UPDATE Event e SET e.viewCount = e.viewCount + 1 WHERE e.id = :eventId")
-    void incrementViewCount(@Param("eventId") UUID eventId);
-
     @Modifying
     @Query("UPDATE Event e SET e.applicationCount = e.applicationCount + 1 WHERE e.id = :eventId")
     void incrementApplicationCount(@Param("eventId") UUID eventId);
 
+    @Modifying
+    @Query("UPDATE Event e SET e.applicationCount = e.applicationCount + :count WHERE e.id = :eventId")
+    void addApplications(@Param("eventId") UUID eventId, @Param("count") int count);
+
     @Modifying
     @Query("UPDATE Event e SET e.applicationCount = e.applicationCount - 1 " +
             "WHERE e.id = :eventId AND e.applicationCount > 0")
     void decrementApplicationCount(@Param("eventId") UUID eventId);
 
+    /**
+     * Takes one seat if any remain. The condition is evaluated against the locked row, so concurrent
+     * reservations can never push the count past {@code maxParticipants}.
+     *
+     * @return 1 when a seat was taken, 0 when the event is full
+     */
     @Modifying
-    @Query("UPDATE Event e SET e.participantCount = e.participantCount + 1 WHERE e.id = :eventId")
-    void incrementParticipantCount(@Param("eventId") UUID eventId);
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + 1 WHERE e.id = :eventId " +
+            "AND (e.maxParticipants IS NULL OR e.participantCount < e.maxParticipants)")
+    int reserveSeat(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount - 1 " +
+            "WHERE e.id = :eventId AND e.participantCount > 0")
+    int releaseSeat(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.applicationCount = CASE WHEN e.applicationCount > :count " +
+            "THEN e.applicationCount - :count ELSE 0 END WHERE e.id = :eventId")
+    void subtractApplications(@Param("eventId") UUID eventId, @Param("count") int count);
+
+    /**
+     * Takes {@code count} seats at once, or none if fewer remain.
+     *
+     * @return 1 when the seats were taken, 0 when not enough remain
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + :count WHERE e.id = :eventId " +
+            "AND (e.maxParticipants IS NULL OR e.participantCount + :count <= e.maxParticipants)")
+    int reserveSeats(@Param("eventId") UUID eventId, @Param("count") int count);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = CASE WHEN e.participantCount > :count " +
+            "THEN e.participantCount - :count ELSE 0 END WHERE e.id = :eventId")
+    int releaseSeats(@Param("eventId") UUID eventId, @Param("count") int count);
+
+    /**
+     * Seats still free, or {@code null} when the event has no limit.
+     */
+    @Query("SELECT e.maxParticipants - e.participantCount FROM Event e WHERE e.id = :eventId")
+    Integer findRemainingSeats(@Param("eventId") UUID eventId);
+
+    /**
+     * Moves the waitlist tail back by {@code span} ranks. The update also locks the event row, so waitlist
+     * changes for one event are serialized until the transaction ends; a span of 0 takes just the lock.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.waitlistTailRank = COALESCE(e.waitlistTailRank, 0) + :span WHERE e.id = :eventId")
+    int advanceWaitlistTail(@Param("eventId") UUID eventId, @Param("span") long span);
+
+    @Query("SELECT COALESCE(e.waitlistTailRank, 0) FROM Event e WHERE e.id = :eventId")
+    Long findWaitlistTailRank(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.waitlistTailRank = :rank WHERE e.id = :eventId")
+    void resetWaitlistTail(@Param("eventId") UUID eventId, @Param("rank") long rank);
 
     @Modifying
     @Query("UPDATE Event e SET e.status = 'IN_PROGRESS' " +
@@ -164,5 +234,86 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
 
     Optional<Event> findByApplicationSlug(String applicationSlug);
 
+    @Query("SELECT e.id FROM Event e WHERE e.applicationSlug = :applicationSlug")
+    Optional<UUID> findIdByApplicationSlug(@Param("applicationSlug") String applicationSlug);
+
+    Optional<EventVersionView> findVersionByApplicationSlugAndIsPublishedTrue(String applicationSlug);
+
+    Optional<EventVersionView> findVersionByIdAndIsPublishedTrue(UUID id);
+
+    /**
+     * Bumps the version of an event whose public content changed outside the event row (gallery,
+     * participant highlights), so entity tags derived from {@link EventVersionView} change with it.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.version = COALESCE(e.version, 0) + 1 WHERE e.id = :eventId")
+    void touch(@Param("eventId") UUID eventId);
+
+    @EntityGraph(Event.SUMMARY_GRAPH)
+    Optional<Event> findWithGalleryById(UUID id);
+
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
+    Optional<Event> findWithAdminDetailById(UUID id);
+
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
+    List<Event> findWithAdminDetailByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
+    @Query("SELECT e FROM Event e")
+    Page<Event> findAllWithAdminDetail(Pageable pageable);
+
+    @EntityGraph(Event.PUBLIC_DETAIL_GRAPH)
+    Optional<Event> findWithPublicDetailById(UUID id);
+
+    @Query("SELECT e.id FROM Event e WHERE e.isPublished = true ORDER BY e.createdAt ASC, e.id ASC")
+    List<UUID> findPublishedEventIds();
+
+    /**
+     * Published events with at least one session starting at or after {@code from}, found through the
+     * {@code event_dates (session_date)} index rather than by scanning every published event.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.isPublished = true AND e.id IN (" +
+            "SELECT ed.event.id FROM EventDate ed WHERE ed.sessionDate >= :from) " +
+            "ORDER BY e.createdAt ASC, e.id ASC")
+    List<UUID> findPublishedEventIdsWithSessionsFrom(@Param("from") LocalDateTime from);
+
+    @EntityGraph(Event.PUBLIC_DETAIL_GRAPH)
+    Optional<Event> findWithPublicDetailByApplicationSlug(String applicationSlug);
+
     boolean existsByApplicationSlug(String applicationSlug);
+
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
+    @Query("SELECT e FROM Event e WHERE (:status IS NULL OR e.status = :status) AND " +
+            "(:afterCreatedAt IS NULL OR e.createdAt < :afterCreatedAt " +
+            "OR (e.createdAt = :afterCreatedAt AND e.id < :afterId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> scrollEvents(@Param("status") EventStatus status,
+                             @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                             @Param("afterId") UUID afterId,
+                             Pageable window);
+
+    @EntityGraph(Event.ADMIN_DETAIL_GRAPH)
+    @Query("SELECT e FROM Event e WHERE (" +
+            "LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(e.shortDescription) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:afterCreatedAt IS NULL OR e.createdAt < :afterCreatedAt " +
+            "OR (e.createdAt = :afterCreatedAt AND e.id < :afterId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> scrollSearchEvents(@Param("searchTerm") String searchTerm,
+                                   @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                   @Param("afterId") UUID afterId,
+                                   Pageable window);
+
+    @EntityGraph(Event.SUMMARY_GRAPH)
+    @Query("SELECT e FROM Event e WHERE " +
+            "((:eventType IS NULL AND e.isPublished = true) OR " +
+            "(e.eventType = :eventType AND e.status = 'UPCOMING')) AND " +
+            "(:afterCreatedAt IS NULL OR e.createdAt < :afterCreatedAt " +
+            "OR (e.createdAt = :afterCreatedAt AND e.id < :afterId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> scrollPublished(@Param("eventType") EventType eventType,
+                                @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                @Param("afterId") UUID afterId,
+                                Pageable window);
 }
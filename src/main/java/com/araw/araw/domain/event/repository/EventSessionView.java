@@ -0,0 +1,43 @@
+package com.araw.araw.domain.event.repository;
+
+import com.araw.araw.domain.event.valueobject.EventStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row per scheduled session of a published event, read straight from {@code event_dates} joined to
+ * its event so calendar reads never hydrate the aggregate or fan out across its collections.
+ */
+public interface EventSessionView {
+
+    UUID getSessionId();
+
+    String getSessionName();
+
+    LocalDateTime getStartsAt();
+
+    LocalDateTime getEndsAt();
+
+    String getSessionLocation();
+
+    Boolean getOnline();
+
+    UUID getEventId();
+
+    String getEventTitle();
+
+    String getApplicationSlug();
+
+    EventStatus getEventStatus();
+
+    String getVenueName();
+
+    String getCity();
+
+    Boolean getVirtualEvent();
+
+    Boolean getHybridEvent();
+
+    LocalDateTime getEventUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package com.araw.araw.domain.event.repository;
+
+import java.util.UUID;
+
+/**
+ * Closed projection used to answer conditional requests without hydrating the aggregate.
+ */
+public interface EventVersionView {
+
+    UUID getId();
+
+    Long getVersion();
+
+    Integer getParticipantCount();
+}
@@ -0,0 +1,28 @@
+package com.araw.araw.domain.event.repository;
+
+import com.araw.araw.domain.event.entity.EventVisitorSketch;
+import com.araw.araw.domain.event.entity.EventVisitorSketchId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventVisitorSketchRepository extends JpaRepository<EventVisitorSketch, EventVisitorSketchId> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventVisitorSketch s WHERE s.id = :id")
+    Optional<EventVisitorSketch> findForUpdate(@Param("id") EventVisitorSketchId id);
+
+    @Query("SELECT s FROM EventVisitorSketch s WHERE s.id.scope = :scope " +
+            "AND s.id.bucketDate >= :from AND s.id.bucketDate <= :to")
+    List<EventVisitorSketch> findByScopeBetween(@Param("scope") String scope,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+
+    List<EventVisitorSketch> findByIdScope(String scope);
+}
@@ -1,7 +1,9 @@
 package com.araw.araw.domain.event.service;
 
 import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.event.ApplicationDecisionsMadeEvent;
 import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.service.WaitlistService;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.valueobject.EventStatus;
@@ -9,6 +11,7 @@ import com.araw.araw.domain.participant.enitity.Participant;
 import com.araw.notification.config.EmailTemplateProperties;
 import com.araw.shared.text.SlugGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,8 @@ public class EventDomainService {
     private final ApplicationRepository applicationRepository;
     private final SlugGenerator slugGenerator;
     private final EmailTemplateProperties emailTemplateProperties;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Event publishEvent(Event event) {
         validateEventForPublishing(event);
@@ -126,26 +131,20 @@ public class EventDomainService {
     }
 
 
-    public void processWaitlist(UUID eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
-
-        if (!event.hasCapacity()) {
-            return;
+    /**
+     * Fills every free seat from the head of the waitlist in one pass and queues the acceptance emails.
+     */
+    public List<Application> processWaitlist(UUID eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
         }
 
-        List<Application> waitlisted = applicationRepository
-                .findWaitlistedByEventOrderByPosition(eventId);
-
-        if (!waitlisted.isEmpty() && event.hasCapacity()) {
-            Application nextInLine = waitlisted.get(0);
-            nextInLine.accept();
-            applicationRepository.save(nextInLine);
-
-            applicationRepository.updateWaitlistPositions(eventId, 1);
-
-            // TODO: Send acceptance notification
+        List<Application> promoted = waitlistService.promote(eventId);
+        if (!promoted.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationDecisionsMadeEvent(
+                    promoted.stream().map(Application::getId).toList()));
         }
+        return promoted;
     }
 
 
@@ -4,6 +4,7 @@ import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.feedback.valueobject.FeedbackType;
 import com.araw.araw.domain.feedback.valueobject.Rating;
 import com.araw.araw.domain.participant.enitity.Participant;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,7 +22,7 @@ import java.util.*;
 public class Feedback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
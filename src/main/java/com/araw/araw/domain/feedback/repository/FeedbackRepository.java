@@ -138,4 +138,37 @@ public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
             "FROM Feedback f WHERE f.event.id = :eventId " +
             "AND f.rating.overallRating IS NOT NULL")
     Object getNPSDataForEvent(@Param("eventId") UUID eventId);
+
+    @Query("SELECT f FROM Feedback f WHERE (:eventId IS NULL OR f.event.id = :eventId) AND " +
+            "(:afterSubmittedAt IS NULL OR f.submittedAt < :afterSubmittedAt " +
+            "OR (f.submittedAt = :afterSubmittedAt AND f.id < :afterId)) " +
+            "ORDER BY f.submittedAt DESC, f.id DESC")
+    List<Feedback> scrollFeedback(@Param("eventId") UUID eventId,
+                                  @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                  @Param("afterId") UUID afterId,
+                                  Pageable window);
+
+    @Query("SELECT f FROM Feedback f WHERE (" +
+            "LOWER(f.overallExperience) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(f.whatLearned) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(f.mostValuableAspect) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:afterSubmittedAt IS NULL OR f.submittedAt < :afterSubmittedAt " +
+            "OR (f.submittedAt = :afterSubmittedAt AND f.id < :afterId)) " +
+            "ORDER BY f.submittedAt DESC, f.id DESC")
+    List<Feedback> scrollSearchFeedback(@Param("searchTerm") String searchTerm,
+                                        @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                        @Param("afterId") UUID afterId,
+                                        Pageable window);
+
+    @Query("SELECT f FROM Feedback f WHERE f.testimonial IS NOT NULL " +
+            "AND (:eventId IS NULL OR f.event.id = :eventId) " +
+            "AND (:featuredOnly = false OR f.testimonial.isFeatured = true) AND " +
+            "(:afterSubmittedAt IS NULL OR f.submittedAt < :afterSubmittedAt " +
+            "OR (f.submittedAt = :afterSubmittedAt AND f.id < :afterId)) " +
+            "ORDER BY f.submittedAt DESC, f.id DESC")
+    List<Feedback> scrollTestimonials(@Param("eventId") UUID eventId,
+                                      @Param("featuredOnly") boolean featuredOnly,
+                                      @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                      @Param("afterId") UUID afterId,
+                                      Pageable window);
 }
@@ -5,8 +5,13 @@ import com.araw.araw.domain.application.valueobject.ContactInfo;
 import com.araw.araw.domain.application.valueobject.EducationLevel;
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.participant.valueobject.Achievement;
+import com.araw.shared.persistence.NumberSequence;
+import com.araw.shared.persistence.SequenceNumberListener;
+import com.araw.shared.persistence.SequenceNumbered;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,15 +21,19 @@ import java.util.*;
 
 @Entity
 @Table(name = "participants")
+@BatchSize(size = 50)
+@EntityListeners(SequenceNumberListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Participant {
+public class Participant implements SequenceNumbered {
+
+    public static final NumberSequence CODE_SEQUENCE = new NumberSequence("participant_code_seq", "PART-");
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "participant_code", unique = true)
@@ -138,15 +147,19 @@ public class Participant {
     @Version
     private Long version;
 
-    @PrePersist
-    protected void onCreate() {
-        if (this.participantCode == null) {
-            this.participantCode = generateParticipantCode();
-        }
+    @Override
+    public NumberSequence numberSequence() {
+        return CODE_SEQUENCE;
+    }
+
+    @Override
+    public boolean isNumbered() {
+        return participantCode != null;
     }
 
-    private String generateParticipantCode() {
-        return "PART-" + LocalDate.now().getYear() + "-" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+    @Override
+    public void assignNumber(String number) {
+        this.participantCode = number;
     }
 
     public String getFullName() {
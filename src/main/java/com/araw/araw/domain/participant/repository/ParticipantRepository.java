@@ -249,4 +249,25 @@ public interface ParticipantRepository extends JpaRepository<Participant, UUID>
             "OR p.totalHoursParticipated >= :hoursThreshold")
     int promoteToAlumni(@Param("eventThreshold") Integer eventThreshold,
                         @Param("hoursThreshold") Integer hoursThreshold);
+
+    @Query("SELECT p FROM Participant p WHERE " +
+            "(:afterJoinedAt IS NULL OR p.joinedAt < :afterJoinedAt " +
+            "OR (p.joinedAt = :afterJoinedAt AND p.id < :afterId)) " +
+            "ORDER BY p.joinedAt DESC, p.id DESC")
+    List<Participant> scrollParticipants(@Param("afterJoinedAt") LocalDateTime afterJoinedAt,
+                                         @Param("afterId") UUID afterId,
+                                         Pageable window);
+
+    @Query("SELECT p FROM Participant p WHERE (" +
+            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(p.contactInfo.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "p.participantCode LIKE CONCAT('%', :searchTerm, '%')) AND " +
+            "(:afterJoinedAt IS NULL OR p.joinedAt < :afterJoinedAt " +
+            "OR (p.joinedAt = :afterJoinedAt AND p.id < :afterId)) " +
+            "ORDER BY p.joinedAt DESC, p.id DESC")
+    List<Participant> scrollSearchParticipants(@Param("searchTerm") String searchTerm,
+                                               @Param("afterJoinedAt") LocalDateTime afterJoinedAt,
+                                               @Param("afterId") UUID afterId,
+                                               Pageable window);
 }
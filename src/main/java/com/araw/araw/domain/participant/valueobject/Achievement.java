@@ -2,6 +2,7 @@ package com.araw.araw.domain.participant.valueobject;
 
 import com.araw.araw.domain.event.entity.Event;
 import com.araw.araw.domain.participant.enitity.Participant;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,7 +21,7 @@ import java.util.*;
 public class Achievement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
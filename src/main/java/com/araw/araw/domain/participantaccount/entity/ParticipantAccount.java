@@ -1,6 +1,7 @@
 package com.araw.araw.domain.participantaccount.entity;
 
 import com.araw.araw.domain.participant.enitity.Participant;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -23,7 +24,7 @@ import java.util.UUID;
 public class ParticipantAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -1,12 +1,16 @@
 package com.araw.araw.presentation;
 
 import com.araw.araw.application.dto.admin.AdminDashboardSummaryResponse;
+import com.araw.araw.application.dto.admin.EventEngagementResponse;
 import com.araw.araw.application.service.AdminDashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/admin/dashboard")
 @RequiredArgsConstructor
@@ -18,4 +22,9 @@ public class AdminDashboardController {
     public AdminDashboardSummaryResponse getSummary() {
         return dashboardService.getSummary();
     }
+
+    @GetMapping("/events/{eventId}/engagement")
+    public EventEngagementResponse getEventEngagement(@PathVariable UUID eventId) {
+        return dashboardService.getEventEngagement(eventId);
+    }
 }
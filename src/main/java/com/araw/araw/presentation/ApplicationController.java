@@ -2,14 +2,24 @@ package com.araw.araw.presentation;
 
 import com.araw.araw.application.dto.application.ApplicationDecisionRequest;
 import com.araw.araw.application.dto.application.ApplicationFilterRequest;
+import com.araw.araw.application.dto.application.ApplicationImportReport;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationTransitionResponse;
+import com.araw.araw.application.dto.application.ApplicationView;
 import com.araw.araw.application.dto.application.ApplicationWaitlistRequest;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionRequest;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionResponse;
 import com.araw.araw.application.dto.application.CreateApplicationRequest;
 import com.araw.araw.application.dto.application.ReviewApplicationRequest;
 import com.araw.araw.application.dto.application.UpdateApplicationRequest;
 import com.araw.araw.application.service.ApplicationApplicationService;
+import com.araw.araw.application.service.ApplicationImportService;
 import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
+import com.araw.shared.exception.DomainValidationException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -27,6 +37,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
@@ -37,7 +48,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ApplicationController {
 
+    /**
+     * Lifecycle endpoints answer with the full {@link ApplicationResponse} by default; {@code ?view=compact}
+     * answers with an {@link ApplicationTransitionResponse} instead.
+     */
+    private static final String FULL_VIEW = "full";
+    private static final String COMPACT_VIEW = "compact";
+
     private final ApplicationApplicationService applicationService;
+    private final ApplicationImportService applicationImportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -45,6 +64,21 @@ public class ApplicationController {
         return applicationService.createApplication(request);
     }
 
+    /**
+     * Imports a roster of draft applications from a CSV or NDJSON body, read as a stream. Rows that name no
+     * event go to {@code eventId}. Returns one result per row.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ApplicationImportReport importApplications(@RequestParam(value = "eventId", required = false) UUID eventId,
+                                                      HttpServletRequest request) throws IOException {
+        return applicationImportService.importApplications(eventId, request.getContentType(), request.getInputStream());
+    }
+
+    @PostMapping("/decisions")
+    public BulkApplicationDecisionResponse decideApplications(@Valid @RequestBody BulkApplicationDecisionRequest request) {
+        return applicationService.decideApplications(request);
+    }
+
     @PutMapping("/{applicationId}")
     public ApplicationResponse updateApplication(@PathVariable UUID applicationId,
                                                  @Valid @RequestBody UpdateApplicationRequest request) {
@@ -52,43 +86,50 @@ public class ApplicationController {
     }
 
     @PostMapping("/{applicationId}/submit")
-    public ApplicationResponse submitApplication(@PathVariable UUID applicationId) {
-        return applicationService.submitApplication(applicationId);
+    public Object submitApplication(@PathVariable UUID applicationId,
+                                    @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.submitApplication(applicationId, view(view));
     }
 
     @PostMapping("/{applicationId}/review")
-    public ApplicationResponse reviewApplication(@PathVariable UUID applicationId,
-                                                 @Valid @RequestBody ReviewApplicationRequest request) {
-        return applicationService.reviewApplication(applicationId, request);
+    public Object reviewApplication(@PathVariable UUID applicationId,
+                                    @Valid @RequestBody ReviewApplicationRequest request,
+                                    @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.reviewApplication(applicationId, request, view(view));
     }
 
     @PostMapping("/{applicationId}/accept")
-    public ApplicationResponse acceptApplication(@PathVariable UUID applicationId) {
-        return applicationService.acceptApplication(applicationId);
+    public Object acceptApplication(@PathVariable UUID applicationId,
+                                    @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.acceptApplication(applicationId, view(view));
     }
 
     @PostMapping("/{applicationId}/reject")
-    public ApplicationResponse rejectApplication(@PathVariable UUID applicationId,
-                                                 @Valid @RequestBody ApplicationDecisionRequest request) {
-        return applicationService.rejectApplication(applicationId, request.getReason());
+    public Object rejectApplication(@PathVariable UUID applicationId,
+                                    @Valid @RequestBody ApplicationDecisionRequest request,
+                                    @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.rejectApplication(applicationId, request.getReason(), view(view));
     }
 
     @PostMapping("/{applicationId}/waitlist")
-    public ApplicationResponse waitlistApplication(@PathVariable UUID applicationId,
-                                                   @Valid @RequestBody(required = false) ApplicationWaitlistRequest request) {
+    public Object waitlistApplication(@PathVariable UUID applicationId,
+                                      @Valid @RequestBody(required = false) ApplicationWaitlistRequest request,
+                                      @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
         Integer position = request != null ? request.getPosition() : null;
-        return applicationService.waitlistApplication(applicationId, position);
+        return applicationService.waitlistApplication(applicationId, position, view(view));
     }
 
     @PostMapping("/{applicationId}/confirm")
-    public ApplicationResponse confirmApplication(@PathVariable UUID applicationId) {
-        return applicationService.confirmApplication(applicationId);
+    public Object confirmApplication(@PathVariable UUID applicationId,
+                                     @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.confirmApplication(applicationId, view(view));
     }
 
     @PostMapping("/{applicationId}/cancel")
-    public ApplicationResponse cancelApplication(@PathVariable UUID applicationId,
-                                                 @Valid @RequestBody ApplicationDecisionRequest request) {
-        return applicationService.cancelApplication(applicationId, request.getReason());
+    public Object cancelApplication(@PathVariable UUID applicationId,
+                                    @Valid @RequestBody ApplicationDecisionRequest request,
+                                    @RequestParam(value = "view", defaultValue = FULL_VIEW) String view) {
+        return applicationService.cancelApplication(applicationId, request.getReason(), view(view));
     }
 
     @GetMapping("/{applicationId}")
@@ -127,10 +168,46 @@ public class ApplicationController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<ApplicationResponse> scrollApplications(
+            @RequestParam(value = "eventId", required = false) UUID eventId,
+            @RequestParam(value = "status", required = false) ApplicationStatus status,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "guardianConsent", required = false) Boolean guardianConsent,
+            @RequestParam(value = "minScore", required = false) Integer minScore,
+            @RequestParam(value = "maxScore", required = false) Integer maxScore,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+
+        ApplicationFilterRequest filter = ApplicationFilterRequest.builder()
+                .eventId(eventId)
+                .status(status)
+                .email(email)
+                .hasGuardianConsent(guardianConsent)
+                .minScore(minScore)
+                .maxScore(maxScore)
+                .searchTerm(search)
+                .build();
+
+        return applicationService.scrollApplications(filter, cursor, size, total);
+    }
+
     @GetMapping("/{applicationId}/documents/{documentId}/download")
     public Map<String, String> getApplicationDocumentDownloadUrl(@PathVariable UUID applicationId,
                                                                  @PathVariable UUID documentId) {
         String url = applicationService.getDocumentDownloadUrl(applicationId, documentId);
         return Map.of("url", url);
     }
+
+    private static ApplicationView<?> view(String view) {
+        if (FULL_VIEW.equalsIgnoreCase(view)) {
+            return ApplicationView.FULL;
+        }
+        if (COMPACT_VIEW.equalsIgnoreCase(view)) {
+            return ApplicationView.COMPACT;
+        }
+        throw new DomainValidationException("Unknown view '" + view + "'; expected full or compact");
+    }
 }
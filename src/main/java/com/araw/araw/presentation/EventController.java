@@ -1,5 +1,6 @@
 package com.araw.araw.presentation;
 
+import com.araw.araw.application.dto.application.BulkApplicationDecisionResponse;
 import com.araw.araw.application.dto.event.CancelEventRequest;
 import com.araw.araw.application.dto.event.CreateEventRequest;
 import com.araw.araw.application.dto.event.EventResponse;
@@ -8,7 +9,11 @@ import com.araw.araw.application.dto.event.UpdateEventRequest;
 import com.araw.araw.application.service.EventApplicationService;
 import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
+import com.araw.shared.api.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -69,6 +74,11 @@ public class EventController {
         return eventService.cancelEvent(eventId, request.getReason());
     }
 
+    @PostMapping("/{eventId}/waitlist/promote")
+    public BulkApplicationDecisionResponse promoteWaitlist(@PathVariable UUID eventId) {
+        return eventService.promoteWaitlist(eventId);
+    }
+
     @PatchMapping("/{eventId}/featured")
     public EventResponse toggleFeatured(@PathVariable UUID eventId,
                                         @RequestParam("value") boolean featured) {
@@ -89,6 +99,16 @@ public class EventController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<EventResponse> scrollEvents(
+            @RequestParam(value = "status", required = false) EventStatus status,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return eventService.scrollEvents(status, search, cursor, size, total);
+    }
+
     @GetMapping("/published")
     public PagedResponse<EventSummaryResponse> listPublished(
             @RequestParam(value = "type", required = false) EventType type,
@@ -96,4 +116,13 @@ public class EventController {
         Page<EventSummaryResponse> page = eventService.listPublishedSummaries(type, pageable);
         return PagedResponse.fromPage(page);
     }
+
+    @GetMapping("/published/scroll")
+    public CursorPage<EventSummaryResponse> scrollPublished(
+            @RequestParam(value = "type", required = false) EventType type,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return eventService.scrollPublishedSummaries(type, cursor, size, total);
+    }
 }
@@ -8,7 +8,11 @@ import com.araw.araw.application.dto.feedback.TestimonialDto;
 import com.araw.araw.application.dto.feedback.UpdateFeedbackRequest;
 import com.araw.araw.application.service.FeedbackApplicationService;
 import com.araw.araw.domain.feedback.service.FeedbackDomainService;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
+import com.araw.shared.api.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -79,6 +83,16 @@ public class FeedbackController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<FeedbackSummaryResponse> scrollFeedback(
+            @RequestParam(value = "eventId", required = false) UUID eventId,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return feedbackService.scrollFeedback(eventId, search, cursor, size, total);
+    }
+
     @GetMapping("/testimonials")
     public PagedResponse<TestimonialDto> listTestimonials(
             @RequestParam(value = "eventId", required = false) UUID eventId,
@@ -88,6 +102,16 @@ public class FeedbackController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/testimonials/scroll")
+    public CursorPage<TestimonialDto> scrollTestimonials(
+            @RequestParam(value = "eventId", required = false) UUID eventId,
+            @RequestParam(value = "featuredOnly", required = false) Boolean featuredOnly,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return feedbackService.scrollTestimonials(eventId, featuredOnly, cursor, size, total);
+    }
+
     @GetMapping("/events/{eventId}/insights")
     public FeedbackDomainService.EventFeedbackInsights getInsights(@PathVariable UUID eventId) {
         return feedbackService.getEventInsights(eventId);
@@ -5,7 +5,9 @@ import com.araw.araw.application.dto.participant.ParticipantResponse;
 import com.araw.araw.application.dto.participant.ParticipantSummaryResponse;
 import com.araw.araw.application.dto.participant.UpdateParticipantRequest;
 import com.araw.araw.application.service.ParticipantApplicationService;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -63,6 +65,15 @@ public class ParticipantController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<ParticipantSummaryResponse> scrollParticipants(
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return participantService.scrollParticipants(search, cursor, size, total);
+    }
+
     @DeleteMapping("/{participantId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteParticipant(@PathVariable UUID participantId) {
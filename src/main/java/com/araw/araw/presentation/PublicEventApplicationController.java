@@ -1,57 +1,129 @@
 package com.araw.araw.presentation;
 
+import com.araw.araw.application.admission.EventAdmissionControl;
 import com.araw.araw.application.dto.application.ApplicationResponse;
 import com.araw.araw.application.dto.publicapp.PublicEventApplicationRequest;
+import com.araw.araw.application.service.ApplicationDocumentService;
+import com.araw.araw.application.service.PublicApplicationUploadService;
 import com.araw.araw.application.service.PublicEventApplicationService;
+import com.araw.araw.application.service.result.MultipartApplication;
+import com.araw.shared.idempotency.IdempotencyService;
+import com.araw.shared.idempotency.IdempotentResult;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestPart;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/public/events")
 @RequiredArgsConstructor
 public class PublicEventApplicationController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final PublicEventApplicationService publicEventApplicationService;
+    private final PublicApplicationUploadService publicApplicationUploadService;
+    private final ApplicationDocumentService applicationDocumentService;
+    private final EventAdmissionControl eventAdmissionControl;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping(value = "/{applicationSlug}/applications", consumes = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse submitApplication(@PathVariable String applicationSlug,
-                                                 @Valid @RequestBody PublicEventApplicationRequest request) {
-        return publicEventApplicationService.submitApplication(applicationSlug, request);
+    public ResponseEntity<ApplicationResponse> submitApplication(
+            @PathVariable String applicationSlug,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody PublicEventApplicationRequest request) {
+        UUID eventId = publicEventApplicationService.resolveEventId(applicationSlug);
+        return submit(eventId, idempotencyKey,
+                () -> idempotencyService.fingerprint(request),
+                () -> eventAdmissionControl.admit(eventId,
+                        () -> publicEventApplicationService.submitApplication(applicationSlug, request)));
     }
 
     @PostMapping(value = "/id/{eventId}/applications", consumes = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse submitApplicationByEventId(@PathVariable UUID eventId,
-                                                          @Valid @RequestBody PublicEventApplicationRequest request) {
-        return publicEventApplicationService.submitApplication(eventId, request);
+    public ResponseEntity<ApplicationResponse> submitApplicationByEventId(
+            @PathVariable UUID eventId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody PublicEventApplicationRequest request) {
+        return submit(eventId, idempotencyKey,
+                () -> idempotencyService.fingerprint(request),
+                () -> eventAdmissionControl.admit(eventId,
+                        () -> publicEventApplicationService.submitApplication(eventId, request)));
     }
 
+    /**
+     * Multipart variant with a {@code payload} JSON part and an optional {@code resume} file part. The body
+     * is read as a stream rather than bound, so the resume goes to storage without being buffered, and only
+     * the submission that follows the upload is admitted.
+     */
     @PostMapping(value = "/{applicationSlug}/applications", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse submitApplicationWithResume(@PathVariable String applicationSlug,
-                                                           @Valid @RequestPart("payload") PublicEventApplicationRequest request,
-                                                           @RequestPart(value = "resume", required = false) MultipartFile resume) {
-        return publicEventApplicationService.submitApplication(applicationSlug, request, resume);
+    public ResponseEntity<ApplicationResponse> submitApplicationWithResume(
+            @PathVariable String applicationSlug,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) throws IOException {
+        return submitApplicationByEventIdWithResume(publicEventApplicationService.resolveEventId(applicationSlug),
+                idempotencyKey, request);
     }
 
     @PostMapping(value = "/id/{eventId}/applications", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse submitApplicationByEventIdWithResume(@PathVariable UUID eventId,
-                                                                    @Valid @RequestPart("payload") PublicEventApplicationRequest request,
-                                                                    @RequestPart(value = "resume", required = false) MultipartFile resume) {
-        return publicEventApplicationService.submitApplication(eventId, request, resume);
+    public ResponseEntity<ApplicationResponse> submitApplicationByEventIdWithResume(
+            @PathVariable UUID eventId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) throws IOException {
+        return submitMultipart(eventId, idempotencyKey, request.getContentType(), request.getInputStream());
+    }
+
+    /**
+     * The multipart body can only be read once. A submission that runs records its fingerprint (payload plus
+     * resume checksum) while reading; a retry that is not run reads the body just to compute it.
+     */
+    private ResponseEntity<ApplicationResponse> submitMultipart(UUID eventId,
+                                                                String idempotencyKey,
+                                                                String contentType,
+                                                                InputStream body) {
+        AtomicReference<String> fingerprint = new AtomicReference<>();
+        return submit(eventId, idempotencyKey,
+                () -> fingerprint.get() != null
+                        ? fingerprint.get()
+                        : fingerprint(publicApplicationUploadService.inspect(contentType, body)),
+                () -> publicApplicationUploadService.submitApplication(eventId, contentType, body,
+                        received -> fingerprint.set(fingerprint(received))));
+    }
+
+    private String fingerprint(MultipartApplication application) {
+        return idempotencyService.fingerprint(application.payload(), application.resumeChecksum());
+    }
+
+    /**
+     * Keys are scoped to the event, so both endpoints for an event share them, and a JSON submission has the
+     * same fingerprint as a multipart one without a resume. A replayed response only needs fresh document
+     * links; a retry never runs {@code submission}, so it never queues for admission again.
+     */
+    private ResponseEntity<ApplicationResponse> submit(UUID eventId,
+                                                       String idempotencyKey,
+                                                       Supplier<String> fingerprint,
+                                                       Supplier<ApplicationResponse> submission) {
+        IdempotentResult<ApplicationResponse> result = idempotencyService.execute("application:" + eventId,
+                idempotencyKey, fingerprint, ApplicationResponse.class, submission);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (result.replayed()) {
+            applicationDocumentService.populateDownloadUrls(result.body());
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(result.body());
     }
 }
@@ -0,0 +1,71 @@
+package com.araw.araw.presentation;
+
+import com.araw.araw.application.calendar.CalendarFeed;
+import com.araw.araw.application.calendar.EventCalendarService;
+import com.araw.araw.application.dto.event.EventSessionResponse;
+import com.araw.araw.application.service.PublicEventQueryService;
+import com.araw.araw.application.service.PublicEventQueryService.PublishedEventTag;
+import com.araw.shared.api.PagedResponse;
+import com.araw.shared.exception.DomainNotFoundException;
+import com.araw.shared.http.PublicHttpCaching;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/public/events")
+@RequiredArgsConstructor
+public class PublicEventCalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final EventCalendarService eventCalendarService;
+    private final PublicEventQueryService publicEventQueryService;
+    private final PublicHttpCaching publicHttpCaching;
+
+    @GetMapping("/calendar/sessions")
+    public PagedResponse<EventSessionResponse> listSessions(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            Pageable pageable) {
+        return PagedResponse.fromPage(eventCalendarService.listSessions(from, to, pageable));
+    }
+
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<String> catalogFeed(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(eventCalendarService.catalogFeed(), ifNoneMatch,
+                "events", EventCalendarService.CATALOG_SURROGATE_KEY);
+    }
+
+    @GetMapping("/{slugOrId}/calendar.ics")
+    public ResponseEntity<String> eventFeed(
+            @PathVariable String slugOrId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UUID eventId = publicEventQueryService.findPublishedEventTag(slugOrId)
+                .map(PublishedEventTag::eventId)
+                .orElseThrow(() -> new DomainNotFoundException("Published event not found: " + slugOrId));
+        return respond(eventCalendarService.eventFeed(eventId), ifNoneMatch,
+                "events", PublicEventQueryService.surrogateKey(eventId));
+    }
+
+    private ResponseEntity<String> respond(CalendarFeed feed, String ifNoneMatch, String... surrogateKeys) {
+        if (PublicHttpCaching.matches(ifNoneMatch, feed.etag())) {
+            return publicHttpCaching.notModified(feed.etag(), surrogateKeys);
+        }
+        return publicHttpCaching.ok(feed.body(), TEXT_CALENDAR, feed.etag(), surrogateKeys);
+    }
+}
@@ -1,22 +1,93 @@
 package com.araw.araw.presentation;
 
+import com.araw.araw.application.catalog.EventCatalogQuery;
+import com.araw.araw.application.catalog.EventCatalogService;
+import com.araw.araw.application.catalog.EventFacet;
+import com.araw.araw.application.dto.event.EventCatalogResponse;
 import com.araw.araw.application.dto.event.EventResponse;
 import com.araw.araw.application.service.PublicEventQueryService;
+import com.araw.araw.application.service.PublicEventQueryService.PublishedEventTag;
+import com.araw.araw.application.views.EventViewCounter;
+import com.araw.shared.http.PublicHttpCaching;
+import com.araw.shared.http.VisitorFingerprint;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/public/events")
 @RequiredArgsConstructor
 public class PublicEventController {
 
     private final PublicEventQueryService publicEventQueryService;
+    private final PublicHttpCaching publicHttpCaching;
+    private final EventCatalogService eventCatalogService;
+    private final EventViewCounter eventViewCounter;
+
+    @GetMapping("/catalog")
+    public EventCatalogResponse browseCatalog(
+            @RequestParam(value = "type", required = false) List<String> types,
+            @RequestParam(value = "status", required = false) List<String> statuses,
+            @RequestParam(value = "city", required = false) List<String> cities,
+            @RequestParam(value = "state", required = false) List<String> states,
+            @RequestParam(value = "format", required = false) List<String> formats,
+            @RequestParam(value = "pricing", required = false) List<String> pricing,
+            @RequestParam(value = "grade", required = false) List<String> grades,
+            @RequestParam(value = "maxCost", required = false) Double maxCost,
+            @RequestParam(value = "age", required = false) Integer age,
+            Pageable pageable) {
+        Map<EventFacet, Set<String>> selections = new EnumMap<>(EventFacet.class);
+        select(selections, EventFacet.TYPE, types);
+        select(selections, EventFacet.STATUS, statuses);
+        select(selections, EventFacet.CITY, cities);
+        select(selections, EventFacet.STATE, states);
+        select(selections, EventFacet.FORMAT, formats);
+        select(selections, EventFacet.PRICING, pricing);
+        select(selections, EventFacet.GRADE, grades);
+        return eventCatalogService.browse(new EventCatalogQuery(selections, maxCost, age), pageable);
+    }
 
     @GetMapping("/{slugOrId}")
-    public EventResponse getPublishedEvent(@PathVariable String slugOrId) {
-        return publicEventQueryService.getPublishedEvent(slugOrId);
+    public ResponseEntity<EventResponse> getPublishedEvent(
+            @PathVariable String slugOrId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        if (ifNoneMatch != null) {
+            Optional<PublishedEventTag> current = publicEventQueryService.findPublishedEventTag(slugOrId);
+            if (current.isPresent() && PublicHttpCaching.matches(ifNoneMatch, current.get().etag())) {
+                eventViewCounter.record(current.get().eventId(), VisitorFingerprint.hash(request));
+                return publicHttpCaching.notModified(current.get().etag(), surrogateKeys(current.get().eventId()));
+            }
+        }
+
+        EventResponse response = publicEventQueryService.getPublishedEvent(slugOrId);
+        PublishedEventTag tag = PublicEventQueryService.tagOf(response);
+        eventViewCounter.record(tag.eventId(), VisitorFingerprint.hash(request));
+        return publicHttpCaching.ok(response, tag.etag(), surrogateKeys(tag.eventId()));
+    }
+
+    private static void select(Map<EventFacet, Set<String>> selections, EventFacet facet, List<String> values) {
+        if (values != null) {
+            selections.put(facet, Set.copyOf(values));
+        }
+    }
+
+    private String[] surrogateKeys(UUID eventId) {
+        return new String[]{"events", PublicEventQueryService.surrogateKey(eventId)};
     }
 }
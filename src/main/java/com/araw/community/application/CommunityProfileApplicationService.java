@@ -5,7 +5,11 @@ import com.araw.community.application.command.UpdateCommunityProfileCommand;
 import com.araw.community.domain.model.CommunityProfile;
 import com.araw.community.domain.model.ProfileType;
 import com.araw.community.domain.repository.CommunityProfileRepository;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
+import com.araw.shared.persistence.RowCountEstimator;
 import com.araw.shared.text.SlugGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -23,6 +28,7 @@ public class CommunityProfileApplicationService {
 
     private final CommunityProfileRepository profileRepository;
     private final SlugGenerator slugGenerator;
+    private final RowCountEstimator rowCountEstimator;
 
     public CommunityProfile createProfile(CreateCommunityProfileCommand command) {
         ProfileType profileType = Objects.requireNonNull(command.profileType(), "Profile type is required");
@@ -122,6 +128,28 @@ public class CommunityProfileApplicationService {
         return profileRepository.search(profileType, active, featured, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<CommunityProfile> scroll(ProfileType profileType,
+                                               Boolean active,
+                                               Boolean featured,
+                                               String cursor,
+                                               int size,
+                                               TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<CommunityProfile> rows = profileRepository.scroll(
+                profileType,
+                active,
+                featured,
+                after != null ? after.offsetDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.window(size));
+        boolean filtered = profileType != null || active != null || featured != null;
+        return CursorPage.fromRows(rows, size, profile -> KeysetCursor.of(profile.getCreatedAt(), profile.getId()))
+                .withTotal(rowCountEstimator.resolve(totalMode, "community_profiles", filtered,
+                        () -> profileRepository.search(profileType, active, featured, CursorPage.COUNT_PROBE)
+                                .getTotalElements()));
+    }
+
     private String resolveUniqueSlug(String requestedSlug,
                                      String firstName,
                                      String lastName,
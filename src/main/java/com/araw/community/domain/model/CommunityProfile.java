@@ -2,6 +2,7 @@ package com.araw.community.domain.model;
 
 import com.araw.shared.exception.DomainValidationException;
 import com.araw.shared.persistence.AuditableEntity;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -9,8 +10,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
@@ -32,7 +31,7 @@ import java.util.UUID;
 public class CommunityProfile extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true, length = 140)
@@ -5,6 +5,8 @@ import com.araw.community.domain.model.ProfileType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +19,11 @@ public interface CommunityProfileRepository {
     Optional<CommunityProfile> findBySlug(String slug);
 
     Page<CommunityProfile> search(ProfileType type, Boolean active, Boolean featured, Pageable pageable);
+
+    List<CommunityProfile> scroll(ProfileType type,
+                                  Boolean active,
+                                  Boolean featured,
+                                  OffsetDateTime afterCreatedAt,
+                                  UUID afterId,
+                                  Pageable window);
 }
@@ -5,11 +5,14 @@ import com.araw.community.domain.model.ProfileType;
 import com.araw.community.domain.repository.CommunityProfileRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +26,29 @@ public interface JpaCommunityProfileRepository extends CommunityProfileRepositor
 
     @Override
     default Page<CommunityProfile> search(ProfileType type, Boolean active, Boolean featured, Pageable pageable) {
+        return findAll(filters(type, active, featured), pageable);
+    }
+
+    @Override
+    default List<CommunityProfile> scroll(ProfileType type,
+                                          Boolean active,
+                                          Boolean featured,
+                                          OffsetDateTime afterCreatedAt,
+                                          UUID afterId,
+                                          Pageable window) {
+        Specification<CommunityProfile> spec = filters(type, active, featured);
+        if (afterCreatedAt != null) {
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.lessThan(root.get("createdAt"), afterCreatedAt),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), afterCreatedAt),
+                            cb.lessThan(root.<UUID>get("id"), afterId))));
+        }
+        Sort newestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        return findBy(spec, query -> query.sortBy(newestFirst).limit(window.getPageSize()).all());
+    }
+
+    private static Specification<CommunityProfile> filters(ProfileType type, Boolean active, Boolean featured) {
         Specification<CommunityProfile> spec = Specification.where(null);
         if (type != null) {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("profileType"), type));
@@ -33,6 +59,6 @@ public interface JpaCommunityProfileRepository extends CommunityProfileRepositor
         if (featured != null) {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("featured"), featured));
         }
-        return findAll(spec, pageable);
+        return spec;
     }
 }
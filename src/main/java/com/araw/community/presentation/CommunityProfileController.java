@@ -6,7 +6,9 @@ import com.araw.community.presentation.dto.CommunityProfileResponse;
 import com.araw.community.presentation.dto.CreateCommunityProfileRequest;
 import com.araw.community.presentation.dto.UpdateCommunityProfileRequest;
 import com.araw.community.presentation.mapper.CommunityProfileMapper;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -84,6 +86,18 @@ public class CommunityProfileController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<CommunityProfileResponse> scrollProfiles(
+            @RequestParam(value = "type", required = false) ProfileType profileType,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "featured", required = false) Boolean featured,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return profileService.scroll(profileType, active, featured, cursor, size, total)
+                .map(mapper::toResponse);
+    }
+
     @GetMapping("/{profileId}")
     public CommunityProfileResponse getProfile(@PathVariable UUID profileId) {
         var profile = profileService.getById(profileId);
@@ -2,12 +2,18 @@ package com.araw.content.application;
 
 import com.araw.content.application.command.CreateArticleCommand;
 import com.araw.content.application.command.UpdateArticleCommand;
+import com.araw.content.domain.event.ArticleChangedEvent;
 import com.araw.content.domain.event.ArticlePublishedEvent;
 import com.araw.content.domain.model.Article;
 import com.araw.content.domain.model.ArticleStatus;
 import com.araw.content.domain.repository.ArticleRepository;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.http.PublicHttpCaching;
+import com.araw.shared.persistence.RowCountEstimator;
 import com.araw.shared.text.SlugGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -17,7 +23,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -28,6 +36,7 @@ public class ArticleApplicationService {
     private final ArticleRepository articleRepository;
     private final SlugGenerator slugGenerator;
     private final ApplicationEventPublisher eventPublisher;
+    private final RowCountEstimator rowCountEstimator;
 
     public Article createArticle(CreateArticleCommand command) {
         ArticleStatus initialStatus = validateInitialStatus(command.status());
@@ -85,6 +94,7 @@ public class ArticleApplicationService {
         if (previousStatus != ArticleStatus.PUBLISHED && saved.getStatus() == ArticleStatus.PUBLISHED) {
             publishArticlePublishedEvent(saved);
         }
+        publishArticleChangedEvent(saved);
         return saved;
     }
 
@@ -96,19 +106,24 @@ public class ArticleApplicationService {
         if (previousStatus != ArticleStatus.PUBLISHED && saved.getStatus() == ArticleStatus.PUBLISHED) {
             publishArticlePublishedEvent(saved);
         }
+        publishArticleChangedEvent(saved);
         return saved;
     }
 
     public Article moveArticleToReview(UUID articleId) {
         Article article = getById(articleId);
         article.moveToReview();
-        return articleRepository.save(article);
+        Article saved = articleRepository.save(article);
+        publishArticleChangedEvent(saved);
+        return saved;
     }
 
     public Article archiveArticle(UUID articleId) {
         Article article = getById(articleId);
         article.archive();
-        return articleRepository.save(article);
+        Article saved = articleRepository.save(article);
+        publishArticleChangedEvent(saved);
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -123,6 +138,25 @@ public class ArticleApplicationService {
                 .orElseThrow(() -> new DomainNotFoundException("Article not found for slug: " + slug));
     }
 
+    /**
+     * Current entity tag and status of the article behind {@code slug}, read without loading its body.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleTag> findArticleTag(String slug) {
+        return articleRepository.findVersionBySlug(slug)
+                .map(view -> new ArticleTag(view.getId(), articleTag(view.getId(), view.getUpdatedAt()),
+                        view.getStatus() == ArticleStatus.PUBLISHED));
+    }
+
+    public static ArticleTag tagOf(Article article) {
+        return new ArticleTag(article.getId(), articleTag(article.getId(), article.getUpdatedAt()),
+                article.getStatus() == ArticleStatus.PUBLISHED);
+    }
+
+    public static String surrogateKey(UUID articleId) {
+        return "article-" + articleId;
+    }
+
     @Transactional(readOnly = true)
     public Page<Article> listArticles(ArticleStatus status, Pageable pageable) {
         if (status != null) {
@@ -131,6 +165,19 @@ public class ArticleApplicationService {
         return articleRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Article> scrollArticles(ArticleStatus status, String cursor, int size, TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Article> rows = articleRepository.scroll(
+                status,
+                after != null ? after.offsetDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.window(size));
+        return CursorPage.fromRows(rows, size, article -> KeysetCursor.of(article.getCreatedAt(), article.getId()))
+                .withTotal(rowCountEstimator.resolve(totalMode, "articles", status != null,
+                        () -> status != null ? articleRepository.countByStatus(status) : articleRepository.count()));
+    }
+
     private ArticleStatus validateInitialStatus(ArticleStatus status) {
         if (status == null) {
             return ArticleStatus.DRAFT;
@@ -172,6 +219,15 @@ public class ArticleApplicationService {
         }
     }
 
+    private static String articleTag(UUID articleId, OffsetDateTime updatedAt) {
+        String revision = updatedAt != null ? updatedAt.toInstant().toString() : "0";
+        return PublicHttpCaching.weakTag("article-%s-%s".formatted(articleId, revision));
+    }
+
+    private void publishArticleChangedEvent(Article article) {
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId(), article.getSlug()));
+    }
+
     private void publishArticlePublishedEvent(Article article) {
         OffsetDateTime publishedAt = article.getPublishedAt() != null
                 ? article.getPublishedAt()
@@ -185,4 +241,11 @@ public class ArticleApplicationService {
                 publishedAt
         ));
     }
+
+    /**
+     * Only published articles may be kept by shared caches; drafts and archived articles are fetched
+     * by slug for editing and previews.
+     */
+    public record ArticleTag(UUID articleId, String etag, boolean published) {
+    }
 }
@@ -0,0 +1,23 @@
+package com.araw.content.application;
+
+import com.araw.content.domain.event.ArticleChangedEvent;
+import com.araw.shared.http.SurrogateKeyPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ArticlePurgeListener {
+
+    private final SurrogateKeyPurger surrogateKeyPurger;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(SurrogateKeyPurger.PURGE_ORDER)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        surrogateKeyPurger.purge(List.of(ArticleApplicationService.surrogateKey(event.articleId())));
+    }
+}
@@ -0,0 +1,6 @@
+package com.araw.content.domain.event;
+
+import java.util.UUID;
+
+public record ArticleChangedEvent(UUID articleId, String slug) {
+}
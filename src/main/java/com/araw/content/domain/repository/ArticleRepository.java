@@ -5,6 +5,8 @@ import com.araw.content.domain.model.ArticleStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,10 +18,14 @@ public interface ArticleRepository {
 
     Optional<Article> findBySlug(String slug);
 
+    Optional<ArticleVersionView> findVersionBySlug(String slug);
+
     Page<Article> findAll(Pageable pageable);
 
     Page<Article> findAllByStatus(ArticleStatus status, Pageable pageable);
 
+    List<Article> scroll(ArticleStatus status, OffsetDateTime afterCreatedAt, UUID afterId, Pageable window);
+
     long count();
 
     long countByStatus(ArticleStatus status);
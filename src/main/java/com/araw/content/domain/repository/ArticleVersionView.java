@@ -0,0 +1,18 @@
+package com.araw.content.domain.repository;
+
+import com.araw.content.domain.model.ArticleStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection used to answer conditional requests without loading the article body.
+ */
+public interface ArticleVersionView {
+
+    UUID getId();
+
+    OffsetDateTime getUpdatedAt();
+
+    ArticleStatus getStatus();
+}
@@ -3,11 +3,16 @@ package com.araw.content.infrastructure.persistence;
 import com.araw.content.domain.model.Article;
 import com.araw.content.domain.model.ArticleStatus;
 import com.araw.content.domain.repository.ArticleRepository;
+import com.araw.content.domain.repository.ArticleVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,9 +22,22 @@ public interface JpaArticleRepository extends ArticleRepository, JpaRepository<A
     @Override
     Optional<Article> findBySlug(String slug);
 
+    @Override
+    Optional<ArticleVersionView> findVersionBySlug(String slug);
+
     @Override
     Page<Article> findAllByStatus(ArticleStatus status, Pageable pageable);
 
+    @Override
+    @Query("SELECT a FROM Article a WHERE (:status IS NULL OR a.status = :status) AND " +
+            "(:afterCreatedAt IS NULL OR a.createdAt < :afterCreatedAt " +
+            "OR (a.createdAt = :afterCreatedAt AND a.id < :afterId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> scroll(@Param("status") ArticleStatus status,
+                         @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+                         @Param("afterId") UUID afterId,
+                         Pageable window);
+
     @Override
     long countByStatus(ArticleStatus status);
 }
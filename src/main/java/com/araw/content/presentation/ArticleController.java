@@ -1,28 +1,36 @@
 package com.araw.content.presentation;
 
 import com.araw.content.application.ArticleApplicationService;
+import com.araw.content.application.ArticleApplicationService.ArticleTag;
 import com.araw.content.domain.model.ArticleStatus;
 import com.araw.content.presentation.dto.ArticleResponse;
 import com.araw.content.presentation.dto.CreateArticleRequest;
 import com.araw.content.presentation.dto.UpdateArticleRequest;
 import com.araw.content.presentation.mapper.ArticleMapper;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
+import com.araw.shared.http.PublicHttpCaching;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +40,7 @@ public class ArticleController {
 
     private final ArticleApplicationService articleService;
     private final ArticleMapper mapper;
+    private final PublicHttpCaching publicHttpCaching;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -75,6 +84,16 @@ public class ArticleController {
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<ArticleResponse> scrollArticles(
+            @RequestParam(value = "status", required = false) ArticleStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        return articleService.scrollArticles(status, cursor, size, total)
+                .map(mapper::toResponse);
+    }
+
     @GetMapping("/{articleId}")
     public ArticleResponse getArticle(@PathVariable UUID articleId) {
         var article = articleService.getById(articleId);
@@ -82,8 +101,26 @@ public class ArticleController {
     }
 
     @GetMapping("/slug/{slug}")
-    public ArticleResponse getArticleBySlug(@PathVariable String slug) {
+    public ResponseEntity<ArticleResponse> getArticleBySlug(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<ArticleTag> current = articleService.findArticleTag(slug);
+            if (current.isPresent() && current.get().published()
+                    && PublicHttpCaching.matches(ifNoneMatch, current.get().etag())) {
+                return publicHttpCaching.notModified(current.get().etag(), surrogateKeys(current.get().articleId()));
+            }
+        }
+
         var article = articleService.getBySlug(slug);
-        return mapper.toResponse(article);
+        ArticleTag tag = ArticleApplicationService.tagOf(article);
+        if (!tag.published()) {
+            return publicHttpCaching.noStore(mapper.toResponse(article));
+        }
+        return publicHttpCaching.ok(mapper.toResponse(article), tag.etag(), surrogateKeys(tag.articleId()));
+    }
+
+    private String[] surrogateKeys(UUID articleId) {
+        return new String[]{"articles", ArticleApplicationService.surrogateKey(articleId)};
     }
 }
@@ -6,41 +6,69 @@ import com.araw.media.domain.exception.MediaStorageException;
 import com.araw.media.domain.model.MediaAsset;
 import com.araw.media.domain.model.MediaCategory;
 import com.araw.media.domain.repository.MediaAssetRepository;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.KeysetCursor;
+import com.araw.shared.api.TotalMode;
 import com.araw.shared.exception.DomainNotFoundException;
+import com.araw.shared.persistence.RowCountEstimator;
 import com.araw.shared.text.SlugGenerator;
 import io.minio.BucketExistsArgs;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.ObjectWriteArgs;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
 import io.minio.http.Method;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class MediaStorageService {
 
+    private static final int SIGNING_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private final MinioClient minioClient;
     private final MinioProperties properties;
     private final MediaAssetRepository mediaAssetRepository;
     private final SlugGenerator slugGenerator;
+    private final PresignedUrlCache presignedUrlCache;
+    private final RowCountEstimator rowCountEstimator;
 
     private final AtomicBoolean bucketEnsured = new AtomicBoolean(false);
+    private final ExecutorService signingExecutor = Executors.newFixedThreadPool(SIGNING_THREADS, signingThreadFactory());
 
     public MediaAsset storeMedia(MediaUploadCommand command) {
         ensureBucketExists();
-        String objectKey = buildObjectKey(command);
+        String objectKey = buildObjectKey(command.category(), command.fileName());
 
         try (InputStream inputStream = command.inputStream()) {
             String contentType = resolveContentType(command);
@@ -70,6 +98,64 @@ public class MediaStorageService {
         }
     }
 
+    /**
+     * Streams content of unknown length to storage as a multipart upload, holding one
+     * {@link ObjectWriteArgs#MIN_MULTIPART_SIZE} part in memory at a time. Nothing is written to the
+     * database, and no transaction is held while the bytes move; pair it with {@link #registerAsset} or
+     * {@link #discardObject}.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoredObject uploadObject(MediaCategory category, String fileName, String contentType, InputStream content) {
+        ensureBucketExists();
+        String objectKey = buildObjectKey(category, fileName);
+        try {
+            var response = minioClient.putObject(PutObjectArgs.builder()
+                    .bucket(properties.getBucket())
+                    .object(objectKey)
+                    .stream(content, -1, ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .contentType(contentType)
+                    .build());
+            return new StoredObject(properties.getBucket(), objectKey, response.etag());
+        } catch (Exception ex) {
+            throw new MediaStorageException("Failed to store media object", ex);
+        }
+    }
+
+    public MediaAsset registerAsset(StoredObject object,
+                                    String fileName,
+                                    String contentType,
+                                    long fileSize,
+                                    String checksumSha256,
+                                    MediaCategory category,
+                                    String description) {
+        return mediaAssetRepository.save(MediaAsset.create(
+                object.bucket(),
+                object.objectKey(),
+                sanitizeFileName(fileName),
+                contentType,
+                fileSize,
+                category,
+                object.etag(),
+                description,
+                checksumSha256
+        ));
+    }
+
+    /**
+     * Best-effort removal of an uploaded object whose asset row was never written.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discardObject(StoredObject object) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(object.bucket())
+                    .object(object.objectKey())
+                    .build());
+        } catch (Exception ex) {
+            log.warn("Failed to remove orphaned object {} from bucket {}", object.objectKey(), object.bucket(), ex);
+        }
+    }
+
     @Transactional(readOnly = true)
     public MediaAsset getAsset(UUID assetId) {
         return mediaAssetRepository.findById(assetId)
@@ -81,6 +167,19 @@ public class MediaStorageService {
         return mediaAssetRepository.findAllByCategory(category, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<MediaAsset> scrollByCategory(MediaCategory category, String cursor, int size, TotalMode totalMode) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<MediaAsset> rows = mediaAssetRepository.scrollByCategory(
+                category,
+                after != null ? after.offsetDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.window(size));
+        return CursorPage.fromRows(rows, size, asset -> KeysetCursor.of(asset.getCreatedAt(), asset.getId()))
+                .withTotal(rowCountEstimator.resolve(totalMode, "media_assets", true,
+                        () -> mediaAssetRepository.countByCategory(category)));
+    }
+
     public void deleteAsset(UUID assetId) {
         MediaAsset asset = getAsset(assetId);
         try {
@@ -91,29 +190,130 @@ public class MediaStorageService {
         } catch (Exception ex) {
             throw new MediaStorageException("Failed to remove object from storage", ex);
         }
+        presignedUrlCache.evict(assetId);
         mediaAssetRepository.delete(asset);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public String generatePresignedUrl(UUID assetId) {
-        MediaAsset asset = getAsset(assetId);
+        return presignedUrlCache.get(assetId)
+                .orElseGet(() -> signAndCache(getAsset(assetId)));
+    }
+
+    /**
+     * Resolves presigned URLs for many assets at once: cached URLs are reused, the rest are loaded
+     * with a single query and signed in parallel. Assets that are missing or fail to sign are
+     * left out of the returned map.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<UUID, String> generatePresignedUrls(Collection<UUID> assetIds) {
+        Map<UUID, String> urls = new HashMap<>();
+        if (assetIds == null || assetIds.isEmpty()) {
+            return urls;
+        }
+
+        Set<UUID> uncached = new LinkedHashSet<>();
+        for (UUID assetId : assetIds) {
+            if (assetId == null || urls.containsKey(assetId)) {
+                continue;
+            }
+            presignedUrlCache.get(assetId).ifPresentOrElse(url -> urls.put(assetId, url), () -> uncached.add(assetId));
+        }
+        if (uncached.isEmpty()) {
+            return urls;
+        }
+
+        signAll(mediaAssetRepository.findAllById(uncached), urls);
+        return urls;
+    }
+
+    /**
+     * Same as {@link #generatePresignedUrls(Collection)} for assets the caller has already loaded, so
+     * the uncached ones are signed without querying them again.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<UUID, String> signAssets(List<MediaAsset> assets) {
+        Map<UUID, String> urls = new HashMap<>();
+        if (assets == null || assets.isEmpty()) {
+            return urls;
+        }
+
+        Map<UUID, MediaAsset> uncached = new LinkedHashMap<>();
+        for (MediaAsset asset : assets) {
+            if (asset == null || urls.containsKey(asset.getId())) {
+                continue;
+            }
+            presignedUrlCache.get(asset.getId())
+                    .ifPresentOrElse(url -> urls.put(asset.getId(), url), () -> uncached.put(asset.getId(), asset));
+        }
+        signAll(List.copyOf(uncached.values()), urls);
+        return urls;
+    }
+
+    private void signAll(List<MediaAsset> assets, Map<UUID, String> urls) {
+        if (assets.isEmpty()) {
+            return;
+        }
+        if (assets.size() == 1) {
+            MediaAsset asset = assets.get(0);
+            try {
+                urls.put(asset.getId(), signAndCache(asset));
+            } catch (MediaStorageException ex) {
+                log.warn("Failed to generate presigned URL for media asset {}", asset.getId(), ex);
+            }
+            return;
+        }
+
+        Map<UUID, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        assets.forEach(asset -> pending.put(asset.getId(),
+                CompletableFuture.supplyAsync(() -> signAndCache(asset), signingExecutor)));
+        pending.forEach((assetId, future) -> {
+            try {
+                urls.put(assetId, future.join());
+            } catch (CompletionException ex) {
+                log.warn("Failed to generate presigned URL for media asset {}", assetId, ex.getCause());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdownSigningExecutor() {
+        signingExecutor.shutdown();
+    }
+
+    private String signAndCache(MediaAsset asset) {
+        Duration expiry = boundedPresignedExpiry();
         try {
-            long expirySecondsLong = properties.presignedExpiry().toSeconds();
-            long bounded = Math.min(expirySecondsLong, 60L * 60 * 24 * 7); // Max 7 days per MinIO/S3 contract
-            int expirySeconds = Math.toIntExact(Math.max(bounded, 60)); // enforce minimum 60 seconds
-            return minioClient.getPresignedObjectUrl(
+            String url = minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
                             .bucket(asset.getBucket())
                             .object(asset.getObjectKey())
-                            .expiry(expirySeconds)
+                            .expiry(Math.toIntExact(expiry.toSeconds()))
                             .method(Method.GET)
                             .build()
             );
+            presignedUrlCache.put(asset.getId(), url, expiry);
+            return url;
         } catch (Exception ex) {
             throw new MediaStorageException("Failed to generate presigned URL", ex);
         }
     }
 
+    private Duration boundedPresignedExpiry() {
+        long expirySecondsLong = properties.presignedExpiry().toSeconds();
+        long bounded = Math.min(expirySecondsLong, 60L * 60 * 24 * 7); // Max 7 days per MinIO/S3 contract
+        return Duration.ofSeconds(Math.max(bounded, 60)); // enforce minimum 60 seconds
+    }
+
+    private static ThreadFactory signingThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "media-signing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private void ensureBucketExists() {
         if (bucketEnsured.get()) {
             return;
@@ -137,11 +337,11 @@ public class MediaStorageService {
         }
     }
 
-    private String buildObjectKey(MediaUploadCommand command) {
-        String sanitizedName = slugGenerator.generateSlug(extractBaseName(command.fileName()));
-        String extension = extractExtension(command.fileName());
+    private String buildObjectKey(MediaCategory category, String fileName) {
+        String sanitizedName = slugGenerator.generateSlug(extractBaseName(fileName));
+        String extension = extractExtension(fileName);
         return "%s/%s-%s.%s".formatted(
-                command.category().name().toLowerCase(Locale.ROOT),
+                category.name().toLowerCase(Locale.ROOT),
                 sanitizedName,
                 UUID.randomUUID(),
                 extension
@@ -0,0 +1,104 @@
+package com.araw.media.application;
+
+import com.araw.media.config.MinioProperties;
+import com.araw.shared.cache.LruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of presigned GET URLs keyed by media asset id. A URL is reused until
+ * {@code presigned-cache-safety-margin-minutes} before its signature expires, so clients never
+ * receive a link that dies while the page is still open. Once full, the least recently used URL
+ * makes room for a new one.
+ */
+@Component
+public class PresignedUrlCache implements MeterBinder {
+
+    private final MinioProperties properties;
+    private final Clock clock;
+
+    private final LruCache<UUID, CachedUrl> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Autowired
+    public PresignedUrlCache(MinioProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    PresignedUrlCache(MinioProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.entries = new LruCache<>(properties.getPresignedCacheMaxEntries());
+    }
+
+    public Optional<String> get(UUID assetId) {
+        CachedUrl cached = entries.get(assetId);
+        if (cached != null && clock.instant().isBefore(cached.reuseUntil())) {
+            hits.incrementAndGet();
+            return Optional.of(cached.url());
+        }
+        if (cached != null) {
+            entries.remove(assetId, cached);
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(UUID assetId, String url, Duration signedFor) {
+        if (properties.getPresignedCacheMaxEntries() == 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant reuseUntil = now.plus(signedFor).minus(properties.presignedCacheSafetyMargin());
+        if (!reuseUntil.isAfter(now)) {
+            return;
+        }
+        entries.put(assetId, new CachedUrl(url, reuseUntil));
+    }
+
+    public void evict(UUID assetId) {
+        entries.remove(assetId);
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("media.presigned_url.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Presigned URL lookups served from cache")
+                .register(registry);
+        FunctionCounter.builder("media.presigned_url.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Presigned URL lookups that required signing")
+                .register(registry);
+        Gauge.builder("media.presigned_url.cache.size", entries, LruCache::size)
+                .description("Presigned URLs currently cached")
+                .register(registry);
+    }
+
+    private record CachedUrl(String url, Instant reuseUntil) {
+    }
+}
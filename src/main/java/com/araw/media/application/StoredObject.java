@@ -0,0 +1,7 @@
+package com.araw.media.application;
+
+/**
+ * Object written to storage that has no {@link com.araw.media.domain.model.MediaAsset} row yet.
+ */
+public record StoredObject(String bucket, String objectKey, String etag) {
+}
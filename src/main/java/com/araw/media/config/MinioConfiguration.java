@@ -4,6 +4,7 @@ import io.minio.MinioClient;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableConfigurationProperties(MinioProperties.class)
@@ -11,9 +12,13 @@ public class MinioConfiguration {
 
     @Bean
     public MinioClient minioClient(MinioProperties properties) {
-        return MinioClient.builder()
+        MinioClient.Builder builder = MinioClient.builder()
                 .endpoint(properties.getEndpoint())
-                .credentials(properties.getAccessKey(), properties.getSecretKey())
-                .build();
+                .credentials(properties.getAccessKey(), properties.getSecretKey());
+        if (StringUtils.hasText(properties.getRegion())) {
+            // A known region lets URL signing skip the bucket-location lookup.
+            builder.region(properties.getRegion());
+        }
+        return builder.build();
     }
 }
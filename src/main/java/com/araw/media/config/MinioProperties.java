@@ -30,6 +30,15 @@ public class MinioProperties {
     @Min(1)
     private int presignedExpiryMinutes = 60;
 
+    /**
+     * Cached presigned URLs are handed out until this many minutes before they expire.
+     */
+    @Min(0)
+    private int presignedCacheSafetyMarginMinutes = 5;
+
+    @Min(0)
+    private int presignedCacheMaxEntries = 10_000;
+
     public String getEndpoint() {
         return endpoint;
     }
@@ -86,6 +95,26 @@ public class MinioProperties {
         this.presignedExpiryMinutes = presignedExpiryMinutes;
     }
 
+    public int getPresignedCacheSafetyMarginMinutes() {
+        return presignedCacheSafetyMarginMinutes;
+    }
+
+    public void setPresignedCacheSafetyMarginMinutes(int presignedCacheSafetyMarginMinutes) {
+        this.presignedCacheSafetyMarginMinutes = presignedCacheSafetyMarginMinutes;
+    }
+
+    public int getPresignedCacheMaxEntries() {
+        return presignedCacheMaxEntries;
+    }
+
+    public void setPresignedCacheMaxEntries(int presignedCacheMaxEntries) {
+        this.presignedCacheMaxEntries = presignedCacheMaxEntries;
+    }
+
+    public Duration presignedCacheSafetyMargin() {
+        return Duration.ofMinutes(presignedCacheSafetyMarginMinutes);
+    }
+
     public Duration presignedExpiry() {
         return Duration.ofMinutes(presignedExpiryMinutes);
     }
@@ -1,12 +1,11 @@
 package com.araw.media.domain.model;
 
 import com.araw.shared.persistence.AuditableEntity;
+import com.araw.shared.persistence.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -22,7 +21,7 @@ import java.util.UUID;
 public class MediaAsset extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "bucket", nullable = false, length = 80)
@@ -50,6 +49,9 @@ public class MediaAsset extends AuditableEntity {
     @Column(name = "description", length = 240)
     private String description;
 
+    @Column(name = "checksum_sha256", length = 64)
+    private String checksumSha256;
+
     protected MediaAsset(String bucket,
                          String objectKey,
                          String fileName,
@@ -79,6 +81,20 @@ public class MediaAsset extends AuditableEntity {
         return new MediaAsset(bucket, objectKey, fileName, contentType, fileSize, category, etag, description);
     }
 
+    public static MediaAsset create(String bucket,
+                                    String objectKey,
+                                    String fileName,
+                                    String contentType,
+                                    long fileSize,
+                                    MediaCategory category,
+                                    String etag,
+                                    String description,
+                                    String checksumSha256) {
+        MediaAsset asset = new MediaAsset(bucket, objectKey, fileName, contentType, fileSize, category, etag, description);
+        asset.checksumSha256 = checksumSha256;
+        return asset;
+    }
+
     public void updateDescription(String description) {
         this.description = description != null ? description.trim() : null;
     }
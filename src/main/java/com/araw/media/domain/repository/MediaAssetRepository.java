@@ -5,6 +5,8 @@ import com.araw.media.domain.model.MediaCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,10 +16,14 @@ public interface MediaAssetRepository {
 
     Optional<MediaAsset> findById(UUID id);
 
+    List<MediaAsset> findAllById(Iterable<UUID> ids);
+
     Optional<MediaAsset> findByObjectKey(String objectKey);
 
     Page<MediaAsset> findAllByCategory(MediaCategory category, Pageable pageable);
 
+    List<MediaAsset> scrollByCategory(MediaCategory category, OffsetDateTime afterCreatedAt, UUID afterId, Pageable window);
+
     void delete(MediaAsset asset);
 
     long count();
@@ -6,8 +6,12 @@ import com.araw.media.domain.repository.MediaAssetRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +24,16 @@ public interface JpaMediaAssetRepository extends MediaAssetRepository, JpaReposi
     @Override
     Page<MediaAsset> findAllByCategory(MediaCategory category, Pageable pageable);
 
+    @Override
+    @Query("SELECT m FROM MediaAsset m WHERE m.category = :category AND " +
+            "(:afterCreatedAt IS NULL OR m.createdAt < :afterCreatedAt " +
+            "OR (m.createdAt = :afterCreatedAt AND m.id < :afterId)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MediaAsset> scrollByCategory(@Param("category") MediaCategory category,
+                                      @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+                                      @Param("afterId") UUID afterId,
+                                      Pageable window);
+
     @Override
     long countByCategory(MediaCategory category);
 }
@@ -6,7 +6,9 @@ import com.araw.media.domain.model.MediaAsset;
 import com.araw.media.domain.model.MediaCategory;
 import com.araw.media.presentation.dto.MediaAssetResponse;
 import com.araw.media.presentation.mapper.MediaAssetMapper;
+import com.araw.shared.api.CursorPage;
 import com.araw.shared.api.PagedResponse;
+import com.araw.shared.api.TotalMode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -70,11 +72,23 @@ public class MediaController {
     @GetMapping
     public PagedResponse<MediaAssetResponse> listByCategory(@RequestParam("category") MediaCategory category,
                                                             Pageable pageable) {
-        Page<MediaAssetResponse> page = mediaStorageService.listByCategory(category, pageable)
-                .map(asset -> mapper.toResponse(asset, mediaStorageService.generatePresignedUrl(asset.getId())));
+        Page<MediaAsset> assets = mediaStorageService.listByCategory(category, pageable);
+        Map<UUID, String> urls = mediaStorageService.signAssets(assets.getContent());
+        Page<MediaAssetResponse> page = assets.map(asset -> mapper.toResponse(asset, urls.get(asset.getId())));
         return PagedResponse.fromPage(page);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<MediaAssetResponse> scrollByCategory(
+            @RequestParam("category") MediaCategory category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "total", defaultValue = "NONE") TotalMode total) {
+        CursorPage<MediaAsset> assets = mediaStorageService.scrollByCategory(category, cursor, size, total);
+        Map<UUID, String> urls = mediaStorageService.signAssets(assets.content());
+        return assets.map(asset -> mapper.toResponse(asset, urls.get(asset.getId())));
+    }
+
     @DeleteMapping("/{assetId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteAsset(@PathVariable UUID assetId) {
@@ -0,0 +1,123 @@
+package com.araw.notification.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.notifications.outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * Pause between dispatcher runs once the outbox has been drained.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Emails claimed and sent over one SMTP connection per dispatcher round.
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    /**
+     * Delivery attempts before an email is dead-lettered.
+     */
+    @Min(1)
+    private int maxAttempts = 8;
+
+    /**
+     * Delay after the first failed attempt; it doubles with every further failure up to {@code max-backoff}.
+     */
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * How long a claimed email stays invisible to other dispatchers. It only matters when a dispatcher dies
+     * mid-batch, and must comfortably exceed the time to send one batch.
+     */
+    @NotNull
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * How long sent and dead-lettered emails are kept before they are deleted.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * How often sent and dead-lettered emails past their retention are deleted.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
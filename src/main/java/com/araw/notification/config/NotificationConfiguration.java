@@ -6,7 +6,8 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties({
         PublicationNotificationProperties.class,
-        EmailTemplateProperties.class
+        EmailTemplateProperties.class,
+        EmailOutboxProperties.class
 })
 public class NotificationConfiguration {
 }
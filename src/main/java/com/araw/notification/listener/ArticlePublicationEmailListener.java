@@ -2,10 +2,10 @@ package com.araw.notification.listener;
 
 import com.araw.content.domain.event.ArticlePublishedEvent;
 import com.araw.notification.config.PublicationNotificationProperties;
+import com.araw.notification.outbox.EmailOutbox;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.mail.MailProperties;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -17,11 +17,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticlePublicationEmailListener {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutbox emailOutbox;
     private final PublicationNotificationProperties properties;
     private final MailProperties mailProperties;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // Queued before commit so the notification is stored with the publication itself.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onArticlePublished(ArticlePublishedEvent event) {
         if (!properties.isEnabled()) {
             return;
@@ -39,7 +40,7 @@ public class ArticlePublicationEmailListener {
         }
         message.setSubject("New ARAW story: " + event.title());
         message.setText(buildBody(event));
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 
     private String resolveFromAddress() {
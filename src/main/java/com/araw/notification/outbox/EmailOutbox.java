@@ -0,0 +1,28 @@
+package com.araw.notification.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Entry point for outbound email. Messages are stored in {@code email_outbox} as part of the caller's
+ * transaction, so they are only sent if the change that triggered them commits, and SMTP is never on the
+ * request path. {@link EmailOutboxDispatcher} delivers them in the background.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private final OutboundEmailRepository outboundEmailRepository;
+
+    @Transactional
+    public UUID enqueue(SimpleMailMessage message) {
+        OutboundEmail email = OutboundEmail.from(message, OffsetDateTime.now(ZoneOffset.UTC));
+        return outboundEmailRepository.save(email).getId();
+    }
+}
@@ -0,0 +1,219 @@
+package com.araw.notification.outbox;
+
+import com.araw.notification.config.EmailOutboxProperties;
+import com.araw.shared.scheduling.BackgroundJobs;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background sender for {@link EmailOutbox}. Each round claims a batch of due emails with
+ * {@code FOR UPDATE SKIP LOCKED}, commits the claim, and hands the whole batch to
+ * {@link JavaMailSender#send(SimpleMailMessage...)}, which delivers it over a single SMTP connection.
+ * Failed emails are retried with exponential backoff and dead-lettered after {@code max-attempts}.
+ * <p>
+ * Delivery is at least once: an email sent just before the process dies is sent again when its claim
+ * expires. An outcome is only recorded while the claim still holds; if the lease ran out and another
+ * dispatcher claimed the email in the meantime, that dispatcher records it instead.
+ * <p>
+ * Sent and dead-lettered emails are deleted once they are older than {@code retention}.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher implements MeterBinder {
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final JavaMailSender mailSender;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundJobs backgroundJobs;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    public EmailOutboxDispatcher(OutboundEmailRepository outboundEmailRepository,
+                                 JavaMailSender mailSender,
+                                 EmailOutboxProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 BackgroundJobs backgroundJobs) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backgroundJobs = backgroundJobs;
+    }
+
+    @PostConstruct
+    void scheduleDispatch() {
+        // Undelivered emails stay in the outbox, so there is nothing to flush on shutdown.
+        backgroundJobs.scheduleWithFixedDelay("email-outbox-dispatcher", properties.getPollInterval(), this::drainQuietly);
+        backgroundJobs.scheduleWithFixedDelay("email-outbox-purger", properties.getPurgeInterval(), this::purgeQuietly);
+    }
+
+    /**
+     * Sends one batch of due emails and returns how many were attempted.
+     */
+    public int dispatch() {
+        OffsetDateTime claimedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OutboundEmail> batch = transactionTemplate.execute(status -> claim(claimedAt));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<OutboundEmail, SimpleMailMessage> messages = batch.stream()
+                .collect(Collectors.toMap(Function.identity(), OutboundEmail::toMessage,
+                        (first, second) -> first, IdentityHashMap::new));
+        Map<Object, Exception> failures = send(messages.values().toArray(SimpleMailMessage[]::new));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordOutcome(batch, messages, failures));
+        } catch (OptimisticLockingFailureException ex) {
+            // Another dispatcher claimed part of the batch while this round committed; it owns those emails now.
+            log.warn("Dropped the outcome of an outbox batch whose claim was taken over: {}", ex.getMessage());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Deletes sent and dead-lettered emails older than the retention window and returns how many were removed.
+     */
+    public int purgeFinished() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(properties.getRetention());
+        Integer purged = transactionTemplate.execute(status -> outboundEmailRepository.deleteFinishedBefore(cutoff));
+        return purged != null ? purged : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("notifications.email.outbox", sent, AtomicLong::get)
+                .tag("result", "sent")
+                .description("Outbox emails delivered to the SMTP server")
+                .register(registry);
+        FunctionCounter.builder("notifications.email.outbox", retried, AtomicLong::get)
+                .tag("result", "retry")
+                .description("Outbox delivery attempts that failed and were rescheduled")
+                .register(registry);
+        FunctionCounter.builder("notifications.email.outbox", deadLettered, AtomicLong::get)
+                .tag("result", "dead")
+                .description("Outbox emails dead-lettered after exhausting their attempts")
+                .register(registry);
+    }
+
+    private void drainQuietly() {
+        try {
+            // Keep going while full batches come back; a drained outbox waits for the next poll.
+            int dispatched;
+            do {
+                dispatched = dispatch();
+            } while (dispatched == properties.getBatchSize());
+        } catch (RuntimeException ex) {
+            log.warn("Email outbox dispatch failed; it will be retried", ex);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged = purgeFinished();
+            if (purged > 0) {
+                log.debug("Purged {} finished outbox emails", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Purging finished outbox emails failed; it will be retried", ex);
+        }
+    }
+
+    private List<OutboundEmail> claim(OffsetDateTime now) {
+        List<OutboundEmail> batch = outboundEmailRepository.lockDue(now, properties.getBatchSize());
+        OffsetDateTime leaseUntil = now.plus(properties.getClaimTimeout());
+        batch.forEach(email -> email.claim(leaseUntil));
+        return batch;
+    }
+
+    private Map<Object, Exception> send(SimpleMailMessage[] messages) {
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException ex) {
+            if (!ex.getFailedMessages().isEmpty()) {
+                Map<Object, Exception> failures = new IdentityHashMap<>();
+                failures.putAll(ex.getFailedMessages());
+                return failures;
+            }
+            return failAll(messages, ex);
+        } catch (MailException ex) {
+            return failAll(messages, ex);
+        }
+    }
+
+    private void recordOutcome(List<OutboundEmail> batch,
+                               Map<OutboundEmail, SimpleMailMessage> messages,
+                               Map<Object, Exception> failures) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<UUID> ids = batch.stream().map(OutboundEmail::getId).toList();
+        Map<UUID, OutboundEmail> current = outboundEmailRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(OutboundEmail::getId, Function.identity()));
+        for (OutboundEmail claimed : batch) {
+            OutboundEmail email = current.get(claimed.getId());
+            if (email == null || email.getVersion() != claimed.getVersion()) {
+                log.debug("Outbox email {} was claimed again after its lease ran out; leaving it to that claim",
+                        claimed.getId());
+                continue;
+            }
+            Exception failure = failures.get(messages.get(claimed));
+            if (failure == null) {
+                email.markSent(now);
+                sent.incrementAndGet();
+                continue;
+            }
+            email.markFailed(failure.getMessage(), now, backoff(email.getAttempts()), properties.getMaxAttempts());
+            if (email.getStatus() == OutboundEmailStatus.DEAD) {
+                deadLettered.incrementAndGet();
+                log.error("Dead-lettered outbox email {} after {} attempts: {}", email.getId(), email.getAttempts(),
+                        failure.getMessage());
+            } else {
+                retried.incrementAndGet();
+                log.warn("Outbox email {} failed on attempt {}: {}", email.getId(), email.getAttempts(),
+                        failure.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration maxBackoff = properties.getMaxBackoff();
+        Duration delay = properties.getInitialBackoff();
+        for (int attempt = 1; attempt < attempts && delay.compareTo(maxBackoff) < 0; attempt++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static Map<Object, Exception> failAll(SimpleMailMessage[] messages, Exception failure) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, failure);
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,145 @@
+package com.araw.notification.outbox;
+
+import com.araw.shared.persistence.AuditableEntity;
+import com.araw.shared.persistence.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "email_outbox")
+public class OutboundEmail extends AuditableEntity {
+
+    private static final String ADDRESS_SEPARATOR = "\n";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "from_address", length = 320)
+    private String fromAddress;
+
+    @Column(name = "to_addresses", nullable = false, columnDefinition = "TEXT")
+    private String toAddresses;
+
+    @Column(name = "cc_addresses", columnDefinition = "TEXT")
+    private String ccAddresses;
+
+    @Column(name = "bcc_addresses", columnDefinition = "TEXT")
+    private String bccAddresses;
+
+    @Column(name = "subject", nullable = false, length = 998)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboundEmailStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    // Bumped by every claim, so an outcome recorded under an expired lease is refused.
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    static OutboundEmail from(SimpleMailMessage message, OffsetDateTime now) {
+        if (message.getTo() == null || message.getTo().length == 0) {
+            throw new IllegalArgumentException("At least one recipient is required");
+        }
+        OutboundEmail email = new OutboundEmail();
+        email.fromAddress = message.getFrom();
+        email.toAddresses = join(message.getTo());
+        email.ccAddresses = join(message.getCc());
+        email.bccAddresses = join(message.getBcc());
+        email.subject = message.getSubject() != null ? message.getSubject() : "";
+        email.body = message.getText() != null ? message.getText() : "";
+        email.status = OutboundEmailStatus.PENDING;
+        email.nextAttemptAt = now;
+        return email;
+    }
+
+    SimpleMailMessage toMessage() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromAddress);
+        message.setTo(split(toAddresses));
+        if (ccAddresses != null) {
+            message.setCc(split(ccAddresses));
+        }
+        if (bccAddresses != null) {
+            message.setBcc(split(bccAddresses));
+        }
+        message.setSubject(subject);
+        message.setText(body);
+        return message;
+    }
+
+    /**
+     * Leases the email to the current dispatcher. Should the dispatcher die before recording the outcome,
+     * the email becomes due again once the lease runs out.
+     */
+    void claim(OffsetDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    void markSent(OffsetDateTime now) {
+        this.status = OutboundEmailStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Schedules another attempt after {@code backoff}, or dead-letters the email once it has used up
+     * {@code maxAttempts}.
+     */
+    void markFailed(String error, OffsetDateTime now, Duration backoff, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboundEmailStatus.DEAD;
+        } else {
+            this.nextAttemptAt = now.plus(backoff);
+        }
+    }
+
+    private static String join(String[] addresses) {
+        if (addresses == null || addresses.length == 0) {
+            return null;
+        }
+        return String.join(ADDRESS_SEPARATOR, addresses);
+    }
+
+    private static String[] split(String addresses) {
+        return Arrays.stream(addresses.split(ADDRESS_SEPARATOR))
+                .filter(address -> !address.isBlank())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,28 @@
+package com.araw.notification.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, UUID> {
+
+    /**
+     * Locks up to {@code limit} due emails. Rows already locked by another dispatcher are skipped rather
+     * than waited on, so several nodes can drain the outbox side by side.
+     */
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboundEmail> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboundEmailStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboundEmail e WHERE e.status <> com.araw.notification.outbox.OutboundEmailStatus.PENDING " +
+            "AND e.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
@@ -0,0 +1,7 @@
+package com.araw.notification.outbox;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
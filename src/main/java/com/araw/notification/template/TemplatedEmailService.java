@@ -1,11 +1,11 @@
 package com.araw.notification.template;
 
 import com.araw.notification.config.EmailTemplateProperties;
+import com.araw.notification.outbox.EmailOutbox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.mail.MailProperties;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -20,21 +20,25 @@ public class TemplatedEmailService {
     private static final Pattern SUBJECT_PLACEHOLDER_PATTERN =
             Pattern.compile("\\{\\{\\s*([a-zA-Z0-9_.-]+)\\s*}}");
 
-    private final JavaMailSender mailSender;
+    private final EmailOutbox emailOutbox;
     private final MailProperties mailProperties;
     private final EmailTemplateRenderer renderer;
     private final EmailTemplateProperties templateProperties;
 
-    public TemplatedEmailService(JavaMailSender mailSender,
+    public TemplatedEmailService(EmailOutbox emailOutbox,
                                  MailProperties mailProperties,
                                  EmailTemplateRenderer renderer,
                                  EmailTemplateProperties templateProperties) {
-        this.mailSender = mailSender;
+        this.emailOutbox = emailOutbox;
         this.mailProperties = mailProperties;
         this.renderer = renderer;
         this.templateProperties = templateProperties;
     }
 
+    /**
+     * Renders the email and queues it in the outbox within the caller's transaction; it is delivered
+     * after commit by the outbox dispatcher.
+     */
     public void send(TemplatedEmailRequest request) {
         if (!isMailConfigured()) {
             log.warn("Skipping email send for template {}: mail credentials are not configured",
@@ -66,7 +70,7 @@ public class TemplatedEmailService {
             message.setFrom(from);
         }
 
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 
     public EmailTemplateProperties getTemplateProperties() {
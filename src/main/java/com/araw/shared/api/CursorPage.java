@@ -0,0 +1,65 @@
+package com.araw.shared.api;
+
+import com.araw.shared.persistence.TotalCount;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of a newest-first listing addressed by a {@link KeysetCursor} rather than a page number, so
+ * deep pages cost the same as the first one and no count query runs unless a total is requested.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long totalElements,
+        boolean totalEstimated
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Smallest offset page, used to reuse an existing paged query's count when an exact total is requested.
+     */
+    public static final Pageable COUNT_PROBE = PageRequest.of(0, 1);
+
+    public static int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Limit for a seek query: one row more than requested so {@link #fromRows} can tell whether another
+     * page follows without counting.
+     */
+    public static Pageable window(int size) {
+        return PageRequest.of(0, normalizeSize(size) + 1);
+    }
+
+    public static <T> CursorPage<T> fromRows(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        int pageSize = normalizeSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : List.copyOf(rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, pageSize, hasNext, nextCursor, null, false);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, hasNext, nextCursor, totalElements, totalEstimated);
+    }
+
+    public CursorPage<T> withTotal(TotalCount total) {
+        if (total == null) {
+            return this;
+        }
+        return new CursorPage<>(content, size, hasNext, nextCursor, total.value(), total.estimated());
+    }
+}
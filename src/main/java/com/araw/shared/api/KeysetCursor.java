@@ -0,0 +1,75 @@
+package com.araw.shared.api;
+
+import com.araw.shared.exception.DomainValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position of the last row a client has seen in a newest-first listing. The cursor carries the sort
+ * timestamp and the row id so ties on the timestamp are broken deterministically; it is handed to
+ * clients as an opaque base64url token.
+ */
+public record KeysetCursor(String sortKey, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        Objects.requireNonNull(sortKey, "sortKey must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    public static KeysetCursor of(LocalDateTime sortKey, UUID id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    public static KeysetCursor of(OffsetDateTime sortKey, UUID id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. Blank tokens mean "start from the first row" and
+     * decode to {@code null}.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new DomainValidationException("Invalid cursor");
+            }
+            return new KeysetCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new DomainValidationException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime localDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException ex) {
+            throw new DomainValidationException("Invalid cursor", ex);
+        }
+    }
+
+    public OffsetDateTime offsetDateTime() {
+        try {
+            return OffsetDateTime.parse(sortKey);
+        } catch (DateTimeParseException ex) {
+            throw new DomainValidationException("Invalid cursor", ex);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.araw.shared.api;
 
+import com.araw.shared.exception.DomainConflictException;
 import com.araw.shared.exception.DomainNotFoundException;
 import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.exception.TooManyRequestsException;
+import com.araw.shared.exception.UnprocessableRequestException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -32,6 +36,16 @@ public class RestExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex, request, List.of(ex.getMessage()));
     }
 
+    @ExceptionHandler(DomainConflictException.class)
+    public ResponseEntity<ApiError> handleDomainConflict(DomainConflictException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.CONFLICT, ex, request, List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(UnprocessableRequestException.class)
+    public ResponseEntity<ApiError> handleUnprocessable(UnprocessableRequestException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex, request, List.of(ex.getMessage()));
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiError> handleConstraintViolation(ConstraintViolationException ex,
                                                                HttpServletRequest request) {
@@ -59,6 +73,21 @@ public class RestExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, ex, request, List.of("Database constraint violated"));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest request) {
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+        ApiError body = ApiError.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                List.of(ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(body);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiError> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
         return buildResponse(HttpStatus.FORBIDDEN, ex, request, List.of(ex.getMessage()));
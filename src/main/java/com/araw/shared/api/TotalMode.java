@@ -0,0 +1,13 @@
+package com.araw.shared.api;
+
+/**
+ * How a cursor page reports the size of the full result set.
+ */
+public enum TotalMode {
+    /** No total; the cheapest option and the default. */
+    NONE,
+    /** An exact {@code COUNT(*)} over the filtered rows. */
+    EXACT,
+    /** The planner's row estimate for unfiltered listings, falling back to an exact count otherwise. */
+    ESTIMATE
+}
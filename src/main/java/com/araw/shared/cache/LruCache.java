@@ -0,0 +1,51 @@
+package com.araw.shared.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Thread-safe map that holds at most {@code maxEntries} entries and drops the least recently used one
+ * when a put goes over. Backed by an access-ordered {@link LinkedHashMap} under the instance lock, so
+ * lookups and puts, including the eviction, are O(1).
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    public LruCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void remove(K key, V value) {
+        entries.remove(key, value);
+    }
+
+    /**
+     * Replaces every value in place without changing the recency order.
+     */
+    public synchronized void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        entries.replaceAll(function);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
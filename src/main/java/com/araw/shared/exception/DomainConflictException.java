@@ -0,0 +1,8 @@
+package com.araw.shared.exception;
+
+public class DomainConflictException extends RuntimeException {
+
+    public DomainConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.araw.shared.exception;
+
+public class UnprocessableRequestException extends RuntimeException {
+
+    public UnprocessableRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,89 @@
+package com.araw.shared.http;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.http.public-cache")
+public class HttpCacheProperties {
+
+    /**
+     * {@code max-age} advertised to browsers and shared caches for public read endpoints.
+     */
+    @NotNull
+    private Duration maxAge = Duration.ofSeconds(60);
+
+    /**
+     * {@code stale-while-revalidate} window a CDN may serve while it refetches in the background.
+     */
+    @NotNull
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+    /**
+     * Endpoint that accepts {@code POST} purge requests carrying a {@code Surrogate-Key} header.
+     * Purging is disabled when blank.
+     */
+    private String purgeUrl;
+
+    private String purgeToken;
+
+    @NotNull
+    private Duration purgeTimeout = Duration.ofSeconds(2);
+
+    /**
+     * How often keys queued by content changes are sent to {@code purge-url}, as one request.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofSeconds(1);
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public void setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public String getPurgeUrl() {
+        return purgeUrl;
+    }
+
+    public void setPurgeUrl(String purgeUrl) {
+        this.purgeUrl = purgeUrl;
+    }
+
+    public String getPurgeToken() {
+        return purgeToken;
+    }
+
+    public void setPurgeToken(String purgeToken) {
+        this.purgeToken = purgeToken;
+    }
+
+    public Duration getPurgeTimeout() {
+        return purgeTimeout;
+    }
+
+    public void setPurgeTimeout(Duration purgeTimeout) {
+        this.purgeTimeout = purgeTimeout;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
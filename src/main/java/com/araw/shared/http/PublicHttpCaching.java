@@ -0,0 +1,88 @@
+package com.araw.shared.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds cacheable responses for public read endpoints: a weak {@code ETag}, shared-cache
+ * {@code Cache-Control} directives and a {@code Surrogate-Key} header that {@link SurrogateKeyPurger}
+ * can later invalidate.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicHttpCaching {
+
+    public static final String SURROGATE_KEY_HEADER = "Surrogate-Key";
+
+    private final HttpCacheProperties properties;
+
+    public static String weakTag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    /**
+     * Weak comparison as required for {@code If-None-Match}; accepts lists and {@code *}.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String expected = opaqueTag(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || opaqueTag(candidate).equals(expected));
+    }
+
+    public <T> ResponseEntity<T> notModified(String etag, String... surrogateKeys) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .header(SURROGATE_KEY_HEADER, String.join(" ", surrogateKeys))
+                .build();
+    }
+
+    public <T> ResponseEntity<T> ok(T body, String etag, String... surrogateKeys) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .header(SURROGATE_KEY_HEADER, String.join(" ", surrogateKeys))
+                .body(body);
+    }
+
+    public <T> ResponseEntity<T> ok(T body, MediaType contentType, String etag, String... surrogateKeys) {
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .header(SURROGATE_KEY_HEADER, String.join(" ", surrogateKeys))
+                .body(body);
+    }
+
+    /**
+     * Plain response for content a public endpoint must not let any cache keep, such as an unpublished
+     * draft fetched by its slug.
+     */
+    public <T> ResponseEntity<T> noStore(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore().cachePrivate())
+                .body(body);
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(properties.getMaxAge().toSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .staleWhileRevalidate(properties.getStaleWhileRevalidate().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static String opaqueTag(String tag) {
+        String trimmed = tag.trim();
+        return trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+    }
+}
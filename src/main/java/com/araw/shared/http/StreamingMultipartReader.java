@@ -0,0 +1,241 @@
+package com.araw.shared.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Forward-only reader for {@code multipart/form-data} bodies (RFC 7578). Parts are handed out one at a time
+ * with a body stream that reads straight from the request, so a large file part is never buffered in
+ * memory or spooled to disk. Only a fixed window of {@value #BUFFER_SIZE} bytes is held at any time.
+ * <p>
+ * Calling {@link #next()} skips whatever is left of the previous part's body.
+ */
+public final class StreamingMultipartReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+    private static final Pattern BOUNDARY_PARAMETER =
+            Pattern.compile(";\\s*boundary\\s*=\\s*(?:\"([^\"]+)\"|([^;\\s]+))", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DISPOSITION_PARAMETER =
+            Pattern.compile(";\\s*([^=;\\s]+)\\s*=\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|([^;\\s]*))");
+
+    private final InputStream input;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean exhausted;
+    private boolean finished;
+    private PartBody current;
+
+    public StreamingMultipartReader(InputStream input, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("Invalid multipart boundary");
+        }
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE];
+        // Pretend the body starts with CRLF so the first boundary matches the same delimiter as the others.
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        limit = 2;
+    }
+
+    /**
+     * Extracts the boundary from a {@code multipart/form-data} content type, or throws
+     * {@link IllegalArgumentException} when the request is not a multipart form.
+     */
+    public static String boundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            throw new IllegalArgumentException("Expected a multipart/form-data request");
+        }
+        Matcher matcher = BOUNDARY_PARAMETER.matcher(contentType);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Multipart request is missing its boundary");
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+
+    /**
+     * Advances to the next part, or returns {@code null} after the closing boundary.
+     */
+    public Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current == null) {
+            new PartBody().skipRemaining();
+        } else {
+            current.skipRemaining();
+        }
+        require(2);
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        if (buffer[position] != '\r' || buffer[position + 1] != '\n') {
+            throw new IOException("Malformed multipart body: boundary is not followed by CRLF");
+        }
+        position += 2;
+
+        Map<String, String> headers = readHeaders();
+        Map<String, String> disposition = parseDisposition(headers.get("content-disposition"));
+        current = new PartBody();
+        return new Part(disposition.get("name"), disposition.get("filename"), headers.get("content-type"), current);
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        int consumed = 0;
+        while (true) {
+            int end = indexOf(new byte[]{'\r', '\n'}, position);
+            while (end < 0) {
+                if (limit - position > MAX_HEADER_BYTES || !fill()) {
+                    throw new IOException("Malformed multipart body: part headers are too large or truncated");
+                }
+                end = indexOf(new byte[]{'\r', '\n'}, position);
+            }
+            String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+            consumed += end + 2 - position;
+            position = end + 2;
+            if (consumed > MAX_HEADER_BYTES) {
+                throw new IOException("Malformed multipart body: part headers are too large");
+            }
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private static Map<String, String> parseDisposition(String header) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (header == null) {
+            return parameters;
+        }
+        Matcher matcher = DISPOSITION_PARAMETER.matcher(header);
+        while (matcher.find()) {
+            String value = matcher.group(2) != null
+                    ? matcher.group(2).replaceAll("\\\\(.)", "$1")
+                    : matcher.group(3);
+            parameters.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), value);
+        }
+        return parameters;
+    }
+
+    private void require(int bytes) throws IOException {
+        while (limit - position < bytes) {
+            if (!fill()) {
+                throw new EOFException("Multipart body ended before the closing boundary");
+            }
+        }
+    }
+
+    /**
+     * Moves the unread bytes to the front of the buffer and reads more behind them. Returns {@code false}
+     * once the underlying stream is exhausted.
+     */
+    private boolean fill() throws IOException {
+        if (exhausted) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            return true;
+        }
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            exhausted = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private int indexOf(byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= limit - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    public record Part(String name, String fileName, String contentType, InputStream body) {
+
+        public boolean isFile() {
+            return fileName != null;
+        }
+    }
+
+    private final class PartBody extends InputStream {
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (ended) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            while (true) {
+                int boundaryAt = indexOf(delimiter, position);
+                if (boundaryAt == position) {
+                    position += delimiter.length;
+                    ended = true;
+                    return -1;
+                }
+                // Bytes before a found boundary, or that are too far from the end to start one, are body.
+                int available = boundaryAt >= 0 ? boundaryAt : limit - delimiter.length + 1;
+                if (available > position) {
+                    int count = Math.min(length, available - position);
+                    System.arraycopy(buffer, position, target, offset, count);
+                    position += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new EOFException("Multipart body ended before the closing boundary");
+                }
+            }
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        private void skipRemaining() throws IOException {
+            byte[] scratch = new byte[8192];
+            while (read(scratch, 0, scratch.length) >= 0) {
+                // discard
+            }
+        }
+    }
+}
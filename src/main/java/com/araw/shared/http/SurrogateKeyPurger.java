@@ -0,0 +1,105 @@
+package com.araw.shared.http;
+
+import com.araw.shared.scheduling.BackgroundJobs;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends surrogate-key purges to the configured CDN or reverse proxy. {@link #purge} only queues the
+ * keys, so the request that changed the content never waits on the CDN; a background job sends
+ * everything queued since its last round in one purge request every {@code purge-interval}.
+ * Failures are logged and swallowed: responses still expire through {@code max-age}.
+ */
+@Component
+@Slf4j
+public class SurrogateKeyPurger {
+
+    /**
+     * Order of listeners that drop node-local copies of changed content. They run before
+     * {@link #PURGE_ORDER}, so a CDN miss right after the purge is never refilled from a stale copy.
+     */
+    public static final int LOCAL_INVALIDATION_ORDER = 0;
+
+    /**
+     * Order of listeners that queue surrogate-key purges.
+     */
+    public static final int PURGE_ORDER = 100;
+
+    private final HttpCacheProperties properties;
+    private final RestClient restClient;
+    private final BackgroundJobs backgroundJobs;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public SurrogateKeyPurger(HttpCacheProperties properties,
+                              RestClient.Builder restClientBuilder,
+                              BackgroundJobs backgroundJobs) {
+        this.properties = properties;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getPurgeTimeout());
+        requestFactory.setReadTimeout(properties.getPurgeTimeout());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.backgroundJobs = backgroundJobs;
+    }
+
+    @PostConstruct
+    void schedulePurge() {
+        if (!isEnabled()) {
+            return;
+        }
+        backgroundJobs.scheduleWithFixedDelay("surrogate-key-purger", properties.getPurgeInterval(), this::sendPending);
+    }
+
+    /**
+     * Background jobs have stopped by the time beans are destroyed, so this last purge runs alone.
+     */
+    @PreDestroy
+    void purgeOnShutdown() {
+        sendPending();
+    }
+
+    public void purge(Collection<String> surrogateKeys) {
+        if (!isEnabled() || surrogateKeys.isEmpty()) {
+            return;
+        }
+        pending.addAll(surrogateKeys);
+    }
+
+    private void sendPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> surrogateKeys = new ArrayList<>(pending);
+        pending.removeAll(surrogateKeys);
+        try {
+            restClient.post()
+                    .uri(properties.getPurgeUrl())
+                    .header(PublicHttpCaching.SURROGATE_KEY_HEADER, String.join(" ", surrogateKeys))
+                    .headers(headers -> {
+                        if (StringUtils.hasText(properties.getPurgeToken())) {
+                            headers.setBearerAuth(properties.getPurgeToken());
+                        }
+                    })
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException ex) {
+            log.warn("Failed to purge surrogate keys {}", surrogateKeys, ex);
+        }
+    }
+
+    private boolean isEnabled() {
+        return StringUtils.hasText(properties.getPurgeUrl());
+    }
+}
@@ -0,0 +1,49 @@
+package com.araw.shared.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hashes the client address, user agent and language of a request into a 64-bit visitor key for unique
+ * visitor counting. Only the hash leaves this class, so no client data is retained.
+ */
+public final class VisitorFingerprint {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private VisitorFingerprint() {
+    }
+
+    public static long hash(HttpServletRequest request) {
+        String fingerprint = String.join("\u0000",
+                clientAddress(request),
+                headerOrEmpty(request, HttpHeaders.USER_AGENT),
+                headerOrEmpty(request, HttpHeaders.ACCEPT_LANGUAGE));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static String clientAddress(HttpServletRequest request) {
+        // behind the CDN the socket peer is the edge node; the first forwarded hop is the client
+        String forwarded = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwarded != null && !forwarded.isBlank()) {
+            int comma = forwarded.indexOf(',');
+            return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
+        }
+        return request.getRemoteAddr() != null ? request.getRemoteAddr() : "";
+    }
+
+    private static String headerOrEmpty(HttpServletRequest request, String name) {
+        String value = request.getHeader(name);
+        return value != null ? value : "";
+    }
+}
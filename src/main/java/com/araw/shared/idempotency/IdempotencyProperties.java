@@ -0,0 +1,83 @@
+package com.araw.shared.idempotency;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "app.http.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a completed response is replayed for its key.
+     */
+    @NotNull
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * Age after which an unfinished attempt is treated as abandoned (for example after a crash) and the
+     * key may be claimed again.
+     */
+    @NotNull
+    private Duration inProgressTimeout = Duration.ofMinutes(2);
+
+    /**
+     * Longest a duplicate waits for the in-flight attempt before it is answered with {@code 409}.
+     */
+    @NotNull
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /**
+     * How often a duplicate waiting on another node re-reads the record.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * How often expired records are deleted.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getInProgressTimeout() {
+        return inProgressTimeout;
+    }
+
+    public void setInProgressTimeout(Duration inProgressTimeout) {
+        this.inProgressTimeout = inProgressTimeout;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
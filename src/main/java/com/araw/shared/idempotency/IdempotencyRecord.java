@@ -0,0 +1,55 @@
+package com.araw.shared.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One use of an {@code Idempotency-Key}. The row is inserted before the request runs, so a concurrent
+ * duplicate finds it {@code IN_PROGRESS}, and holds the serialized response and the fingerprint of the
+ * request that produced it once the request completed.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "idempotency_records")
+public class IdempotencyRecord {
+
+    @EmbeddedId
+    private IdempotencyRecordId id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyRecordStatus status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    boolean isCompleted() {
+        return status == IdempotencyRecordStatus.COMPLETED;
+    }
+
+    void complete(String responseBody, String requestHash, OffsetDateTime expiresAt) {
+        this.status = IdempotencyRecordStatus.COMPLETED;
+        this.responseBody = responseBody;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.araw.shared.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class IdempotencyRecordId implements Serializable {
+
+    /**
+     * What the key applies to, such as one event's submission endpoint; the same key may be reused
+     * across scopes.
+     */
+    @Column(name = "scope", nullable = false, length = 100)
+    private String scope;
+
+    @Column(name = "idempotency_key", nullable = false, length = IdempotencyService.MAX_KEY_LENGTH)
+    private String key;
+}
@@ -0,0 +1,33 @@
+package com.araw.shared.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecordId> {
+
+    /**
+     * Claims the key for the caller; returns 0 when another request already holds it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (scope, idempotency_key, status, created_at, expires_at) " +
+            "VALUES (:scope, :key, 'IN_PROGRESS', :now, :expiresAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claim(@Param("scope") String scope,
+              @Param("key") String key,
+              @Param("now") OffsetDateTime now,
+              @Param("expiresAt") OffsetDateTime expiresAt);
+
+    /**
+     * Releases a claim that is expired or was abandoned mid-request, unless someone replaced it meanwhile.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.createdAt = :createdAt")
+    int deleteIfUnchanged(@Param("id") IdempotencyRecordId id, @Param("createdAt") OffsetDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,6 @@
+package com.araw.shared.idempotency;
+
+public enum IdempotencyRecordStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,316 @@
+package com.araw.shared.idempotency;
+
+import com.araw.shared.exception.DomainConflictException;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.exception.UnprocessableRequestException;
+import com.araw.shared.scheduling.BackgroundJobs;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key}. The first attempt claims the key by inserting an
+ * {@code IN_PROGRESS} row, and its response is stored with the row for the retention window. A retry with
+ * the same key gets that stored response back instead of running the request again. Each response is
+ * stored with a fingerprint of the request that produced it, and a request that reuses the key with a
+ * different fingerprint is refused instead of being handed someone else's response.
+ * <p>
+ * A duplicate that arrives while the first attempt is still running waits for it: on the same node it
+ * joins the in-flight attempt directly, across nodes it polls the row. If the attempt fails, the claim is
+ * released so the client can retry; a claim left behind by a crashed node is taken over after
+ * {@code in-progress-timeout}.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundJobs backgroundJobs;
+
+    private final Map<String, CompletableFuture<Outcome>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              IdempotencyProperties properties,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              BackgroundJobs backgroundJobs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.backgroundJobs = backgroundJobs;
+        // Claims and results must be visible to other requests immediately, whatever the caller's transaction.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void schedulePurge() {
+        backgroundJobs.scheduleWithFixedDelay("idempotency-purger", properties.getPurgeInterval(), this::purgeQuietly);
+    }
+
+    /**
+     * Runs {@code action} unless a response for {@code key} in {@code scope} is already stored, in which case
+     * that response is returned. Without a key the action simply runs.
+     * <p>
+     * {@code requestHash} supplies the request's {@link #fingerprint}. It is asked at most once: after the
+     * action ran, to store it with the response, or before a stored response is replayed, to compare. A
+     * request whose body is consumed by the action can therefore record its fingerprint while running and
+     * only compute it separately when it is not run.
+     *
+     * @throws DomainValidationException     when the key is longer than {@value #MAX_KEY_LENGTH} characters
+     * @throws DomainConflictException       when an earlier attempt with the key is still running after
+     *                                       {@code max-wait}
+     * @throws UnprocessableRequestException when the key was used for a different request
+     */
+    public <T> IdempotentResult<T> execute(String scope,
+                                           String key,
+                                           Supplier<String> requestHash,
+                                           Class<T> responseType,
+                                           Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new DomainValidationException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        IdempotencyRecordId id = new IdempotencyRecordId(scope, key);
+        Supplier<String> fingerprint = new Memoized(requestHash);
+        String inFlightKey = scope + '\n' + key;
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        while (true) {
+            CompletableFuture<Outcome> attempt = new CompletableFuture<>();
+            CompletableFuture<Outcome> running = inFlight.putIfAbsent(inFlightKey, attempt);
+            if (running == null) {
+                try {
+                    return runOnce(id, fingerprint, responseType, action, attempt, deadline);
+                } finally {
+                    inFlight.remove(inFlightKey, attempt);
+                }
+            }
+            Outcome outcome = await(running, deadline);
+            if (outcome != null) {
+                return replay(outcome, fingerprint, responseType);
+            }
+            // The attempt we joined failed and released the key; try to claim it ourselves.
+        }
+    }
+
+    /**
+     * Hex SHA-256 of the JSON form of {@code parts}, skipping {@code null}s. Serializing the bound request
+     * rather than hashing raw bytes keeps the fingerprint stable across whitespace, field order and
+     * multipart boundaries.
+     */
+    public String fingerprint(Object... parts) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Arrays.stream(parts).filter(Objects::nonNull).toList());
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to fingerprint idempotent request", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Deletes records whose retention window has passed and returns how many were removed.
+     */
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteExpired(OffsetDateTime.now(ZoneOffset.UTC)));
+        return purged != null ? purged : 0;
+    }
+
+    private <T> IdempotentResult<T> runOnce(IdempotencyRecordId id,
+                                            Supplier<String> fingerprint,
+                                            Class<T> responseType,
+                                            Supplier<T> action,
+                                            CompletableFuture<Outcome> attempt,
+                                            long deadline) {
+        try {
+            while (true) {
+                // Stored timestamps keep microseconds; the claim time must match for release to find the row.
+                OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+                if (claim(id, now)) {
+                    T result = runClaimed(id, now, fingerprint, action, attempt);
+                    return new IdempotentResult<>(result, false);
+                }
+                IdempotencyRecord existing = idempotencyRecordRepository.findById(id).orElse(null);
+                if (existing == null) {
+                    continue;
+                }
+                if (existing.getExpiresAt().isBefore(now) || isAbandoned(existing, now)) {
+                    release(id, existing.getCreatedAt());
+                    continue;
+                }
+                if (existing.isCompleted()) {
+                    Outcome outcome = new Outcome(existing.getRequestHash(), existing.getResponseBody());
+                    attempt.complete(outcome);
+                    return replay(outcome, fingerprint, responseType);
+                }
+                // Another node is running this key; wait for it to finish.
+                pause(deadline);
+            }
+        } catch (RuntimeException ex) {
+            attempt.complete(null);
+            throw ex;
+        }
+    }
+
+    private <T> T runClaimed(IdempotencyRecordId id,
+                             OffsetDateTime claimedAt,
+                             Supplier<String> fingerprint,
+                             Supplier<T> action,
+                             CompletableFuture<Outcome> attempt) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException ex) {
+            release(id, claimedAt);
+            throw ex;
+        }
+        Outcome outcome = new Outcome(fingerprint.get(), write(result));
+        transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.findById(id)
+                .ifPresent(record -> record.complete(outcome.responseBody(), outcome.requestHash(),
+                        OffsetDateTime.now(ZoneOffset.UTC).plus(properties.getRetention()))));
+        attempt.complete(outcome);
+        return result;
+    }
+
+    private <T> IdempotentResult<T> replay(Outcome outcome, Supplier<String> fingerprint, Class<T> responseType) {
+        // Records stored before fingerprints were kept have none and replay as before.
+        if (outcome.requestHash() != null && !outcome.requestHash().equals(fingerprint.get())) {
+            throw new UnprocessableRequestException("Idempotency-Key was already used for a different request");
+        }
+        return new IdempotentResult<>(read(outcome.responseBody(), responseType), true);
+    }
+
+    private boolean claim(IdempotencyRecordId id, OffsetDateTime now) {
+        Integer claimed = transactionTemplate.execute(status -> idempotencyRecordRepository.claim(
+                id.getScope(), id.getKey(), now, now.plus(properties.getRetention())));
+        return claimed != null && claimed > 0;
+    }
+
+    private void release(IdempotencyRecordId id, OffsetDateTime createdAt) {
+        transactionTemplate.executeWithoutResult(status ->
+                idempotencyRecordRepository.deleteIfUnchanged(id, createdAt));
+    }
+
+    private boolean isAbandoned(IdempotencyRecord record, OffsetDateTime now) {
+        return !record.isCompleted()
+                && record.getCreatedAt().plus(properties.getInProgressTimeout()).isBefore(now);
+    }
+
+    /**
+     * Waits for a same-node attempt and returns its stored outcome, or {@code null} if it failed.
+     */
+    private Outcome await(CompletableFuture<Outcome> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw stillRunning();
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw stillRunning();
+        }
+    }
+
+    private void pause(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw stillRunning();
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(Math.min(remaining, properties.getPollInterval().toNanos())));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw stillRunning();
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged = purgeExpired();
+            if (purged > 0) {
+                log.debug("Purged {} expired idempotency records", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Purging expired idempotency records failed; it will be retried", ex);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to store idempotent response", ex);
+        }
+    }
+
+    private <T> T read(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to replay idempotent response", ex);
+        }
+    }
+
+    private static DomainConflictException stillRunning() {
+        return new DomainConflictException("A request with this Idempotency-Key is still being processed; retry later");
+    }
+
+    private record Outcome(String requestHash, String responseBody) {
+    }
+
+    /**
+     * Asks the caller for the fingerprint once, however many times it is compared.
+     */
+    private static final class Memoized implements Supplier<String> {
+
+        private final Supplier<String> source;
+        private String value;
+        private boolean resolved;
+
+        private Memoized(Supplier<String> source) {
+            this.source = source;
+        }
+
+        @Override
+        public String get() {
+            if (!resolved) {
+                value = source.get();
+                resolved = true;
+            }
+            return value;
+        }
+    }
+}
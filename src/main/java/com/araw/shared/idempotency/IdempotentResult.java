@@ -0,0 +1,7 @@
+package com.araw.shared.idempotency;
+
+/**
+ * Response of an idempotent request, and whether it was replayed from an earlier attempt.
+ */
+public record IdempotentResult<T>(T body, boolean replayed) {
+}
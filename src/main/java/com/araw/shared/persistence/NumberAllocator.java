@@ -0,0 +1,56 @@
+package com.araw.shared.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out numbers from database sequences in hi/lo blocks. Every number sequence is created with
+ * {@code INCREMENT BY} {@value #BLOCK_SIZE}, so one {@code nextval} reserves a whole block for this node and
+ * the next {@value #BLOCK_SIZE} numbers are a local increment. Numbers are unique across nodes and rising
+ * within each node; a restart or a rolled-back insert only leaves a gap.
+ */
+@Component
+@RequiredArgsConstructor
+public class NumberAllocator {
+
+    /** Must match the {@code INCREMENT BY} of every number sequence (see migration V12). */
+    public static final int BLOCK_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public String next(NumberSequence sequence) {
+        return sequence.format(nextValue(sequence));
+    }
+
+    public long nextValue(NumberSequence sequence) {
+        return blocks.computeIfAbsent(sequence.name(), Block::new).next();
+    }
+
+    private final class Block {
+
+        private final String sequence;
+        private long next;
+        private long end;
+
+        private Block(String sequence) {
+            this.sequence = sequence;
+        }
+
+        synchronized long next() {
+            if (next == end) {
+                Long start = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+                if (start == null) {
+                    throw new IllegalStateException("Sequence " + sequence + " returned no value");
+                }
+                next = start;
+                end = start + BLOCK_SIZE;
+            }
+            return next++;
+        }
+    }
+}
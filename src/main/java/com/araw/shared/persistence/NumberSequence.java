@@ -0,0 +1,24 @@
+package com.araw.shared.persistence;
+
+import java.util.regex.Pattern;
+
+/**
+ * A database sequence that numbers one kind of record, and the prefix its numbers are shown with. Numbers
+ * are zero-padded to {@value #WIDTH} digits so that they sort in allocation order.
+ */
+public record NumberSequence(String name, String prefix) {
+
+    private static final int WIDTH = 8;
+    private static final Pattern NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    public NumberSequence {
+        // The name is written into SQL, so only plain identifiers are allowed.
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid sequence name: " + name);
+        }
+    }
+
+    public String format(long value) {
+        return prefix + String.format("%0" + WIDTH + "d", value);
+    }
+}
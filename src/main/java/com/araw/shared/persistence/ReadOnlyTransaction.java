@@ -0,0 +1,28 @@
+package com.araw.shared.persistence;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a load in a read-only transaction. Services that answer most reads from memory (the published event
+ * cache, calendar feeds, the event catalog, visitor sketches) use this instead of {@code @Transactional}
+ * methods, so a read served from memory never opens a transaction or borrows a connection; only the load
+ * behind a miss, rebuild or reload runs inside one.
+ */
+@Component
+public class ReadOnlyTransaction {
+
+    private final TransactionTemplate template;
+
+    public ReadOnlyTransaction(PlatformTransactionManager transactionManager) {
+        this.template = new TransactionTemplate(transactionManager);
+        this.template.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> load) {
+        return template.execute(status -> load.get());
+    }
+}
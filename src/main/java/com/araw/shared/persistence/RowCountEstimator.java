@@ -0,0 +1,46 @@
+package com.araw.shared.persistence;
+
+import com.araw.shared.api.TotalMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Resolves the total attached to a cursor page. Estimates come from {@code pg_class.reltuples}, which is
+ * only meaningful for a whole table, so filtered listings and databases without the PostgreSQL catalog
+ * fall back to the exact count.
+ */
+@Component
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TotalCount resolve(TotalMode mode, String table, boolean filtered, LongSupplier exactCount) {
+        if (mode == null || mode == TotalMode.NONE) {
+            return null;
+        }
+        if (mode == TotalMode.ESTIMATE && !filtered) {
+            Optional<Long> estimate = estimate(table);
+            if (estimate.isPresent()) {
+                return TotalCount.estimated(estimate.get());
+            }
+        }
+        return TotalCount.exact(exactCount.getAsLong());
+    }
+
+    Optional<Long> estimate(String table) {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+            // reltuples is -1 until the table has been vacuumed or analyzed at least once
+            return estimate == null || estimate < 0 ? Optional.empty() : Optional.of(estimate);
+        } catch (DataAccessException ex) {
+            return Optional.empty();
+        }
+    }
+}
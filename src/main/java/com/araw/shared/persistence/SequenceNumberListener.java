@@ -0,0 +1,23 @@
+package com.araw.shared.persistence;
+
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns the next number from the entity's sequence to a {@link SequenceNumbered} entity that does not
+ * have one yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceNumberListener {
+
+    private final NumberAllocator numberAllocator;
+
+    @PrePersist
+    void assignNumber(Object entity) {
+        if (entity instanceof SequenceNumbered numbered && !numbered.isNumbered()) {
+            numbered.assignNumber(numberAllocator.next(numbered.numberSequence()));
+        }
+    }
+}
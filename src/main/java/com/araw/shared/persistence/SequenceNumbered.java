@@ -0,0 +1,14 @@
+package com.araw.shared.persistence;
+
+/**
+ * An entity whose human-friendly number is drawn from a {@link NumberSequence} when it is first persisted.
+ * Register {@link SequenceNumberListener} on the entity to have the number assigned.
+ */
+public interface SequenceNumbered {
+
+    NumberSequence numberSequence();
+
+    boolean isNumbered();
+
+    void assignNumber(String number);
+}
@@ -0,0 +1,19 @@
+package com.araw.shared.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code UUID} primary key that is generated as a time-ordered {@link UuidV7}. Entities use this
+ * instead of {@code @GeneratedValue(strategy = GenerationType.UUID)}; switching the id scheme for the whole
+ * domain means changing the generator bound here.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,12 @@
+package com.araw.shared.persistence;
+
+public record TotalCount(long value, boolean estimated) {
+
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, false);
+    }
+
+    public static TotalCount estimated(long value) {
+        return new TotalCount(value, true);
+    }
+}
@@ -0,0 +1,27 @@
+package com.araw.shared.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint a {@link DataIntegrityViolationException} came from. Drivers report the name in
+ * their own case and H2 reports the backing index, so the name is matched case-insensitively as a prefix
+ * of what the driver reports.
+ */
+public final class UniqueConstraints {
+
+    private UniqueConstraints() {
+    }
+
+    public static boolean isViolated(DataIntegrityViolationException ex, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+package com.araw.shared.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the application's recurring background jobs (outbox dispatch, view flushes, sweeps, purges). Each
+ * job gets its own daemon thread, so a slow job never holds up another. Jobs start once the context has
+ * been refreshed and stop before any bean is destroyed: running rounds get {@value #SHUTDOWN_GRACE_SECONDS}
+ * seconds to finish and are then interrupted, which rolls back whatever transaction they were in.
+ * <p>
+ * This is deliberately not a {@code TaskScheduler} bean, so the {@code @Scheduled} methods elsewhere keep
+ * the scheduler {@code @EnableScheduling} would give them and never end up on these threads.
+ */
+@Component
+@Slf4j
+public class BackgroundJobs implements SmartLifecycle {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private final List<Job> jobs = new ArrayList<>();
+    private boolean running;
+
+    /**
+     * Runs {@code task} on a thread called {@code name}, first one {@code interval} after startup and then
+     * {@code interval} after each run ends. The task must handle its own failures; one that throws is not
+     * run again.
+     */
+    public synchronized void scheduleWithFixedDelay(String name, Duration interval, Runnable task) {
+        Job job = new Job(name, interval, task);
+        jobs.add(job);
+        if (running) {
+            job.start();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        jobs.forEach(Job::start);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        jobs.forEach(job -> job.executor.shutdown());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_GRACE_SECONDS);
+        for (Job job : jobs) {
+            job.awaitStop(deadline);
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    private static final class Job {
+
+        private final String name;
+        private final Duration interval;
+        private final Runnable task;
+        private final ScheduledExecutorService executor;
+
+        private Job(String name, Duration interval, Runnable task) {
+            this.name = name;
+            this.interval = interval;
+            this.task = task;
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void start() {
+            long intervalMillis = interval.toMillis();
+            executor.scheduleWithFixedDelay(task, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void awaitStop(long deadline) {
+            try {
+                if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("Background job {} did not finish in time and is interrupted", name);
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+-- The waitlist is ordered by sparse ranks instead of dense positions. New entries take the rank one gap
+-- (2^20) behind events.waitlist_tail_rank, entries placed at an explicit position take the midpoint of
+-- their neighbours, and promotion simply removes the head, so no other row is ever renumbered.
+-- Displayed positions are counted on read.
+ALTER TABLE applications ADD COLUMN waitlist_rank bigint;
+ALTER TABLE events ADD COLUMN waitlist_tail_rank bigint DEFAULT 0;
+
+UPDATE applications a
+SET waitlist_rank = ranked.rank
+FROM (
+    SELECT id,
+           row_number() OVER (PARTITION BY event_id
+                              ORDER BY waitlist_position NULLS LAST, submitted_at, id) * 1048576 AS rank
+    FROM applications
+    WHERE status = 'WAITLISTED'
+) ranked
+WHERE a.id = ranked.id;
+
+UPDATE events e
+SET waitlist_tail_rank = coalesce((
+    SELECT max(a.waitlist_rank)
+    FROM applications a
+    WHERE a.event_id = e.id
+), 0);
+
+DROP INDEX IF EXISTS idx_applications_event_status;
+CREATE INDEX idx_applications_event_status ON applications (event_id, status, waitlist_rank);
+
+ALTER TABLE applications DROP COLUMN waitlist_position;
@@ -0,0 +1,4 @@
+-- The acceptance-expiry sweeper claims the oldest unconfirmed acceptances first; keep just those rows indexed.
+CREATE INDEX IF NOT EXISTS idx_applications_unconfirmed_acceptances
+    ON applications (acceptance_sent_at)
+    WHERE status = 'ACCEPTED' AND confirmed_at IS NULL;
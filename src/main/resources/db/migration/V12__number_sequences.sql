@@ -0,0 +1,4 @@
+-- Application numbers and participant codes are allocated in blocks of 100 per node
+-- (NumberAllocator.BLOCK_SIZE); the increment must stay in step with it.
+CREATE SEQUENCE IF NOT EXISTS application_number_seq START WITH 1 INCREMENT BY 100;
+CREATE SEQUENCE IF NOT EXISTS participant_code_seq START WITH 1 INCREMENT BY 100;
@@ -0,0 +1,20 @@
+-- Entity ids are now time-ordered UUIDv7 values generated by the application (UuidV7).
+--
+-- Rollout: existing rows keep their random v4 ids. Both versions share the uuid columns without any
+-- conflict, and rewriting primary keys would have to cascade through every foreign key and would break
+-- ids already handed out in URLs and emails. New rows simply append to the right edge of each primary
+-- key index from now on, and the v4 part of the index stops growing.
+--
+-- uuid_generate_v7() produces the same layout for rows inserted from SQL (seed scripts, backfills): the
+-- Unix time in milliseconds overwrites the first 48 bits of a random UUID and the version nibble becomes 7.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
@@ -0,0 +1,8 @@
+-- Accepted applications waiting for their participant account. The marker is set in the decision
+-- transaction and cleared once the account is provisioned and the acceptance email is queued, so a
+-- restart never loses a pending account.
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS account_provisioning_requested_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_applications_pending_account_provisioning
+    ON applications (account_provisioning_requested_at)
+    WHERE account_provisioning_requested_at IS NOT NULL;
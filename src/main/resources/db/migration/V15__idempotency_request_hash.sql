@@ -0,0 +1,3 @@
+-- Fingerprint of the request that used the key, so a different request reusing it is refused rather than
+-- handed the first request's response. Rows written before this column existed keep NULL and replay as before.
+ALTER TABLE idempotency_records ADD COLUMN IF NOT EXISTS request_hash VARCHAR(64);
@@ -0,0 +1,24 @@
+-- Duplicate submissions are recognised by the name of the unique (event_id, email) key
+-- (Application.EMAIL_PER_EVENT_CONSTRAINT). Databases adopted from the old ddl-auto schema through
+-- baseline-on-migrate carry the name Hibernate generated (UK...), so rename whatever key covers exactly
+-- those two columns, or create it where it is missing.
+DO $$
+DECLARE
+    existing name;
+BEGIN
+    SELECT c.conname INTO existing
+    FROM pg_constraint c
+    WHERE c.conrelid = 'applications'::regclass
+      AND c.contype = 'u'
+      AND (SELECT array_agg(a.attname::text ORDER BY a.attname::text)
+           FROM unnest(c.conkey) AS k(attnum)
+           JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = k.attnum) = ARRAY['email', 'event_id']
+    ORDER BY c.conname = 'applications_event_id_email_key' DESC
+    LIMIT 1;
+
+    IF existing IS NULL THEN
+        ALTER TABLE applications ADD CONSTRAINT applications_event_id_email_key UNIQUE (event_id, email);
+    ELSIF existing <> 'applications_event_id_email_key' THEN
+        EXECUTE format('ALTER TABLE applications RENAME CONSTRAINT %I TO applications_event_id_email_key', existing);
+    END IF;
+END $$;
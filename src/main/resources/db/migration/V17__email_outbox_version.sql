@@ -0,0 +1,6 @@
+-- Every claim bumps the version, so a dispatcher whose lease ran out cannot overwrite the outcome recorded
+-- under a newer claim.
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- The retention purge only looks at delivered and dead rows.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_finished ON email_outbox (updated_at) WHERE status <> 'PENDING';
@@ -0,0 +1,765 @@
+-- Baseline schema as previously produced by Hibernate's ddl-auto for PostgreSQL.
+-- Databases that were created by ddl-auto are baselined at this version and skip this script.
+
+create table achievement_criteria (
+    achievement_id uuid not null,
+    criterion varchar(255)
+);
+
+create table achievement_metadata (
+    achievement_id uuid not null,
+    metadata_key varchar(255) not null,
+    metadata_value varchar(255),
+    primary key (achievement_id, metadata_key)
+);
+
+create table achievement_skills (
+    achievement_id uuid not null,
+    skill varchar(255)
+);
+
+create table achievements (
+    display_order integer,
+    is_featured boolean,
+    is_public boolean,
+    is_verified boolean,
+    max_score integer,
+    percentile integer,
+    score integer,
+    created_at timestamp(6),
+    earned_date timestamp(6) not null,
+    expiry_date timestamp(6),
+    updated_at timestamp(6),
+    verified_at timestamp(6),
+    version bigint,
+    event_id uuid,
+    id uuid not null,
+    participant_id uuid not null,
+    achievement_code varchar(255) unique,
+    achievement_level varchar(255) check (achievement_level in ('BRONZE','SILVER','GOLD','PLATINUM','DIAMOND')),
+    achievement_type varchar(255) not null check (achievement_type in ('COMPLETION','CERTIFICATION','AWARD','MILESTONE','PROJECT','COMPETITION','SKILL_BADGE','PARTICIPATION','LEADERSHIP','INNOVATION','EXCELLENCE','IMPROVEMENT','COLLABORATION','MENTORSHIP','SCHOLARSHIP')),
+    badge_image_url varchar(255),
+    category varchar(255),
+    certificate_number varchar(255),
+    certificate_url varchar(255),
+    description TEXT,
+    instructor_comments TEXT,
+    instructor_name varchar(255),
+    title varchar(255) not null,
+    verification_url varchar(255),
+    verified_by varchar(255),
+    primary key (id)
+);
+
+create table admin_permissions (
+    admin_id uuid not null,
+    permission varchar(255) check (permission in ('MANAGE_ADMINS','VIEW_ADMINS','MANAGE_EVENTS','VIEW_EVENTS','PUBLISH_EVENTS','REVIEW_APPLICATIONS','VIEW_APPLICATIONS','EXPORT_APPLICATIONS','MANAGE_PARTICIPANTS','VIEW_PARTICIPANTS','EXPORT_PARTICIPANTS','MANAGE_FEEDBACK','VIEW_FEEDBACK','PUBLISH_TESTIMONIALS','VIEW_REPORTS','EXPORT_REPORTS','VIEW_ANALYTICS','MANAGE_SETTINGS','EXPORT_DATA','VIEW_AUDIT_LOGS'))
+);
+
+create table admins (
+    failed_login_attempts integer,
+    is_active boolean,
+    is_email_verified boolean,
+    two_factor_enabled boolean,
+    created_at timestamp(6),
+    deactivated_at timestamp(6),
+    email_verification_expiry timestamp(6),
+    last_login_at timestamp(6),
+    locked_until timestamp(6),
+    password_reset_expiry timestamp(6),
+    updated_at timestamp(6),
+    version bigint,
+    created_by_id uuid,
+    id uuid not null,
+    last_modified_by_id uuid,
+    phone_number varchar(20),
+    last_login_ip varchar(45),
+    department varchar(50),
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    timezone varchar(50),
+    username varchar(50) not null unique,
+    email varchar(100) not null unique,
+    title varchar(100),
+    bio TEXT,
+    deactivation_reason varchar(255),
+    email_verification_token varchar(255),
+    notification_preferences varchar(255),
+    password_hash varchar(255) not null,
+    password_reset_token varchar(255),
+    profile_picture_url varchar(255),
+    role varchar(255) not null check (role in ('SUPER_ADMIN','ADMIN','EVENT_MANAGER','APPLICATION_REVIEWER','CONTENT_MODERATOR','VIEWER')),
+    two_factor_secret varchar(255),
+    primary key (id)
+);
+
+create table application_answers (
+    application_id uuid not null,
+    answer TEXT,
+    question varchar(255) not null,
+    primary key (application_id, question)
+);
+
+create table application_dietary_restrictions (
+    application_id uuid not null,
+    restriction varchar(255)
+);
+
+create table application_documents (
+    file_size bigint,
+    uploaded_at timestamp(6),
+    application_id uuid not null,
+    id uuid not null,
+    media_asset_id uuid,
+    document_type varchar(255),
+    file_name varchar(255),
+    file_url varchar(255),
+    mime_type varchar(255),
+    primary key (id)
+);
+
+create table application_medical_conditions (
+    application_id uuid not null,
+    condition varchar(255)
+);
+
+create table application_review_notes (
+    max_score integer,
+    score integer,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone,
+    admin_id uuid,
+    application_id uuid not null,
+    id uuid not null,
+    category varchar(40) not null check (category in ('APPLICATION_FORM','PROFILE_HISTORY','INTERVIEW','PERFORMANCE','OTHER')),
+    reviewer_name varchar(160),
+    notes TEXT not null,
+    primary key (id)
+);
+
+create table applications (
+    date_of_birth date,
+    gpa float(53),
+    guardian_consent boolean,
+    review_score integer,
+    waitlist_position integer,
+    acceptance_sent_at timestamp(6),
+    cancelled_at timestamp(6),
+    confirmed_at timestamp(6),
+    reviewed_at timestamp(6),
+    submitted_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint,
+    event_id uuid not null,
+    id uuid not null,
+    participant_id uuid,
+    linkedin_profile_url varchar(500),
+    address_line1 varchar(255),
+    address_line2 varchar(255),
+    application_number varchar(255) not null unique,
+    cancellation_reason varchar(255),
+    city varchar(255),
+    confirmation_token varchar(255),
+    country varchar(255),
+    email varchar(255) not null,
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relation varchar(255),
+    ethnicity varchar(255),
+    first_name varchar(255),
+    gender varchar(255),
+    grade_level varchar(255),
+    guardian_email varchar(255),
+    guardian_name varchar(255),
+    guardian_phone varchar(255),
+    ip_address varchar(255),
+    last_name varchar(255),
+    learning_goals TEXT,
+    middle_name varchar(255),
+    motivation_statement TEXT,
+    phone_number varchar(255),
+    postal_code varchar(255),
+    preferred_language varchar(255),
+    prior_experience TEXT,
+    rejection_reason varchar(255),
+    review_notes TEXT,
+    reviewed_by varchar(255),
+    school_name varchar(255),
+    source varchar(255),
+    special_accommodations TEXT,
+    state_province varchar(255),
+    status varchar(255) not null check (status in ('DRAFT','SUBMITTED','UNDER_REVIEW','ACCEPTED','REJECTED','WAITLISTED','CONFIRMED','CANCELLED','WITHDRAWN')),
+    user_agent varchar(255),
+    primary key (id),
+    constraint applications_event_id_email_key unique (event_id, email)
+);
+
+create table article_tags (
+    article_id uuid not null,
+    tag varchar(50) not null,
+    primary key (article_id, tag)
+);
+
+create table articles (
+    created_at timestamp(6) with time zone not null,
+    published_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    hero_media_id uuid,
+    id uuid not null,
+    status varchar(20) not null check (status in ('DRAFT','REVIEW','PUBLISHED','ARCHIVED')),
+    author_name varchar(120),
+    slug varchar(140) not null unique,
+    title varchar(160) not null,
+    excerpt varchar(512),
+    body oid not null,
+    primary key (id)
+);
+
+create table community_profile_interests (
+    profile_id uuid not null,
+    interest varchar(60) not null,
+    primary key (profile_id, interest)
+);
+
+create table community_profile_skills (
+    profile_id uuid not null,
+    skill varchar(60) not null,
+    primary key (profile_id, skill)
+);
+
+create table community_profiles (
+    active boolean not null,
+    featured boolean not null,
+    created_at timestamp(6) with time zone not null,
+    joined_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    id uuid not null,
+    profile_media_id uuid,
+    profile_type varchar(30) not null check (profile_type in ('PARTICIPANT','VOLUNTEER','MENTOR','STAFF','RESEARCHER','DONOR')),
+    phone varchar(40),
+    first_name varchar(80) not null,
+    last_name varchar(80) not null,
+    slug varchar(140) not null unique,
+    email varchar(160),
+    headline varchar(160),
+    location varchar(160),
+    organization varchar(160),
+    biography oid,
+    primary key (id)
+);
+
+create table event_dates (
+    is_online boolean,
+    session_date timestamp(6) not null,
+    session_end_date timestamp(6),
+    event_id uuid not null,
+    id uuid not null,
+    instructor_name varchar(255),
+    location varchar(255),
+    meeting_link varchar(255),
+    notes TEXT,
+    session_description varchar(255),
+    session_name varchar(255),
+    primary key (id)
+);
+
+create table event_galleries (
+    is_public boolean,
+    created_at timestamp(6),
+    event_id uuid not null unique,
+    id uuid not null,
+    description varchar(255),
+    title varchar(255),
+    primary key (id)
+);
+
+create table event_learning_outcomes (
+    event_id uuid not null,
+    outcome varchar(255)
+);
+
+create table event_participant_highlights (
+    display_order integer,
+    is_featured boolean,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    event_id uuid not null,
+    id uuid not null,
+    media_asset_id uuid,
+    participant_id uuid not null,
+    headline varchar(255),
+    photo_url varchar(255),
+    story TEXT,
+    primary key (id),
+    unique (event_id, participant_id)
+);
+
+create table event_prerequisites (
+    event_id uuid not null,
+    prerequisite varchar(255)
+);
+
+create table event_target_grades (
+    event_id uuid not null,
+    grade varchar(255)
+);
+
+create table events (
+    application_count integer,
+    cost float(53),
+    currency varchar(3),
+    feedback_enabled boolean,
+    is_featured boolean,
+    is_free boolean,
+    is_hybrid boolean,
+    is_published boolean,
+    is_virtual boolean,
+    latitude float(53),
+    longitude float(53),
+    max_age integer,
+    max_participants integer,
+    min_age integer,
+    participant_count integer,
+    application_deadline timestamp(6),
+    application_link_generated_at timestamp(6),
+    created_at timestamp(6),
+    feedback_closes_at timestamp(6),
+    feedback_opens_at timestamp(6),
+    published_at timestamp(6),
+    registration_closes_at timestamp(6),
+    registration_opens_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint,
+    view_count bigint,
+    created_by_admin_id uuid,
+    id uuid not null,
+    last_modified_by_admin_id uuid,
+    application_slug varchar(160) unique,
+    title varchar(200) not null,
+    application_link varchar(500),
+    short_description varchar(500),
+    banner_image_url varchar(1000),
+    thumbnail_url varchar(1000),
+    accessibility_info TEXT,
+    address_line1 varchar(255),
+    address_line2 varchar(255),
+    building_name varchar(255),
+    cancellation_reason TEXT,
+    city varchar(255),
+    country varchar(255),
+    description TEXT,
+    event_type varchar(255) not null check (event_type in ('WORKSHOP','BOOTCAMP','SUMMER_CAMP','AFTER_SCHOOL_PROGRAM','COMPETITION','HACKATHON','SEMINAR','WEBINAR','FIELD_TRIP','MENTORSHIP_PROGRAM','CONFERENCE')),
+    parking_info TEXT,
+    postal_code varchar(255),
+    room_number varchar(255),
+    state_province varchar(255),
+    status varchar(255) not null check (status in ('DRAFT','UPCOMING','IN_PROGRESS','COMPLETED','CANCELLED','POSTPONED')),
+    venue_name varchar(255),
+    virtual_meeting_password varchar(255),
+    virtual_meeting_url varchar(255),
+    primary key (id)
+);
+
+create table feedback_ratings (
+    rating integer,
+    feedback_id uuid not null,
+    aspect varchar(255) not null,
+    primary key (feedback_id, aspect)
+);
+
+create table feedback_skills_gained (
+    feedback_id uuid not null,
+    skill varchar(255)
+);
+
+create table feedbacks (
+    consent_to_publish boolean,
+    content_rating integer,
+    follow_up_completed boolean,
+    instructor_rating integer,
+    is_anonymous boolean,
+    is_featured boolean,
+    organization_rating integer,
+    overall_rating integer,
+    value_rating integer,
+    venue_rating integer,
+    would_recommend boolean,
+    published_at timestamp(6),
+    submitted_at timestamp(6),
+    event_id uuid not null,
+    id uuid not null,
+    participant_id uuid,
+    feedback_type varchar(255) check (feedback_type in ('IMMEDIATE','POST_EVENT','FOLLOW_UP','LONG_TERM','PARENT_GUARDIAN','INSTRUCTOR','MENTOR')),
+    follow_up_notes TEXT,
+    improvement_suggestions TEXT,
+    most_valuable TEXT,
+    overall_experience TEXT,
+    recommendation_reason TEXT,
+    submitted_by_email varchar(255),
+    submitted_by_name varchar(255),
+    what_learned TEXT,
+    primary key (id)
+);
+
+create table gallery_images (
+    display_order integer,
+    height integer,
+    is_featured boolean,
+    width integer,
+    file_size bigint,
+    uploaded_at timestamp(6),
+    gallery_id uuid not null,
+    id uuid not null,
+    media_asset_id uuid,
+    alt_text varchar(255),
+    caption varchar(255),
+    image_url varchar(255) not null,
+    mime_type varchar(255),
+    original_file_name varchar(255),
+    photographer varchar(255),
+    thumbnail_url varchar(255),
+    primary key (id)
+);
+
+create table gallery_videos (
+    display_order integer,
+    duration_seconds integer,
+    is_published boolean,
+    uploaded_at timestamp(6),
+    gallery_id uuid not null,
+    id uuid not null,
+    media_asset_id uuid,
+    thumbnail_asset_id uuid,
+    description TEXT,
+    external_url varchar(255),
+    title varchar(255),
+    primary key (id)
+);
+
+create table media_assets (
+    created_at timestamp(6) with time zone not null,
+    file_size bigint not null,
+    updated_at timestamp(6) with time zone,
+    id uuid not null,
+    category varchar(40) not null check (category in ('ARTICLE_HERO','ARTICLE_ATTACHMENT','PROFILE_PHOTO','EVENT_MEDIA','EVENT_GALLERY_IMAGE','EVENT_GALLERY_VIDEO','APPLICATION_DOCUMENT','GENERAL')),
+    bucket varchar(80) not null,
+    content_type varchar(120) not null,
+    etag varchar(120),
+    file_name varchar(160) not null,
+    description varchar(240),
+    object_key varchar(255) not null unique,
+    primary key (id)
+);
+
+create table participant_accounts (
+    requires_password_reset boolean,
+    created_at timestamp(6),
+    last_login_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    participant_id uuid not null unique,
+    password_hash varchar(120) not null,
+    temporary_password varchar(120),
+    email varchar(255) not null,
+    primary key (id),
+    unique (email)
+);
+
+create table participant_events (
+    event_id uuid not null,
+    participant_id uuid not null,
+    primary key (event_id, participant_id)
+);
+
+create table participant_interests (
+    participant_id uuid not null,
+    interest varchar(255)
+);
+
+create table participant_progress (
+    achievement_date timestamp(6),
+    created_at timestamp(6),
+    event_id uuid,
+    id uuid not null,
+    participant_id uuid not null,
+    description TEXT,
+    progress_type varchar(255),
+    recorded_by varchar(255),
+    title varchar(255),
+    primary key (id)
+);
+
+create table participant_skills (
+    participant_id uuid not null,
+    skill varchar(255)
+);
+
+create table participants (
+    consent_for_communication boolean,
+    consent_for_photos boolean,
+    consent_for_testimonials boolean,
+    date_of_birth date,
+    graduation_year integer,
+    is_alumni boolean,
+    is_featured_alumni boolean,
+    total_events_attended integer,
+    total_hours_participated integer,
+    joined_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint,
+    id uuid not null,
+    address_line1 varchar(255),
+    address_line2 varchar(255),
+    alternative_phone varchar(255),
+    alumni_story TEXT,
+    best_time_to_contact varchar(255),
+    city varchar(255),
+    country varchar(255),
+    current_field varchar(255),
+    current_institution varchar(255),
+    current_status varchar(255),
+    education_level varchar(255) check (education_level in ('ELEMENTARY_SCHOOL','MIDDLE_SCHOOL','HIGH_SCHOOL','UNDERGRADUATE','GRADUATE','POSTGRADUATE','OTHER')),
+    email varchar(255),
+    first_name varchar(255) not null,
+    gender varchar(255),
+    grade_level varchar(255),
+    last_name varchar(255) not null,
+    linkedin_url varchar(255),
+    participant_code varchar(255) unique,
+    phone_number varchar(255),
+    portfolio_url varchar(255),
+    postal_code varchar(255),
+    preferred_contact_method varchar(255),
+    preferred_name varchar(255),
+    profile_picture_url varchar(255),
+    school_name varchar(255),
+    state_province varchar(255),
+    primary key (id)
+);
+
+create table testimonials (
+    display_order integer,
+    is_featured boolean,
+    is_published boolean,
+    created_at timestamp(6),
+    feedback_id uuid unique,
+    id uuid not null,
+    author_name varchar(255),
+    author_photo_url varchar(255),
+    author_title varchar(255),
+    context varchar(255),
+    highlight_text varchar(255),
+    quote TEXT not null,
+    video_testimonial_url varchar(255),
+    primary key (id)
+);
+
+alter table if exists achievement_criteria
+   add constraint FK18ii9n63ojnr6u5i5q4hhiodr
+   foreign key (achievement_id)
+   references achievements;
+
+alter table if exists achievement_metadata
+   add constraint FKdd9m5cp9qioy6yseokcyl15xw
+   foreign key (achievement_id)
+   references achievements;
+
+alter table if exists achievement_skills
+   add constraint FKspbblyiwx1wrovoxobeqpodyc
+   foreign key (achievement_id)
+   references achievements;
+
+alter table if exists achievements
+   add constraint FKnijmhxgen50p7a5iv9djxxum4
+   foreign key (event_id)
+   references events;
+
+alter table if exists achievements
+   add constraint FKrgv5oua2i825r16pnhjkvrcr9
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists admin_permissions
+   add constraint FK7vyuc2dwnyqi0v44ab5n5faca
+   foreign key (admin_id)
+   references admins;
+
+alter table if exists admins
+   add constraint FKec1tyrmwba5mjs4kxuhbiqwwh
+   foreign key (created_by_id)
+   references admins;
+
+alter table if exists admins
+   add constraint FKn00tyr64kn1ivey2ad6echh6d
+   foreign key (last_modified_by_id)
+   references admins;
+
+alter table if exists application_answers
+   add constraint FKp3xgkucys2gxlrtvr0uv7rl2g
+   foreign key (application_id)
+   references applications;
+
+alter table if exists application_dietary_restrictions
+   add constraint FKgqi1eg6j7a7elbe60805kpri5
+   foreign key (application_id)
+   references applications;
+
+alter table if exists application_documents
+   add constraint FKmn7jx61bon49nk5y29jp5hu5n
+   foreign key (application_id)
+   references applications;
+
+alter table if exists application_medical_conditions
+   add constraint FKp9tec0sin0p5edqbhkcr1u0sg
+   foreign key (application_id)
+   references applications;
+
+alter table if exists application_review_notes
+   add constraint FKdem0b0am4wdlmclmsuekn49a7
+   foreign key (application_id)
+   references applications;
+
+alter table if exists application_review_notes
+   add constraint FKi56ce8ksgqle6gjtb33g272v9
+   foreign key (admin_id)
+   references admins;
+
+alter table if exists applications
+   add constraint FK1s1jbq8240ud2378ixe82or6d
+   foreign key (event_id)
+   references events;
+
+alter table if exists applications
+   add constraint FKp5lguqrxqxg42oi75yxns5e9g
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists article_tags
+   add constraint FKeoil73g36agokjw6vuklqgli3
+   foreign key (article_id)
+   references articles;
+
+alter table if exists community_profile_interests
+   add constraint FK1ny3tb05p7mvt8xkapwommxc4
+   foreign key (profile_id)
+   references community_profiles;
+
+alter table if exists community_profile_skills
+   add constraint FKrrgvlsqoxt6t53mwik3o42vgf
+   foreign key (profile_id)
+   references community_profiles;
+
+alter table if exists event_dates
+   add constraint FKt6eutgjmpfnfjlnc1j94wif88
+   foreign key (event_id)
+   references events;
+
+alter table if exists event_galleries
+   add constraint FKghjwsqsqf4ku8v2v4md85uy7
+   foreign key (event_id)
+   references events;
+
+alter table if exists event_learning_outcomes
+   add constraint FKb7qxyypcby0jkc3xc5ri7psk9
+   foreign key (event_id)
+   references events;
+
+alter table if exists event_participant_highlights
+   add constraint FKtflkyy3uqnak8oi4mjhb3p9rg
+   foreign key (event_id)
+   references events;
+
+alter table if exists event_participant_highlights
+   add constraint FK8f260qiavc38vtn2c3rhuaclb
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists event_prerequisites
+   add constraint FKemifn7191kwsr6motjy7gxojo
+   foreign key (event_id)
+   references events;
+
+alter table if exists event_target_grades
+   add constraint FK95xtug01nv0ou2ttqxdmqhp1c
+   foreign key (event_id)
+   references events;
+
+alter table if exists events
+   add constraint FKr7mbjo4p00gghqshoxhtjvnjh
+   foreign key (created_by_admin_id)
+   references admins;
+
+alter table if exists events
+   add constraint FK22nkmb6bpu9c9sr5dkwargtx0
+   foreign key (last_modified_by_admin_id)
+   references admins;
+
+alter table if exists feedback_ratings
+   add constraint FKby5i1ag3l9lwall4afhtkhsb8
+   foreign key (feedback_id)
+   references feedbacks;
+
+alter table if exists feedback_skills_gained
+   add constraint FKqmhj8l599sqrt0i07dfkelb0e
+   foreign key (feedback_id)
+   references feedbacks;
+
+alter table if exists feedbacks
+   add constraint FKfr1mdb1ux17qw5k0xobnckww0
+   foreign key (event_id)
+   references events;
+
+alter table if exists feedbacks
+   add constraint FKs6o4fsixfoeqiwa0rdlaau5s3
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists gallery_images
+   add constraint FKpjped98yowu26kutqo6smh73l
+   foreign key (gallery_id)
+   references event_galleries;
+
+alter table if exists gallery_videos
+   add constraint FKodn6jtludciaquw9xw6t7hfea
+   foreign key (gallery_id)
+   references event_galleries;
+
+alter table if exists participant_accounts
+   add constraint FK7lre11koe22slg6322x4p198l
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists participant_events
+   add constraint FKsodxjcwjkui9kprbjnq6687h6
+   foreign key (event_id)
+   references events;
+
+alter table if exists participant_events
+   add constraint FKjjitit5lfpkqyk3nvwel8xgf
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists participant_interests
+   add constraint FKqby2tky3i2mt8ybckcw5l3pui
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists participant_progress
+   add constraint FKphf1bptlddgnty0s4e0qk7lb7
+   foreign key (event_id)
+   references events;
+
+alter table if exists participant_progress
+   add constraint FKm39evq01mc4sf4ngj90mj4orj
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists participant_skills
+   add constraint FK17yjvdghbat1jt1ttva1rrajl
+   foreign key (participant_id)
+   references participants;
+
+alter table if exists testimonials
+   add constraint FKs6uxov2xy2hrv2utypao302mg
+   foreign key (feedback_id)
+   references feedbacks;
@@ -0,0 +1,51 @@
+-- Index plan for the predicates the repositories filter and sort on.
+-- applications(event_id, email) is already served by the unique constraint from V1.
+-- Derived IgnoreCase finders compare upper(column) = upper(?), so the email indexes are on upper(...).
+
+-- applications
+CREATE INDEX IF NOT EXISTS idx_applications_event_status ON applications (event_id, status, waitlist_position);
+CREATE INDEX IF NOT EXISTS idx_applications_participant_submitted ON applications (participant_id, submitted_at DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_email_submitted ON applications (email, submitted_at DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_confirmation_token ON applications (confirmation_token);
+CREATE INDEX IF NOT EXISTS idx_applications_submitted_id ON applications (submitted_at DESC, id DESC);
+
+-- participants and accounts
+CREATE INDEX IF NOT EXISTS idx_participants_upper_email ON participants (upper(email));
+CREATE INDEX IF NOT EXISTS idx_participants_joined_id ON participants (joined_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_participant_accounts_upper_email ON participant_accounts (upper(email));
+CREATE INDEX IF NOT EXISTS idx_admins_upper_email ON admins (upper(email));
+
+-- events
+CREATE INDEX IF NOT EXISTS idx_events_created_id ON events (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_events_status_created ON events (status, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_events_type_status ON events (event_type, status);
+CREATE INDEX IF NOT EXISTS idx_events_published_created ON events (created_at DESC, id DESC) WHERE is_published = true;
+
+-- feedback
+CREATE INDEX IF NOT EXISTS idx_feedbacks_event_submitted ON feedbacks (event_id, submitted_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_submitted_id ON feedbacks (submitted_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_participant ON feedbacks (participant_id);
+
+-- content, community and media listings
+CREATE INDEX IF NOT EXISTS idx_media_assets_category_created ON media_assets (category, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_articles_status_created ON articles (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_articles_created_id ON articles (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_community_profiles_created_id ON community_profiles (created_at DESC, id DESC);
+
+-- foreign keys walked by batch fetching of child collections
+CREATE INDEX IF NOT EXISTS idx_event_dates_event ON event_dates (event_id);
+CREATE INDEX IF NOT EXISTS idx_event_learning_outcomes_event ON event_learning_outcomes (event_id);
+CREATE INDEX IF NOT EXISTS idx_event_prerequisites_event ON event_prerequisites (event_id);
+CREATE INDEX IF NOT EXISTS idx_event_target_grades_event ON event_target_grades (event_id);
+CREATE INDEX IF NOT EXISTS idx_gallery_images_gallery ON gallery_images (gallery_id);
+CREATE INDEX IF NOT EXISTS idx_gallery_videos_gallery ON gallery_videos (gallery_id);
+CREATE INDEX IF NOT EXISTS idx_application_documents_application ON application_documents (application_id);
+CREATE INDEX IF NOT EXISTS idx_application_review_notes_application ON application_review_notes (application_id);
+CREATE INDEX IF NOT EXISTS idx_application_dietary_restrictions_application ON application_dietary_restrictions (application_id);
+CREATE INDEX IF NOT EXISTS idx_application_medical_conditions_application ON application_medical_conditions (application_id);
+CREATE INDEX IF NOT EXISTS idx_participant_events_participant ON participant_events (participant_id);
+CREATE INDEX IF NOT EXISTS idx_participant_interests_participant ON participant_interests (participant_id);
+CREATE INDEX IF NOT EXISTS idx_participant_skills_participant ON participant_skills (participant_id);
+CREATE INDEX IF NOT EXISTS idx_feedback_skills_gained_feedback ON feedback_skills_gained (feedback_id);
+CREATE INDEX IF NOT EXISTS idx_achievements_participant ON achievements (participant_id);
+CREATE INDEX IF NOT EXISTS idx_participant_progress_participant ON participant_progress (participant_id);
@@ -0,0 +1,2 @@
+-- Calendar reads scan sessions by start time and join to their event.
+CREATE INDEX IF NOT EXISTS idx_event_dates_session_date ON event_dates (session_date, id) INCLUDE (event_id);
@@ -0,0 +1,8 @@
+-- One HyperLogLog sketch of distinct visitors per event page (or the whole site) and UTC day.
+CREATE TABLE event_visitor_sketches (
+    scope       VARCHAR(64)  NOT NULL,
+    bucket_date DATE         NOT NULL,
+    registers   BYTEA        NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT event_visitor_sketches_pkey PRIMARY KEY (scope, bucket_date)
+);
@@ -0,0 +1,9 @@
+-- participant_count becomes the seat ledger: one seat per application that is submitted, under review,
+-- accepted or confirmed. Bring existing events in line before the application starts maintaining it.
+UPDATE events e
+SET participant_count = (
+    SELECT count(*)
+    FROM applications a
+    WHERE a.event_id = e.id
+      AND a.status IN ('SUBMITTED', 'UNDER_REVIEW', 'ACCEPTED', 'CONFIRMED')
+);
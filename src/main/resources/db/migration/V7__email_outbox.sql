@@ -0,0 +1,21 @@
+-- Outbound email is written here in the sender's transaction and delivered by EmailOutboxDispatcher.
+CREATE TABLE email_outbox (
+    id              UUID                        NOT NULL,
+    from_address    VARCHAR(320),
+    to_addresses    TEXT                        NOT NULL,
+    cc_addresses    TEXT,
+    bcc_addresses   TEXT,
+    subject         VARCHAR(998)                NOT NULL,
+    body            TEXT                        NOT NULL,
+    status          VARCHAR(20)                 NOT NULL CHECK (status IN ('PENDING','SENT','DEAD')),
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error      VARCHAR(1000),
+    sent_at         TIMESTAMP(6) WITH TIME ZONE,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT email_outbox_pkey PRIMARY KEY (id)
+);
+
+-- The dispatcher only ever scans due PENDING rows; delivered and dead rows stay out of the index.
+CREATE INDEX idx_email_outbox_due ON email_outbox (next_attempt_at) WHERE status = 'PENDING';
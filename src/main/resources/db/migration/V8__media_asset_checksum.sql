@@ -0,0 +1,2 @@
+-- Hex SHA-256 of the stored object, computed while streaming uploads that support it.
+ALTER TABLE media_assets ADD COLUMN checksum_sha256 VARCHAR(64);
@@ -0,0 +1,12 @@
+-- One row per Idempotency-Key use; holds the stored response once the request has completed.
+CREATE TABLE idempotency_records (
+    scope           VARCHAR(100)                NOT NULL,
+    idempotency_key VARCHAR(255)                NOT NULL,
+    status          VARCHAR(20)                 NOT NULL CHECK (status IN ('IN_PROGRESS','COMPLETED')),
+    response_body   TEXT,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT idempotency_records_pkey PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_records_expires_at ON idempotency_records (expires_at);
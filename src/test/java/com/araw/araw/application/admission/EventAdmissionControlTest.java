@@ -0,0 +1,129 @@
+package com.araw.araw.application.admission;
+
+import com.araw.araw.config.EventAdmissionProperties;
+import com.araw.shared.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventAdmissionControlTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private EventAdmissionProperties properties;
+    private EventAdmissionControl admission;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventAdmissionProperties();
+        properties.setMaxConcurrent(2);
+        properties.setQueueCapacity(3);
+        properties.setMaxWait(Duration.ofSeconds(30));
+        properties.setRetryAfter(Duration.ofSeconds(7));
+        admission = new EventAdmissionControl(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsUpToTheLimitAndQueuesTheRest() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        List<Future<String>> submissions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            submissions.add(executor.submit(() -> admission.admit(eventId, this::blockUntilReleased)));
+        }
+
+        awaitCondition(() -> admission.inFlightSubmissions(eventId) == 2 && admission.queuedSubmissions(eventId) == 3);
+
+        release.countDown();
+        for (Future<String> submission : submissions) {
+            assertThat(submission.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        }
+        assertThat(admission.activeGates()).isZero();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenTheQueueIsFull() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            executor.submit(() -> admission.admit(eventId, this::blockUntilReleased));
+        }
+        awaitCondition(() -> admission.inFlightSubmissions(eventId) + admission.queuedSubmissions(eventId) == 5);
+
+        assertThatThrownBy(() -> admission.admit(eventId, () -> "overflow"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(7)));
+    }
+
+    @Test
+    void oneBusyEventDoesNotBlockAnother() throws Exception {
+        UUID busyEvent = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            executor.submit(() -> admission.admit(busyEvent, this::blockUntilReleased));
+        }
+        awaitCondition(() -> admission.queuedSubmissions(busyEvent) == 3);
+
+        assertThat(admission.admit(UUID.randomUUID(), () -> "quiet")).isEqualTo("quiet");
+    }
+
+    @Test
+    void queuedSubmissionGivesUpAfterMaxWait() throws Exception {
+        properties.setMaxWait(Duration.ofMillis(100));
+        UUID eventId = UUID.randomUUID();
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> admission.admit(eventId, this::blockUntilReleased));
+        }
+        awaitCondition(() -> admission.inFlightSubmissions(eventId) == 2);
+
+        assertThatThrownBy(() -> admission.admit(eventId, () -> "late"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(admission.queuedSubmissions(eventId)).isZero();
+    }
+
+    @Test
+    void failedSubmissionReleasesItsSlot() {
+        UUID eventId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> admission.admit(eventId, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(admission.activeGates()).isZero();
+        assertThat(admission.admit(eventId, () -> "retried")).isEqualTo("retried");
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not reached in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.araw.araw.application.cache;
+
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.EventResponse;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.application.service.EventGalleryService;
+import com.araw.araw.application.service.PublicEventQueryService;
+import com.araw.araw.config.PublicEventCacheProperties;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublishedEventCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private PublishedEventCache cache;
+
+    @BeforeEach
+    void setUp() {
+        PublicEventCacheProperties properties = new PublicEventCacheProperties();
+        properties.setTtl(Duration.ofSeconds(60));
+        properties.setStaleIfError(Duration.ofMinutes(10));
+        cache = new PublishedEventCache(properties, clock);
+    }
+
+    @Test
+    void servesSnapshotBySlugAndIdUntilTtlElapses() {
+        EventResponse event = event("robotics-bootcamp");
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("robotics-bootcamp", () -> {
+            loads.incrementAndGet();
+            return event;
+        });
+        EventResponse byId = cache.get(event.getId().toString(), () -> {
+            loads.incrementAndGet();
+            return event;
+        });
+
+        assertThat(byId).isSameAs(event);
+        assertThat(loads).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(61));
+        cache.get("robotics-bootcamp", () -> {
+            loads.incrementAndGet();
+            return event;
+        });
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationForcesReloadAndKeepsStaleFallback() {
+        EventResponse event = event("robotics-bootcamp");
+        cache.get("robotics-bootcamp", () -> event);
+
+        cache.invalidate(event.getId());
+
+        EventResponse reloaded = event("robotics-bootcamp");
+        assertThat(cache.get("robotics-bootcamp", () -> reloaded)).isSameAs(reloaded);
+
+        clock.advance(Duration.ofSeconds(61));
+        EventResponse served = cache.get("robotics-bootcamp", () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+        assertThat(served).isSameAs(reloaded);
+    }
+
+    @Test
+    void failsOnceStaleWindowHasPassed() {
+        cache.get("robotics-bootcamp", () -> event("robotics-bootcamp"));
+        clock.advance(Duration.ofMinutes(12));
+
+        assertThatThrownBy(() -> cache.get("robotics-bootcamp", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void notFoundEvictsSnapshot() {
+        cache.get("robotics-bootcamp", () -> event("robotics-bootcamp"));
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThatThrownBy(() -> cache.get("robotics-bootcamp", () -> {
+            throw new DomainNotFoundException("Published event not found: robotics-bootcamp");
+        })).isInstanceOf(DomainNotFoundException.class);
+        assertThatThrownBy(() -> cache.get("robotics-bootcamp", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedKeysWhenFull() {
+        PublicEventCacheProperties properties = new PublicEventCacheProperties();
+        properties.setMaxEntries(4);
+        PublishedEventCache bounded = new PublishedEventCache(properties, clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Each snapshot is cached under its slug and its id, so two events fill the cache.
+        bounded.get("robotics-bootcamp", () -> event("robotics-bootcamp"));
+        bounded.get("coding-club", () -> event("coding-club"));
+        bounded.get("robotics-bootcamp", () -> {
+            loads.incrementAndGet();
+            return event("robotics-bootcamp");
+        });
+        bounded.get("science-fair", () -> event("science-fair"));
+
+        assertThat(bounded.size()).isEqualTo(4);
+        bounded.get("robotics-bootcamp", () -> {
+            loads.incrementAndGet();
+            return event("robotics-bootcamp");
+        });
+        assertThat(loads).hasValue(0);
+        bounded.get(event("coding-club").getId().toString(), () -> {
+            loads.incrementAndGet();
+            return event("coding-club");
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        EventResponse event = event("robotics-bootcamp");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> cache.get("robotics-bootcamp", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return event;
+                }));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<?> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(event);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * Runs against the application context without a test transaction, so that changes commit and the
+     * cache hears about them the way it does in production.
+     */
+    @Nested
+    @SpringBootTest
+    @ActiveProfiles("test")
+    class Invalidation {
+
+        @Autowired
+        private EventApplicationService eventService;
+
+        @Autowired
+        private EventGalleryService galleryService;
+
+        @Autowired
+        private PublicEventQueryService publicEventQueryService;
+
+        @Autowired
+        private PublishedEventCache publishedEventCache;
+
+        @Autowired
+        private EventRepository eventRepository;
+
+        private UUID eventId;
+
+        @AfterEach
+        void deleteEvent() {
+            if (eventId != null) {
+                eventRepository.deleteById(eventId);
+            }
+        }
+
+        @Test
+        void galleryEditsEvictTheSnapshot() {
+            eventId = completedEvent();
+            String identifier = eventId.toString();
+            EventResponse before = publicEventQueryService.getPublishedEvent(identifier);
+            assertThat(publishedEventCache.peek(identifier)).isPresent();
+
+            galleryService.addVideoLink(eventId, "https://videos.example.com/recap", "Recap", null, 90);
+
+            assertThat(publishedEventCache.peek(identifier)).isEmpty();
+            EventResponse after = publicEventQueryService.getPublishedEvent(identifier);
+            assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+            assertThat(after.getGallery().getVideos()).extracting("title").containsExactly("Recap");
+        }
+
+        private UUID completedEvent() {
+            UUID id = eventService.createEvent(CreateEventRequest.builder()
+                    .title("Cache Showcase")
+                    .description("Showcase of finished projects")
+                    .shortDescription("Showcase")
+                    .eventType(EventType.WORKSHOP)
+                    .location(LocationDto.builder()
+                            .venueName("ARAW Innovation Hub")
+                            .addressLine1("1 Impact Way")
+                            .city("Accra")
+                            .stateProvince("Greater Accra")
+                            .country("Ghana")
+                            .isVirtual(false)
+                            .isHybrid(false)
+                            .build())
+                    .isFree(true)
+                    .eventDates(List.of(EventDateDto.builder()
+                            .sessionDate(LocalDateTime.now().plusDays(7))
+                            .sessionEndDate(LocalDateTime.now().plusDays(7).plusHours(3))
+                            .sessionName("Day 1")
+                            .build()))
+                    .build()).getId();
+            eventService.publishEvent(id);
+            eventService.startEvent(id);
+            eventService.completeEvent(id);
+            return id;
+        }
+    }
+
+    private static EventResponse event(String slug) {
+        return EventResponse.builder()
+                .id(UUID.nameUUIDFromBytes(slug.getBytes()))
+                .applicationSlug(slug)
+                .title("STEM Robotics Bootcamp")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.araw.araw.application.calendar;
+
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.EventResponse;
+import com.araw.araw.application.dto.event.EventSessionResponse;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.domain.event.event.EventChangedEvent;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainValidationException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventCalendarServiceTest {
+
+    @Autowired
+    private EventCalendarService calendarService;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void listSessionsReturnsOneRowPerSession() {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        EventResponse event = publishedEvent("Solar Lab", start);
+
+        Page<EventSessionResponse> sessions = calendarService.listSessions(
+                start.minusDays(1), start.plusDays(3), PageRequest.of(0, 20));
+
+        List<EventSessionResponse> ours = sessions.getContent().stream()
+                .filter(session -> session.getEventId().equals(event.getId()))
+                .toList();
+        assertThat(ours).extracting(EventSessionResponse::getSessionName).containsExactly("Day 1", "Day 2");
+        assertThat(sessions.getContent()).extracting(EventSessionResponse::getSessionId).doesNotHaveDuplicates();
+        assertThatThrownBy(() -> calendarService.listSessions(start, start.minusDays(1), PageRequest.of(0, 20)))
+                .isInstanceOf(DomainValidationException.class);
+    }
+
+    @Test
+    void feedsStayCachedUntilTheEventChanges() {
+        EventResponse event = publishedEvent("Maker Weekend", LocalDateTime.now().plusDays(14));
+
+        CalendarFeed first = calendarService.catalogFeed();
+        assertThat(first.body()).startsWith("BEGIN:VCALENDAR").contains("BEGIN:VEVENT", "SUMMARY:Maker Weekend");
+        assertThat(calendarService.catalogFeed()).isSameAs(first);
+
+        CalendarFeed eventFeed = calendarService.eventFeed(event.getId());
+        assertThat(eventFeed.body()).contains("UID:").doesNotContain("SUMMARY:Solar Lab");
+        assertThat(calendarService.eventFeed(event.getId())).isSameAs(eventFeed);
+
+        calendarService.onEventChanged(new EventChangedEvent(event.getId(), event.getApplicationSlug()));
+
+        assertThat(calendarService.catalogFeed()).isNotSameAs(first);
+        assertThat(calendarService.eventFeed(event.getId())).isNotSameAs(eventFeed);
+    }
+
+    @Test
+    void catalogFeedLeavesOutEventsWhoseSessionsAreLongPast() {
+        publishedEvent("Alumni Reunion", LocalDateTime.now().minusDays(90));
+        publishedEvent("Robotics Camp", LocalDateTime.now().minusDays(2));
+
+        CalendarFeed feed = calendarService.catalogFeed();
+
+        assertThat(feed.body()).contains("SUMMARY:Robotics Camp").doesNotContain("SUMMARY:Alumni Reunion");
+    }
+
+    private EventResponse publishedEvent(String title, LocalDateTime start) {
+        CreateEventRequest request = CreateEventRequest.builder()
+                .title(title)
+                .description("Two-day build sprint")
+                .shortDescription("Build sprint")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder()
+                        .venueName("ARAW Innovation Hub")
+                        .addressLine1("1 Impact Way")
+                        .city("Accra")
+                        .country("Ghana")
+                        .isVirtual(false)
+                        .isHybrid(false)
+                        .build())
+                .maxParticipants(40)
+                .isFree(true)
+                .eventDates(List.of(
+                        EventDateDto.builder()
+                                .sessionDate(start)
+                                .sessionEndDate(start.plusHours(3))
+                                .sessionName("Day 1")
+                                .build(),
+                        EventDateDto.builder()
+                                .sessionDate(start.plusDays(1))
+                                .sessionEndDate(start.plusDays(1).plusHours(3))
+                                .sessionName("Day 2")
+                                .build()))
+                .build();
+        EventResponse created = eventService.createEvent(request);
+        EventResponse published = eventService.publishEvent(created.getId());
+        entityManager.flush();
+        calendarService.onEventChanged(new EventChangedEvent(created.getId(), published.getApplicationSlug()));
+        return published;
+    }
+}
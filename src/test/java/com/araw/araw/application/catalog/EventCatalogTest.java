@@ -0,0 +1,116 @@
+package com.araw.araw.application.catalog;
+
+import com.araw.araw.application.dto.event.EventCatalogResponse;
+import com.araw.araw.application.dto.event.EventSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCatalogTest {
+
+    private final EventCatalog catalog = new EventCatalog();
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    private EventCatalogEntry accraWorkshop;
+    private EventCatalogEntry accraHackathon;
+    private EventCatalogEntry kumasiWorkshop;
+
+    @BeforeEach
+    void setUp() {
+        accraWorkshop = entry("Accra Robotics", 3, "WORKSHOP", "Accra", "IN_PERSON", 0, Set.of("JHS 1", "JHS 2"), 10, 14);
+        accraHackathon = entry("Accra Hack", 2, "HACKATHON", "Accra", "HYBRID", 25, Set.of("SHS 1"), 15, 18);
+        kumasiWorkshop = entry("Kumasi Coding", 1, "WORKSHOP", "Kumasi", "VIRTUAL", 10, Set.of("JHS 2"), null, null);
+        catalog.replaceAll(List.of(accraWorkshop, accraHackathon, kumasiWorkshop));
+    }
+
+    @Test
+    void combinesFacetsAndCountsEachFacetWithoutItsOwnSelection() {
+        EventCatalogResponse response = catalog.query(query(Map.of(
+                EventFacet.TYPE, Set.of("workshop"),
+                EventFacet.CITY, Set.of("ACCRA")), null, null), 0, 20);
+
+        assertThat(titles(response)).containsExactly("Accra Robotics");
+        assertThat(response.events().totalElements()).isEqualTo(1);
+        // type counts ignore the type selection but honour the city selection, and vice versa
+        assertThat(response.facets().get("type")).containsExactly(Map.entry("HACKATHON", 1), Map.entry("WORKSHOP", 1));
+        assertThat(response.facets().get("city")).containsExactly(Map.entry("Accra", 1), Map.entry("Kumasi", 1));
+        assertThat(response.facets().get("grade")).containsExactly(Map.entry("JHS 1", 1), Map.entry("JHS 2", 1));
+    }
+
+    @Test
+    void valuesOfOneFacetAreAlternatives() {
+        EventCatalogResponse response = catalog.query(query(Map.of(
+                EventFacet.FORMAT, Set.of("VIRTUAL", "HYBRID")), null, null), 0, 20);
+
+        assertThat(titles(response)).containsExactly("Kumasi Coding", "Accra Hack");
+    }
+
+    @Test
+    void appliesCostCeilingAndAgeWindow() {
+        assertThat(titles(catalog.query(query(Map.of(), 10d, null), 0, 20)))
+                .containsExactly("Kumasi Coding", "Accra Robotics");
+        assertThat(titles(catalog.query(query(Map.of(), null, 16), 0, 20)))
+                .containsExactly("Kumasi Coding", "Accra Hack");
+        assertThat(catalog.query(query(Map.of(), 10d, 16), 0, 20).facets().get("pricing"))
+                .containsExactly(Map.entry("PAID", 1));
+    }
+
+    @Test
+    void updatesAndRemovalsAreIndexedIncrementally() {
+        catalog.remove(accraHackathon.id());
+        catalog.put(entry(kumasiWorkshop.id(), "Kumasi Coding", 1, "BOOTCAMP", "Tamale", "VIRTUAL", 10, Set.of(), null, null));
+        EventCatalogEntry added = entry("Ho Science", 0, "SEMINAR", "Ho", "IN_PERSON", 0, Set.of(), null, null);
+        catalog.put(added);
+
+        EventCatalogResponse response = catalog.query(EventCatalogQuery.all(), 0, 20);
+
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(titles(response)).containsExactly("Ho Science", "Kumasi Coding", "Accra Robotics");
+        assertThat(response.facets().get("city")).containsOnlyKeys("Accra", "Tamale", "Ho");
+        assertThat(response.facets().get("type")).containsOnlyKeys("WORKSHOP", "BOOTCAMP", "SEMINAR");
+    }
+
+    @Test
+    void pagesThroughMatchesNewestFirst() {
+        EventCatalogResponse second = catalog.query(EventCatalogQuery.all(), 1, 2);
+
+        assertThat(titles(second)).containsExactly("Accra Robotics");
+        assertThat(second.events().totalPages()).isEqualTo(2);
+        assertThat(catalog.query(EventCatalogQuery.all(), 5, 2).events().content()).isEmpty();
+    }
+
+    private EventCatalogQuery query(Map<EventFacet, Set<String>> selections, Double maxCost, Integer age) {
+        return new EventCatalogQuery(selections, maxCost, age);
+    }
+
+    private List<String> titles(EventCatalogResponse response) {
+        return response.events().content().stream().map(EventSummaryResponse::getTitle).toList();
+    }
+
+    private EventCatalogEntry entry(String title, int daysAgo, String type, String city, String format,
+                                   double cost, Set<String> grades, Integer minAge, Integer maxAge) {
+        return entry(UUID.randomUUID(), title, daysAgo, type, city, format, cost, grades, minAge, maxAge);
+    }
+
+    private EventCatalogEntry entry(UUID id, String title, int daysAgo, String type, String city, String format,
+                                   double cost, Set<String> grades, Integer minAge, Integer maxAge) {
+        Map<EventFacet, Set<String>> facets = new EnumMap<>(EventFacet.class);
+        facets.put(EventFacet.TYPE, Set.of(type));
+        facets.put(EventFacet.STATUS, Set.of("UPCOMING"));
+        facets.put(EventFacet.CITY, Set.of(city));
+        facets.put(EventFacet.STATE, Set.of());
+        facets.put(EventFacet.FORMAT, Set.of(format));
+        facets.put(EventFacet.PRICING, Set.of(cost == 0 ? "FREE" : "PAID"));
+        facets.put(EventFacet.GRADE, grades);
+        EventSummaryResponse summary = EventSummaryResponse.builder().id(id).title(title).build();
+        return new EventCatalogEntry(id, now.minusDays(daysAgo), summary, facets, cost, minAge, maxAge);
+    }
+}
@@ -0,0 +1,96 @@
+package com.araw.araw.application.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED = 1000;
+    private static final int PROBES = 200_000;
+
+    @Test
+    void neverMissesAddedValue() {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("applicant" + i + "@example.com");
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("applicant" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTargetAtCapacity() {
+        for (double target : new double[]{0.01, 0.001}) {
+            BloomFilter filter = new BloomFilter(EXPECTED, target);
+            for (int i = 0; i < EXPECTED; i++) {
+                filter.put("applicant" + i + "@example.com");
+            }
+
+            double measured = measureFalsePositiveRate(filter);
+
+            // With 200k probes the measurement is within a few tenths of the target; allow 50% headroom.
+            assertThat(measured).as("false-positive rate for target %s", target).isLessThan(target * 1.5);
+        }
+    }
+
+    @Test
+    void reportsSaturationPastExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(10, 0.01);
+        for (int i = 0; i < 10; i++) {
+            filter.put("applicant" + i + "@example.com");
+        }
+        assertThat(filter.isSaturated()).isFalse();
+
+        filter.put("one-more@example.com");
+
+        assertThat(filter.isSaturated()).isTrue();
+    }
+
+    @Test
+    void concurrentPutsAreAllVisible() throws Exception {
+        BloomFilter filter = new BloomFilter(8 * EXPECTED, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < EXPECTED; i++) {
+                        filter.put("writer" + thread + "-" + i + "@example.com");
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < EXPECTED; i++) {
+                assertThat(filter.mightContain("writer" + t + "-" + i + "@example.com")).isTrue();
+            }
+        }
+        assertThat(filter.insertions()).isEqualTo(8L * EXPECTED);
+    }
+
+    private static double measureFalsePositiveRate(BloomFilter filter) {
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("stranger" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / PROBES;
+    }
+}
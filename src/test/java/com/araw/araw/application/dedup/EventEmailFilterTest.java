@@ -0,0 +1,114 @@
+package com.araw.araw.application.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventEmailFilterTest {
+
+    private final Map<UUID, List<String>> table = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EventEmailFilter filter(int expectedPerEvent) {
+        return new EventEmailFilter(this::load, expectedPerEvent, 0.01);
+    }
+
+    private Collection<String> load(UUID eventId) {
+        loads.incrementAndGet();
+        return new ArrayList<>(table.getOrDefault(eventId, List.of()));
+    }
+
+    @Test
+    void loadsEachEventOnceOnFirstCheck() {
+        UUID eventId = UUID.randomUUID();
+        table.put(eventId, List.of("Ada@Example.com"));
+        EventEmailFilter filter = filter(100);
+
+        assertThat(filter.mightContain(eventId, " ada@example.COM ")).isTrue();
+        assertThat(filter.mightContain(eventId, "grace@example.com")).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void keepsEventsApart() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        table.put(first, List.of("ada@example.com"));
+        EventEmailFilter filter = filter(100);
+
+        assertThat(filter.mightContain(second, "ada@example.com")).isFalse();
+    }
+
+    @Test
+    void addedEmailsAreSeenWithoutReload() {
+        UUID eventId = UUID.randomUUID();
+        EventEmailFilter filter = filter(100);
+        assertThat(filter.mightContain(eventId, "ada@example.com")).isFalse();
+
+        filter.add(eventId, "ada@example.com");
+
+        assertThat(filter.mightContain(eventId, "ada@example.com")).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void emailAddedBeforeLoadIsKept() {
+        UUID eventId = UUID.randomUUID();
+        EventEmailFilter filter = filter(100);
+
+        // Not yet committed when the filter loads, so the table does not have it.
+        filter.add(eventId, "ada@example.com");
+
+        assertThat(filter.mightContain(eventId, "ada@example.com")).isTrue();
+    }
+
+    @Test
+    void saturatedFilterIsRebuiltLarger() {
+        UUID eventId = UUID.randomUUID();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            emails.add("applicant" + i + "@example.com");
+        }
+        table.put(eventId, emails);
+        EventEmailFilter filter = filter(10);
+        long initialSize = new BloomFilter(10, 0.01).sizeInBytes();
+
+        filter.mightContain(eventId, "applicant0@example.com");
+        assertThat(filter.mightContain(eventId, "applicant49@example.com")).isTrue();
+
+        assertThat(loads).hasValue(2);
+        assertThat(filter.sizeInBytes()).isGreaterThan(initialSize);
+        for (String email : emails) {
+            assertThat(filter.mightContain(eventId, email)).isTrue();
+        }
+    }
+
+    @Test
+    void failedLoadIsRetried() {
+        UUID eventId = UUID.randomUUID();
+        AtomicInteger attempts = new AtomicInteger();
+        EventEmailFilter filter = new EventEmailFilter(id -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return List.of();
+        }, 100, 0.01);
+
+        try {
+            filter.mightContain(eventId, "ada@example.com");
+        } catch (IllegalStateException expected) {
+            // the caller's query fails the same way
+        }
+
+        assertThat(filter.mightContain(eventId, "ada@example.com")).isFalse();
+        assertThat(attempts).hasValue(2);
+    }
+}
@@ -0,0 +1,171 @@
+package com.araw.araw.application.expiry;
+
+import com.araw.araw.application.dto.application.ApplicantInfoDto;
+import com.araw.araw.application.dto.application.ApplicationView;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.service.ApplicationApplicationService;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.notification.outbox.OutboundEmailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction so that each sweep batch commits on its own, as it does in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AcceptanceExpirySweeperTest {
+
+    @Autowired
+    private AcceptanceExpirySweeper sweeper;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private ApplicationApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> createdEvents = new ArrayList<>();
+    private final String batch = UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void deleteEvents() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createdEvents.forEach(eventId -> {
+                applicationRepository.deleteAll(applicationRepository.findByEventId(eventId));
+                eventRepository.deleteById(eventId);
+            });
+            outboundEmailRepository.deleteAll(outboundEmailRepository.findAll().stream()
+                    .filter(email -> email.getToAddresses().contains(batch))
+                    .toList());
+        });
+    }
+
+    @Test
+    void expiredAcceptancesGiveTheirSeatsToTheWaitlist() {
+        UUID eventId = createEvent(2);
+        UUID firstInLine = waitlisted(eventId, "first-in-line");
+        UUID secondInLine = waitlisted(eventId, "second-in-line");
+        UUID overdue = accepted(eventId, "overdue");
+        UUID recent = accepted(eventId, "recent");
+        backdateAcceptance(overdue, LocalDateTime.now().minusDays(8));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sweeper.bindTo(registry);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+
+        Application expired = applicationRepository.findById(overdue).orElseThrow();
+        assertThat(expired.getStatus()).isEqualTo(ApplicationStatus.CANCELLED);
+        assertThat(expired.getCancellationReason()).isEqualTo(AcceptanceExpirySweeper.EXPIRY_REASON);
+        assertThat(status(recent)).isEqualTo(ApplicationStatus.ACCEPTED);
+        assertThat(status(firstInLine)).isEqualTo(ApplicationStatus.ACCEPTED);
+        Application stillWaiting = applicationRepository.findById(secondInLine).orElseThrow();
+        assertThat(stillWaiting.getStatus()).isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(applicationService.getApplication(secondInLine).getWaitlistPosition()).isEqualTo(1);
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        assertThat(event.getParticipantCount()).isEqualTo(2);
+        assertThat(event.getApplicationCount()).isEqualTo(3);
+
+        assertThat(registry.get("applications.acceptance_expiry.last_run.expired").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("applications.acceptance_expiry.lag").gauge().value()).isGreaterThan(3600.0);
+        assertThat(registry.get("applications.acceptance_expiry").tag("result", "promoted")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1.0);
+
+        assertThat(sweeper.sweep()).isZero();
+        assertThat(registry.get("applications.acceptance_expiry.lag").gauge().value()).isZero();
+    }
+
+    private ApplicationStatus status(UUID applicationId) {
+        return applicationRepository.findById(applicationId).orElseThrow().getStatus();
+    }
+
+    private void backdateAcceptance(UUID applicationId, LocalDateTime acceptedAt) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Application application = applicationRepository.findById(applicationId).orElseThrow();
+            application.setAcceptanceSentAt(acceptedAt);
+            applicationRepository.save(application);
+        });
+    }
+
+    private UUID accepted(UUID eventId, String name) {
+        UUID applicationId = submitted(eventId, name);
+        applicationService.acceptApplication(applicationId, ApplicationView.FULL);
+        return applicationId;
+    }
+
+    private UUID waitlisted(UUID eventId, String name) {
+        return applicationService.waitlistApplication(submitted(eventId, name), null, ApplicationView.FULL).getId();
+    }
+
+    private UUID submitted(UUID eventId, String name) {
+        UUID applicationId = applicationService.createApplication(CreateApplicationRequest.builder()
+                .eventId(eventId)
+                .applicantInfo(ApplicantInfoDto.builder()
+                        .firstName("Esi")
+                        .lastName("Mensah")
+                        .city("Accra")
+                        .country("Ghana")
+                        .build())
+                .email(name + "-" + batch + "@example.com")
+                .guardianConsent(true)
+                .emergencyContactName("Kofi Mensah")
+                .emergencyContactPhone("+233200000000")
+                .emergencyContactRelation("Father")
+                .build()).getId();
+        applicationService.submitApplication(applicationId, ApplicationView.FULL);
+        return applicationId;
+    }
+
+    private UUID createEvent(int seats) {
+        UUID eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Expiry Test " + seats)
+                .description("Capacity-limited workshop")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(seats)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(12))
+                        .sessionEndDate(LocalDateTime.now().plusDays(12).plusHours(2))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+        createdEvents.add(eventId);
+        return eventId;
+    }
+}
@@ -0,0 +1,110 @@
+package com.araw.araw.application.search;
+
+import com.araw.shared.persistence.PostgresTestDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class EventFullTextSearchTest {
+
+    private static final int CATALOG_SIZE = 50_000;
+    private static final int RUNS = 7;
+
+    @Test
+    void prefixQueryMatchesEveryWordAsPrefix() {
+        assertThat(EventFullTextSearch.toPrefixQuery("Robo  Camp")).isEqualTo("robo:* & camp:*");
+    }
+
+    @Test
+    void prefixQueryDropsTsqueryOperators() {
+        assertThat(EventFullTextSearch.toPrefixQuery("data & (science | !art):*")).isEqualTo("data:* & science:* & art:*");
+        assertThat(EventFullTextSearch.toPrefixQuery(" !&| ")).isEmpty();
+        assertThat(EventFullTextSearch.toPrefixQuery(null)).isEmpty();
+    }
+
+    /**
+     * Compares the ranked GIN search with the previous {@code LIKE} scan on a synthetic catalog. Runs only
+     * when {@code ARAW_TEST_POSTGRES_URL} points at a PostgreSQL instance; the catalog lives in a temporary
+     * {@code events} table that shadows the real one for this session only.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+    void rankedSearchBeatsLikeScanOnSyntheticCatalog() throws SQLException, IOException {
+        try (Connection connection = PostgresTestDatabase.connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE events (id uuid PRIMARY KEY, title varchar(255), " +
+                        "short_description varchar(500), description text, created_at timestamp)");
+                statement.execute("INSERT INTO events " +
+                        "SELECT gen_random_uuid(), " +
+                        "'Event ' || g || ' ' || (ARRAY['robotics','coding','science','maths','design'])[1 + g % 5] || ' camp', " +
+                        "'Session ' || md5(g::text), " +
+                        "repeat('Hands-on learning with mentors ' || md5((g * 7)::text) || ' ', 20), " +
+                        "now() - g * interval '1 minute' " +
+                        "FROM generate_series(1, " + CATALOG_SIZE + ") g");
+                statement.execute(PostgresTestDatabase.migration("V2__event_search_vector.sql"));
+                statement.execute("ANALYZE events");
+            }
+
+            String term = "Event 4242";
+            long likeNanos = medianNanos(connection,
+                    "SELECT e.id FROM events e WHERE " +
+                            "LOWER(e.title) LIKE LOWER('%' || ? || '%') OR " +
+                            "LOWER(e.description) LIKE LOWER('%' || ? || '%') OR " +
+                            "LOWER(e.short_description) LIKE LOWER('%' || ? || '%') " +
+                            "ORDER BY e.created_at DESC LIMIT 20",
+                    term, term, term);
+            String query = EventFullTextSearch.toPrefixQuery(term);
+            String ranked = "SELECT e.title FROM events e WHERE e.search_vector @@ to_tsquery('english', ?) " +
+                    "ORDER BY ts_rank_cd(e.search_vector, to_tsquery('english', ?)) DESC, " +
+                    "e.created_at DESC, e.id DESC LIMIT 20";
+            long rankedNanos = medianNanos(connection, ranked, query, query);
+
+            log.info("Event search over {} rows: LIKE {} us, tsvector {} us",
+                    CATALOG_SIZE, likeNanos / 1_000, rankedNanos / 1_000);
+            assertThat(rankedNanos).as("tsvector vs LIKE median nanos").isLessThan(likeNanos);
+            assertThat(firstRow(connection, ranked, query, query)).startsWith(term);
+        }
+    }
+
+    private static String firstRow(Connection connection, String sql, String... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? rows.getString(1) : null;
+            }
+        }
+    }
+
+    private static long medianNanos(Connection connection, String sql, String... parameters) throws SQLException {
+        long[] samples = new long[RUNS];
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            for (int run = 0; run < RUNS; run++) {
+                long started = System.nanoTime();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getObject(1);
+                    }
+                }
+                samples[run] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
@@ -2,6 +2,7 @@ package com.araw.araw.application.service;
 
 import com.araw.araw.application.dto.application.ApplicantInfoDto;
 import com.araw.araw.application.dto.application.ApplicationDecisionRequest;
+import com.araw.araw.application.dto.application.ApplicationView;
 import com.araw.araw.application.dto.application.CreateApplicationRequest;
 import com.araw.araw.application.dto.application.ReviewApplicationRequest;
 import com.araw.araw.application.dto.event.CreateEventRequest;
@@ -10,9 +11,15 @@ import com.araw.araw.application.dto.event.LocationDto;
 import com.araw.araw.application.dto.participant.ContactInfoDto;
 import com.araw.araw.application.dto.participant.CreateParticipantRequest;
 import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationTransitionResponse;
+import com.araw.araw.application.mapper.ApplicationMapper;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
 import com.araw.araw.domain.application.valueobject.ApplicationStatus;
 import com.araw.araw.domain.application.valueobject.EducationLevel;
+import com.araw.araw.domain.event.repository.EventRepository;
 import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +34,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -42,6 +50,15 @@ class ApplicationApplicationServiceTest {
     @Autowired
     private ParticipantApplicationService participantService;
 
+    @Autowired
+    private ApplicationMapper applicationMapper;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
     private UUID eventId;
     private UUID participantId;
 
@@ -94,37 +111,13 @@ class ApplicationApplicationServiceTest {
 
     @Test
     void fullApplicationWorkflow() {
-        CreateApplicationRequest request = CreateApplicationRequest.builder()
-                .eventId(eventId)
-                .participantId(participantId)
-                .applicantInfo(ApplicantInfoDto.builder()
-                        .firstName("Yaw")
-                        .lastName("Boateng")
-                        .dateOfBirth(LocalDate.now().minusYears(17))
-                        .addressLine1("45 Tech Road")
-                        .city("Kumasi")
-                        .stateProvince("Ashanti")
-                        .country("Ghana")
-                        .schoolName("KNUST SHS")
-                        .gradeLevel("11")
-                        .phoneNumber("+233209876543")
-                        .preferredLanguage("English")
-                        .build())
-                .email("yaw.boateng@example.com")
-                .guardianConsent(true)
-                .guardianName("Ama Boateng")
-                .guardianEmail("ama.boateng@example.com")
-                .guardianPhone("+233200000000")
-                .emergencyContactName("Kojo Boateng")
-                .emergencyContactPhone("+233201111111")
-                .emergencyContactRelation("Father")
-                .build();
+        CreateApplicationRequest request = applicationRequest("yaw.boateng@example.com");
 
         ApplicationResponse created = applicationService.createApplication(request);
         assertThat(created.getId()).isNotNull();
         assertThat(created.getStatus()).isEqualTo(ApplicationStatus.DRAFT);
 
-        ApplicationResponse submitted = applicationService.submitApplication(created.getId());
+        ApplicationResponse submitted = applicationService.submitApplication(created.getId(), ApplicationView.FULL);
         assertThat(submitted.getStatus()).isEqualTo(ApplicationStatus.SUBMITTED);
 
         ReviewApplicationRequest reviewRequest = ReviewApplicationRequest.builder()
@@ -133,19 +126,93 @@ class ApplicationApplicationServiceTest {
                 .reviewerName("Admin Reviewer")
                 .build();
 
-        ApplicationResponse reviewed = applicationService.reviewApplication(created.getId(), reviewRequest);
+        ApplicationResponse reviewed =
+                applicationService.reviewApplication(created.getId(), reviewRequest, ApplicationView.FULL);
         assertThat(reviewed.getStatus()).isEqualTo(ApplicationStatus.UNDER_REVIEW);
         assertThat(reviewed.getReviewScore()).isEqualTo(8);
 
-        ApplicationResponse accepted = applicationService.acceptApplication(created.getId());
+        ApplicationResponse accepted = applicationService.acceptApplication(created.getId(), ApplicationView.FULL);
         assertThat(accepted.getStatus()).isEqualTo(ApplicationStatus.ACCEPTED);
 
         ApplicationDecisionRequest cancelRequest = ApplicationDecisionRequest.builder()
                 .reason("Candidate withdrew")
                 .build();
 
-        ApplicationResponse cancelled = applicationService.cancelApplication(created.getId(), cancelRequest.getReason());
+        ApplicationResponse cancelled =
+                applicationService.cancelApplication(created.getId(), cancelRequest.getReason(), ApplicationView.FULL);
         assertThat(cancelled.getStatus()).isEqualTo(ApplicationStatus.CANCELLED);
         assertThat(cancelled.getCancellationReason()).isEqualTo("Candidate withdrew");
     }
+
+    @Test
+    void compactTransitionsReportStatusAndWaitlistPosition() {
+        UUID applicationId =
+                applicationService.createApplication(applicationRequest("compact.view@example.com")).getId();
+
+        ApplicationTransitionResponse submitted =
+                applicationService.submitApplication(applicationId, ApplicationView.COMPACT);
+        assertThat(submitted.getId()).isEqualTo(applicationId);
+        assertThat(submitted.getApplicationNumber()).isNotBlank();
+        assertThat(submitted.getStatus()).isEqualTo(ApplicationStatus.SUBMITTED);
+        assertThat(submitted.getSubmittedAt()).isNotNull();
+
+        ApplicationTransitionResponse waitlisted =
+                applicationService.waitlistApplication(applicationId, null, ApplicationView.COMPACT);
+        assertThat(waitlisted.getStatus()).isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(waitlisted.getWaitlistPosition()).isEqualTo(1);
+
+        ApplicationTransitionResponse accepted =
+                applicationService.acceptApplication(applicationId, ApplicationView.COMPACT);
+        assertThat(accepted.getStatus()).isEqualTo(ApplicationStatus.ACCEPTED);
+        assertThat(accepted.getWaitlistPosition()).isNull();
+        assertThat(accepted.getAcceptanceSentAt()).isNotNull();
+
+        ApplicationTransitionResponse confirmed =
+                applicationService.confirmApplication(applicationId, ApplicationView.COMPACT);
+        assertThat(confirmed.getStatus()).isEqualTo(ApplicationStatus.CONFIRMED);
+        assertThat(confirmed.getConfirmedAt()).isNotNull();
+    }
+
+    @Test
+    void duplicateMissedByTheEmailFilterIsReportedAsAlreadySubmitted() {
+        applicationService.createApplication(applicationRequest("first.node@example.com"));
+
+        // Written the way another node would: the row exists, but this node's filter was never told.
+        Application elsewhere = applicationMapper.toEntity(applicationRequest("other.node@example.com"));
+        elsewhere.setEvent(eventRepository.findById(eventId).orElseThrow());
+        elsewhere.setEmail("other.node@example.com");
+        applicationRepository.saveAndFlush(elsewhere);
+
+        assertThatThrownBy(() -> applicationService.createApplication(applicationRequest("other.node@example.com")))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("already submitted");
+    }
+
+    private CreateApplicationRequest applicationRequest(String email) {
+        return CreateApplicationRequest.builder()
+                .eventId(eventId)
+                .participantId(participantId)
+                .applicantInfo(ApplicantInfoDto.builder()
+                        .firstName("Yaw")
+                        .lastName("Boateng")
+                        .dateOfBirth(LocalDate.now().minusYears(17))
+                        .addressLine1("45 Tech Road")
+                        .city("Kumasi")
+                        .stateProvince("Ashanti")
+                        .country("Ghana")
+                        .schoolName("KNUST SHS")
+                        .gradeLevel("11")
+                        .phoneNumber("+233209876543")
+                        .preferredLanguage("English")
+                        .build())
+                .email(email)
+                .guardianConsent(true)
+                .guardianName("Ama Boateng")
+                .guardianEmail("ama.boateng@example.com")
+                .guardianPhone("+233200000000")
+                .emergencyContactName("Kojo Boateng")
+                .emergencyContactPhone("+233201111111")
+                .emergencyContactRelation("Father")
+                .build();
+    }
 }
@@ -0,0 +1,217 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.dto.application.ApplicantInfoDto;
+import com.araw.araw.application.dto.application.ApplicationDecisionOutcome;
+import com.araw.araw.application.dto.application.ApplicationView;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionRequest;
+import com.araw.araw.application.dto.application.BulkApplicationDecisionResponse;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.entity.Event;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.notification.outbox.OutboundEmailRepository;
+import com.araw.shared.exception.DomainValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without a test transaction so that decisions commit and their emails are queued after commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationBulkDecisionTest {
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private ApplicationApplicationService applicationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationDecisionNotifier decisionNotifier;
+
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> createdEvents = new ArrayList<>();
+    private final String batch = UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void deleteEvents() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            createdEvents.forEach(eventId -> {
+                applicationRepository.deleteAll(applicationRepository.findByEventId(eventId));
+                eventRepository.deleteById(eventId);
+            });
+            outboundEmailRepository.deleteAll(outboundEmailRepository.findAll().stream()
+                    .filter(email -> email.getToAddresses().contains(batch))
+                    .toList());
+        });
+    }
+
+    @Test
+    void decisionsAdjustSeatsAndCountersPerEvent() {
+        UUID eventId = createEvent(2);
+        UUID first = submitted(eventId, "first");
+        UUID second = submitted(eventId, "second");
+        UUID draft = applicationService.createApplication(applicationRequest(eventId, "draft")).getId();
+
+        BulkApplicationDecisionResponse waitlisted = applicationService.decideApplications(
+                decision(ApplicationStatus.WAITLISTED, null, first, second));
+        assertThat(waitlisted.getApplied()).isEqualTo(2);
+        assertThat(waitlisted.getOutcomes()).extracting(ApplicationDecisionOutcome::getWaitlistPosition)
+                .containsExactly(1, 2);
+        assertThat(event(eventId).getParticipantCount()).isZero();
+
+        UUID third = submitted(eventId, "third");
+        UUID missing = UUID.randomUUID();
+        BulkApplicationDecisionResponse accepted = applicationService.decideApplications(
+                decision(ApplicationStatus.ACCEPTED, null, third, first, second, missing, first));
+        assertThat(accepted.getOutcomes()).extracting(ApplicationDecisionOutcome::getApplicationId)
+                .containsExactly(third, first, second, missing);
+        assertThat(accepted.getOutcomes()).extracting(ApplicationDecisionOutcome::getResult).containsExactly(
+                ApplicationDecisionOutcome.Result.APPLIED,
+                ApplicationDecisionOutcome.Result.APPLIED,
+                ApplicationDecisionOutcome.Result.FAILED,
+                ApplicationDecisionOutcome.Result.FAILED);
+        assertThat(accepted.getOutcomes().get(2).getMessage()).contains("capacity");
+        assertThat(accepted.getOutcomes().get(2).getStatus()).isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(event(eventId).getParticipantCount()).isEqualTo(2);
+        // The waitlist emails are queued with the decision; the accepted ones wait for their accounts.
+        assertThat(queuedEmails()).isEqualTo(2);
+        assertThat(applicationRepository.findById(third).orElseThrow().getAccountProvisioningRequestedAt()).isNotNull();
+
+        assertThat(decisionNotifier.provisionPending()).isGreaterThanOrEqualTo(2);
+        assertThat(applicationRepository.findById(third).orElseThrow().getAccountProvisioningRequestedAt()).isNull();
+        assertThat(queuedEmails()).isEqualTo(4);
+
+        BulkApplicationDecisionResponse rejected = applicationService.decideApplications(
+                decision(ApplicationStatus.REJECTED, "Not eligible", second, third, draft));
+        assertThat(rejected.getApplied()).isEqualTo(3);
+        Event afterRejection = event(eventId);
+        assertThat(afterRejection.getParticipantCount()).isEqualTo(1);
+        assertThat(afterRejection.getApplicationCount()).isEqualTo(1);
+        assertThat(applicationRepository.findById(third).orElseThrow().getRejectionReason()).isEqualTo("Not eligible");
+
+        BulkApplicationDecisionResponse repeated = applicationService.decideApplications(
+                decision(ApplicationStatus.REJECTED, "Not eligible", second));
+        assertThat(repeated.getSkipped()).isEqualTo(1);
+        assertThat(event(eventId).getApplicationCount()).isEqualTo(1);
+
+        // 2 waitlisted + 2 accepted + 3 rejected.
+        assertThat(queuedEmails()).isEqualTo(7);
+    }
+
+    @Test
+    void invalidTransitionsFailWithoutAffectingOthers() {
+        UUID eventId = createEvent(5);
+        UUID submitted = submitted(eventId, "submitted");
+        UUID draft = applicationService.createApplication(applicationRequest(eventId, "draft")).getId();
+
+        BulkApplicationDecisionResponse response = applicationService.decideApplications(
+                decision(ApplicationStatus.WAITLISTED, null, draft, submitted));
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getOutcomes().get(0).getStatus()).isEqualTo(ApplicationStatus.DRAFT);
+        assertThat(response.getOutcomes().get(1).getResult()).isEqualTo(ApplicationDecisionOutcome.Result.APPLIED);
+        assertThat(response.getOutcomes().get(1).getWaitlistPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsUnsupportedTargetsAndMissingReasons() {
+        assertThatThrownBy(() -> applicationService.decideApplications(
+                decision(ApplicationStatus.CONFIRMED, null, UUID.randomUUID())))
+                .isInstanceOf(DomainValidationException.class);
+        assertThatThrownBy(() -> applicationService.decideApplications(
+                decision(ApplicationStatus.REJECTED, " ", UUID.randomUUID())))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("reason");
+    }
+
+    private long queuedEmails() {
+        return outboundEmailRepository.findAll().stream()
+                .filter(email -> email.getToAddresses().contains(batch))
+                .count();
+    }
+
+    private Event event(UUID eventId) {
+        return eventRepository.findById(eventId).orElseThrow();
+    }
+
+    private UUID submitted(UUID eventId, String name) {
+        UUID applicationId = applicationService.createApplication(applicationRequest(eventId, name)).getId();
+        applicationService.submitApplication(applicationId, ApplicationView.FULL);
+        return applicationId;
+    }
+
+    private static BulkApplicationDecisionRequest decision(ApplicationStatus status, String reason, UUID... ids) {
+        return BulkApplicationDecisionRequest.builder()
+                .applicationIds(List.of(ids))
+                .status(status)
+                .reason(reason)
+                .build();
+    }
+
+    private UUID createEvent(int seats) {
+        UUID eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Bulk Decision Test " + seats)
+                .description("Capacity-limited workshop")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(seats)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(12))
+                        .sessionEndDate(LocalDateTime.now().plusDays(12).plusHours(2))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+        createdEvents.add(eventId);
+        return eventId;
+    }
+
+    private CreateApplicationRequest applicationRequest(UUID eventId, String name) {
+        return CreateApplicationRequest.builder()
+                .eventId(eventId)
+                .applicantInfo(ApplicantInfoDto.builder()
+                        .firstName("Esi")
+                        .lastName("Mensah")
+                        .city("Accra")
+                        .country("Ghana")
+                        .build())
+                .email(name + "-" + batch + "@example.com")
+                .guardianConsent(true)
+                .emergencyContactName("Kofi Mensah")
+                .emergencyContactPhone("+233200000000")
+                .emergencyContactRelation("Father")
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.dto.application.ApplicationImportReport;
+import com.araw.araw.application.dto.application.ApplicationImportRowResult;
+import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainValidationException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApplicationImportServiceTest {
+
+    private static final String CSV_HEADER = "email,firstName,lastName,city,country,emergencyContactName,"
+            + "emergencyContactPhone,emergencyContactRelation,dietaryRestrictions,answer:Favourite subject\n";
+
+    @Autowired
+    private ApplicationImportService importService;
+
+    @Autowired
+    private ApplicationApplicationService applicationService;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void importsCsvRosterAndReportsEachRow() {
+        UUID eventId = createEvent();
+        String csv = CSV_HEADER
+                + "ama@school.edu,Ama,Owusu,Accra,Ghana,Yaw Owusu,+233200000001,Father,Vegetarian; Nut allergy,Physics\n"
+                + "\"kojo@school.edu\",Kojo,\"Boateng, Jr.\",Kumasi,Ghana,Efua Boateng,+233200000002,Mother,,\"Maths\"\"\"\n"
+                + "AMA@school.edu,Ama,Duplicate,Accra,Ghana,Yaw Owusu,+233200000001,Father,,\n"
+                + "not-an-email,Bad,Row,Accra,Ghana,,+233200000003,Aunt,,\n";
+
+        ApplicationImportReport report = importService.importApplications(eventId, "text/csv", stream(csv));
+
+        assertThat(report.getTotalRows()).isEqualTo(4);
+        assertThat(report.getImportedRows()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).isEqualTo(2);
+        assertThat(report.getRows()).extracting(ApplicationImportRowResult::getOutcome).containsExactly(
+                ApplicationImportRowResult.Outcome.IMPORTED, ApplicationImportRowResult.Outcome.IMPORTED,
+                ApplicationImportRowResult.Outcome.REJECTED, ApplicationImportRowResult.Outcome.REJECTED);
+        assertThat(report.getRows().get(2).getErrors()).singleElement().asString().contains("more than once");
+        assertThat(report.getRows().get(3).getErrors()).anyMatch(error -> error.startsWith("email:"))
+                .anyMatch(error -> error.startsWith("emergencyContactName:"));
+
+        entityManager.clear();
+        assertThat(eventRepository.findById(eventId).orElseThrow().getApplicationCount()).isEqualTo(2);
+        ApplicationResponse kojo = applicationService.getApplication(report.getRows().get(1).getApplicationId());
+        assertThat(kojo.getStatus()).isEqualTo(ApplicationStatus.DRAFT);
+        assertThat(kojo.getApplicantInfo().getLastName()).isEqualTo("Boateng, Jr.");
+        assertThat(kojo.getCustomAnswers()).containsEntry("Favourite subject", "Maths\"");
+        ApplicationResponse ama = applicationService.getApplication(report.getRows().get(0).getApplicationId());
+        assertThat(ama.getDietaryRestrictions()).containsExactlyInAnyOrder("Vegetarian", "Nut allergy");
+    }
+
+    @Test
+    void rejectsRowsForExistingApplicantsAndUnknownEvents() {
+        UUID eventId = createEvent();
+        String existing = ndjsonRow(null, "existing@school.edu");
+        importService.importApplications(eventId, "application/x-ndjson", stream(existing));
+
+        UUID unknownEvent = UUID.randomUUID();
+        String ndjson = ndjsonRow(null, "Existing@School.edu") + "\n"
+                + "\n"
+                + ndjsonRow(unknownEvent, "new@school.edu") + "\n"
+                + "{not json\n"
+                + ndjsonRow(null, "new@school.edu") + "\n";
+
+        ApplicationImportReport report = importService.importApplications(eventId, "application/x-ndjson", stream(ndjson));
+
+        assertThat(report.getRows()).extracting(ApplicationImportRowResult::getRow).containsExactly(1, 2, 3, 4);
+        assertThat(report.getRows().get(0).getErrors()).singleElement().asString().contains("already submitted");
+        assertThat(report.getRows().get(1).getErrors()).singleElement().asString().contains("Event not found");
+        assertThat(report.getRows().get(2).getErrors()).singleElement().asString().startsWith("Invalid JSON");
+        assertThat(report.getRows().get(3).getOutcome()).isEqualTo(ApplicationImportRowResult.Outcome.IMPORTED);
+        assertThat(applicationRepository.findByEventId(eventId)).hasSize(2);
+    }
+
+    @Test
+    void importsLargeRosterInBatches() {
+        UUID eventId = createEvent();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            ndjson.append(ndjsonRow(null, "student" + i + "@school.edu")).append('\n');
+        }
+
+        ApplicationImportReport report = importService.importApplications(eventId, "application/x-ndjson", stream(ndjson.toString()));
+
+        assertThat(report.getImportedRows()).isEqualTo(2_000);
+        entityManager.clear();
+        assertThat(eventRepository.findById(eventId).orElseThrow().getApplicationCount()).isEqualTo(2_000);
+        assertThat(applicationRepository.findEmailsByEventId(eventId)).hasSize(2_000);
+    }
+
+    @Test
+    void rowRacedByAnotherInsertIsRejectedWithoutFailingTheBatch() {
+        UUID eventId = createEvent();
+        StringBuilder head = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            head.append(ndjsonRow(null, "student" + i + "@school.edu")).append('\n');
+        }
+        // Read only after the event's existing emails were loaded, as if another node inserted it meanwhile.
+        InputStream racing = new InputStream() {
+            private InputStream tail;
+
+            @Override
+            public int read() throws IOException {
+                if (tail == null) {
+                    importService.importApplications(eventId, "application/x-ndjson",
+                            stream(ndjsonRow(null, "raced@school.edu")));
+                    tail = stream(ndjsonRow(null, "raced@school.edu") + "\n");
+                }
+                return tail.read();
+            }
+        };
+
+        ApplicationImportReport report = importService.importApplications(eventId, "application/x-ndjson",
+                new SequenceInputStream(stream(head.toString()), racing));
+
+        assertThat(report.getImportedRows()).isEqualTo(100);
+        ApplicationImportRowResult raced = report.getRows().get(100);
+        assertThat(raced.getOutcome()).isEqualTo(ApplicationImportRowResult.Outcome.REJECTED);
+        assertThat(raced.getApplicationId()).isNull();
+        assertThat(raced.getErrors()).singleElement().asString().contains("already submitted");
+        entityManager.clear();
+        assertThat(eventRepository.findById(eventId).orElseThrow().getApplicationCount()).isEqualTo(101);
+        assertThat(applicationRepository.findEmailsByEventId(eventId)).hasSize(101);
+    }
+
+    @Test
+    void rejectsUnknownCsvColumnsAndContentTypes() {
+        UUID eventId = createEvent();
+
+        assertThatThrownBy(() -> importService.importApplications(eventId, "text/csv", stream("email,shoeSize\n")))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("shoeSize");
+        assertThatThrownBy(() -> importService.importApplications(eventId, "application/json", stream("[]")))
+                .isInstanceOf(DomainValidationException.class);
+    }
+
+    private UUID createEvent() {
+        return eventService.createEvent(CreateEventRequest.builder()
+                .title("Roster Import")
+                .description("Partner school cohort")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(50)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(20))
+                        .sessionEndDate(LocalDateTime.now().plusDays(20).plusHours(3))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+    }
+
+    private static String ndjsonRow(UUID eventId, String email) {
+        return "{" + (eventId != null ? "\"eventId\":\"" + eventId + "\"," : "")
+                + "\"email\":\"" + email + "\","
+                + "\"applicantInfo\":{\"firstName\":\"Esi\",\"lastName\":\"Mensah\",\"city\":\"Accra\",\"country\":\"Ghana\"},"
+                + "\"emergencyContactName\":\"Kofi Mensah\",\"emergencyContactPhone\":\"+233200000000\","
+                + "\"emergencyContactRelation\":\"Father\"}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,16 +7,26 @@ import com.araw.araw.application.dto.event.UpdateEventRequest;
 import com.araw.araw.application.dto.event.LocationDto;
 import com.araw.araw.domain.event.valueobject.EventStatus;
 import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.api.CursorPage;
+import com.araw.shared.api.TotalMode;
+import com.araw.shared.exception.DomainValidationException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -26,10 +36,82 @@ class EventApplicationServiceTest {
     @Autowired
     private EventApplicationService eventService;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void createAndPublishEvent() {
-        CreateEventRequest request = CreateEventRequest.builder()
-                .title("STEM Robotics Bootcamp")
+        CreateEventRequest request = sampleRequest("STEM Robotics Bootcamp");
+
+        EventResponse created = eventService.createEvent(request);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getStatus()).isEqualTo(EventStatus.DRAFT);
+
+        EventResponse published = eventService.publishEvent(created.getId());
+        assertThat(published.getStatus()).isEqualTo(EventStatus.UPCOMING);
+        assertThat(published.getIsPublished()).isTrue();
+
+        UpdateEventRequest updateRequest = UpdateEventRequest.builder()
+                .maxParticipants(50)
+                .build();
+
+        EventResponse updated = eventService.updateEvent(created.getId(), updateRequest);
+        assertThat(updated.getMaxParticipants()).isEqualTo(50);
+    }
+
+    @Test
+    void listEventsStatementCountDoesNotDependOnPageSize() {
+        for (int i = 0; i < 6; i++) {
+            EventResponse created = eventService.createEvent(sampleRequest("Coding Club " + i));
+            eventService.publishEvent(created.getId());
+        }
+        entityManager.flush();
+
+        long smallPage = countStatements(() -> eventService.listEvents(null, null, PageRequest.of(0, 2)));
+        long largePage = countStatements(() -> eventService.listEvents(null, null, PageRequest.of(0, 6)));
+
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void scrollEventsVisitsEveryRowOnceWithoutOffsets() {
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(eventService.createEvent(sampleRequest("Science Fair " + i)).getId());
+        }
+        entityManager.flush();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        CursorPage<EventResponse> page;
+        do {
+            page = eventService.scrollEvents(null, null, cursor, 2, TotalMode.EXACT);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(2);
+            page.content().forEach(event -> seen.add(event.getId()));
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        assertThat(seen).doesNotHaveDuplicates().containsAll(created);
+        assertThat(page.totalElements()).isEqualTo(seen.size());
+        assertThat(page.totalEstimated()).isFalse();
+        assertThatThrownBy(() -> eventService.scrollEvents(null, null, "not-a-cursor", 2, TotalMode.NONE))
+                .isInstanceOf(DomainValidationException.class);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private CreateEventRequest sampleRequest(String title) {
+        return CreateEventRequest.builder()
+                .title(title)
                 .description("Hands-on robotics bootcamp")
                 .shortDescription("Robotics for teens")
                 .eventType(EventType.WORKSHOP)
@@ -50,20 +132,5 @@ class EventApplicationServiceTest {
                         .sessionName("Day 1")
                         .build()))
                 .build();
-
-        EventResponse created = eventService.createEvent(request);
-        assertThat(created.getId()).isNotNull();
-        assertThat(created.getStatus()).isEqualTo(EventStatus.DRAFT);
-
-        EventResponse published = eventService.publishEvent(created.getId());
-        assertThat(published.getStatus()).isEqualTo(EventStatus.UPCOMING);
-        assertThat(published.getIsPublished()).isTrue();
-
-        UpdateEventRequest updateRequest = UpdateEventRequest.builder()
-                .maxParticipants(50)
-                .build();
-
-        EventResponse updated = eventService.updateEvent(created.getId(), updateRequest);
-        assertThat(updated.getMaxParticipants()).isEqualTo(50);
     }
 }
@@ -0,0 +1,85 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.domain.event.valueobject.EventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventGalleryServiceTest {
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private EventGalleryService galleryService;
+
+    @Autowired
+    private PublicEventQueryService publicEventQueryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void galleryEditsChangeThePublicEntityTag() {
+        UUID eventId = completedEvent();
+        String before = etag(eventId);
+
+        galleryService.addVideoLink(eventId, "https://videos.example.com/recap", "Recap", null, 90);
+        String afterAdd = etag(eventId);
+        assertThat(afterAdd).isNotEqualTo(before);
+
+        galleryService.updateVisibility(eventId, true);
+        assertThat(etag(eventId)).isNotEqualTo(afterAdd);
+    }
+
+    private String etag(UUID eventId) {
+        return publicEventQueryService.findPublishedEventTag(eventId.toString()).orElseThrow().etag();
+    }
+
+    private UUID completedEvent() {
+        UUID eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Gallery Showcase")
+                .description("Showcase of finished projects")
+                .shortDescription("Showcase")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder()
+                        .venueName("ARAW Innovation Hub")
+                        .addressLine1("1 Impact Way")
+                        .city("Accra")
+                        .stateProvince("Greater Accra")
+                        .country("Ghana")
+                        .isVirtual(false)
+                        .isHybrid(false)
+                        .build())
+                .maxParticipants(40)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(7))
+                        .sessionEndDate(LocalDateTime.now().plusDays(7).plusHours(3))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+        eventService.publishEvent(eventId);
+        eventService.startEvent(eventId);
+        eventService.completeEvent(eventId);
+        // Later calls load the gallery created on completion the way a new request would.
+        entityManager.flush();
+        entityManager.clear();
+        return eventId;
+    }
+}
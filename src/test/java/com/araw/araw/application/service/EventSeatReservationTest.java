@@ -0,0 +1,149 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.dto.application.ApplicantInfoDto;
+import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationView;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without a test transaction so that reservations from different threads commit and contend for the
+ * same event row. Mail is left unconfigured so status changes skip their emails.
+ */
+@SpringBootTest(properties = "spring.mail.username=")
+@ActiveProfiles("test")
+class EventSeatReservationTest {
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private ApplicationApplicationService applicationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> createdEvents = new ArrayList<>();
+
+    @AfterEach
+    void deleteEvents() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> createdEvents.forEach(eventId -> {
+            applicationRepository.deleteAll(applicationRepository.findByEventId(eventId));
+            eventRepository.deleteById(eventId);
+        }));
+    }
+
+    @Test
+    void concurrentReservationsNeverOversubscribe() throws InterruptedException {
+        UUID eventId = createEvent(150);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService applicants = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 1_000; i++) {
+            applicants.execute(() -> reserved.addAndGet(transaction.execute(status -> eventRepository.reserveSeat(eventId))));
+        }
+        applicants.shutdown();
+        assertThat(applicants.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reserved.get()).isEqualTo(150);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getParticipantCount()).isEqualTo(150);
+    }
+
+    @Test
+    void statusChangesTakeAndReturnSeats() {
+        UUID eventId = createEvent(1);
+        UUID first = applicationService.createApplication(applicationRequest(eventId, "first@example.com")).getId();
+        UUID second = applicationService.createApplication(applicationRequest(eventId, "second@example.com")).getId();
+
+        applicationService.submitApplication(first, ApplicationView.FULL);
+        assertThatThrownBy(() -> applicationService.submitApplication(second, ApplicationView.FULL))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("capacity");
+        assertThat(applicationService.getApplication(second).getStatus()).isEqualTo(ApplicationStatus.DRAFT);
+        assertThat(seatsTaken(eventId)).isEqualTo(1);
+
+        applicationService.rejectApplication(first, "Not eligible", ApplicationView.FULL);
+        assertThat(seatsTaken(eventId)).isZero();
+
+        ApplicationResponse submitted = applicationService.submitApplication(second, ApplicationView.FULL);
+        assertThat(submitted.getStatus()).isEqualTo(ApplicationStatus.SUBMITTED);
+        assertThat(seatsTaken(eventId)).isEqualTo(1);
+
+        applicationService.waitlistApplication(second, null, ApplicationView.FULL);
+        assertThat(seatsTaken(eventId)).isZero();
+        applicationService.acceptApplication(second, ApplicationView.FULL);
+        assertThat(seatsTaken(eventId)).isEqualTo(1);
+    }
+
+    private int seatsTaken(UUID eventId) {
+        return eventRepository.findById(eventId).orElseThrow().getParticipantCount();
+    }
+
+    private UUID createEvent(int seats) {
+        UUID eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Seat Test " + seats)
+                .description("Capacity-limited workshop")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(seats)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(12))
+                        .sessionEndDate(LocalDateTime.now().plusDays(12).plusHours(2))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+        createdEvents.add(eventId);
+        return eventId;
+    }
+
+    private CreateApplicationRequest applicationRequest(UUID eventId, String email) {
+        return CreateApplicationRequest.builder()
+                .eventId(eventId)
+                .applicantInfo(ApplicantInfoDto.builder()
+                        .firstName("Esi")
+                        .lastName("Mensah")
+                        .city("Accra")
+                        .country("Ghana")
+                        .build())
+                .email(email)
+                .guardianConsent(true)
+                .emergencyContactName("Kofi Mensah")
+                .emergencyContactPhone("+233200000000")
+                .emergencyContactRelation("Father")
+                .build();
+    }
+}
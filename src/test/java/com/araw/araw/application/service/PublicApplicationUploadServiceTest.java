@@ -0,0 +1,363 @@
+package com.araw.araw.application.service;
+
+import com.araw.araw.application.admission.EventAdmissionControl;
+import com.araw.araw.application.dto.application.ApplicantInfoDto;
+import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.dto.publicapp.PublicEventApplicationRequest;
+import com.araw.araw.domain.event.valueobject.EventType;
+import com.araw.shared.exception.DomainValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PublicApplicationUploadServiceTest {
+
+    private static final String BOUNDARY = "----araw-upload-boundary";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+    private static final FakeObjectStorage STORAGE = FakeObjectStorage.start();
+
+    @Autowired
+    private PublicApplicationUploadService uploadService;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventAdmissionControl eventAdmissionControl;
+
+    private UUID eventId;
+
+    @DynamicPropertySource
+    static void objectStorage(DynamicPropertyRegistry registry) {
+        registry.add("app.media.minio.endpoint", STORAGE::endpoint);
+    }
+
+    @AfterAll
+    static void stopObjectStorage() {
+        STORAGE.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // A draft event does not take applications.
+        eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Robotics Camp")
+                .description("Build and program robots")
+                .shortDescription("Robotics camp")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder()
+                        .venueName("Maker Space")
+                        .addressLine1("12 Circuit Road")
+                        .city("Accra")
+                        .stateProvince("Greater Accra")
+                        .country("Ghana")
+                        .isVirtual(false)
+                        .isHybrid(false)
+                        .build())
+                .isFree(true)
+                .maxParticipants(10)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(10))
+                        .sessionEndDate(LocalDateTime.now().plusDays(10).plusHours(3))
+                        .sessionName("Day one")
+                        .build()))
+                .build()).getId();
+        STORAGE.reset();
+    }
+
+    @Test
+    void payloadSentFirstIsCheckedBeforeTheResumeIsRead() throws Exception {
+        byte[] resume = new byte[1024 * 1024];
+        byte[] signature = "%PDF-1.7".getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(signature, 0, resume, 0, signature.length);
+        Arrays.fill(resume, signature.length, resume.length, (byte) 'x');
+        ByteArrayInputStream body = new ByteArrayInputStream(multipart(
+                part("form-data; name=\"payload\"", "application/json", objectMapper.writeValueAsBytes(payload())),
+                part("form-data; name=\"resume\"; filename=\"cv.pdf\"", "application/pdf", resume)));
+
+        assertThatThrownBy(() -> uploadService.submitApplication(eventId, CONTENT_TYPE, body, received -> { }))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("not accepting applications");
+        // Beyond the reader's read-ahead window the resume was never consumed, so nothing went to storage.
+        assertThat(body.available()).isGreaterThan(resume.length - 128 * 1024);
+    }
+
+    @Test
+    void resumeIsUploadedBeforeTheSubmissionIsAdmitted() throws Exception {
+        eventService.publishEvent(eventId);
+        STORAGE.onUpload(() -> STORAGE.record("in-flight " + eventAdmissionControl.inFlightSubmissions(eventId)));
+        ByteArrayInputStream body = new ByteArrayInputStream(multipart(
+                part("form-data; name=\"payload\"", "application/json", objectMapper.writeValueAsBytes(payload())),
+                part("form-data; name=\"resume\"; filename=\"cv.pdf\"", "application/pdf",
+                        "%PDF-1.7 short resume".getBytes(StandardCharsets.ISO_8859_1))));
+
+        ApplicationResponse response = uploadService.submitApplication(eventId, CONTENT_TYPE, body, received -> { });
+
+        assertThat(response.getDocuments()).hasSize(1);
+        assertThat(STORAGE.requests()).containsSubsequence("PUT object", "in-flight 0");
+        assertThat(STORAGE.objects()).hasSize(1);
+    }
+
+    @Test
+    void resumeOverTheLimitAbortsTheMultipartUpload() throws Exception {
+        eventService.publishEvent(eventId);
+        byte[] payload = part("form-data; name=\"payload\"", "application/json", objectMapper.writeValueAsBytes(payload()));
+        long resumeSize = 51L * 1024 * 1024;
+        InputStream body = new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(payload),
+                new ByteArrayInputStream(partHeader("form-data; name=\"resume\"; filename=\"cv.pdf\"", "application/pdf")),
+                new GeneratedPdf(resumeSize),
+                new ByteArrayInputStream(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1)))));
+
+        assertThatThrownBy(() -> uploadService.submitApplication(eventId, CONTENT_TYPE, body, received -> { }))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessageContaining("exceeds the maximum size");
+        assertThat(STORAGE.requests()).contains("POST create-upload", "PUT part", "DELETE abort-upload")
+                .doesNotContain("POST complete-upload");
+        assertThat(STORAGE.pendingUploads()).isEmpty();
+        assertThat(STORAGE.objects()).isEmpty();
+    }
+
+    private static PublicEventApplicationRequest payload() {
+        return PublicEventApplicationRequest.builder()
+                .application(CreateApplicationRequest.builder()
+                        .applicantInfo(ApplicantInfoDto.builder()
+                                .firstName("Esi")
+                                .lastName("Mensah")
+                                .dateOfBirth(LocalDate.now().minusYears(16))
+                                .addressLine1("3 Harbour Lane")
+                                .city("Tema")
+                                .stateProvince("Greater Accra")
+                                .country("Ghana")
+                                .build())
+                        .email("esi.mensah@example.com")
+                        .emergencyContactName("Kofi Mensah")
+                        .emergencyContactPhone("+233202222222")
+                        .emergencyContactRelation("Father")
+                        .build())
+                .build();
+    }
+
+    private static byte[] part(String disposition, String contentType, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(partHeader(disposition, contentType));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    private static byte[] partHeader(String disposition, String contentType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(("Content-Disposition: " + disposition + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(("Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    private static byte[] multipart(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    /**
+     * A PDF signature followed by filler, generated as it is read so the test never holds it in memory.
+     */
+    private static final class GeneratedPdf extends InputStream {
+
+        private static final byte[] SIGNATURE = "%PDF-1.7".getBytes(StandardCharsets.ISO_8859_1);
+
+        private final long size;
+        private long position;
+
+        private GeneratedPdf(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            int value = position < SIGNATURE.length ? SIGNATURE[(int) position] : 'x';
+            position++;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) read();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Just enough of the S3 API for MinioClient to upload, abort and remove objects, recording each call.
+     */
+    private static final class FakeObjectStorage {
+
+        private final HttpServer server;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final Set<String> objects = ConcurrentHashMap.newKeySet();
+        private final Set<String> pendingUploads = ConcurrentHashMap.newKeySet();
+        private volatile Runnable onUpload = () -> { };
+
+        private FakeObjectStorage(HttpServer server) {
+            this.server = server;
+        }
+
+        static FakeObjectStorage start() {
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+                FakeObjectStorage storage = new FakeObjectStorage(server);
+                server.createContext("/", storage::handle);
+                server.start();
+                return storage;
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        void reset() {
+            requests.clear();
+            objects.clear();
+            pendingUploads.clear();
+            onUpload = () -> { };
+        }
+
+        void onUpload(Runnable callback) {
+            onUpload = callback;
+        }
+
+        void record(String request) {
+            requests.add(request);
+        }
+
+        List<String> requests() {
+            return List.copyOf(requests);
+        }
+
+        Set<String> objects() {
+            return Set.copyOf(objects);
+        }
+
+        Set<String> pendingUploads() {
+            return Set.copyOf(pendingUploads);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery() == null ? "" : exchange.getRequestURI().getQuery();
+            try (InputStream content = exchange.getRequestBody()) {
+                content.transferTo(OutputStream.nullOutputStream());
+            }
+            String body = null;
+            if (method.equals("POST") && query.contains("uploads")) {
+                record("POST create-upload");
+                String uploadId = UUID.randomUUID().toString();
+                pendingUploads.add(uploadId);
+                body = "<InitiateMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                        + "<Bucket>araw-test</Bucket><Key>" + path + "</Key><UploadId>" + uploadId + "</UploadId>"
+                        + "</InitiateMultipartUploadResult>";
+            } else if (method.equals("PUT") && query.contains("uploadId=")) {
+                record("PUT part");
+                onUpload.run();
+                exchange.getResponseHeaders().add("ETag", "\"part\"");
+            } else if (method.equals("POST") && query.contains("uploadId=")) {
+                record("POST complete-upload");
+                pendingUploads.remove(uploadId(query));
+                objects.add(path);
+                body = "<CompleteMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                        + "<Bucket>araw-test</Bucket><Key>" + path + "</Key><ETag>\"object\"</ETag>"
+                        + "</CompleteMultipartUploadResult>";
+            } else if (method.equals("DELETE") && query.contains("uploadId=")) {
+                record("DELETE abort-upload");
+                pendingUploads.remove(uploadId(query));
+            } else if (method.equals("PUT")) {
+                record("PUT object");
+                onUpload.run();
+                objects.add(path);
+                exchange.getResponseHeaders().add("ETag", "\"object\"");
+            } else if (method.equals("DELETE")) {
+                record("DELETE object");
+                objects.remove(path);
+            }
+            if (body == null) {
+                exchange.sendResponseHeaders(method.equals("DELETE") ? 204 : 200, -1);
+            } else {
+                byte[] xml = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/xml");
+                exchange.sendResponseHeaders(200, xml.length);
+                exchange.getResponseBody().write(xml);
+            }
+            exchange.close();
+        }
+
+        private static String uploadId(String query) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("uploadId=")) {
+                    return parameter.substring("uploadId=".length());
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.araw.araw.application.upload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeUploadStreamTest {
+
+    @Test
+    void replaysHeadAndMeasuresTheWholeUpload() throws Exception {
+        byte[] content = "%PDF-1.7\nresume body".getBytes(StandardCharsets.US_ASCII);
+        ByteArrayInputStream source = new ByteArrayInputStream(content);
+        byte[] head = source.readNBytes(ResumeFormat.SIGNATURE_LENGTH);
+
+        ResumeUploadStream stream = new ResumeUploadStream(head, source, 1024);
+
+        assertThat(stream.readAllBytes()).isEqualTo(content);
+        assertThat(stream.size()).isEqualTo(content.length);
+        assertThat(stream.checksum())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+    }
+
+    @Test
+    void failsOnceTheLimitIsPassed() {
+        byte[] content = new byte[2048];
+        ResumeUploadStream stream = new ResumeUploadStream(new byte[0], new ByteArrayInputStream(content), 1000);
+
+        assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class);
+        assertThat(stream.exceededLimit()).isTrue();
+    }
+
+    @Test
+    void recognisesFormatsByMagicBytes() {
+        byte[] pdf = "%PDF-1.4".getBytes(StandardCharsets.US_ASCII);
+        byte[] docx = {0x50, 0x4B, 0x03, 0x04, 0x14, 0x00, 0x06, 0x00};
+        byte[] doc = HexFormat.of().parseHex("d0cf11e0a1b11ae1");
+
+        assertThat(ResumeFormat.forExtension("PDF")).contains(ResumeFormat.PDF);
+        assertThat(ResumeFormat.PDF.matches(pdf)).isTrue();
+        assertThat(ResumeFormat.DOCX.matches(docx)).isTrue();
+        assertThat(ResumeFormat.DOC.matches(doc)).isTrue();
+        assertThat(ResumeFormat.PDF.matches(docx)).isFalse();
+        assertThat(ResumeFormat.DOC.matches(Arrays.copyOf(doc, 4))).isFalse();
+        assertThat(ResumeFormat.forExtension("exe")).isEmpty();
+    }
+}
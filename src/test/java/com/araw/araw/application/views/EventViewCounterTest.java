@@ -0,0 +1,94 @@
+package com.araw.araw.application.views;
+
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.EventResponse;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.dto.event.UpdateEventRequest;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.domain.event.valueobject.EventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventViewCounterTest {
+
+    @Autowired
+    private EventViewCounter eventViewCounter;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void concurrentViewsAreBufferedAndFlushedInOneBatch() throws InterruptedException {
+        UUID eventId = createEvent("Drone Camp");
+        ExecutorService viewers = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 1_000).forEach(i -> viewers.execute(() -> eventViewCounter.record(eventId, i % 10)));
+        viewers.shutdown();
+        assertThat(viewers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(eventViewCounter.pendingViews(eventId)).isEqualTo(1_000);
+        assertThat(eventService.getEvent(eventId).getViewCount()).isEqualTo(1_000);
+
+        assertThat(eventViewCounter.flush()).isEqualTo(1_000);
+        entityManager.clear();
+
+        assertThat(eventViewCounter.pendingViews(eventId)).isZero();
+        assertThat(eventService.getEvent(eventId).getViewCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    void entityUpdatesDoNotOverwriteFlushedViews() {
+        UUID eventId = createEvent("Poetry Slam");
+        eventService.getEvent(eventId);
+        eventViewCounter.record(eventId, 1L);
+        eventViewCounter.record(eventId, 2L);
+        eventViewCounter.flush();
+
+        // the admin edit still holds the entity loaded before the flush
+        eventService.updateEvent(eventId, UpdateEventRequest.builder().maxParticipants(55).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        EventResponse reloaded = eventService.getEvent(eventId);
+        assertThat(reloaded.getMaxParticipants()).isEqualTo(55);
+        assertThat(reloaded.getViewCount()).isEqualTo(2);
+    }
+
+    private UUID createEvent(String title) {
+        EventResponse created = eventService.createEvent(CreateEventRequest.builder()
+                .title(title)
+                .description("Weekend programme")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(40)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(10))
+                        .sessionEndDate(LocalDateTime.now().plusDays(10).plusHours(2))
+                        .sessionName("Day 1")
+                        .build()))
+                .build());
+        entityManager.flush();
+        return created.getId();
+    }
+}
@@ -0,0 +1,108 @@
+package com.araw.araw.application.views;
+
+import com.araw.araw.application.dto.admin.AdminDashboardSummaryResponse;
+import com.araw.araw.application.dto.admin.EventEngagementResponse;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.service.AdminDashboardService;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.domain.event.valueobject.EventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventVisitorAnalyticsTest {
+
+    @Autowired
+    private EventViewCounter eventViewCounter;
+
+    @Autowired
+    private EventVisitorAnalytics visitorAnalytics;
+
+    @Autowired
+    private AdminDashboardService dashboardService;
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void uniqueVisitorsCombineFlushedAndBufferedSketches() {
+        UUID eventId = createEvent();
+        // 400 visitors reload the page three times each before the first flush
+        for (int reload = 0; reload < 3; reload++) {
+            for (long visitor = 0; visitor < 400; visitor++) {
+                eventViewCounter.record(eventId, visitorHash(visitor));
+            }
+        }
+        eventViewCounter.flush();
+        visitorAnalytics.flush();
+        entityManager.clear();
+        // 100 of them come back and 200 new visitors arrive, still buffered
+        for (long visitor = 300; visitor < 600; visitor++) {
+            eventViewCounter.record(eventId, visitorHash(visitor));
+        }
+
+        EventEngagementResponse engagement = dashboardService.getEventEngagement(eventId);
+
+        assertThat(engagement.getViewCount()).isEqualTo(1_500);
+        assertThat(engagement.getUniqueVisitorsToday()).isCloseTo(600L, within(20L));
+        assertThat(engagement.getUniqueVisitorsAllTime()).isEqualTo(engagement.getUniqueVisitorsToday());
+        assertThat(engagement.getDailyUniqueVisitors()).hasSize(30);
+        assertThat(engagement.getConversionRate()).isZero();
+
+        // re-merging the same visitors is idempotent
+        visitorAnalytics.flush();
+        for (long visitor = 0; visitor < 600; visitor++) {
+            eventViewCounter.record(eventId, visitorHash(visitor));
+        }
+        visitorAnalytics.flush();
+        assertThat(dashboardService.getEventEngagement(eventId).getUniqueVisitorsAllTime())
+                .isEqualTo(engagement.getUniqueVisitorsAllTime());
+
+        AdminDashboardSummaryResponse summary = dashboardService.getSummary();
+        assertThat(summary.getUniqueVisitorsLast30Days()).isGreaterThanOrEqualTo(engagement.getUniqueVisitorsAllTime() - 20);
+        assertThat(summary.getVisitorConversionRateLast30Days()).isNotNull();
+    }
+
+    private UUID createEvent() {
+        UUID eventId = eventService.createEvent(CreateEventRequest.builder()
+                .title("Open Lab Day")
+                .description("Campus open day")
+                .eventType(EventType.SEMINAR)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(100)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(3))
+                        .sessionEndDate(LocalDateTime.now().plusDays(3).plusHours(4))
+                        .sessionName("Open day")
+                        .build()))
+                .build()).getId();
+        entityManager.flush();
+        return eventId;
+    }
+
+    private static long visitorHash(long visitor) {
+        long z = visitor + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
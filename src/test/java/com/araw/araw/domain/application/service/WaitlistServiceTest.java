@@ -0,0 +1,201 @@
+package com.araw.araw.domain.application.service;
+
+import com.araw.araw.application.dto.application.ApplicantInfoDto;
+import com.araw.araw.application.dto.application.ApplicationFilterRequest;
+import com.araw.araw.application.dto.application.ApplicationResponse;
+import com.araw.araw.application.dto.application.ApplicationView;
+import com.araw.araw.application.dto.application.CreateApplicationRequest;
+import com.araw.araw.application.dto.event.CreateEventRequest;
+import com.araw.araw.application.dto.event.EventDateDto;
+import com.araw.araw.application.dto.event.LocationDto;
+import com.araw.araw.application.service.ApplicationApplicationService;
+import com.araw.araw.application.service.EventApplicationService;
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.repository.ApplicationRepository;
+import com.araw.araw.domain.application.valueobject.ApplicationStatus;
+import com.araw.araw.domain.event.repository.EventRepository;
+import com.araw.araw.domain.event.service.EventDomainService;
+import com.araw.araw.domain.event.valueobject.EventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class WaitlistServiceTest {
+
+    @Autowired
+    private EventApplicationService eventService;
+
+    @Autowired
+    private ApplicationApplicationService applicationService;
+
+    @Autowired
+    private EventDomainService eventDomainService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void appendedAndInsertedApplicationsAreCountedIntoPlace() {
+        UUID eventId = createEvent(10);
+        UUID first = waitlisted(eventId, "first", null);
+        UUID second = waitlisted(eventId, "second", null);
+        UUID third = waitlisted(eventId, "third", null);
+        ApplicationResponse jumped =
+                applicationService.waitlistApplication(submitted(eventId, "jumped"), 2, ApplicationView.FULL);
+        assertThat(jumped.getWaitlistPosition()).isEqualTo(2);
+        UUID head = waitlisted(eventId, "head", 1);
+
+        assertThat(waitlistOrder(eventId)).containsExactly(head, first, jumped.getId(), second, third);
+        assertThat(positionOf(third)).isEqualTo(5);
+        assertThat(applicationService.getApplication(jumped.getId()).getWaitlistPosition()).isEqualTo(3);
+    }
+
+    @Test
+    void promotionFillsEveryFreeSeatWithoutRenumbering() {
+        UUID eventId = createEvent(2);
+        List<UUID> line = new ArrayList<>();
+        for (String name : List.of("a", "b")) {
+            line.add(waitlisted(eventId, name, null));
+        }
+        for (String name : List.of("c", "d")) {
+            line.add(waitlisted(eventId, name, null));
+        }
+        Long rankOfC = applicationRepository.findById(line.get(2)).orElseThrow().getWaitlistRank();
+        assertThat(seatsTaken(eventId)).isZero();
+
+        List<Application> promoted = eventDomainService.processWaitlist(eventId);
+
+        assertThat(promoted).extracting(Application::getId).containsExactly(line.get(0), line.get(1));
+        assertThat(seatsTaken(eventId)).isEqualTo(2);
+        assertThat(applicationService.getApplication(line.get(0)).getStatus()).isEqualTo(ApplicationStatus.ACCEPTED);
+        assertThat(waitlistOrder(eventId)).containsExactly(line.get(2), line.get(3));
+        Application c = applicationRepository.findById(line.get(2)).orElseThrow();
+        assertThat(c.getWaitlistRank()).isEqualTo(rankOfC);
+        assertThat(positionOf(c.getId())).isEqualTo(1);
+
+        assertThat(eventDomainService.processWaitlist(eventId)).isEmpty();
+    }
+
+    @Test
+    void repeatedInsertsAtOneSpotRespaceTheWaitlist() {
+        UUID eventId = createEvent(100);
+        UUID first = waitlisted(eventId, "first", null);
+        UUID last = waitlisted(eventId, "last", null);
+        List<UUID> inserted = new ArrayList<>();
+        // Each insert halves the gap after "first"; 30 of them run out of room and force a respace.
+        for (int i = 0; i < 30; i++) {
+            inserted.add(0, waitlisted(eventId, "inserted" + i, 2));
+        }
+
+        List<UUID> expected = new ArrayList<>();
+        expected.add(first);
+        expected.addAll(inserted);
+        expected.add(last);
+        assertThat(waitlistOrder(eventId)).containsExactlyElementsOf(expected);
+        assertThat(positionOf(last)).isEqualTo(32);
+        assertThat(eventRepository.findWaitlistTailRank(eventId))
+                .isGreaterThanOrEqualTo(applicationRepository.findById(last).orElseThrow().getWaitlistRank());
+    }
+
+    @Test
+    void listingsNumberOnlyTheWaitlistedApplicationsTheyShow() {
+        UUID eventId = createEvent(10);
+        UUID first = waitlisted(eventId, "first", null);
+        UUID second = waitlisted(eventId, "second", null);
+        UUID pending = submitted(eventId, "pending");
+        UUID head = waitlisted(eventId, "head", 1);
+        refresh();
+
+        Map<UUID, Integer> positions = applicationService.searchApplications(
+                        ApplicationFilterRequest.builder().eventId(eventId).build(), PageRequest.of(0, 10))
+                .getContent().stream()
+                .collect(HashMap::new, (map, response) -> map.put(response.getId(), response.getWaitlistPosition()),
+                        HashMap::putAll);
+
+        assertThat(positions).containsEntry(head, 1).containsEntry(first, 2).containsEntry(second, 3)
+                .containsEntry(pending, null);
+    }
+
+    private List<UUID> waitlistOrder(UUID eventId) {
+        refresh();
+        return applicationRepository.findWaitlistedByEventOrderByPosition(eventId).stream()
+                .map(Application::getId)
+                .toList();
+    }
+
+    private Integer positionOf(UUID applicationId) {
+        refresh();
+        return applicationService.getApplication(applicationId).getWaitlistPosition();
+    }
+
+    private int seatsTaken(UUID eventId) {
+        refresh();
+        return eventRepository.findById(eventId).orElseThrow().getParticipantCount();
+    }
+
+    private void refresh() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private UUID waitlisted(UUID eventId, String name, Integer position) {
+        return applicationService.waitlistApplication(submitted(eventId, name), position, ApplicationView.FULL).getId();
+    }
+
+    private UUID submitted(UUID eventId, String name) {
+        UUID applicationId = applicationService.createApplication(CreateApplicationRequest.builder()
+                .eventId(eventId)
+                .applicantInfo(ApplicantInfoDto.builder()
+                        .firstName("Esi")
+                        .lastName("Mensah")
+                        .city("Accra")
+                        .country("Ghana")
+                        .build())
+                .email(name + "@example.com")
+                .guardianConsent(true)
+                .emergencyContactName("Kofi Mensah")
+                .emergencyContactPhone("+233200000000")
+                .emergencyContactRelation("Father")
+                .build()).getId();
+        applicationService.submitApplication(applicationId, ApplicationView.FULL);
+        return applicationId;
+    }
+
+    private UUID createEvent(int seats) {
+        return eventService.createEvent(CreateEventRequest.builder()
+                .title("Waitlist Test " + seats)
+                .description("Capacity-limited workshop")
+                .eventType(EventType.WORKSHOP)
+                .location(LocationDto.builder().venueName("ARAW Hub").city("Accra").isVirtual(false).isHybrid(false).build())
+                .maxParticipants(seats)
+                .isFree(true)
+                .eventDates(List.of(EventDateDto.builder()
+                        .sessionDate(LocalDateTime.now().plusDays(12))
+                        .sessionEndDate(LocalDateTime.now().plusDays(12).plusHours(2))
+                        .sessionName("Day 1")
+                        .build()))
+                .build()).getId();
+    }
+}
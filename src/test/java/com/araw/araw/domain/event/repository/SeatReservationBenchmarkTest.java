@@ -0,0 +1,203 @@
+package com.araw.araw.domain.event.repository;
+
+import com.araw.shared.persistence.PostgresTestDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a burst of parallel submissions at one event and compares the conditional seat update of
+ * {@link EventRepository#reserveSeat} with a {@code SELECT ... FOR UPDATE} baseline. Each submission spends
+ * a little time on other work (participant lookup, application insert), simulated with {@code pg_sleep}; the
+ * baseline holds the event row lock across that work, the conditional update only for its own commit.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class SeatReservationBenchmarkTest {
+
+    private static final int SEATS = 500;
+    private static final int SUBMISSIONS = 3_000;
+    private static final int CLIENTS = 32;
+    private static final String OTHER_WORK = "SELECT pg_sleep(0.002)";
+    private static final String RESERVE_SEAT = "UPDATE events SET participant_count = participant_count + 1 " +
+            "WHERE id = ? AND (max_participants IS NULL OR participant_count < max_participants)";
+
+    private final String schema = "araw_seat_bench_" + UUID.randomUUID().toString().substring(0, 8);
+    private final BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(CLIENTS);
+    private final UUID eventId = UUID.randomUUID();
+
+    @BeforeAll
+    void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(PostgresTestDatabase.url(), PostgresTestDatabase.user(), PostgresTestDatabase.password())
+                .schemas(schema)
+                .createSchemas(true)
+                .load()
+                .migrate();
+        for (int i = 0; i < CLIENTS; i++) {
+            Connection connection = PostgresTestDatabase.connect();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET search_path TO " + schema);
+            }
+            connection.setAutoCommit(false);
+            connections.add(connection);
+        }
+        Connection connection = connections.peek();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO events (id, title, event_type, status, is_published, max_participants, participant_count) " +
+                        "VALUES (?, 'Last Seats', 'WORKSHOP', 'UPCOMING', true, ?, 0)")) {
+            insert.setObject(1, eventId);
+            insert.setInt(2, SEATS);
+            insert.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        Connection connection = connections.poll();
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            connection.rollback();
+            connection.setAutoCommit(true);
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+            for (Connection remaining : connections) {
+                remaining.close();
+            }
+        }
+    }
+
+    @Test
+    void conditionalUpdateNeverOversubscribesAndOutrunsRowLocking() throws Exception {
+        Result baseline = run(this::reserveWithRowLock);
+        Result conditional = run(this::reserveConditionally);
+
+        log.info("Seat reservation: FOR UPDATE {} submissions/s, conditional UPDATE {} submissions/s",
+                Math.round(baseline.throughput()), Math.round(conditional.throughput()));
+        assertThat(baseline.reserved()).as("seats granted under FOR UPDATE").isEqualTo(SEATS);
+        assertThat(baseline.finalCount()).as("participant count under FOR UPDATE").isEqualTo(SEATS);
+        assertThat(conditional.reserved()).as("seats granted by the conditional update").isEqualTo(SEATS);
+        assertThat(conditional.finalCount()).as("participant count after the conditional update").isEqualTo(SEATS);
+        assertThat(conditional.throughput()).as("conditional update vs FOR UPDATE submissions/s")
+                .isGreaterThan(3 * baseline.throughput());
+    }
+
+    private boolean reserveConditionally(Connection connection) throws SQLException {
+        try (Statement work = connection.createStatement();
+             PreparedStatement reserve = connection.prepareStatement(RESERVE_SEAT)) {
+            work.execute(OTHER_WORK);
+            reserve.setObject(1, eventId);
+            return reserve.executeUpdate() == 1;
+        }
+    }
+
+    private boolean reserveWithRowLock(Connection connection) throws SQLException {
+        try (PreparedStatement lock = connection.prepareStatement(
+                "SELECT participant_count, max_participants FROM events WHERE id = ? FOR UPDATE");
+             Statement work = connection.createStatement();
+             PreparedStatement increment = connection.prepareStatement(
+                     "UPDATE events SET participant_count = participant_count + 1 WHERE id = ?")) {
+            lock.setObject(1, eventId);
+            int taken;
+            int capacity;
+            try (ResultSet row = lock.executeQuery()) {
+                row.next();
+                taken = row.getInt(1);
+                capacity = row.getInt(2);
+            }
+            work.execute(OTHER_WORK);
+            if (taken >= capacity) {
+                return false;
+            }
+            increment.setObject(1, eventId);
+            increment.executeUpdate();
+            return true;
+        }
+    }
+
+    private Result run(Submission submission) throws Exception {
+        resetSeats();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<Boolean>> outcomes = new ArrayList<>(SUBMISSIONS);
+        long started = System.nanoTime();
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            outcomes.add(clients.submit(() -> {
+                Connection connection = connections.take();
+                try {
+                    boolean reserved = submission.reserve(connection);
+                    connection.commit();
+                    return reserved;
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                } finally {
+                    connections.add(connection);
+                }
+            }));
+        }
+        int reserved = 0;
+        for (Future<Boolean> outcome : outcomes) {
+            reserved += outcome.get() ? 1 : 0;
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.SECONDS);
+        return new Result(reserved, seatCount(), SUBMISSIONS / seconds);
+    }
+
+    private void resetSeats() throws SQLException {
+        Connection connection = connections.peek();
+        try (PreparedStatement reset = connection.prepareStatement("UPDATE events SET participant_count = 0 WHERE id = ?")) {
+            reset.setObject(1, eventId);
+            reset.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private int seatCount() throws SQLException {
+        Connection connection = connections.peek();
+        try (PreparedStatement select = connection.prepareStatement("SELECT participant_count FROM events WHERE id = ?")) {
+            select.setObject(1, eventId);
+            try (ResultSet row = select.executeQuery()) {
+                row.next();
+                int count = row.getInt(1);
+                connection.commit();
+                return count;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Submission {
+        boolean reserve(Connection connection) throws SQLException;
+    }
+
+    private record Result(int reserved, int finalCount, double throughput) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.araw.content.application;
 
+import com.araw.content.application.ArticleApplicationService.ArticleTag;
 import com.araw.content.application.command.CreateArticleCommand;
+import com.araw.content.application.command.UpdateArticleCommand;
+import com.araw.content.domain.event.ArticleChangedEvent;
 import com.araw.content.domain.event.ArticlePublishedEvent;
 import com.araw.content.domain.model.Article;
 import com.araw.content.domain.model.ArticleStatus;
@@ -76,4 +79,56 @@ class ArticleApplicationServiceTest {
         assertThat(event.slug()).isEqualTo("grassroots-innovation-impact");
         assertThat(event.publishedAt()).isNotNull();
     }
+
+    @Test
+    void articleTagTracksUpdatesWithoutLoadingBody() {
+        Article article = articleService.createArticle(new CreateArticleCommand(
+                "Coding Clubs Across Regions",
+                null,
+                "How clubs are growing.",
+                "Body content",
+                "Programs Desk",
+                Set.of("coding"),
+                null,
+                ArticleStatus.PUBLISHED
+        ));
+
+        ArticleTag initial = articleService.findArticleTag(article.getSlug()).orElseThrow();
+        assertThat(initial).isEqualTo(ArticleApplicationService.tagOf(articleService.getBySlug(article.getSlug())));
+        assertThat(initial.published()).isTrue();
+
+        applicationEvents.clear();
+        articleService.updateArticle(new UpdateArticleCommand(
+                article.getId(),
+                article.getTitle(),
+                null,
+                article.getExcerpt(),
+                "Revised body",
+                article.getAuthorName(),
+                Set.of("coding"),
+                null,
+                null
+        ));
+
+        assertThat(applicationEvents.stream(ArticleChangedEvent.class)).hasSize(1);
+        assertThat(articleService.findArticleTag(article.getSlug()).orElseThrow().etag())
+                .isNotEqualTo(initial.etag());
+    }
+
+    @Test
+    void draftArticleTagIsNotPublished() {
+        Article draft = articleService.createArticle(new CreateArticleCommand(
+                "Upcoming Robotics Season",
+                null,
+                "Not announced yet.",
+                "Draft body",
+                "Programs Desk",
+                Set.of("robotics"),
+                null,
+                ArticleStatus.DRAFT
+        ));
+
+        assertThat(articleService.findArticleTag(draft.getSlug()).orElseThrow().published()).isFalse();
+        assertThat(ArticleApplicationService.tagOf(draft).published()).isFalse();
+    }
 }
@@ -0,0 +1,78 @@
+package com.araw.media.application;
+
+import com.araw.media.domain.model.MediaAsset;
+import com.araw.media.domain.model.MediaCategory;
+import com.araw.media.domain.repository.MediaAssetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MediaStorageServiceTest {
+
+    @Autowired
+    private MediaStorageService mediaStorageService;
+
+    @Autowired
+    private MediaAssetRepository mediaAssetRepository;
+
+    @Autowired
+    private PresignedUrlCache presignedUrlCache;
+
+    @Test
+    void generatesUrlsInBulkAndSkipsUnknownAssets() {
+        MediaAsset first = saveAsset("gallery-1.jpg");
+        MediaAsset second = saveAsset("gallery-2.jpg");
+        UUID unknown = UUID.randomUUID();
+
+        Map<UUID, String> urls = mediaStorageService.generatePresignedUrls(
+                List.of(first.getId(), second.getId(), unknown));
+
+        assertThat(urls).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(urls.get(first.getId())).contains(first.getObjectKey());
+
+        long hitsBefore = presignedUrlCache.hitCount();
+        Map<UUID, String> cached = mediaStorageService.generatePresignedUrls(List.of(first.getId(), second.getId()));
+
+        assertThat(cached).isEqualTo(urls);
+        assertThat(presignedUrlCache.hitCount()).isEqualTo(hitsBefore + 2);
+    }
+
+    @Test
+    void signsLoadedAssetsAndReusesTheirCachedUrls() {
+        MediaAsset first = saveAsset("loaded-1.jpg");
+        MediaAsset second = saveAsset("loaded-2.jpg");
+
+        Map<UUID, String> urls = mediaStorageService.signAssets(List.of(first, second));
+
+        assertThat(urls).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(urls.get(second.getId())).contains(second.getObjectKey());
+
+        long hitsBefore = presignedUrlCache.hitCount();
+        assertThat(mediaStorageService.signAssets(List.of(first, second))).isEqualTo(urls);
+        assertThat(presignedUrlCache.hitCount()).isEqualTo(hitsBefore + 2);
+    }
+
+    private MediaAsset saveAsset(String fileName) {
+        return mediaAssetRepository.save(MediaAsset.create(
+                "araw-test",
+                "event_gallery_image/" + UUID.randomUUID() + "-" + fileName,
+                fileName,
+                "image/jpeg",
+                1024,
+                MediaCategory.EVENT_GALLERY_IMAGE,
+                "etag",
+                null
+        ));
+    }
+}
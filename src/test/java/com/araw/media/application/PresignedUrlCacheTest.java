@@ -0,0 +1,105 @@
+package com.araw.media.application;
+
+import com.araw.media.config.MinioProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PresignedUrlCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private MinioProperties properties;
+    private PresignedUrlCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MinioProperties();
+        properties.setPresignedCacheSafetyMarginMinutes(5);
+        properties.setPresignedCacheMaxEntries(2);
+        cache = new PresignedUrlCache(properties, clock);
+    }
+
+    @Test
+    void reusesUrlUntilSafetyMarginBeforeExpiry() {
+        UUID assetId = UUID.randomUUID();
+        assertThat(cache.get(assetId)).isEmpty();
+
+        cache.put(assetId, "https://minio/signed", Duration.ofMinutes(60));
+        clock.advance(Duration.ofMinutes(54));
+        assertThat(cache.get(assetId)).contains("https://minio/signed");
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get(assetId)).isEmpty();
+
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsUrlsThatWouldExpireWithinMargin() {
+        UUID assetId = UUID.randomUUID();
+        cache.put(assetId, "https://minio/short", Duration.ofMinutes(5));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        cache.put(first, "https://minio/1", Duration.ofMinutes(30));
+        cache.put(second, "https://minio/2", Duration.ofMinutes(60));
+        assertThat(cache.get(first)).isPresent();
+        cache.put(third, "https://minio/3", Duration.ofMinutes(60));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(second)).isEmpty();
+        assertThat(cache.get(first)).isPresent();
+        cache.evict(first);
+        assertThat(cache.get(first)).isEmpty();
+
+        cache.put(second, "https://minio/2", Duration.ofMinutes(60));
+        assertThat(cache.get(second)).isPresent();
+
+        cache.evict(second);
+        assertThat(cache.get(second)).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
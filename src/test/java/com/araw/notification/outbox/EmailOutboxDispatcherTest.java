@@ -0,0 +1,200 @@
+package com.araw.notification.outbox;
+
+import com.araw.notification.config.EmailOutboxProperties;
+import com.araw.shared.scheduling.BackgroundJobs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmailOutboxDispatcherTest {
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RecordingMailSender mailSender = new RecordingMailSender();
+    private EmailOutboxProperties properties;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboundEmailRepository.deleteAll();
+        properties = new EmailOutboxProperties();
+        properties.setBatchSize(10);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMinutes(1));
+        dispatcher = new EmailOutboxDispatcher(outboundEmailRepository, mailSender, properties, transactionManager,
+                new BackgroundJobs());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundEmailRepository.deleteAll();
+    }
+
+    @Test
+    void emailIsOnlyQueuedWhenTheSenderCommits() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            emailOutbox.enqueue(message("rolled-back@example.com"));
+            status.setRollbackOnly();
+        });
+        assertThat(outboundEmailRepository.count()).isZero();
+
+        transaction.executeWithoutResult(status -> emailOutbox.enqueue(message("committed@example.com")));
+        assertThat(outboundEmailRepository.countByStatus(OutboundEmailStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchSendsDueEmailsInOneBatch() {
+        for (int i = 0; i < 3; i++) {
+            emailOutbox.enqueue(message("applicant" + i + "@example.com"));
+        }
+
+        assertThat(dispatcher.dispatch()).isEqualTo(3);
+
+        assertThat(mailSender.batches).hasSize(1);
+        assertThat(mailSender.batches.get(0)).hasSize(3);
+        assertThat(outboundEmailRepository.countByStatus(OutboundEmailStatus.SENT)).isEqualTo(3);
+        assertThat(dispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void failedEmailBacksOffWhileTheRestOfTheBatchIsSent() {
+        UUID failing = emailOutbox.enqueue(message("bounce@example.com"));
+        emailOutbox.enqueue(message("ok@example.com"));
+
+        dispatcher.dispatch();
+
+        OutboundEmail retried = outboundEmailRepository.findById(failing).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).contains("mailbox unavailable");
+        assertThat(retried.getNextAttemptAt()).isAfter(OffsetDateTime.now(ZoneOffset.UTC).plusSeconds(50));
+        assertThat(outboundEmailRepository.countByStatus(OutboundEmailStatus.SENT)).isEqualTo(1);
+        assertThat(dispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void emailIsDeadLetteredAfterMaxAttempts() {
+        properties.setInitialBackoff(Duration.ZERO);
+        UUID failing = emailOutbox.enqueue(message("bounce@example.com"));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(dispatcher.dispatch()).isEqualTo(1);
+        }
+
+        OutboundEmail dead = outboundEmailRepository.findById(failing).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboundEmailStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(3);
+        assertThat(dispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void connectionFailureRetriesTheWholeBatch() {
+        mailSender.connectionDown = true;
+        emailOutbox.enqueue(message("first@example.com"));
+        emailOutbox.enqueue(message("second@example.com"));
+
+        dispatcher.dispatch();
+
+        assertThat(outboundEmailRepository.findAll())
+                .allSatisfy(email -> {
+                    assertThat(email.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+                    assertThat(email.getAttempts()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void outcomeIsDroppedWhenTheClaimWasTakenOver() {
+        UUID email = emailOutbox.enqueue(message("slow@example.com"));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // The lease runs out mid-send and another dispatcher claims the email again.
+        mailSender.duringSend = () -> transaction.executeWithoutResult(status -> outboundEmailRepository.findById(email)
+                .orElseThrow()
+                .claim(OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(5)));
+
+        dispatcher.dispatch();
+
+        OutboundEmail reclaimed = outboundEmailRepository.findById(email).orElseThrow();
+        assertThat(reclaimed.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+        assertThat(reclaimed.getAttempts()).isEqualTo(2);
+        assertThat(reclaimed.getSentAt()).isNull();
+    }
+
+    @Test
+    void purgeDeletesOnlyFinishedEmailsPastRetention() {
+        properties.setMaxAttempts(1);
+        emailOutbox.enqueue(message("sent@example.com"));
+        emailOutbox.enqueue(message("bounce@example.com"));
+        dispatcher.dispatch();
+        UUID pending = emailOutbox.enqueue(message("pending@example.com"));
+
+        assertThat(dispatcher.purgeFinished()).isZero();
+
+        properties.setRetention(Duration.ZERO);
+        assertThat(dispatcher.purgeFinished()).isEqualTo(2);
+        assertThat(outboundEmailRepository.findAll()).extracting(OutboundEmail::getId).containsExactly(pending);
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("Application received");
+        message.setText("Thanks for applying.");
+        return message;
+    }
+
+    private static final class RecordingMailSender extends JavaMailSenderImpl {
+
+        private final List<List<SimpleMailMessage>> batches = new ArrayList<>();
+        private boolean connectionDown;
+        private Runnable duringSend = () -> { };
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            duringSend.run();
+            if (connectionDown) {
+                throw new MailSendException("Couldn't connect to host");
+            }
+            batches.add(Arrays.asList(simpleMessages));
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (SimpleMailMessage message : simpleMessages) {
+                if (message.getTo()[0].startsWith("bounce")) {
+                    failed.put(message, new IllegalStateException("550 mailbox unavailable"));
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.araw.shared.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesSmallAndLargeCardinalities() {
+        assertThat(sketchOf(0, 1_000).estimate()).isCloseTo(1_000L, within(30L));
+        assertThat(sketchOf(0, 200_000).estimate()).isCloseTo(200_000L, within(10_000L));
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void repeatedItemsDoNotIncreaseTheEstimate() {
+        HyperLogLog sketch = sketchOf(0, 5_000);
+        long before = sketch.estimate();
+
+        for (int i = 0; i < 3; i++) {
+            sketch.merge(sketchOf(0, 5_000));
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog monday = sketchOf(0, 30_000);
+        HyperLogLog tuesday = sketchOf(20_000, 50_000);
+
+        monday.merge(tuesday);
+
+        assertThat(monday).isEqualTo(sketchOf(0, 50_000));
+        assertThat(monday.estimate()).isCloseTo(50_000L, within(2_500L));
+    }
+
+    @Test
+    void serializesCompactlyAndRoundTrips() {
+        HyperLogLog sparse = sketchOf(0, 50);
+        HyperLogLog dense = sketchOf(0, 100_000);
+
+        assertThat(sparse.toBytes()).hasSizeLessThan(256);
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes())).isEqualTo(sparse);
+        assertThat(HyperLogLog.fromBytes(dense.toBytes())).isEqualTo(dense);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, 9, 9}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(int fromInclusive, int toExclusive) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = fromInclusive; i < toExclusive; i++) {
+            sketch.add(mix(i));
+        }
+        return sketch;
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids uniformly over 64 bits, like a real visitor hash
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,133 @@
+package com.araw.shared.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingMultipartReaderTest {
+
+    private static final String BOUNDARY = "----araw-boundary-7MA4YWxkTrZu0gW";
+
+    @Test
+    void readsFieldAndFileParts() throws IOException {
+        byte[] body = multipart(
+                part("form-data; name=\"payload\"", "application/json", "{\"a\":1}".getBytes(StandardCharsets.UTF_8)),
+                part("form-data; name=\"resume\"; filename=\"Jane \\\"CV\\\".pdf\"", "application/pdf",
+                        "%PDF-1.7 body".getBytes(StandardCharsets.UTF_8)));
+
+        StreamingMultipartReader reader = new StreamingMultipartReader(new ByteArrayInputStream(body), BOUNDARY);
+
+        StreamingMultipartReader.Part payload = reader.next();
+        assertThat(payload.name()).isEqualTo("payload");
+        assertThat(payload.isFile()).isFalse();
+        assertThat(new String(payload.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+
+        StreamingMultipartReader.Part resume = reader.next();
+        assertThat(resume.name()).isEqualTo("resume");
+        assertThat(resume.fileName()).isEqualTo("Jane \"CV\".pdf");
+        assertThat(resume.contentType()).isEqualTo("application/pdf");
+        assertThat(new String(resume.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("%PDF-1.7 body");
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void streamsLargePartsThatArriveInSmallChunks() throws IOException {
+        byte[] file = new byte[3 * 1024 * 1024];
+        new Random(42).nextBytes(file);
+        // A body that almost contains the delimiter must come through untouched.
+        byte[] nearMiss = ("\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1) + "X").getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(nearMiss, 0, file, 65_530, nearMiss.length);
+        byte[] body = multipart(
+                part("form-data; name=\"resume\"; filename=\"big.pdf\"", "application/pdf", file),
+                part("form-data; name=\"payload\"", null, "{}".getBytes(StandardCharsets.UTF_8)));
+
+        StreamingMultipartReader reader = new StreamingMultipartReader(new TricklingInputStream(body), BOUNDARY);
+
+        assertThat(reader.next().body().readAllBytes()).isEqualTo(file);
+        assertThat(reader.next().name()).isEqualTo("payload");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void skipsUnreadPartBodies() throws IOException {
+        byte[] body = multipart(
+                part("form-data; name=\"ignored\"; filename=\"a.bin\"", null, new byte[200_000]),
+                part("form-data; name=\"payload\"", null, "kept".getBytes(StandardCharsets.UTF_8)));
+
+        StreamingMultipartReader reader = new StreamingMultipartReader(new ByteArrayInputStream(body), BOUNDARY);
+        reader.next();
+
+        assertThat(new String(reader.next().body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("kept");
+    }
+
+    @Test
+    void failsOnTruncatedBody() throws IOException {
+        byte[] body = multipart(part("form-data; name=\"resume\"; filename=\"a.pdf\"", null, new byte[1000]));
+        byte[] truncated = Arrays.copyOf(body, body.length - BOUNDARY.length() - 10);
+
+        StreamingMultipartReader reader = new StreamingMultipartReader(new ByteArrayInputStream(truncated), BOUNDARY);
+        InputStream part = reader.next().body();
+
+        assertThatThrownBy(part::readAllBytes).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void extractsBoundaryFromContentType() {
+        assertThat(StreamingMultipartReader.boundary("multipart/form-data; boundary=abc123")).isEqualTo("abc123");
+        assertThat(StreamingMultipartReader.boundary("Multipart/Form-Data; charset=UTF-8; boundary=\"a b\"")).isEqualTo("a b");
+        assertThatThrownBy(() -> StreamingMultipartReader.boundary("application/json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] part(String disposition, String contentType, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(("Content-Disposition: " + disposition + "\r\n").getBytes(StandardCharsets.UTF_8));
+        if (contentType != null) {
+            out.writeBytes(("Content-Type: " + contentType + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        }
+        out.writeBytes("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    private static byte[] multipart(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("preamble\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    /**
+     * Hands out at most a few bytes per read, the way a slow client connection does.
+     */
+    private static final class TricklingInputStream extends FilterInputStream {
+
+        private final Random random = new Random(7);
+
+        private TricklingInputStream(byte[] content) {
+            super(new ByteArrayInputStream(content));
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            return super.read(target, offset, Math.min(length, 1 + random.nextInt(4096)));
+        }
+    }
+}
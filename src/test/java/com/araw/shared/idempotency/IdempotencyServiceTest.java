@@ -0,0 +1,194 @@
+package com.araw.shared.idempotency;
+
+import com.araw.shared.exception.DomainConflictException;
+import com.araw.shared.exception.DomainValidationException;
+import com.araw.shared.exception.UnprocessableRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without a test transaction so that claims made by concurrent callers commit and are visible to
+ * each other.
+ */
+@SpringBootTest(properties = "app.http.idempotency.max-wait=2s")
+@ActiveProfiles("test")
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private static final Supplier<String> SAME_REQUEST = () -> "request";
+
+    private final String scope = "test:" + UUID.randomUUID();
+
+    @AfterEach
+    void deleteRecords() {
+        idempotencyRecordRepository.deleteAll(idempotencyRecordRepository.findAll().stream()
+                .filter(record -> record.getId().getScope().equals(scope))
+                .toList());
+    }
+
+    @Test
+    void replaysStoredResponseForRepeatedKey() {
+        AtomicInteger runs = new AtomicInteger();
+
+        IdempotentResult<Receipt> first = idempotencyService.execute(scope, "key-1", SAME_REQUEST, Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "created"));
+        IdempotentResult<Receipt> retry = idempotencyService.execute(scope, "key-1", SAME_REQUEST, Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "created"));
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.body()).isEqualTo(first.body());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void refusesKeyReusedForDifferentRequest() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyService.execute(scope, "key-2", () -> "first applicant", Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "created"));
+
+        assertThatThrownBy(() -> idempotencyService.execute(scope, "key-2", () -> "second applicant", Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "created")))
+                .isInstanceOf(UnprocessableRequestException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void keysAreIndependentAcrossScopes() {
+        AtomicInteger runs = new AtomicInteger();
+        String otherScope = scope + ":other";
+
+        idempotencyService.execute(scope, "shared", SAME_REQUEST, Receipt.class, () -> new Receipt(runs.incrementAndGet(), "a"));
+        IdempotentResult<Receipt> other = idempotencyService.execute(otherScope, "shared", SAME_REQUEST, Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "b"));
+
+        assertThat(other.replayed()).isFalse();
+        assertThat(runs).hasValue(2);
+        idempotencyRecordRepository.deleteById(new IdempotencyRecordId(otherScope, "shared"));
+    }
+
+    @Test
+    void runsEveryRequestWithoutKey() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyService.execute(scope, null, SAME_REQUEST, Receipt.class, () -> new Receipt(runs.incrementAndGet(), "a"));
+        IdempotentResult<Receipt> second = idempotencyService.execute(scope, " ", SAME_REQUEST, Receipt.class,
+                () -> new Receipt(runs.incrementAndGet(), "b"));
+
+        assertThat(second.replayed()).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void failedAttemptReleasesKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(scope, "retry-me", SAME_REQUEST, Receipt.class, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IdempotentResult<Receipt> retry = idempotencyService.execute(scope, "retry-me", SAME_REQUEST, Receipt.class,
+                () -> new Receipt(2, "created"));
+
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.body().number()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsOverlongKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(scope, "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1),
+                SAME_REQUEST, Receipt.class, () -> new Receipt(1, "created")))
+                .isInstanceOf(DomainValidationException.class);
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForInFlightAttempt() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotentResult<Receipt>> leader = pool.submit(() ->
+                    idempotencyService.execute(scope, "rush", SAME_REQUEST, Receipt.class, () -> {
+                        started.countDown();
+                        await(release);
+                        return new Receipt(runs.incrementAndGet(), "created");
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<IdempotentResult<Receipt>>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                duplicates.add(pool.submit(() -> idempotencyService.execute(scope, "rush", SAME_REQUEST, Receipt.class,
+                        () -> new Receipt(runs.incrementAndGet(), "duplicate"))));
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+            for (Future<IdempotentResult<Receipt>> duplicate : duplicates) {
+                IdempotentResult<Receipt> result = duplicate.get(5, TimeUnit.SECONDS);
+                assertThat(result.replayed()).isTrue();
+                assertThat(result.body()).isEqualTo(new Receipt(1, "created"));
+            }
+            assertThat(runs).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void duplicateGivesUpWhenAttemptOutlastsMaxWait() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<IdempotentResult<Receipt>> leader = pool.submit(() ->
+                    idempotencyService.execute(scope, "slow", SAME_REQUEST, Receipt.class, () -> {
+                        started.countDown();
+                        await(release);
+                        return new Receipt(1, "created");
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> idempotencyService.execute(scope, "slow", SAME_REQUEST, Receipt.class,
+                    () -> new Receipt(2, "duplicate")))
+                    .isInstanceOf(DomainConflictException.class);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Receipt(int number, String status) {
+    }
+}
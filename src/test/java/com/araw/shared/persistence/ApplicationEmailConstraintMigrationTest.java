@@ -0,0 +1,102 @@
+package com.araw.shared.persistence;
+
+import com.araw.araw.domain.application.entity.Application;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the unique (event_id, email) key ends up under {@link Application#EMAIL_PER_EVENT_CONSTRAINT}
+ * both on a fresh database and on one adopted through {@code baseline-on-migrate}, whose key still carries
+ * the name Hibernate generated when {@code ddl-auto} created the schema.
+ */
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class ApplicationEmailConstraintMigrationTest {
+
+    private static final String HIBERNATE_KEY = "UKq3bxh4yvjbkavj8tw0tqk1v2u";
+
+    @Test
+    void freshDatabaseGetsTheNamedKey() throws SQLException {
+        String schema = newSchema();
+        try {
+            migrate(schema, false);
+
+            assertThat(uniqueKeys(schema)).containsExactly(Application.EMAIL_PER_EVENT_CONSTRAINT);
+        } finally {
+            drop(schema);
+        }
+    }
+
+    @Test
+    void adoptedHibernateSchemaHasItsKeyRenamed() throws SQLException, IOException {
+        String schema = newSchema();
+        try {
+            // V1 is the ddl-auto schema, except that Hibernate named the key itself.
+            String hibernateSchema = PostgresTestDatabase.migration("V1__baseline_schema.sql")
+                    .replace("constraint " + Application.EMAIL_PER_EVENT_CONSTRAINT + " unique (event_id, email)",
+                            "constraint " + HIBERNATE_KEY + " unique (event_id, email)");
+            assertThat(hibernateSchema).contains(HIBERNATE_KEY);
+            try (Connection connection = PostgresTestDatabase.connect();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE SCHEMA " + schema);
+                statement.execute("SET search_path TO " + schema);
+                statement.execute(hibernateSchema);
+            }
+
+            migrate(schema, true);
+
+            assertThat(uniqueKeys(schema)).containsExactly(Application.EMAIL_PER_EVENT_CONSTRAINT);
+        } finally {
+            drop(schema);
+        }
+    }
+
+    private static String newSchema() {
+        return "araw_email_key_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static void migrate(String schema, boolean adopted) {
+        Flyway.configure()
+                .dataSource(PostgresTestDatabase.url(), PostgresTestDatabase.user(), PostgresTestDatabase.password())
+                .schemas(schema)
+                .createSchemas(!adopted)
+                .baselineOnMigrate(adopted)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private static List<String> uniqueKeys(String schema) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection connection = PostgresTestDatabase.connect();
+             PreparedStatement query = connection.prepareStatement(
+                     "SELECT conname FROM pg_constraint WHERE contype = 'u' AND conrelid = ?::regclass")) {
+            query.setString(1, schema + ".applications");
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    names.add(rows.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+
+    private static void drop(String schema) throws SQLException {
+        try (Connection connection = PostgresTestDatabase.connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+}
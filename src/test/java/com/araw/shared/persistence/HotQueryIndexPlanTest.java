@@ -0,0 +1,171 @@
+package com.araw.shared.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrates a throwaway schema, seeds it with a large synthetic dataset and checks that the hot repository
+ * predicates are served by an index. The statements mirror the SQL Hibernate generates for the named
+ * repository methods; derived {@code IgnoreCase} finders compare {@code upper(column) = upper(?)}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class HotQueryIndexPlanTest {
+
+    private static final int EVENTS = 20_000;
+    private static final int PARTICIPANTS = 100_000;
+    private static final int APPLICATIONS = 200_000;
+    private static final int FEEDBACK = 100_000;
+    private static final int MEDIA_ASSETS = 50_000;
+
+    private final String schema = "araw_index_plan_" + UUID.randomUUID().toString().substring(0, 8);
+    private Connection connection;
+    private String eventId;
+    private String participantId;
+
+    @BeforeAll
+    void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(PostgresTestDatabase.url(), PostgresTestDatabase.user(), PostgresTestDatabase.password())
+                .schemas(schema)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        connection = PostgresTestDatabase.connect();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + schema);
+            statement.execute("INSERT INTO events (id, title, description, event_type, status, is_published, created_at) " +
+                    "SELECT gen_random_uuid(), 'Event ' || g, repeat('Learning session ' || md5(g::text) || ' ', 10), " +
+                    "(ARRAY['WORKSHOP','BOOTCAMP','HACKATHON','SEMINAR'])[1 + g % 4], " +
+                    "(ARRAY['DRAFT','UPCOMING','IN_PROGRESS','COMPLETED','CANCELLED'])[1 + g % 5], g % 2 = 0, " +
+                    "now() - g * interval '1 minute' FROM generate_series(1, " + EVENTS + ") g");
+            statement.execute("INSERT INTO participants (id, first_name, last_name, email, participant_code, joined_at) " +
+                    "SELECT gen_random_uuid(), 'First' || g, 'Last' || g, 'participant' || g || '@example.com', " +
+                    "'P-' || g, now() - g * interval '1 minute' FROM generate_series(1, " + PARTICIPANTS + ") g");
+            statement.execute("INSERT INTO participant_accounts (id, participant_id, email, password_hash) " +
+                    "SELECT gen_random_uuid(), p.id, p.email, 'hash' FROM participants p");
+            statement.execute("CREATE TEMP TABLE seed_events AS " +
+                    "SELECT id, row_number() OVER (ORDER BY id) AS n FROM events");
+            statement.execute("CREATE TEMP TABLE seed_participants AS " +
+                    "SELECT id, row_number() OVER (ORDER BY id) AS n FROM participants");
+            statement.execute("INSERT INTO applications (id, event_id, participant_id, application_number, email, " +
+                    "status, confirmation_token, submitted_at) " +
+                    "SELECT gen_random_uuid(), e.id, p.id, 'APP-' || g, 'applicant' || g || '@example.com', " +
+                    "(ARRAY['SUBMITTED','UNDER_REVIEW','ACCEPTED','REJECTED','WAITLISTED','CONFIRMED'])[1 + g % 6], " +
+                    "md5(g::text), now() - g * interval '1 second' " +
+                    "FROM generate_series(1, " + APPLICATIONS + ") g " +
+                    "JOIN seed_events e ON e.n = 1 + g % " + EVENTS + " " +
+                    "JOIN seed_participants p ON p.n = 1 + g % " + PARTICIPANTS);
+            statement.execute("INSERT INTO feedbacks (id, event_id, participant_id, submitted_at) " +
+                    "SELECT gen_random_uuid(), e.id, p.id, now() - g * interval '1 second' " +
+                    "FROM generate_series(1, " + FEEDBACK + ") g " +
+                    "JOIN seed_events e ON e.n = 1 + g % " + EVENTS + " " +
+                    "JOIN seed_participants p ON p.n = 1 + g % " + PARTICIPANTS);
+            statement.execute("INSERT INTO media_assets (id, category, bucket, content_type, file_name, object_key, " +
+                    "file_size, created_at) " +
+                    "SELECT gen_random_uuid(), " +
+                    "(ARRAY['ARTICLE_HERO','PROFILE_PHOTO','EVENT_MEDIA','EVENT_GALLERY_IMAGE','APPLICATION_DOCUMENT','GENERAL'])[1 + g % 6], " +
+                    "'araw-media', 'image/png', 'file' || g || '.png', 'objects/' || g, 1024, " +
+                    "now() - g * interval '1 second' FROM generate_series(1, " + MEDIA_ASSETS + ") g");
+            statement.execute("ANALYZE");
+            try (ResultSet row = statement.executeQuery("SELECT id FROM events ORDER BY id OFFSET 42 LIMIT 1")) {
+                row.next();
+                eventId = row.getString(1);
+            }
+            try (ResultSet row = statement.executeQuery("SELECT id FROM participants ORDER BY id OFFSET 42 LIMIT 1")) {
+                row.next();
+                participantId = row.getString(1);
+            }
+        }
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("ApplicationRepository.existsByEventIdAndEmail",
+                        "SELECT a.id FROM applications a WHERE a.event_id = '%event%' " +
+                                "AND a.email = 'applicant42@example.com' LIMIT 1"),
+                Arguments.of("ApplicationRepository.countByEventIdAndStatus",
+                        "SELECT count(*) FROM applications a WHERE a.event_id = '%event%' AND a.status = 'WAITLISTED'"),
+                Arguments.of("ApplicationRepository.findWaitlistedByEventOrderByPosition",
+                        "SELECT a.id FROM applications a WHERE a.status = 'WAITLISTED' AND a.event_id = '%event%' " +
+                                "ORDER BY a.waitlist_rank"),
+                Arguments.of("ApplicationRepository.findByParticipantIdOrderBySubmittedAtDesc",
+                        "SELECT a.id FROM applications a WHERE a.participant_id = '%participant%' " +
+                                "ORDER BY a.submitted_at DESC"),
+                Arguments.of("ApplicationRepository.findByConfirmationToken",
+                        "SELECT a.id FROM applications a WHERE a.confirmation_token = md5('42')"),
+                Arguments.of("ApplicationRepository.scrollWithFilters",
+                        "SELECT a.id FROM applications a ORDER BY a.submitted_at DESC, a.id DESC LIMIT 21"),
+                Arguments.of("ParticipantRepository.findByContactInfoEmailIgnoreCase",
+                        "SELECT p.id FROM participants p WHERE upper(p.email) = upper('Participant42@example.com')"),
+                Arguments.of("ParticipantRepository.scrollParticipants",
+                        "SELECT p.id FROM participants p ORDER BY p.joined_at DESC, p.id DESC LIMIT 21"),
+                Arguments.of("ParticipantAccountRepository.findByEmailIgnoreCase",
+                        "SELECT pa.id FROM participant_accounts pa WHERE upper(pa.email) = upper('participant42@example.com')"),
+                Arguments.of("FeedbackRepository.findByEventId",
+                        "SELECT f.id FROM feedbacks f WHERE f.event_id = '%event%'"),
+                Arguments.of("FeedbackRepository.scrollFeedback",
+                        "SELECT f.id FROM feedbacks f ORDER BY f.submitted_at DESC, f.id DESC LIMIT 21"),
+                Arguments.of("MediaAssetRepository.findAllByCategory",
+                        "SELECT m.id FROM media_assets m WHERE m.category = 'PROFILE_PHOTO' " +
+                                "ORDER BY m.created_at DESC, m.id DESC LIMIT 20"),
+                Arguments.of("EventRepository.scrollEvents",
+                        "SELECT e.id FROM events e ORDER BY e.created_at DESC, e.id DESC LIMIT 21"),
+                Arguments.of("EventRepository.searchRankedEventIds",
+                        "SELECT e.id FROM events e WHERE e.search_vector @@ to_tsquery('english', 'event:* & 4242:*') " +
+                                "ORDER BY ts_rank_cd(e.search_vector, to_tsquery('english', 'event:* & 4242:*')) DESC LIMIT 20")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesAnIndex(String repositoryMethod, String sql) throws SQLException {
+        List<String> plan = explain(sql.replace("%event%", eventId).replace("%participant%", participantId));
+
+        assertThat(plan)
+                .as("plan for %s:%n%s", repositoryMethod, String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> line.toLowerCase(Locale.ROOT).contains("seq scan"));
+    }
+
+    private List<String> explain(String sql) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.add(rows.getString(1));
+            }
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,91 @@
+package com.araw.shared.persistence;
+
+import com.araw.araw.domain.application.entity.Application;
+import com.araw.araw.domain.application.valueobject.EducationLevel;
+import com.araw.araw.domain.participant.enitity.Participant;
+import com.araw.araw.domain.participant.repository.ParticipantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NumberAllocatorTest {
+
+    private static final NumberSequence SEQUENCE = Application.NUMBER_SEQUENCE;
+
+    @Autowired
+    private NumberAllocator numberAllocator;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Test
+    void numbersRiseByOneAcrossBlocks() {
+        long first = numberAllocator.nextValue(SEQUENCE);
+        List<Long> values = IntStream.range(0, NumberAllocator.BLOCK_SIZE * 2)
+                .mapToObj(i -> numberAllocator.nextValue(SEQUENCE))
+                .toList();
+
+        // A single node sees consecutive numbers until another node takes a block in between.
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i)).isEqualTo(first + i + 1);
+        }
+        assertThat(SEQUENCE.format(42)).isEqualTo("APP-00000042");
+    }
+
+    @Test
+    void concurrentAllocationNeverRepeatsANumber() throws Exception {
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        assertThat(seen.add(numberAllocator.nextValue(SEQUENCE))).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(seen).hasSize(2000);
+    }
+
+    @Test
+    @Transactional
+    void persistedEntitiesDrawTheirNumberFromTheSequence() {
+        Participant first = participantRepository.save(participant("First"));
+        Participant second = participantRepository.save(participant("Second"));
+
+        assertThat(first.getParticipantCode()).matches("PART-\\d{8}");
+        assertThat(second.getParticipantCode()).isGreaterThan(first.getParticipantCode());
+    }
+
+    private static Participant participant(String firstName) {
+        return Participant.builder()
+                .firstName(firstName)
+                .lastName("Numbered")
+                .dateOfBirth(LocalDate.now().minusYears(16))
+                .educationLevel(EducationLevel.HIGH_SCHOOL)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.araw.shared.persistence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Connection details for tests that need a real PostgreSQL. Such tests are annotated with
+ * {@code @EnabledIfEnvironmentVariable(named = "ARAW_TEST_POSTGRES_URL", matches = ".+")} and skipped otherwise.
+ */
+public final class PostgresTestDatabase {
+
+    public static final String URL_VARIABLE = "ARAW_TEST_POSTGRES_URL";
+
+    private PostgresTestDatabase() {
+    }
+
+    public static String url() {
+        return System.getenv(URL_VARIABLE);
+    }
+
+    public static String user() {
+        return Objects.requireNonNullElse(System.getenv("ARAW_TEST_POSTGRES_USER"), "postgres");
+    }
+
+    public static String password() {
+        return Objects.requireNonNullElse(System.getenv("ARAW_TEST_POSTGRES_PASSWORD"), "postgres");
+    }
+
+    public static Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), user(), password());
+    }
+
+    public static String migration(String fileName) throws IOException {
+        try (InputStream script = PostgresTestDatabase.class.getResourceAsStream("/db/migration/" + fileName)) {
+            if (script == null) {
+                throw new IOException("Migration not found: " + fileName);
+            }
+            return new String(script.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.araw.shared.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts the same number of rows keyed by random v4 and by time-ordered v7 UUIDs and compares write rate
+ * and primary key index size. Random keys split pages all over the index and leave them half full;
+ * v7 keys only split the rightmost page, so they should both write faster and leave a smaller index.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class UuidV7InsertBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final String schema = "araw_uuid_bench_" + UUID.randomUUID().toString().substring(0, 8);
+    private Connection connection;
+
+    @BeforeAll
+    void createSchema() throws SQLException, IOException {
+        connection = PostgresTestDatabase.connect();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("SET search_path TO " + schema);
+            statement.execute(PostgresTestDatabase.migration("V13__uuid_v7.sql"));
+        }
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    void timeOrderedIdsKeepThePrimaryKeyIndexCompact() throws SQLException {
+        Load random = load("ids_v4", UUID::randomUUID);
+        Load timeOrdered = load("ids_v7", UuidV7::generate);
+
+        log.info("UUID insert benchmark, {} rows: v4 {} rows/s, index {} KiB; v7 {} rows/s, index {} KiB",
+                ROWS, Math.round(random.rowsPerSecond()), random.indexBytes() / 1024,
+                Math.round(timeOrdered.rowsPerSecond()), timeOrdered.indexBytes() / 1024);
+        assertThat(timeOrdered.indexBytes()).as("v7 vs v4 primary key index bytes")
+                .isLessThan(random.indexBytes());
+        assertThat(timeOrdered.rowsPerSecond()).as("v7 vs v4 rows/s")
+                .isGreaterThan(random.rowsPerSecond());
+    }
+
+    @Test
+    void databaseFunctionGeneratesTimeOrderedVersion7Ids() throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT uuid_generate_v7() FROM generate_series(1, 1000)")) {
+            while (rows.next()) {
+                ids.add(rows.getObject(1, UUID.class));
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        long previous = 0;
+        for (UUID id : ids) {
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+            long timestamp = UuidV7.timestamp(id);
+            assertThat(timestamp).isGreaterThanOrEqualTo(previous).isBetween(now - 60_000, now + 60_000);
+            previous = timestamp;
+        }
+    }
+
+    private Load load(String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, "
+                    + "created_at timestamptz NOT NULL DEFAULT now(), payload text NOT NULL)");
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long started = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int row = 1; row <= ROWS; row++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "row " + row);
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery(
+                     "SELECT pg_relation_size('" + schema + "." + table + "_pkey')")) {
+            size.next();
+            return new Load(ROWS / seconds, size.getLong(1));
+        }
+    }
+
+    private record Load(double rowsPerSecond, long indexBytes) {
+    }
+}
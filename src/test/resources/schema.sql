@@ -0,0 +1,3 @@
+-- Sequences are not mapped by any entity, so Hibernate's schema update does not create them (see V12).
+CREATE SEQUENCE IF NOT EXISTS application_number_seq START WITH 1 INCREMENT BY 100;
+CREATE SEQUENCE IF NOT EXISTS participant_code_seq START WITH 1 INCREMENT BY 100;